@@ -0,0 +1,32 @@
+package com.suraj.sport.bookingservice.client;
+
+import com.suraj.sport.bookingservice.dto.response.EventDetailsResponse;
+
+/**
+ * Port for the calls Booking Service makes into Event Service.
+ * <p>
+ * Kept as an interface so the transport (REST today) can be swapped without
+ * touching the booking logic that depends on it.
+ */
+public interface EventServiceClient {
+
+    /**
+     * Returns the event's date, sport type and a fresh price quote. Read when a booking is
+     * made without a valid quote token — the booking keeps a snapshot so later operations
+     * need no call to Event Service.
+     */
+    EventDetailsResponse getEvent(Long eventId);
+
+    /**
+     * Takes the given number of seats from the event's available pool.
+     * Throws SeatsNotAvailableException if the event is not open for booking or has fewer
+     * seats left.
+     */
+    void reduceSeats(Long eventId, int seats);
+
+    /**
+     * Returns the given number of seats to the event's available pool — only ever seats
+     * taken by reduceSeats.
+     */
+    void restoreSeats(Long eventId, int seats);
+}
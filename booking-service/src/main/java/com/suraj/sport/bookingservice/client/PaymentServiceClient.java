@@ -0,0 +1,15 @@
+package com.suraj.sport.bookingservice.client;
+
+import com.suraj.sport.bookingservice.dto.request.BulkRefundRequest;
+
+/**
+ * Port for the calls Booking Service makes into Payment Service.
+ */
+public interface PaymentServiceClient {
+
+    /**
+     * Asks Payment Service to refund a chunk of bookings. Payment Service skips bookings
+     * it already holds a refund for with the same reason, so a chunk may be resent safely.
+     */
+    void requestRefunds(BulkRefundRequest request);
+}
@@ -0,0 +1,103 @@
+package com.suraj.sport.bookingservice.client.impl;
+
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.dto.response.EventDetailsResponse;
+import com.suraj.sport.bookingservice.exception.SeatsNotAvailableException;
+import com.suraj.sport.bookingservice.tracing.Span;
+import com.suraj.sport.bookingservice.tracing.SpanKind;
+import com.suraj.sport.bookingservice.tracing.Tracer;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+/**
+ * The default Event Service client: seat commands go over the binary seat command port
+ * (SeatCommandConnection), everything else over REST. While the seat command port cannot
+ * be reached, seat commands fall back to the REST endpoints too.
+ * <p>
+ * Select services.event.transport=rest to send everything over REST.
+ */
+@Component
+@ConditionalOnProperty(name = "services.event.transport", havingValue = "binary", matchIfMissing = true)
+public class EventServiceBinaryClient implements EventServiceClient {
+
+    private final EventServiceRestClient restClient;
+    private final SeatCommandConnection seatCommands;
+    private final Tracer tracer;
+
+    public EventServiceBinaryClient(@Qualifier("eventRestClient") RestClient restClient,
+                                    SeatCommandConnection seatCommands,
+                                    Tracer tracer) {
+        this.restClient = new EventServiceRestClient(restClient);
+        this.seatCommands = seatCommands;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Calls GET /api/v1/event/{eventId} on Event Service.
+     */
+    @Override
+    public EventDetailsResponse getEvent(Long eventId) {
+        return restClient.getEvent(eventId);
+    }
+
+    /**
+     * Sends REDUCE_SEATS to Event Service, or calls PATCH /api/v1/event/{eventId}/reduce-seats
+     * if the seat command port cannot be reached.
+     * A 409 rejection surfaces as SeatsNotAvailableException, any other rejected or unanswered
+     * command as SeatCommandException.
+     */
+    @Override
+    public void reduceSeats(Long eventId, int seats) {
+        try {
+            seatCommand("REDUCE_SEATS", SeatCommandFrame.REDUCE_SEATS, eventId, seats,
+                    () -> restClient.reduceSeats(eventId, seats));
+        } catch (SeatCommandException ex) {
+            if (ex.getStatus() == HttpStatus.CONFLICT.value()) {
+                throw new SeatsNotAvailableException(ex.getMessage());
+            }
+            throw ex;
+        }
+    }
+
+    /**
+     * Sends RESTORE_SEATS to Event Service, or calls PATCH /api/v1/event/{eventId}/restore-seats
+     * if the seat command port cannot be reached.
+     * A rejected or unanswered command surfaces as SeatCommandException to the caller.
+     */
+    @Override
+    public void restoreSeats(Long eventId, int seats) {
+        seatCommand("RESTORE_SEATS", SeatCommandFrame.RESTORE_SEATS, eventId, seats,
+                () -> restClient.restoreSeats(eventId, seats));
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private void seatCommand(String name, byte opcode, Long eventId, int seats, Runnable restFallback) {
+        Span span = tracer.startSpan("SEAT_COMMAND " + name, SpanKind.CLIENT)
+                .attribute("event.id", eventId);
+        try {
+            if (!seatCommands.execute(opcode, eventId, seats, span)) {
+                span.attribute("fallback", "rest");
+                restFallback.run();
+            }
+        } catch (SeatCommandException ex) {
+            if (ex.isServerError()) {
+                span.fail(ex);
+            }
+            throw ex;
+        } catch (SeatsNotAvailableException ex) {
+            // A rejection, not a failure of Event Service
+            throw ex;
+        } catch (RuntimeException ex) {
+            span.fail(ex);
+            throw ex;
+        } finally {
+            tracer.end(span);
+        }
+    }
+}
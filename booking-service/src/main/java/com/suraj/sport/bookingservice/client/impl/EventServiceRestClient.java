@@ -0,0 +1,78 @@
+package com.suraj.sport.bookingservice.client.impl;
+
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.dto.response.ApiResult;
+import com.suraj.sport.bookingservice.dto.response.EventDetailsResponse;
+import com.suraj.sport.bookingservice.exception.SeatsNotAvailableException;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+
+@Component
+@ConditionalOnProperty(name = "services.event.transport", havingValue = "rest")
+public class EventServiceRestClient implements EventServiceClient {
+
+    private final RestClient restClient;
+
+    public EventServiceRestClient(@Qualifier("eventRestClient") RestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    /**
+     * Calls GET /api/v1/event/{eventId} on Event Service.
+     * Non-2xx responses surface as RestClientResponseException to the caller.
+     */
+    @Override
+    public EventDetailsResponse getEvent(Long eventId) {
+        ApiResult<EventDetailsResponse> result = restClient.get()
+                .uri("/api/v1/event/{eventId}", eventId)
+                .retrieve()
+                .body(new ParameterizedTypeReference<>() {});
+        return result.getData();
+    }
+
+    /**
+     * Calls PATCH /api/v1/event/{eventId}/reduce-seats on Event Service.
+     * A 409 — not open for booking, or too few seats — surfaces as SeatsNotAvailableException,
+     * other non-2xx responses as RestClientResponseException.
+     *
+     * TODO: secureInternalCall()
+     * Attach a service token once internal endpoints are secured in Section 12.
+     */
+    @Override
+    public void reduceSeats(Long eventId, int seats) {
+        try {
+            restClient.patch()
+                    .uri(uriBuilder -> uriBuilder
+                            .path("/api/v1/event/{eventId}/reduce-seats")
+                            .queryParam("seats", seats)
+                            .build(eventId))
+                    .retrieve()
+                    .toBodilessEntity();
+        } catch (HttpClientErrorException.Conflict ex) {
+            ApiResult<?> result = ex.getResponseBodyAs(ApiResult.class);
+            throw new SeatsNotAvailableException(result != null ? result.getMessage() : ex.getMessage());
+        }
+    }
+
+    /**
+     * Calls PATCH /api/v1/event/{eventId}/restore-seats on Event Service.
+     * Non-2xx responses surface as RestClientResponseException to the caller.
+     *
+     * TODO: secureInternalCall()
+     * Attach a service token once internal endpoints are secured in Section 12.
+     */
+    @Override
+    public void restoreSeats(Long eventId, int seats) {
+        restClient.patch()
+                .uri(uriBuilder -> uriBuilder
+                        .path("/api/v1/event/{eventId}/restore-seats")
+                        .queryParam("seats", seats)
+                        .build(eventId))
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,37 @@
+package com.suraj.sport.bookingservice.client.impl;
+
+import com.suraj.sport.bookingservice.client.PaymentServiceClient;
+import com.suraj.sport.bookingservice.dto.request.BulkRefundRequest;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+@Component
+@ConditionalOnProperty(name = "services.payment.transport", havingValue = "rest", matchIfMissing = true)
+public class PaymentServiceRestClient implements PaymentServiceClient {
+
+    private final RestClient restClient;
+
+    public PaymentServiceRestClient(@Qualifier("paymentRestClient") RestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    /**
+     * Calls POST /api/v1/payment/refunds/bulk on Payment Service.
+     * Non-2xx responses surface as RestClientResponseException to the caller.
+     *
+     * TODO: secureInternalCall()
+     * Attach a service token once internal endpoints are secured in Section 12.
+     */
+    @Override
+    public void requestRefunds(BulkRefundRequest request) {
+        restClient.post()
+                .uri("/api/v1/payment/refunds/bulk")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(request)
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,226 @@
+package com.suraj.sport.bookingservice.client.impl;
+
+import com.suraj.sport.bookingservice.config.SeatCommandProperties;
+import com.suraj.sport.bookingservice.tracing.Span;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * The one connection to Event Service's seat command port, shared by every thread.
+ * <p>
+ * Commands are multiplexed: a caller writes its frame under the write lock — through a
+ * single pre-allocated direct buffer, as every command has the same fixed size — and then
+ * waits for the reply with its request id, which a reader thread hands over as replies
+ * arrive. Many bookings can be in flight on the connection at once, and none of them pays
+ * for a TCP or HTTP handshake, headers or JSON.
+ * <p>
+ * The connection is opened on first use and again after it is lost. If it cannot be
+ * opened, commands are reported as not sent for services.event.seat-commands
+ * .reconnect-interval, so the caller can use the REST endpoints meanwhile without waiting
+ * on a connect each time.
+ * <p>
+ * Delivery is at most once. A command whose frame could not be written was never applied
+ * and is safe to resend over REST; once written, a lost connection or a missing reply fails
+ * it with SeatCommandException, like a REST call timing out.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "services.event.transport", havingValue = "binary", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SeatCommandConnection {
+
+    private final SeatCommandProperties properties;
+
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final ByteBuffer command = ByteBuffer.allocateDirect(SeatCommandFrame.COMMAND_SIZE);
+    private final ConcurrentMap<Long, CompletableFuture<SeatCommandFrame.Reply>> pending = new ConcurrentHashMap<>();
+    private final AtomicLong requestIds = new AtomicLong();
+
+    // Guarded by writeLock
+    private SocketChannel channel;
+    private long connectNotBefore;
+
+    /**
+     * Sends a command and waits for Event Service to apply it.
+     * Returns false if the command could not be sent — it was not applied.
+     * Throws SeatCommandException if Event Service rejected it or did not answer.
+     */
+    public boolean execute(byte opcode, long eventId, int seats, Span span) {
+        long requestId = requestIds.incrementAndGet();
+        CompletableFuture<SeatCommandFrame.Reply> reply = new CompletableFuture<>();
+
+        writeLock.lock();
+        try {
+            SocketChannel target = connectedChannel();
+            if (target == null) {
+                return false;
+            }
+            command.clear();
+            SeatCommandFrame.encodeCommand(command, requestId, opcode, eventId, seats,
+                    span != null ? span.getTraceId() : null, span != null ? span.getSpanId() : null);
+            command.flip();
+            // Registered under the lock, so a lost connection fails exactly the commands written to it
+            pending.put(requestId, reply);
+            try {
+                while (command.hasRemaining()) {
+                    target.write(command);
+                }
+            } catch (IOException ex) {
+                // Event Service only reads whole frames — an incomplete one is dropped with the connection
+                pending.remove(requestId);
+                disconnect(target, ex);
+                return false;
+            }
+        } finally {
+            writeLock.unlock();
+        }
+
+        SeatCommandFrame.Reply result = await(requestId, reply);
+        if (result.status() != 200) {
+            throw new SeatCommandException(result.status(), result.message());
+        }
+        return true;
+    }
+
+    @PreDestroy
+    public void close() {
+        writeLock.lock();
+        try {
+            if (channel != null) {
+                disconnect(channel, new IOException("Booking Service is shutting down"));
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * The open connection, opened now if there is none. Null if it cannot be opened, or a
+     * connect failed less than reconnect-interval ago.
+     */
+    private SocketChannel connectedChannel() {
+        if (channel != null) {
+            return channel;
+        }
+        if (System.nanoTime() - connectNotBefore < 0) {
+            return null;
+        }
+        InetSocketAddress address = new InetSocketAddress(properties.getHost(), properties.getPort());
+        try {
+            SocketChannel opened = SocketChannel.open();
+            try {
+                opened.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                opened.socket().connect(address, (int) properties.getConnectTimeout().toMillis());
+            } catch (IOException ex) {
+                opened.close();
+                throw ex;
+            }
+            channel = opened;
+            Thread.ofVirtual().name("seat-command-reader").start(() -> readReplies(opened));
+            log.info("Connected to the seat command port of Event Service at {}", address);
+            return opened;
+        } catch (IOException ex) {
+            connectNotBefore = System.nanoTime() + properties.getReconnectInterval().toNanos();
+            log.warn("Cannot connect to the seat command port of Event Service at {} — using REST for {}: {}",
+                    address, properties.getReconnectInterval(), ex.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Hands each reply to the command waiting for it, until the connection is closed.
+     */
+    private void readReplies(SocketChannel connection) {
+        ByteBuffer header = ByteBuffer.allocate(Integer.BYTES);
+        ByteBuffer body = ByteBuffer.allocate(SeatCommandFrame.REPLY_HEADER_SIZE - Integer.BYTES
+                + SeatCommandFrame.MAX_MESSAGE_BYTES);
+        try {
+            while (true) {
+                readFully(connection, header.clear());
+                int length = SeatCommandFrame.replyLength(header.flip());
+                readFully(connection, body.clear().limit(length));
+                SeatCommandFrame.Reply reply = SeatCommandFrame.decodeReply(body.flip());
+                CompletableFuture<SeatCommandFrame.Reply> waiting = pending.remove(reply.requestId());
+                if (waiting != null) {
+                    waiting.complete(reply);
+                }
+            }
+        } catch (IOException | IllegalArgumentException ex) {
+            writeLock.lock();
+            try {
+                disconnect(connection, ex);
+            } finally {
+                writeLock.unlock();
+            }
+        }
+    }
+
+    /**
+     * Closes the connection and fails every command still waiting on it. Called with the
+     * write lock held.
+     */
+    private void disconnect(SocketChannel connection, Exception cause) {
+        if (channel != connection) {
+            return;
+        }
+        channel = null;
+        try {
+            connection.close();
+        } catch (IOException ignored) {
+            // Already broken
+        }
+        if (!pending.isEmpty()) {
+            log.warn("Lost the seat command connection to Event Service with {} commands unanswered: {}",
+                    pending.size(), cause.getMessage());
+        }
+        SeatCommandException lost = new SeatCommandException(
+                "Seat command connection lost before Event Service replied — outcome unknown", cause);
+        pending.values().forEach(waiting -> waiting.completeExceptionally(lost));
+        pending.clear();
+    }
+
+    private SeatCommandFrame.Reply await(long requestId, CompletableFuture<SeatCommandFrame.Reply> reply) {
+        try {
+            return reply.get(properties.getReplyTimeout().toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException ex) {
+            pending.remove(requestId);
+            throw new SeatCommandException("No reply from Event Service within "
+                    + properties.getReplyTimeout() + " — outcome unknown", ex);
+        } catch (ExecutionException ex) {
+            throw (SeatCommandException) ex.getCause();
+        } catch (InterruptedException ex) {
+            pending.remove(requestId);
+            Thread.currentThread().interrupt();
+            throw new SeatCommandException("Interrupted waiting for Event Service — outcome unknown", ex);
+        }
+    }
+
+    private static void readFully(SocketChannel connection, ByteBuffer buffer) throws IOException {
+        while (buffer.hasRemaining()) {
+            if (connection.read(buffer) < 0) {
+                throw new IOException("Connection closed by Event Service");
+            }
+        }
+    }
+}
@@ -0,0 +1,32 @@
+package com.suraj.sport.bookingservice.client.impl;
+
+/**
+ * A seat command Event Service rejected or did not answer — the seat command counterpart
+ * of RestClientResponseException. status is the HTTP status the REST endpoint would have
+ * answered with, or 0 if no reply arrived and the command's outcome is unknown.
+ */
+public class SeatCommandException extends RuntimeException {
+
+    private final int status;
+
+    public SeatCommandException(int status, String message) {
+        super(message);
+        this.status = status;
+    }
+
+    public SeatCommandException(String message, Throwable cause) {
+        super(message, cause);
+        this.status = 0;
+    }
+
+    public int getStatus() {
+        return status;
+    }
+
+    /**
+     * True when Event Service failed rather than rejected the command, or did not answer.
+     */
+    public boolean isServerError() {
+        return status == 0 || status >= 500;
+    }
+}
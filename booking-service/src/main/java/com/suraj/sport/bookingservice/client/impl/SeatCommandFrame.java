@@ -0,0 +1,86 @@
+package com.suraj.sport.bookingservice.client.impl;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+/**
+ * Wire format of the seat commands sent to Event Service's SeatCommandServer. Numbers are
+ * big-endian, and every frame starts with the length of the rest of the frame.
+ * <p>
+ * Command — always 49 bytes, so it is written through one reused buffer:
+ * - int    length, always 45
+ * - long   requestId — echoed in the reply; replies come back in completion order
+ * - byte   opcode — REDUCE_SEATS or RESTORE_SEATS
+ * - long   eventId
+ * - int    seats
+ * - 16+8 B trace id and span id of the caller's span, all zero when it has none
+ * <p>
+ * Reply — 16 bytes plus the message:
+ * - int    length, 12 + message bytes
+ * - long   requestId
+ * - short  status — the HTTP status the REST endpoint answers with (200, 400, 404, 409, 500)
+ * - short  message bytes, then the UTF-8 message — empty on 200, cut at MAX_MESSAGE_BYTES
+ * <p>
+ * Must match SeatCommandFrame in event-service.
+ */
+final class SeatCommandFrame {
+
+    static final byte REDUCE_SEATS = 1;
+    static final byte RESTORE_SEATS = 2;
+
+    static final int COMMAND_SIZE = 49;
+    static final int REPLY_HEADER_SIZE = 16;
+    static final int MAX_MESSAGE_BYTES = 512;
+
+    private static final int COMMAND_LENGTH = COMMAND_SIZE - Integer.BYTES;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private SeatCommandFrame() {
+    }
+
+    record Reply(long requestId, int status, String message) {
+    }
+
+    /**
+     * Writes a command into a cleared buffer of COMMAND_SIZE. The trace ids are the hex ids
+     * of the caller's span, or null.
+     */
+    static void encodeCommand(ByteBuffer buffer, long requestId, byte opcode, long eventId, int seats,
+                              String traceId, String spanId) {
+        buffer.putInt(COMMAND_LENGTH)
+                .putLong(requestId)
+                .put(opcode)
+                .putLong(eventId)
+                .putInt(seats);
+        if (traceId != null && spanId != null) {
+            buffer.putLong(HEX.fromHexDigitsToLong(traceId, 0, 16))
+                    .putLong(HEX.fromHexDigitsToLong(traceId, 16, 32))
+                    .putLong(HEX.fromHexDigitsToLong(spanId));
+        } else {
+            buffer.putLong(0).putLong(0).putLong(0);
+        }
+    }
+
+    /**
+     * Reads the length prefix of a reply from a buffer holding its first 4 bytes.
+     */
+    static int replyLength(ByteBuffer header) {
+        int length = header.getInt();
+        if (length < REPLY_HEADER_SIZE - Integer.BYTES || length > REPLY_HEADER_SIZE - Integer.BYTES + MAX_MESSAGE_BYTES) {
+            throw new IllegalArgumentException("Unexpected seat command reply length " + length);
+        }
+        return length;
+    }
+
+    /**
+     * Reads the rest of a reply, after its length prefix.
+     */
+    static Reply decodeReply(ByteBuffer body) {
+        long requestId = body.getLong();
+        int status = body.getShort();
+        int messageBytes = body.getShort();
+        String message = new String(body.array(), body.arrayOffset() + body.position(), messageBytes, StandardCharsets.UTF_8);
+        return new Reply(requestId, status, message);
+    }
+}
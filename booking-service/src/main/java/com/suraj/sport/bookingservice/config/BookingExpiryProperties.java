@@ -0,0 +1,24 @@
+package com.suraj.sport.bookingservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the pending booking expiry scheduler.
+ * Bound from the booking.expiry.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.expiry")
+public class BookingExpiryProperties {
+
+    // How long a PENDING booking may hold its seats before it is auto-cancelled
+    private Duration pendingHold = Duration.ofMinutes(15);
+
+    // Maximum number of bookings claimed and cancelled per transaction
+    private int batchSize = 500;
+
+    // Maximum number of due buckets drained per scheduler run
+    private int maxBucketsPerRun = 10;
+}
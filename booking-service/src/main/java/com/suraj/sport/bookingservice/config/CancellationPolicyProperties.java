@@ -0,0 +1,49 @@
+package com.suraj.sport.bookingservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Cancellation policies — how much of a booking is refunded depending on how long
+ * before the event it is cancelled. Bound from the booking.cancellation-policy.* section
+ * of application.yml and compiled once on startup by CancellationPolicyRegistry.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.cancellation-policy")
+public class CancellationPolicyProperties {
+
+    // Every policy version bookings may still reference — superseded versions stay listed
+    // so bookings made under them keep their original refund terms
+    private List<Definition> policies = new ArrayList<>();
+
+    @Data
+    public static class Definition {
+
+        // Name and version together identify the policy a booking was made under
+        private String name;
+
+        private int version = 1;
+
+        // Scope — a single event, else a sport type (matched ignoring case), else neither
+        // for the default policy. The highest version of each scope applies to new bookings.
+        private Long eventId;
+
+        private String sportType;
+
+        private List<Tier> tiers = new ArrayList<>();
+    }
+
+    @Data
+    public static class Tier {
+
+        // The tier applies to cancellations made at least this long before the event.
+        // Cancellations closer to the event than the smallest tier are refused.
+        private Duration before;
+
+        private int refundPercent;
+    }
+}
@@ -0,0 +1,24 @@
+package com.suraj.sport.bookingservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the event cancellation pipeline.
+ * Bound from the booking.event-cancellation.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.event-cancellation")
+public class EventCancellationProperties {
+
+    // Bookings cancelled per transaction — each batch is one UPDATE plus its checkpoint
+    private int batchSize = 500;
+
+    // Bookings sent to Payment Service per refund request
+    private int refundChunkSize = 500;
+
+    // How often FAILED runs (e.g. Payment Service was down) are resumed
+    private Duration retryInterval = Duration.ofMinutes(1);
+}
@@ -0,0 +1,27 @@
+package com.suraj.sport.bookingservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Sampling and masking for the method call logs written by LoggingAspect.
+ * Bound from the booking.logging.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.logging")
+public class LoggingProperties {
+
+    // Share of successful calls logged (0.0 - 1.0), by logger name or package — the longest
+    // matching prefix wins, unlisted loggers log every call. Failed calls are always logged.
+    private Map<String, Double> sampleRates = new LinkedHashMap<>();
+
+    // Arguments and DTO fields with these names are logged as "****"
+    private List<String> maskedFields = List.of();
+
+    // Each rendered argument is cut to this many characters
+    private int maxArgumentLength = 256;
+}
@@ -0,0 +1,27 @@
+package com.suraj.sport.bookingservice.config;
+
+import com.suraj.sport.bookingservice.dto.response.EventDetailsResponse;
+import com.suraj.sport.bookingservice.dto.response.PriceQuoteResponse;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reachability metadata for the native image (the native Maven profile) that Spring AOT
+ * cannot derive from the application itself.
+ * <p>
+ * Derived by AOT at build time, nothing to add here:
+ * - entities, including their Lombok builders (Spring Data JPA managed types)
+ * - request and response bodies of controller methods, e.g. ApiResult and BookingResponse
+ * - beans advised by LoggingAspect and TracingAspect — their CGLIB proxies are generated at
+ *   build time and their methods registered, which keeps the parameter names LoggingAspect
+ *   masks arguments by. Repository advice joins Spring Data's own JDK proxy.
+ * - RingBufferAppender, from logback-spring.xml
+ * Hibernate's own metadata comes from the GraalVM reachability metadata repository.
+ * <p>
+ * Registered here — bodies Jackson only sees through RestClient:
+ * - EventDetailsResponse and its PriceQuoteResponse, read from Event Service
+ */
+@Configuration
+@RegisterReflectionForBinding({EventDetailsResponse.class, PriceQuoteResponse.class})
+public class NativeImageConfig {
+}
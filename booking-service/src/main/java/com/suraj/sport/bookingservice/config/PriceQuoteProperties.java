@@ -0,0 +1,16 @@
+package com.suraj.sport.bookingservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Verification of the price quote tokens issued by Event Service.
+ * Bound from the booking.price-quote.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.price-quote")
+public class PriceQuoteProperties {
+
+    // HMAC-SHA256 key the tokens are signed with — must match event.pricing.quote-secret
+    private String secret;
+}
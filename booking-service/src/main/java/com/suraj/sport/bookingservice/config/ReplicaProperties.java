@@ -0,0 +1,33 @@
+package com.suraj.sport.bookingservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Read replica that read-only service transactions are routed to (see ReplicaDataSourceConfig).
+ * Bound from the booking.replica.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.replica")
+public class ReplicaProperties {
+
+    // Off → every query goes to spring.datasource, as before
+    private boolean enabled = false;
+
+    // JDBC URL of the replica; the driver is spring.datasource's
+    private String url;
+
+    // Default to spring.datasource's credentials when not set
+    private String username;
+    private String password;
+
+    private int maximumPoolSize = 10;
+
+    // Reads go to the primary while the replica is further behind than this
+    private Duration maxLag = Duration.ofSeconds(2);
+
+    // How often the primary's heartbeat is written and read back from the replica — keep well under max-lag
+    private Duration heartbeatInterval = Duration.ofMillis(500);
+}
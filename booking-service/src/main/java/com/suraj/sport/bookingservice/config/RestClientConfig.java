@@ -0,0 +1,36 @@
+package com.suraj.sport.bookingservice.config;
+
+import com.suraj.sport.bookingservice.tracing.TracingClientInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+public class RestClientConfig {
+
+    /**
+     * RestClient pointed at Event Service — used for seat restoration and,
+     * once Section 8 is complete, availability checks and price lookups.
+     */
+    @Bean
+    public RestClient eventRestClient(@Value("${services.event.base-url}") String baseUrl,
+                                      TracingClientInterceptor tracingInterceptor) {
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestInterceptor(tracingInterceptor)
+                .build();
+    }
+
+    /**
+     * RestClient pointed at Payment Service — used for refunds when an event is cancelled.
+     */
+    @Bean
+    public RestClient paymentRestClient(@Value("${services.payment.base-url}") String baseUrl,
+                                        TracingClientInterceptor tracingInterceptor) {
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestInterceptor(tracingInterceptor)
+                .build();
+    }
+}
@@ -0,0 +1,28 @@
+package com.suraj.sport.bookingservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * The connection to Event Service's seat command port (see SeatCommandConnection).
+ * Bound from the services.event.seat-commands.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "services.event.seat-commands")
+public class SeatCommandProperties {
+
+    private String host = "localhost";
+
+    // Must match event-service's event.seat-command-server.port
+    private int port = 9081;
+
+    private Duration connectTimeout = Duration.ofSeconds(1);
+
+    // A command without a reply after this long fails — whether it was applied is unknown
+    private Duration replyTimeout = Duration.ofSeconds(5);
+
+    // After a failed connect, commands go over REST for this long before connecting again
+    private Duration reconnectInterval = Duration.ofSeconds(5);
+}
@@ -0,0 +1,102 @@
+package com.suraj.sport.bookingservice.config;
+
+import com.suraj.sport.bookingservice.sharding.Resharder;
+import com.suraj.sport.bookingservice.sharding.ShardDirectory;
+import com.suraj.sport.bookingservice.sharding.ShardKeys;
+import com.suraj.sport.bookingservice.sharding.ShardRoutingDataSource;
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.flywaydb.core.Flyway;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.jdbc.autoconfigure.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Sharding by event, on with booking.sharding.enabled=true: bookings, waitlist entries and
+ * event cancellation runs are stored on the shard their event's slot is assigned to (see
+ * ShardKeys, ShardDirectory), and service calls are routed there by ShardRoutingAspect.
+ * <p>
+ * Shard 0 is spring.datasource; shards 1..n are booking.sharding.shards. The Flyway
+ * migrations are run against every shard at startup, whatever the profile — Hibernate's
+ * ddl-auto only ever sees shard 0, and the shard directory table has no entity.
+ * <p>
+ * Slots are moved between shards through ShardController (see Resharder).
+ * <p>
+ * TODO: Per-shard read replicas — until then sharding and booking.replica are exclusive.
+ */
+@Configuration(proxyBeanMethods = false)
+@ConditionalOnProperty(name = "booking.sharding.enabled", havingValue = "true")
+public class ShardingConfig {
+
+    @Bean(defaultCandidate = false)
+    @ConfigurationProperties("spring.datasource.hikari")
+    public HikariDataSource shard0DataSource(DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    @Bean
+    public ShardRoutingDataSource shardRoutingDataSource(@Qualifier("shard0DataSource") DataSource shard0,
+                                                         DataSourceProperties primary,
+                                                         ShardingProperties sharding,
+                                                         ReplicaProperties replica) {
+        if (replica.isEnabled()) {
+            throw new IllegalStateException("booking.sharding and booking.replica cannot both be enabled");
+        }
+        if (sharding.getShards().size() + 1 > ShardKeys.MAX_SHARDS) {
+            throw new IllegalStateException("At most " + ShardKeys.MAX_SHARDS + " shards are supported");
+        }
+
+        List<DataSource> shards = new ArrayList<>();
+        shards.add(shard0);
+        for (ShardingProperties.Shard shard : sharding.getShards()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .driverClassName(primary.determineDriverClassName())
+                    .url(shard.getUrl())
+                    .username(shard.getUsername() != null ? shard.getUsername() : primary.determineUsername())
+                    .password(shard.getPassword() != null ? shard.getPassword() : primary.determinePassword())
+                    .build();
+            dataSource.setPoolName("shard-" + shards.size());
+            dataSource.setMaximumPoolSize(shard.getMaximumPoolSize());
+            shards.add(dataSource);
+        }
+
+        for (DataSource shard : shards) {
+            Flyway.configure().dataSource(shard).locations("classpath:db/migration").load().migrate();
+        }
+        return new ShardRoutingDataSource(shards);
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ShardRoutingDataSource shardRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(shardRoutingDataSource);
+    }
+
+    @Bean
+    public ShardDirectory shardDirectory(ShardRoutingDataSource shardRoutingDataSource, ShardingProperties sharding) {
+        return new ShardDirectory(shardRoutingDataSource.shard(0), shardRoutingDataSource.shardCount(),
+                sharding.getDirectoryRefreshInterval());
+    }
+
+    // Every shard runs the same database, so Hibernate's dialect also speaks for the shards
+    // Resharder reads directly
+    @Bean
+    public Resharder resharder(ShardRoutingDataSource shardRoutingDataSource, ShardDirectory shardDirectory,
+                               ShardingProperties sharding, EntityManagerFactory entityManagerFactory) {
+        Dialect dialect = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getJdbcServices().getDialect();
+        return new Resharder(shardRoutingDataSource, shardDirectory, dialect, sharding.getDirectoryRefreshInterval());
+    }
+}
@@ -0,0 +1,40 @@
+package com.suraj.sport.bookingservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Shards bookings, waitlist entries and event cancellation runs by event (see ShardingConfig).
+ * Bound from the booking.sharding.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.sharding")
+public class ShardingProperties {
+
+    // Off → everything is stored in spring.datasource, as before
+    private boolean enabled = false;
+
+    // Shards 1..n — shard 0 is spring.datasource, which also holds the shard directory.
+    // Shards may be added later and filled by moving slots to them; never remove or reorder them.
+    private List<Shard> shards = new ArrayList<>();
+
+    // How often each instance re-reads the shard directory. An instance that has not managed
+    // to for twice this long stops serving sharded calls until it has.
+    private Duration directoryRefreshInterval = Duration.ofSeconds(5);
+
+    @Data
+    public static class Shard {
+
+        private String url;
+
+        // Default to spring.datasource's credentials when not set
+        private String username;
+        private String password;
+
+        private int maximumPoolSize = 10;
+    }
+}
@@ -0,0 +1,27 @@
+package com.suraj.sport.bookingservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tail sampling and retention for request tracing (see Tracer).
+ * Bound from the booking.tracing.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.tracing")
+public class TracingProperties {
+
+    // Traces whose root span takes at least this long are always kept
+    private Duration slowThreshold = Duration.ofMillis(500);
+
+    // Share of fast, successful traces kept (0.0 - 1.0)
+    private double sampleRate = 0.01;
+
+    // Spans recorded per trace beyond this are dropped — bounds batch jobs looping over repositories
+    private int maxSpansPerTrace = 1000;
+
+    // Most recent kept traces held by InMemorySpanExporter
+    private int inMemoryCapacity = 1000;
+}
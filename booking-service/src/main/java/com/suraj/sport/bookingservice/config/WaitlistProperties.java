@@ -0,0 +1,18 @@
+package com.suraj.sport.bookingservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the event waitlist.
+ * Bound from the booking.waitlist.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "booking.waitlist")
+public class WaitlistProperties {
+
+    // How long a waitlisted user has to pay for offered seats before they move on down the queue
+    private Duration offerHold = Duration.ofMinutes(10);
+}
@@ -2,10 +2,16 @@ package com.suraj.sport.bookingservice.controller;
 
 import com.suraj.sport.bookingservice.dto.request.CancelBookingRequest;
 import com.suraj.sport.bookingservice.dto.request.CreateBookingRequest;
+import com.suraj.sport.bookingservice.dto.request.EventCancellationRequest;
+import com.suraj.sport.bookingservice.dto.request.JoinWaitlistRequest;
 import com.suraj.sport.bookingservice.dto.response.ApiResult;
 import com.suraj.sport.bookingservice.dto.response.BookingResponse;
 import com.suraj.sport.bookingservice.dto.response.CreateBookingResponse;
+import com.suraj.sport.bookingservice.dto.response.EventCancellationResponse;
+import com.suraj.sport.bookingservice.dto.response.WaitlistEntryResponse;
 import com.suraj.sport.bookingservice.service.BookingService;
+import com.suraj.sport.bookingservice.service.EventCancellationService;
+import com.suraj.sport.bookingservice.service.WaitlistService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -28,6 +34,8 @@ import java.util.List;
 public class BookingController {
 
     private final BookingService bookingService;
+    private final EventCancellationService eventCancellationService;
+    private final WaitlistService waitlistService;
 
     // =====================================================================
     // POST BOOKING - CREATE
@@ -35,7 +43,9 @@ public class BookingController {
 
     @Operation(
             summary = "Create a new booking",
-            description = "Creates a new ticket booking for a sports event. Booking starts as PENDING until payment is confirmed. Inter-service calls to Event Service and Payment Service will be wired in Section 8."
+            description = "Creates a new ticket booking for a sports event. Booking starts as PENDING until payment is confirmed. "
+                    + "Pass the priceQuote token from Event Service's event response to be charged the quoted price without a lookup; "
+                    + "without one, or once it has expired, a fresh quote is fetched. Inter-service calls to Event Service and Payment Service will be wired in Section 8."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -61,7 +71,7 @@ public class BookingController {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "Validation failed",
+                    description = "Validation failed or the price quote is invalid",
                     content = @Content(mediaType = "application/json",
                             examples = @ExampleObject(value = """
                                     {
@@ -71,6 +81,18 @@ public class BookingController {
                                     }
                                     """))
             ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Event is not open for booking",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Event is not open for booking — current status: COMPLETED",
+                                        "data": null
+                                    }
+                                    """))
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Unexpected internal server error",
@@ -94,7 +116,8 @@ public class BookingController {
                                     {
                                         "userId": 1,
                                         "eventId": 1,
-                                        "seatsBooked": 2
+                                        "seatsBooked": 2,
+                                        "priceQuote": "MXwzMTI1MDB8MTc0NzczNTMyMHwyMDI1LTA1LTI1VDE4OjAwfENyaWNrZXQ.K_76lAyrEA3cMGCYrudQyWioeEV1EiMKuCvF2B3CzOQ"
                                     }
                                     """))
             )
@@ -110,7 +133,7 @@ public class BookingController {
 
     @Operation(
             summary = "Cancel an existing booking",
-            description = "Cancels a PENDING or CONFIRMED booking. Seat restoration and refund processing will be wired in Section 8."
+            description = "Cancels a PENDING or CONFIRMED booking. A CONFIRMED booking is refunded the share of its total set by the cancellation policy it was made under, depending on how long before the event it is cancelled. Cancellations after the policy's deadline are rejected. Seat restoration and refund processing will be wired in Section 8."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -125,12 +148,13 @@ public class BookingController {
                                             "id": 1,
                                             "userId": 1,
                                             "eventId": 1,
-                                            "paymentId": null,
+                                            "paymentId": 1,
                                             "seatsBooked": 2,
                                             "pricePerSeat": 2500.00,
                                             "totalAmount": 5000.00,
                                             "bookingStatus": "CANCELLED",
                                             "cancellationReason": "Change of plans",
+                                            "refundAmount": 2500.00,
                                             "createdAt": "2025-02-25T10:00:00",
                                             "updatedAt": "2025-02-26T10:00:00"
                                         }
@@ -139,7 +163,7 @@ public class BookingController {
             ),
             @ApiResponse(
                     responseCode = "400",
-                    description = "Booking cannot be cancelled",
+                    description = "Booking cannot be cancelled — already cancelled or past the cancellation deadline",
                     content = @Content(mediaType = "application/json",
                             examples = @ExampleObject(value = """
                                     {
@@ -193,6 +217,87 @@ public class BookingController {
         return ResponseEntity.ok(ApiResult.of(true, "Booking Cancelled Successfully", response));
     }
 
+    // =====================================================================
+    // PATCH BOOKING - CANCEL SEATS
+    // =====================================================================
+
+    @Operation(
+            summary = "Cancel some seats of a booking",
+            description = "Cancels count seats of a PENDING or CONFIRMED booking while keeping the rest. seatsBooked and totalAmount are reduced, exactly the cancelled seats are returned to the event, and a CONFIRMED booking is refunded for them at the rate of its cancellation policy. To cancel every seat, cancel the booking instead."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Seats cancelled successfully",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Seats Cancelled Successfully",
+                                        "data": {
+                                            "id": 1,
+                                            "userId": 1,
+                                            "eventId": 1,
+                                            "paymentId": 1,
+                                            "seatsBooked": 2,
+                                            "pricePerSeat": 2500.00,
+                                            "totalAmount": 5000.00,
+                                            "bookingStatus": "CONFIRMED",
+                                            "cancellationReason": null,
+                                            "refundAmount": 2500.00,
+                                            "createdAt": "2025-02-25T10:00:00",
+                                            "updatedAt": "2025-02-26T10:00:00"
+                                        }
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Seats cannot be cancelled — invalid count, booking already cancelled or past the cancellation deadline",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Cannot cancel 3 of 3 seats — cancel between 1 and 2 seats, or cancel the whole booking",
+                                        "data": null
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Booking not found",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Booking not found with id: 1",
+                                        "data": null
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "An unexpected error occurred",
+                                        "data": null
+                                    }
+                                    """))
+            )
+    })
+    @PatchMapping("/{bookingId}/cancel-seats")
+    public ResponseEntity<ApiResult<BookingResponse>> cancelSeats(
+            @Parameter(description = "ID of the booking", required = true, example = "1")
+            @PathVariable Long bookingId,
+            @Parameter(description = "Number of seats to cancel", required = true, example = "1")
+            @RequestParam int count) {
+        BookingResponse response = bookingService.cancelSeats(bookingId, count);
+        return ResponseEntity.ok(ApiResult.of(true, "Seats Cancelled Successfully", response));
+    }
+
     // =====================================================================
     // PATCH BOOKING - RETRY PAYMENT
     // =====================================================================
@@ -220,6 +325,7 @@ public class BookingController {
                                             "totalAmount": 5000.00,
                                             "bookingStatus": "PENDING",
                                             "cancellationReason": null,
+                                            "refundAmount": null,
                                             "createdAt": "2025-02-25T10:00:00",
                                             "updatedAt": "2025-02-26T10:00:00"
                                         }
@@ -298,6 +404,7 @@ public class BookingController {
                                             "totalAmount": 5000.00,
                                             "bookingStatus": "PENDING",
                                             "cancellationReason": null,
+                                            "refundAmount": null,
                                             "createdAt": "2025-02-25T10:00:00",
                                             "updatedAt": "2025-02-26T10:00:00"
                                         }
@@ -376,6 +483,7 @@ public class BookingController {
                                             "totalAmount": 5000.00,
                                             "bookingStatus": "CONFIRMED",
                                             "cancellationReason": null,
+                                            "refundAmount": null,
                                             "createdAt": "2025-02-25T10:00:00",
                                             "updatedAt": "2025-02-26T10:00:00"
                                         }
@@ -450,6 +558,7 @@ public class BookingController {
                                                 "totalAmount": 5000.00,
                                                 "bookingStatus": "CONFIRMED",
                                                 "cancellationReason": null,
+                                            "refundAmount": null,
                                                 "createdAt": "2025-02-25T10:00:00",
                                                 "updatedAt": "2025-02-26T10:00:00"
                                             }
@@ -477,4 +586,342 @@ public class BookingController {
         List<BookingResponse> response = bookingService.getAllBookingsByUserId(userId);
         return ResponseEntity.ok(ApiResult.of(true, "Bookings Retrieved Successfully", response));
     }
-}
\ No newline at end of file
+
+    // =====================================================================
+    // POST EVENT CANCELLATION - CANCEL ALL BOOKINGS OF AN EVENT
+    // =====================================================================
+
+    @Operation(
+            summary = "Cancel all bookings of a cancelled event",
+            description = "Called by Event Service when an event is CANCELLED. Cancels every PENDING and CONFIRMED booking of the event in batches and requests refunds for paid bookings from Payment Service. Returns immediately — track progress with GET /api/v1/booking/event-cancellations/{eventId}. Repeating the command for the same event resumes the existing run."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "202",
+                    description = "Cancellation accepted and running in the background",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Event Cancellation Accepted",
+                                        "data": {
+                                            "eventId": 1,
+                                            "reason": "Event cancelled by organizer",
+                                            "status": "IN_PROGRESS",
+                                            "bookingsCancelled": 0,
+                                            "refundsRequested": 0,
+                                            "lastError": null,
+                                            "createdAt": "2025-02-25T10:00:00",
+                                            "completedAt": null
+                                        }
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation failed",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Event ID is required",
+                                        "data": null
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "An unexpected error occurred",
+                                        "data": null
+                                    }
+                                    """))
+            )
+    })
+    @PostMapping("/event-cancellations")
+    public ResponseEntity<ApiResult<EventCancellationResponse>> cancelEventBookings(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "The cancelled event",
+                    required = true,
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "eventId": 1,
+                                        "reason": "Event cancelled by organizer"
+                                    }
+                                    """))
+            )
+            @Valid @RequestBody EventCancellationRequest request) {
+        EventCancellationResponse response = eventCancellationService.startCancellation(request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED)
+                .body(ApiResult.of(true, "Event Cancellation Accepted", response));
+    }
+
+    // =====================================================================
+    // GET EVENT CANCELLATION - PROGRESS
+    // =====================================================================
+
+    @Operation(
+            summary = "Get the progress of an event cancellation",
+            description = "Returns how many bookings of the cancelled event have been cancelled and how many refunds have been requested so far."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Event cancellation retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Event Cancellation Retrieved Successfully",
+                                        "data": {
+                                            "eventId": 1,
+                                            "reason": "Event cancelled by organizer",
+                                            "status": "COMPLETED",
+                                            "bookingsCancelled": 60000,
+                                            "refundsRequested": 52000,
+                                            "lastError": null,
+                                            "createdAt": "2025-02-25T10:00:00",
+                                            "completedAt": "2025-02-25T10:00:09"
+                                        }
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "No cancellation recorded for the event",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Event cancellation not found for event id: 1",
+                                        "data": null
+                                    }
+                                    """))
+            )
+    })
+    @GetMapping("/event-cancellations/{eventId}")
+    public ResponseEntity<ApiResult<EventCancellationResponse>> getEventCancellation(
+            @Parameter(description = "ID of the cancelled event", required = true, example = "1")
+            @PathVariable Long eventId) {
+        EventCancellationResponse response = eventCancellationService.getCancellation(eventId);
+        return ResponseEntity.ok(ApiResult.of(true, "Event Cancellation Retrieved Successfully", response));
+    }
+
+    // =====================================================================
+    // POST WAITLIST - JOIN
+    // =====================================================================
+
+    @Operation(
+            summary = "Join the waitlist of an event",
+            description = "Queues the user for seats of a sold-out event. Seats freed by cancellations and expired holds are offered to waiting users in the order they joined — as a PENDING booking that holds the seats for booking.waitlist.offer-hold. A user asking for more seats than are freed gets the freed seats and keeps their place for the rest."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "201",
+                    description = "Joined the waitlist",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Joined Waitlist Successfully",
+                                        "data": {
+                                            "id": 1,
+                                            "userId": 1,
+                                            "eventId": 1,
+                                            "seatsRequested": 3,
+                                            "seatsOffered": 0,
+                                            "status": "WAITING",
+                                            "createdAt": "2025-02-25T10:00:00",
+                                            "updatedAt": "2025-02-25T10:05:00"
+                                        }
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation failed",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Seats requested must be at least 1",
+                                        "data": null
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "An unexpected error occurred",
+                                        "data": null
+                                    }
+                                    """))
+            )
+    })
+    @PostMapping("/waitlist")
+    public ResponseEntity<ApiResult<WaitlistEntryResponse>> joinWaitlist(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Waitlist details",
+                    required = true,
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "userId": 1,
+                                        "eventId": 1,
+                                        "seatsRequested": 3
+                                    }
+                                    """))
+            )
+            @Valid @RequestBody JoinWaitlistRequest request) {
+        WaitlistEntryResponse response = waitlistService.joinWaitlist(request);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .body(ApiResult.of(true, "Joined Waitlist Successfully", response));
+    }
+
+    // =====================================================================
+    // GET WAITLIST ENTRY BY ID
+    // =====================================================================
+
+    @Operation(
+            summary = "Get a waitlist entry",
+            description = "Returns the entry's status and how many of the requested seats have been offered so far. Offered seats appear as PENDING bookings of the user."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Waitlist entry found",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Waitlist Entry Retrieved Successfully",
+                                        "data": {
+                                            "id": 1,
+                                            "userId": 1,
+                                            "eventId": 1,
+                                            "seatsRequested": 3,
+                                            "seatsOffered": 2,
+                                            "status": "WAITING",
+                                            "createdAt": "2025-02-25T10:00:00",
+                                            "updatedAt": "2025-02-25T10:05:00"
+                                        }
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Waitlist entry not found",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Waitlist entry not found with id: 1",
+                                        "data": null
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "An unexpected error occurred",
+                                        "data": null
+                                    }
+                                    """))
+            )
+    })
+    @GetMapping("/waitlist/{entryId}")
+    public ResponseEntity<ApiResult<WaitlistEntryResponse>> getWaitlistEntry(
+            @Parameter(description = "ID of the waitlist entry", required = true, example = "1")
+            @PathVariable Long entryId) {
+        WaitlistEntryResponse response = waitlistService.getWaitlistEntry(entryId);
+        return ResponseEntity.ok(ApiResult.of(true, "Waitlist Entry Retrieved Successfully", response));
+    }
+
+    // =====================================================================
+    // PATCH WAITLIST - LEAVE
+    // =====================================================================
+
+    @Operation(
+            summary = "Leave the waitlist",
+            description = "Removes a WAITING entry from the queue. Seats already offered stay held by their PENDING bookings — cancel those like any other booking."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Left the waitlist",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Left Waitlist Successfully",
+                                        "data": {
+                                            "id": 1,
+                                            "userId": 1,
+                                            "eventId": 1,
+                                            "seatsRequested": 3,
+                                            "seatsOffered": 2,
+                                            "status": "CANCELLED",
+                                            "createdAt": "2025-02-25T10:00:00",
+                                            "updatedAt": "2025-02-25T10:05:00"
+                                        }
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Entry is no longer waiting",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Only WAITING entries can leave the waitlist. Current status: OFFERED",
+                                        "data": null
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Waitlist entry not found",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Waitlist entry not found with id: 1",
+                                        "data": null
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "An unexpected error occurred",
+                                        "data": null
+                                    }
+                                    """))
+            )
+    })
+    @PatchMapping("/waitlist/{entryId}/cancel")
+    public ResponseEntity<ApiResult<WaitlistEntryResponse>> leaveWaitlist(
+            @Parameter(description = "ID of the waitlist entry", required = true, example = "1")
+            @PathVariable Long entryId) {
+        WaitlistEntryResponse response = waitlistService.leaveWaitlist(entryId);
+        return ResponseEntity.ok(ApiResult.of(true, "Left Waitlist Successfully", response));
+    }
+}
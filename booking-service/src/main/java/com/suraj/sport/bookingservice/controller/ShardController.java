@@ -0,0 +1,118 @@
+package com.suraj.sport.bookingservice.controller;
+
+import com.suraj.sport.bookingservice.dto.request.MoveSlotsRequest;
+import com.suraj.sport.bookingservice.dto.response.ApiResult;
+import com.suraj.sport.bookingservice.dto.response.ShardLayoutResponse;
+import com.suraj.sport.bookingservice.dto.response.SlotMoveResponse;
+import com.suraj.sport.bookingservice.sharding.Resharder;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+/**
+ * Resharding — only present with booking.sharding.enabled=true (see ShardingConfig).
+ * <p>
+ * TODO: Restrict to admins once auth/roles are implemented in Section 12.
+ */
+@Tag(name = "Shard API", description = "Inspects and rebalances the booking shards")
+@RestController
+@RequestMapping("/api/v1/booking/shards")
+@ConditionalOnProperty(name = "booking.sharding.enabled", havingValue = "true")
+@RequiredArgsConstructor
+public class ShardController {
+
+    private final Resharder resharder;
+
+    // =====================================================================
+    // GET SHARD LAYOUT
+    // =====================================================================
+
+    @Operation(
+            summary = "Get the shard layout",
+            description = "Returns how many of the 1024 slots each shard holds, the slots being moved, and the moves "
+                    + "that would spread the slots evenly — empty unless a shard was added or slots were moved by hand."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Shard layout retrieved successfully",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Shard Layout Retrieved Successfully",
+                                        "data": {
+                                            "shardCount": 3,
+                                            "slotsPerShard": [512, 512, 0],
+                                            "movingSlots": [],
+                                            "rebalancePlan": [
+                                                { "slot": 341, "fromShard": 0, "toShard": 2 }
+                                            ]
+                                        }
+                                    }
+                                    """))
+            )
+    })
+    @GetMapping
+    public ResponseEntity<ApiResult<ShardLayoutResponse>> getLayout() {
+        ShardLayoutResponse response = resharder.layout();
+        return ResponseEntity.ok(ApiResult.of(true, "Shard Layout Retrieved Successfully", response));
+    }
+
+    // =====================================================================
+    // POST SLOT MOVE
+    // =====================================================================
+
+    @Operation(
+            summary = "Move slots to another shard",
+            description = "Copies everything stored for the events of the given slots — bookings, waitlist entries, "
+                    + "event cancellation runs — to the target shard and removes it from the source. Calls for those "
+                    + "events are answered with 503 while the move runs; the request returns once it is complete."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Slots moved successfully",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Slots Moved Successfully",
+                                        "data": {
+                                            "slotsMoved": [341, 342],
+                                            "targetShard": 2,
+                                            "bookingsMoved": 1840,
+                                            "waitlistEntriesMoved": 65,
+                                            "eventCancellationsMoved": 0,
+                                            "durationMs": 15420
+                                        }
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "No such slot or shard, a slot is already moving, or an event of the slots has a cancellation in progress",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Slot 341 is already being moved",
+                                        "data": null
+                                    }
+                                    """))
+            )
+    })
+    @PostMapping("/moves")
+    public ResponseEntity<ApiResult<SlotMoveResponse>> moveSlots(@Valid @RequestBody MoveSlotsRequest request) {
+        SlotMoveResponse response = resharder.move(request.getSlots(), request.getTargetShard());
+        return ResponseEntity.ok(ApiResult.of(true, "Slots Moved Successfully", response));
+    }
+}
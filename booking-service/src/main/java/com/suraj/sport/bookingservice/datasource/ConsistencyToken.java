@@ -0,0 +1,92 @@
+package com.suraj.sport.bookingservice.datasource;
+
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * Read-your-writes across requests of one client session.
+ * <p>
+ * Every response to a request that committed a write carries X-Consistency-Token: the
+ * time of its last commit, in epoch milliseconds. A client that sends the latest token it
+ * received back on its next requests only has reads served by the replica once the replica
+ * has applied everything up to that time (see ReplicaLagMonitor) — until then they go to
+ * the primary. Within one request, reads after a write always go to the primary.
+ * <p>
+ * State is held per request thread, bound by ConsistencyTokenFilter.
+ * <p>
+ * NOTE: Tokens are compared with heartbeats stamped by whichever instance wrote them, so
+ * instance clocks must agree to well within booking.replica.max-lag (NTP).
+ * TODO: On PostgreSQL, use the commit LSN (pg_current_wal_lsn() on the primary,
+ * pg_last_wal_replay_lsn() on the replica) as the token instead of a timestamp.
+ */
+public final class ConsistencyToken {
+
+    public static final String HEADER = "X-Consistency-Token";
+
+    private static final ThreadLocal<Session> SESSION = new ThreadLocal<>();
+
+    private ConsistencyToken() {
+    }
+
+    /**
+     * The time the replica must have caught up to before it may serve this thread's reads,
+     * or 0 if any replica state will do.
+     */
+    public static long readAfter() {
+        Session session = SESSION.get();
+        return session != null ? session.readAfter : 0;
+    }
+
+    /**
+     * Called as a read-write transaction takes its connection: once it commits, the
+     * request's reads wait for the replica to reach the commit, and the response carries
+     * the new token. A no-op outside requests.
+     */
+    public static void trackCommit() {
+        Session session = SESSION.get();
+        if (session == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(Session.class)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(Session.class, session);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                session.committed(System.currentTimeMillis());
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(Session.class);
+            }
+        });
+    }
+
+    static void open(HttpServletResponse response, long readAfter) {
+        SESSION.set(new Session(response, readAfter));
+    }
+
+    static void close() {
+        SESSION.remove();
+    }
+
+    private static final class Session {
+
+        private final HttpServletResponse response;
+        private long readAfter;
+
+        private Session(HttpServletResponse response, long readAfter) {
+            this.response = response;
+            this.readAfter = readAfter;
+        }
+
+        private void committed(long commitTime) {
+            readAfter = Math.max(readAfter, commitTime);
+            // Written before the controller returns, so the response is not committed yet
+            if (!response.isCommitted()) {
+                response.setHeader(HEADER, Long.toString(readAfter));
+            }
+        }
+    }
+}
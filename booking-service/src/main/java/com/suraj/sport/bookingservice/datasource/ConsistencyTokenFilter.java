@@ -0,0 +1,43 @@
+package com.suraj.sport.bookingservice.datasource;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Binds the caller's X-Consistency-Token to the request thread for ReplicaRoutingDataSource,
+ * and returns a new one from requests that write (see ConsistencyToken).
+ */
+@Component
+@ConditionalOnProperty(name = "booking.replica.enabled", havingValue = "true")
+public class ConsistencyTokenFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        ConsistencyToken.open(response, parse(request.getHeader(ConsistencyToken.HEADER)));
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            ConsistencyToken.close();
+        }
+    }
+
+    // A missing or malformed token asks for nothing — the request may read any replica state
+    private static long parse(String token) {
+        if (token == null) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(token.trim());
+        } catch (NumberFormatException ex) {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.suraj.sport.bookingservice.dto.request;
+
+/**
+ * One booking to refund, as sent to Payment Service.
+ */
+public record BookingRefundRequest(
+        Long bookingId,
+        Long paymentId,
+        double amount
+) {}
@@ -0,0 +1,11 @@
+package com.suraj.sport.bookingservice.dto.request;
+
+import java.util.List;
+
+/**
+ * A chunk of refunds sent to POST /api/v1/payment/refunds/bulk on Payment Service.
+ */
+public record BulkRefundRequest(
+        String reason,
+        List<BookingRefundRequest> refunds
+) {}
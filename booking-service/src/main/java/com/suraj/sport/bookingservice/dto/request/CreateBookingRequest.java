@@ -1,5 +1,6 @@
 package com.suraj.sport.bookingservice.dto.request;
 
+import com.suraj.sport.bookingservice.sharding.EventKeyed;
 import jakarta.validation.constraints.Min;
 import jakarta.validation.constraints.NotNull;
 import lombok.AllArgsConstructor;
@@ -11,7 +12,7 @@ import lombok.NoArgsConstructor;
 @Builder
 @AllArgsConstructor
 @NoArgsConstructor
-public class CreateBookingRequest {
+public class CreateBookingRequest implements EventKeyed {
 
     @NotNull(message = "User ID is required")
     private Long userId;
@@ -21,4 +22,7 @@ public class CreateBookingRequest {
 
     @Min(value = 1, message = "Seats booked must be at least 1")
     private int seatsBooked;
+
+    // Optional — the price quote token from Event Service's event response
+    private String priceQuote;
 }
\ No newline at end of file
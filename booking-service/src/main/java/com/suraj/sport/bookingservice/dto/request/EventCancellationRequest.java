@@ -0,0 +1,22 @@
+package com.suraj.sport.bookingservice.dto.request;
+
+import com.suraj.sport.bookingservice.sharding.EventKeyed;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class EventCancellationRequest implements EventKeyed {
+
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    @NotBlank(message = "Cancellation reason is required")
+    private String reason;
+}
@@ -0,0 +1,25 @@
+package com.suraj.sport.bookingservice.dto.request;
+
+import com.suraj.sport.bookingservice.sharding.EventKeyed;
+import jakarta.validation.constraints.Min;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class JoinWaitlistRequest implements EventKeyed {
+
+    @NotNull(message = "User ID is required")
+    private Long userId;
+
+    @NotNull(message = "Event ID is required")
+    private Long eventId;
+
+    @Min(value = 1, message = "Seats requested must be at least 1")
+    private int seatsRequested;
+}
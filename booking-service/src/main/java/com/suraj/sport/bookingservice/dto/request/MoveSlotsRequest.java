@@ -0,0 +1,23 @@
+package com.suraj.sport.bookingservice.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class MoveSlotsRequest {
+
+    @NotEmpty(message = "At least one slot is required")
+    private List<Integer> slots;
+
+    @NotNull(message = "Target shard is required")
+    private Integer targetShard;
+}
@@ -13,6 +13,7 @@ public record BookingResponse(
         double totalAmount,
         BookingStatus bookingStatus,
         String cancellationReason,
+        Double refundAmount,
         LocalDateTime createdAt,
         LocalDateTime updatedAt
 ) {}
\ No newline at end of file
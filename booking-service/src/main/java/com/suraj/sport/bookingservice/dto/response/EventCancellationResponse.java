@@ -0,0 +1,16 @@
+package com.suraj.sport.bookingservice.dto.response;
+
+import com.suraj.sport.bookingservice.entity.EventCancellationStatus;
+
+import java.time.LocalDateTime;
+
+public record EventCancellationResponse(
+        long eventId,
+        String reason,
+        EventCancellationStatus status,
+        long bookingsCancelled,
+        long refundsRequested,
+        String lastError,
+        LocalDateTime createdAt,
+        LocalDateTime completedAt
+) {}
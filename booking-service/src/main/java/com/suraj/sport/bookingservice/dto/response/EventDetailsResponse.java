@@ -0,0 +1,15 @@
+package com.suraj.sport.bookingservice.dto.response;
+
+import java.time.LocalDateTime;
+
+/**
+ * The fields of Event Service's event response that Booking Service reads —
+ * anything else in the response is ignored.
+ */
+public record EventDetailsResponse(
+        long id,
+        String sportType,
+        LocalDateTime eventDate,
+        String status,
+        PriceQuoteResponse priceQuote
+) {}
@@ -0,0 +1,15 @@
+package com.suraj.sport.bookingservice.dto.response;
+
+import java.time.Instant;
+
+/**
+ * A seat price issued by Event Service's pricing engine, as embedded in its event response.
+ * Only the token is read — it is verified and decoded by PriceQuoteVerifier.
+ */
+public record PriceQuoteResponse(
+        long eventId,
+        double basePrice,
+        double pricePerSeat,
+        Instant expiresAt,
+        String token
+) {}
@@ -0,0 +1,17 @@
+package com.suraj.sport.bookingservice.dto.response;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * How slots are spread over the shards, and the moves that would spread them evenly.
+ */
+public record ShardLayoutResponse(
+        int shardCount,
+        List<Integer> slotsPerShard,
+        Set<Integer> movingSlots,
+        List<SlotMove> rebalancePlan
+) {
+
+    public record SlotMove(int slot, int fromShard, int toShard) {}
+}
@@ -0,0 +1,12 @@
+package com.suraj.sport.bookingservice.dto.response;
+
+import java.util.List;
+
+public record SlotMoveResponse(
+        List<Integer> slotsMoved,
+        int targetShard,
+        long bookingsMoved,
+        long waitlistEntriesMoved,
+        long eventCancellationsMoved,
+        long durationMs
+) {}
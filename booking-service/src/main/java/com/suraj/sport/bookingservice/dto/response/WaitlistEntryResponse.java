@@ -0,0 +1,16 @@
+package com.suraj.sport.bookingservice.dto.response;
+
+import com.suraj.sport.bookingservice.entity.WaitlistStatus;
+
+import java.time.LocalDateTime;
+
+public record WaitlistEntryResponse(
+        long id,
+        long userId,
+        long eventId,
+        int seatsRequested,
+        int seatsOffered,
+        WaitlistStatus status,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {}
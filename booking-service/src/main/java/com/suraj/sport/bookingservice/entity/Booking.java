@@ -1,5 +1,8 @@
 package com.suraj.sport.bookingservice.entity;
 
+import com.suraj.sport.bookingservice.sharding.EventKeyed;
+import com.suraj.sport.bookingservice.sharding.ShardKeys;
+import com.suraj.sport.bookingservice.sharding.ShardedSequence;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -8,15 +11,24 @@ import org.hibernate.annotations.UpdateTimestamp;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(
+        name = "bookings",
+        indexes = {
+                @Index(name = "idx_bookings_expiry_bucket_status", columnList = "expiry_bucket, booking_status"),
+                @Index(name = "idx_bookings_event_status", columnList = "event_id, booking_status, id"),
+                @Index(name = "idx_bookings_event_slot", columnList = "event_slot, event_id")
+        }
+)
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
-public class Booking {
+public class Booking implements EventKeyed {
 
+    // Carries the event's slot, so the booking's shard is known from the id alone (see
+    // ShardKeys). Drawn from a sequence 50 at a time, so bulk inserts can be JDBC-batched.
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @ShardedSequence(name = "bookings_seq")
     private Long id;
 
     // Reference to User Service — no FK constraint, microservices own their data
@@ -27,6 +39,11 @@ public class Booking {
     @Column(nullable = false)
     private Long eventId;
 
+    // Slot of the event (ShardKeys.slotOfEvent), set on insert. Indexed with eventId so
+    // Resharder finds the events of a slot without scanning the table
+    @Column(nullable = false)
+    private int eventSlot;
+
     // Reference to Payment Service — nullable until payment is confirmed
     private Long paymentId;
 
@@ -48,6 +65,26 @@ public class Booking {
     // Populated when booking is cancelled — useful for auditing and user communication
     private String cancellationReason;
 
+    // Snapshot of the event taken when the booking is made — the cancellation policy is
+    // evaluated against these without calling Event Service
+    private LocalDateTime eventDate;
+
+    private String sportType;
+
+    // Cancellation policy and version the booking was made under (e.g. "cricket/v2") —
+    // later policy changes do not alter the refund terms of existing bookings
+    @Column(length = 64)
+    private String cancellationPolicy;
+
+    // Amount refunded when a paid booking is cancelled — null for unpaid or active bookings
+    private Double refundAmount;
+
+    // Epoch minute at which a PENDING booking stops holding its seats — null once the
+    // booking leaves PENDING. Indexed together with bookingStatus so the expiry scheduler
+    // only ever touches rows that are actually due, never the whole table.
+    @Column(name = "expiry_bucket")
+    private Long expiryBucket;
+
     @Builder.Default
     @Column(name = "is_deleted", nullable = false)
     private boolean isDeleted = false;
@@ -61,4 +98,9 @@ public class Booking {
 
     @UpdateTimestamp
     private LocalDateTime updatedAt;
-}
\ No newline at end of file
+
+    @PrePersist
+    void computeEventSlot() {
+        eventSlot = ShardKeys.slotOfEvent(eventId);
+    }
+}
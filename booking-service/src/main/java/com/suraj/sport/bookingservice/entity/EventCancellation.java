@@ -0,0 +1,85 @@
+package com.suraj.sport.bookingservice.entity;
+
+import com.suraj.sport.bookingservice.sharding.ShardKeys;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * Progress of cancelling every active booking of a cancelled event.
+ * <p>
+ * One row per event — the eventId is the key, so a repeated cancellation command for the
+ * same event resumes the existing run instead of starting a second one.
+ * <p>
+ * The run has two stages, each with its own checkpoint, committed together with the work
+ * it covers so a restart continues exactly where it stopped:
+ * - Cancel : bookings are cancelled CONFIRMED first, then PENDING, in id order.
+ *            cancelStatus is the status being drained (null once done), cancelCursor the
+ *            last booking id cancelled in it.
+ * - Refund : CONFIRMED bookings cancelled by this run are sent to Payment Service for a
+ *            refund in id order. refundCursor is the last booking id Payment Service accepted.
+ */
+@Entity
+@Table(
+        name = "event_cancellations",
+        indexes = @Index(name = "idx_event_cancellations_event_slot", columnList = "event_slot, event_id")
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class EventCancellation {
+
+    // Reference to Event Service — no FK constraint, microservices own their data
+    @Id
+    private Long eventId;
+
+    // Slot of the eventId, set on insert — lets Resharder find the runs of a slot (see Booking)
+    @Column(nullable = false)
+    private int eventSlot;
+
+    // Copied onto every cancelled booking and sent with every refund
+    @Column(nullable = false)
+    private String reason;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private EventCancellationStatus status;
+
+    // ── Cancel stage checkpoint ──
+    @Enumerated(EnumType.STRING)
+    private BookingStatus cancelStatus;
+
+    @Column(nullable = false)
+    private long cancelCursor;
+
+    @Column(nullable = false)
+    private long bookingsCancelled;
+
+    // ── Refund stage checkpoint ──
+    @Column(nullable = false)
+    private long refundCursor;
+
+    @Column(nullable = false)
+    private long refundsRequested;
+
+    // Why the last attempt stopped — null unless status is FAILED
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    private LocalDateTime completedAt;
+
+    @PrePersist
+    void computeEventSlot() {
+        eventSlot = ShardKeys.slotOfEvent(eventId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.suraj.sport.bookingservice.entity;
+
+public enum EventCancellationStatus {
+    IN_PROGRESS,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,25 @@
+package com.suraj.sport.bookingservice.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * Single row the primary stamps with the time every booking.replica.heartbeat-interval.
+ * Reading it back from the replica tells up to when the replica has applied the primary's
+ * commits (see ReplicaLagMonitor). Written and read with plain JDBC, never through JPA.
+ */
+@Entity
+@Table(name = "replica_heartbeat")
+@NoArgsConstructor
+@AllArgsConstructor
+@Getter
+@Setter
+public class ReplicaHeartbeat {
+
+    @Id
+    private Integer id;
+
+    // Epoch milliseconds of the primary instance that wrote it
+    @Column(nullable = false)
+    private long beatAt;
+}
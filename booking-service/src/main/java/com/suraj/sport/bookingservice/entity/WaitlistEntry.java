@@ -0,0 +1,74 @@
+package com.suraj.sport.bookingservice.entity;
+
+import com.suraj.sport.bookingservice.sharding.EventKeyed;
+import com.suraj.sport.bookingservice.sharding.ShardKeys;
+import com.suraj.sport.bookingservice.sharding.ShardedSequence;
+import jakarta.persistence.*;
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import java.time.LocalDateTime;
+
+/**
+ * A user waiting for seats of an event.
+ * <p>
+ * Entries are only ever appended. Seats freed by cancellations and expired holds are offered
+ * to the WAITING entries of the event in the order they joined — createdAt, then id. Ids alone
+ * are not join order: each instance allocates them from its own pooled block of the sequence. An entry can be served by several offers when fewer seats free up than it asked for;
+ * it leaves the queue (OFFERED) once seatsOffered reaches seatsRequested.
+ */
+@Entity
+@Table(
+        name = "waitlist_entries",
+        indexes = {
+                @Index(name = "idx_waitlist_entries_event_status_created", columnList = "event_id, status, created_at, id"),
+                @Index(name = "idx_waitlist_entries_event_slot", columnList = "event_slot, event_id")
+        }
+)
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class WaitlistEntry implements EventKeyed {
+
+    // Carries the event's slot like Booking's id
+    @Id
+    @ShardedSequence(name = "waitlist_entries_seq")
+    private Long id;
+
+    // Reference to User Service — no FK constraint, microservices own their data
+    @Column(nullable = false)
+    private Long userId;
+
+    // Reference to Event Service — no FK constraint, microservices own their data
+    @Column(nullable = false)
+    private Long eventId;
+
+    // Slot of the event, set on insert — as on Booking
+    @Column(nullable = false)
+    private int eventSlot;
+
+    @Column(nullable = false)
+    private int seatsRequested;
+
+    // Seats offered so far — each offer is a PENDING booking holding the seats
+    @Column(nullable = false)
+    private int seatsOffered;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private WaitlistStatus status;
+
+    @CreationTimestamp
+    @Column(updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    private LocalDateTime updatedAt;
+
+    @PrePersist
+    void computeEventSlot() {
+        eventSlot = ShardKeys.slotOfEvent(eventId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.suraj.sport.bookingservice.entity;
+
+public enum WaitlistStatus {
+    WAITING,
+    OFFERED,
+    CANCELLED
+}
@@ -0,0 +1,7 @@
+package com.suraj.sport.bookingservice.exception;
+
+public class EventCancellationNotFoundException extends RuntimeException {
+    public EventCancellationNotFoundException(Long eventId) {
+        super("Event cancellation not found for event id: " + eventId);
+    }
+}
@@ -0,0 +1,7 @@
+package com.suraj.sport.bookingservice.exception;
+
+public class EventNotBookableException extends RuntimeException {
+    public EventNotBookableException(String message) {
+        super(message);
+    }
+}
@@ -2,6 +2,7 @@ package com.suraj.sport.bookingservice.exception;
 
 import com.suraj.sport.bookingservice.dto.response.ApiResult;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -55,6 +56,51 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(EventCancellationNotFoundException.class)
+    public ResponseEntity<ApiResult<Void>> handleEventCancellationNotFound(EventCancellationNotFoundException ex) {
+        return error(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(WaitlistEntryNotFoundException.class)
+    public ResponseEntity<ApiResult<Void>> handleWaitlistEntryNotFound(WaitlistEntryNotFoundException ex) {
+        return error(HttpStatus.NOT_FOUND, ex.getMessage());
+    }
+
+    @ExceptionHandler(WaitlistEntryNotCancellableException.class)
+    public ResponseEntity<ApiResult<Void>> handleWaitlistEntryNotCancellable(WaitlistEntryNotCancellableException ex) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidPriceQuoteException.class)
+    public ResponseEntity<ApiResult<Void>> handleInvalidPriceQuote(InvalidPriceQuoteException ex) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
+    @ExceptionHandler(EventNotBookableException.class)
+    public ResponseEntity<ApiResult<Void>> handleEventNotBookable(EventNotBookableException ex) {
+        return error(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(SeatsNotAvailableException.class)
+    public ResponseEntity<ApiResult<Void>> handleSeatsNotAvailable(SeatsNotAvailableException ex) {
+        return error(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    // ── Sharding ──────────────────────────────────────────────────────────────
+
+    // Resolves within seconds — a slot move or a directory refresh
+    @ExceptionHandler(ShardUnavailableException.class)
+    public ResponseEntity<ApiResult<Void>> handleShardUnavailable(ShardUnavailableException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .body(ApiResult.of(false, ex.getMessage(), null));
+    }
+
+    @ExceptionHandler(SlotMoveException.class)
+    public ResponseEntity<ApiResult<Void>> handleSlotMove(SlotMoveException ex) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
     // ── Catch-All ─────────────────────────────────────────────────────────────
 
     @ExceptionHandler(Exception.class)
@@ -0,0 +1,7 @@
+package com.suraj.sport.bookingservice.exception;
+
+public class InvalidPriceQuoteException extends RuntimeException {
+    public InvalidPriceQuoteException(String message) {
+        super(message);
+    }
+}
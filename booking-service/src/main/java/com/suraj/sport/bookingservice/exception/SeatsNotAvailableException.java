@@ -0,0 +1,11 @@
+package com.suraj.sport.bookingservice.exception;
+
+/**
+ * Event Service refused to take seats — the event is not open for booking, or fewer seats
+ * are left than were asked for.
+ */
+public class SeatsNotAvailableException extends RuntimeException {
+    public SeatsNotAvailableException(String message) {
+        super(message);
+    }
+}
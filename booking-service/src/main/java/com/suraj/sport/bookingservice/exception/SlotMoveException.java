@@ -0,0 +1,7 @@
+package com.suraj.sport.bookingservice.exception;
+
+public class SlotMoveException extends RuntimeException {
+    public SlotMoveException(String message) {
+        super(message);
+    }
+}
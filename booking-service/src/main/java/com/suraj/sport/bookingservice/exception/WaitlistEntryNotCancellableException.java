@@ -0,0 +1,7 @@
+package com.suraj.sport.bookingservice.exception;
+
+public class WaitlistEntryNotCancellableException extends RuntimeException {
+    public WaitlistEntryNotCancellableException(String message) {
+        super(message);
+    }
+}
@@ -0,0 +1,7 @@
+package com.suraj.sport.bookingservice.exception;
+
+public class WaitlistEntryNotFoundException extends RuntimeException {
+    public WaitlistEntryNotFoundException(Long id) {
+        super("Waitlist entry not found with id: " + id);
+    }
+}
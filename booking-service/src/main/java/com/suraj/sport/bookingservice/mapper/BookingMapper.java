@@ -1,10 +1,17 @@
 package com.suraj.sport.bookingservice.mapper;
 
 import com.suraj.sport.bookingservice.dto.request.CreateBookingRequest;
+import com.suraj.sport.bookingservice.dto.request.JoinWaitlistRequest;
 import com.suraj.sport.bookingservice.dto.response.BookingResponse;
 import com.suraj.sport.bookingservice.dto.response.CreateBookingResponse;
+import com.suraj.sport.bookingservice.dto.response.EventCancellationResponse;
+import com.suraj.sport.bookingservice.dto.response.WaitlistEntryResponse;
 import com.suraj.sport.bookingservice.entity.Booking;
 import com.suraj.sport.bookingservice.entity.BookingStatus;
+import com.suraj.sport.bookingservice.entity.EventCancellation;
+import com.suraj.sport.bookingservice.entity.WaitlistEntry;
+import com.suraj.sport.bookingservice.entity.WaitlistStatus;
+import com.suraj.sport.bookingservice.pricing.PriceQuote;
 
 public class BookingMapper {
 
@@ -12,10 +19,11 @@ public class BookingMapper {
 
     /**
      * Maps CreateBookingRequest to Booking entity.
-     * pricePerSeat and totalAmount must be provided separately
-     * as they are fetched from Event Service.
+     * pricePerSeat and totalAmount are snapshotted from the verified price quote issued
+     * by Event Service, so the booking keeps the price it was quoted.
      */
-    public static Booking mapToBooking(CreateBookingRequest request, double pricePerSeat) {
+    public static Booking mapToBooking(CreateBookingRequest request, PriceQuote priceQuote) {
+        double pricePerSeat = priceQuote.pricePerSeat();
         return Booking.builder()
                 .userId(request.getUserId())
                 .eventId(request.getEventId())
@@ -58,8 +66,54 @@ public class BookingMapper {
                 booking.getTotalAmount(),
                 booking.getBookingStatus(),
                 booking.getCancellationReason(),
+                booking.getRefundAmount(),
                 booking.getCreatedAt(),
                 booking.getUpdatedAt()
         );
     }
-}
\ No newline at end of file
+
+    /**
+     * Maps the progress of an event cancellation run to its response.
+     */
+    public static EventCancellationResponse mapToEventCancellationResponse(EventCancellation cancellation) {
+        return new EventCancellationResponse(
+                cancellation.getEventId(),
+                cancellation.getReason(),
+                cancellation.getStatus(),
+                cancellation.getBookingsCancelled(),
+                cancellation.getRefundsRequested(),
+                cancellation.getLastError(),
+                cancellation.getCreatedAt(),
+                cancellation.getCompletedAt()
+        );
+    }
+
+    /**
+     * Maps JoinWaitlistRequest to a new WaitlistEntry at the back of the event's queue.
+     */
+    public static WaitlistEntry mapToWaitlistEntry(JoinWaitlistRequest request) {
+        return WaitlistEntry.builder()
+                .userId(request.getUserId())
+                .eventId(request.getEventId())
+                .seatsRequested(request.getSeatsRequested())
+                .seatsOffered(0)
+                .status(WaitlistStatus.WAITING)
+                .build();
+    }
+
+    /**
+     * Maps WaitlistEntry entity to WaitlistEntryResponse.
+     */
+    public static WaitlistEntryResponse mapToWaitlistEntryResponse(WaitlistEntry entry) {
+        return new WaitlistEntryResponse(
+                entry.getId(),
+                entry.getUserId(),
+                entry.getEventId(),
+                entry.getSeatsRequested(),
+                entry.getSeatsOffered(),
+                entry.getStatus(),
+                entry.getCreatedAt(),
+                entry.getUpdatedAt()
+        );
+    }
+}
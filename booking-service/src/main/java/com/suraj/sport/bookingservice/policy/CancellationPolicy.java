@@ -0,0 +1,93 @@
+package com.suraj.sport.bookingservice.policy;
+
+import com.suraj.sport.bookingservice.config.CancellationPolicyProperties;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * One compiled version of a cancellation policy.
+ * <p>
+ * The refund tiers are held as two parallel arrays sorted by how many seconds before the
+ * event each tier starts, so evaluating a cancellation is a single binary search — no
+ * parsing, no allocation. Instances are immutable and shared by every cancellation.
+ */
+public final class CancellationPolicy {
+
+    // Returned by refundPercent once the smallest tier has closed — the booking can no longer be cancelled
+    public static final int PAST_DEADLINE = -1;
+
+    private final String key;
+    private final long[] secondsBeforeEvent;
+    private final int[] refundPercents;
+
+    private CancellationPolicy(String key, long[] secondsBeforeEvent, int[] refundPercents) {
+        this.key = key;
+        this.secondsBeforeEvent = secondsBeforeEvent;
+        this.refundPercents = refundPercents;
+    }
+
+    /**
+     * Compiles a configured policy, rejecting definitions that could never be evaluated
+     * consistently — fails startup instead of refunding the wrong amount later.
+     */
+    static CancellationPolicy compile(CancellationPolicyProperties.Definition definition) {
+        String key = keyOf(definition.getName(), definition.getVersion());
+        List<CancellationPolicyProperties.Tier> tiers = definition.getTiers().stream()
+                .sorted(Comparator.comparing(CancellationPolicyProperties.Tier::getBefore))
+                .toList();
+        if (tiers.isEmpty()) {
+            throw new IllegalStateException("Cancellation policy " + key + " has no tiers");
+        }
+
+        long[] secondsBeforeEvent = new long[tiers.size()];
+        int[] refundPercents = new int[tiers.size()];
+        for (int i = 0; i < tiers.size(); i++) {
+            CancellationPolicyProperties.Tier tier = tiers.get(i);
+            if (tier.getBefore().isNegative() || tier.getRefundPercent() < 0 || tier.getRefundPercent() > 100) {
+                throw new IllegalStateException("Cancellation policy " + key + " has an invalid tier: " + tier);
+            }
+            secondsBeforeEvent[i] = tier.getBefore().toSeconds();
+            refundPercents[i] = tier.getRefundPercent();
+            if (i > 0 && secondsBeforeEvent[i] == secondsBeforeEvent[i - 1]) {
+                throw new IllegalStateException("Cancellation policy " + key + " has two tiers at " + tier.getBefore());
+            }
+        }
+        return new CancellationPolicy(key, secondsBeforeEvent, refundPercents);
+    }
+
+    static String keyOf(String name, int version) {
+        return name + "/v" + version;
+    }
+
+    /**
+     * Identifies the policy and its version, e.g. "cricket/v2" — stored on every booking.
+     */
+    public String key() {
+        return key;
+    }
+
+    /**
+     * Refund percentage for cancelling at the given time, or PAST_DEADLINE if the
+     * booking can no longer be cancelled.
+     */
+    public int refundPercent(LocalDateTime eventDate, LocalDateTime cancelledAt) {
+        long secondsLeft = Duration.between(cancelledAt, eventDate).toSeconds();
+        int tier = Arrays.binarySearch(secondsBeforeEvent, secondsLeft);
+        if (tier < 0) {
+            // Between two tier boundaries — the tier below the insertion point applies
+            tier = -tier - 2;
+        }
+        return tier < 0 ? PAST_DEADLINE : refundPercents[tier];
+    }
+
+    /**
+     * Latest time a booking for an event on eventDate can be cancelled.
+     */
+    public LocalDateTime deadline(LocalDateTime eventDate) {
+        return eventDate.minusSeconds(secondsBeforeEvent[0]);
+    }
+}
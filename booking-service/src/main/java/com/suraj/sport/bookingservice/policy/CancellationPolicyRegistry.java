@@ -0,0 +1,111 @@
+package com.suraj.sport.bookingservice.policy;
+
+import com.suraj.sport.bookingservice.config.CancellationPolicyProperties;
+import com.suraj.sport.bookingservice.entity.Booking;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * In-memory cache of every configured cancellation policy, compiled once on startup.
+ * <p>
+ * New bookings are made under the active policy of their event — an event override, else
+ * the sport type's policy, else the default — and store its key. Cancelling a booking looks
+ * that exact version up again, so a later policy change never alters the refund of an
+ * existing booking, and a refund can always be reproduced from the booking row alone.
+ * <p>
+ * TODO: Reload policies without a restart once they are managed through an admin API.
+ */
+@Slf4j
+@Component
+public class CancellationPolicyRegistry {
+
+    // Used when no default policy is configured — full refund until the event starts
+    private static final CancellationPolicyProperties.Definition FULL_REFUND_UNTIL_START = fullRefundUntilStart();
+
+    private final Map<String, CancellationPolicy> policiesByKey = new HashMap<>();
+    private final Map<Long, CancellationPolicy> activeByEventId = new HashMap<>();
+    private final Map<String, CancellationPolicy> activeBySportType = new HashMap<>();
+    private final CancellationPolicy activeDefault;
+
+    public CancellationPolicyRegistry(CancellationPolicyProperties properties) {
+        Map<Long, Integer> eventVersions = new HashMap<>();
+        Map<String, Integer> sportTypeVersions = new HashMap<>();
+        CancellationPolicy defaultPolicy = null;
+        int defaultVersion = Integer.MIN_VALUE;
+
+        for (CancellationPolicyProperties.Definition definition : properties.getPolicies()) {
+            CancellationPolicy policy = CancellationPolicy.compile(definition);
+            if (policiesByKey.putIfAbsent(policy.key(), policy) != null) {
+                throw new IllegalStateException("Cancellation policy " + policy.key() + " is defined twice");
+            }
+
+            // Keep the highest version of each scope as the active policy
+            int version = definition.getVersion();
+            if (definition.getEventId() != null) {
+                if (version > eventVersions.getOrDefault(definition.getEventId(), Integer.MIN_VALUE)) {
+                    eventVersions.put(definition.getEventId(), version);
+                    activeByEventId.put(definition.getEventId(), policy);
+                }
+            } else if (definition.getSportType() != null) {
+                String sportType = definition.getSportType().toLowerCase(Locale.ROOT);
+                if (version > sportTypeVersions.getOrDefault(sportType, Integer.MIN_VALUE)) {
+                    sportTypeVersions.put(sportType, version);
+                    activeBySportType.put(sportType, policy);
+                }
+            } else if (version > defaultVersion) {
+                defaultVersion = version;
+                defaultPolicy = policy;
+            }
+        }
+
+        if (defaultPolicy == null) {
+            defaultPolicy = CancellationPolicy.compile(FULL_REFUND_UNTIL_START);
+            policiesByKey.putIfAbsent(defaultPolicy.key(), defaultPolicy);
+        }
+        activeDefault = defaultPolicy;
+        log.info("Loaded {} cancellation policies — default {}", policiesByKey.size(), activeDefault.key());
+    }
+
+    /**
+     * The policy new bookings for the event are made under.
+     */
+    public CancellationPolicy activePolicyFor(Long eventId, String sportType) {
+        CancellationPolicy policy = activeByEventId.get(eventId);
+        if (policy == null && sportType != null) {
+            policy = activeBySportType.get(sportType.toLowerCase(Locale.ROOT));
+        }
+        return policy != null ? policy : activeDefault;
+    }
+
+    /**
+     * The policy the booking was made under. Falls back to the event's active policy if
+     * the booking predates policies or its version has been removed from configuration.
+     */
+    public CancellationPolicy policyOf(Booking booking) {
+        CancellationPolicy policy = booking.getCancellationPolicy() != null
+                ? policiesByKey.get(booking.getCancellationPolicy())
+                : null;
+        if (policy == null) {
+            policy = activePolicyFor(booking.getEventId(), booking.getSportType());
+            if (booking.getCancellationPolicy() != null) {
+                log.warn("Cancellation policy {} of booking {} is no longer configured — applying {}",
+                        booking.getCancellationPolicy(), booking.getId(), policy.key());
+            }
+        }
+        return policy;
+    }
+
+    private static CancellationPolicyProperties.Definition fullRefundUntilStart() {
+        CancellationPolicyProperties.Tier tier = new CancellationPolicyProperties.Tier();
+        tier.setBefore(Duration.ZERO);
+        tier.setRefundPercent(100);
+        CancellationPolicyProperties.Definition definition = new CancellationPolicyProperties.Definition();
+        definition.setName("full-refund");
+        definition.setVersion(0);
+        definition.setTiers(List.of(tier));
+        return definition;
+    }
+}
@@ -0,0 +1,21 @@
+package com.suraj.sport.bookingservice.pricing;
+
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * The contents of a verified price quote token — the price a booking is charged and the
+ * event details it snapshots for its cancellation policy.
+ */
+public record PriceQuote(
+        long eventId,
+        double pricePerSeat,
+        Instant expiresAt,
+        LocalDateTime eventDate,
+        String sportType
+) {
+
+    public boolean isExpired(Instant now) {
+        return !now.isBefore(expiresAt);
+    }
+}
@@ -0,0 +1,108 @@
+package com.suraj.sport.bookingservice.pricing;
+
+import com.suraj.sport.bookingservice.config.PriceQuoteProperties;
+import com.suraj.sport.bookingservice.exception.InvalidPriceQuoteException;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+/**
+ * Verifies the price quote tokens Event Service hands out with its event responses, so a
+ * booking made with a valid token needs no call to Event Service.
+ * <p>
+ * A token is base64url(payload) + "." + base64url(HMAC-SHA256 of payload), where the payload
+ * is "eventId|priceInCents|expiresAtEpochSecond|eventDate|sportType". The key is
+ * booking.price-quote.secret, shared with Event Service's event.pricing.quote-secret.
+ */
+@Component
+public class PriceQuoteVerifier {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int PAYLOAD_FIELDS = 5;
+    // A key shorter than the HMAC-SHA256 output weakens the signature (RFC 2104)
+    static final int MIN_SECRET_BYTES = 32;
+
+    // Initialised once; each signature is computed on a clone since Mac is not thread-safe
+    private final Mac prototype;
+
+    public PriceQuoteVerifier(PriceQuoteProperties properties) {
+        if (properties.getSecret() == null || properties.getSecret().isBlank()) {
+            throw new IllegalStateException("booking.price-quote.secret must be set (PRICE_QUOTE_SECRET)");
+        }
+        byte[] secret = properties.getSecret().getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("booking.price-quote.secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        try {
+            prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(secret, ALGORITHM));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot initialise price quote verification", ex);
+        }
+    }
+
+    /**
+     * Returns the quote a client passed with its booking, or null if it passed none or the
+     * quote has expired — the caller then fetches a fresh one.
+     * Throws InvalidPriceQuoteException if the token is malformed, its signature does not
+     * match, or it was issued for another event.
+     */
+    public PriceQuote verify(String token, Long eventId) {
+        if (token == null || token.isBlank()) {
+            return null;
+        }
+        PriceQuote quote = decode(token, eventId);
+        return quote.isExpired(Instant.now()) ? null : quote;
+    }
+
+    /**
+     * Checks the signature and event of a token without looking at its expiry. Used for
+     * quotes just fetched from Event Service, which are current whatever the clock skew.
+     */
+    public PriceQuote decode(String token, Long eventId) {
+        int separator = token.indexOf('.');
+        if (separator < 0) {
+            throw new InvalidPriceQuoteException("Price quote is malformed");
+        }
+        byte[] payload;
+        byte[] signature;
+        try {
+            payload = Base64.getUrlDecoder().decode(token.substring(0, separator));
+            signature = Base64.getUrlDecoder().decode(token.substring(separator + 1));
+        } catch (IllegalArgumentException ex) {
+            throw new InvalidPriceQuoteException("Price quote is malformed");
+        }
+        if (!MessageDigest.isEqual(sign(payload), signature)) {
+            throw new InvalidPriceQuoteException("Price quote signature is invalid");
+        }
+
+        // Signed by Event Service, so the fields are well-formed — sportType is last and may contain '|'
+        String[] fields = new String(payload, StandardCharsets.UTF_8).split("\\|", PAYLOAD_FIELDS);
+        PriceQuote quote = new PriceQuote(
+                Long.parseLong(fields[0]),
+                Long.parseLong(fields[1]) / 100.0,
+                Instant.ofEpochSecond(Long.parseLong(fields[2])),
+                LocalDateTime.parse(fields[3]),
+                fields[4]
+        );
+        if (quote.eventId() != eventId) {
+            throw new InvalidPriceQuoteException("Price quote was issued for event " + quote.eventId());
+        }
+        return quote;
+    }
+
+    private byte[] sign(byte[] payload) {
+        try {
+            return ((Mac) prototype.clone()).doFinal(payload);
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException("Cannot verify price quote", ex);
+        }
+    }
+}
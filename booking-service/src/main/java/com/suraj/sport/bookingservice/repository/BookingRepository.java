@@ -1,18 +1,249 @@
 package com.suraj.sport.bookingservice.repository;
 
+import com.suraj.sport.bookingservice.dto.request.BookingRefundRequest;
 import com.suraj.sport.bookingservice.entity.Booking;
+import com.suraj.sport.bookingservice.entity.BookingStatus;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
 
-    // Used in getAllBookingsByUserId — fetch all bookings for a specific user
-    List<Booking> findAllByUserId(Long userId);
+    // Used in getAllBookingsByUserId — fetch all bookings for a specific user, oldest first,
+    // so the results of each shard can be merged without re-sorting
+    List<Booking> findAllByUserIdOrderByCreatedAtAscIdAsc(Long userId);
 
-    // TODO: findAllByUserIdAndIsDeletedFalse(Long userId)
+    // TODO: findAllByUserIdAndIsDeletedFalseOrderByCreatedAtAscIdAsc(Long userId)
     // Once auth/roles are implemented, regular users should only see non-deleted bookings
     // Revisit in Section 12
+
+    // ── Cancellation ──────────────────────────────────────────────────────────
+
+    /**
+     * Cancels an active booking in one UPDATE. Only applies while the booking still has the
+     * status and seat count it was read with, so of a cancellation racing an expiry, an event
+     * cancellation or another cancellation of the same booking only one takes effect.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Booking b
+            SET b.bookingStatus = com.suraj.sport.bookingservice.entity.BookingStatus.CANCELLED,
+                b.cancellationReason = :reason,
+                b.refundAmount = :refundAmount,
+                b.expiryBucket = null,
+                b.updatedAt = :now
+            WHERE b.id = :bookingId
+              AND b.bookingStatus = :status
+              AND b.seatsBooked = :expectedSeats
+            """)
+    int cancelBooking(@Param("bookingId") Long bookingId,
+                      @Param("status") BookingStatus status,
+                      @Param("expectedSeats") int expectedSeats,
+                      @Param("reason") String reason,
+                      @Param("refundAmount") Double refundAmount,
+                      @Param("now") LocalDateTime now);
+
+    // ── Re-booking ────────────────────────────────────────────────────────────
+
+    /**
+     * Resets a CANCELLED booking to PENDING with fresh terms and a fresh seat hold.
+     * Only applies while the booking is still CANCELLED, so concurrent re-bookings of the
+     * same booking cannot both take seats for it.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Booking b
+            SET b.bookingStatus = com.suraj.sport.bookingservice.entity.BookingStatus.PENDING,
+                b.cancellationReason = null,
+                b.refundAmount = null,
+                b.paymentId = null,
+                b.eventDate = :eventDate,
+                b.sportType = :sportType,
+                b.cancellationPolicy = :cancellationPolicy,
+                b.expiryBucket = :expiryBucket,
+                b.updatedAt = :now
+            WHERE b.id = :bookingId
+              AND b.bookingStatus = com.suraj.sport.bookingservice.entity.BookingStatus.CANCELLED
+            """)
+    int reBook(@Param("bookingId") Long bookingId,
+               @Param("eventDate") LocalDateTime eventDate,
+               @Param("sportType") String sportType,
+               @Param("cancellationPolicy") String cancellationPolicy,
+               @Param("expiryBucket") long expiryBucket,
+               @Param("now") LocalDateTime now);
+
+    // ── Partial cancellation ──────────────────────────────────────────────────
+
+    /**
+     * Takes seats off an active booking and adds the refund for them in one UPDATE.
+     * Only applies while the booking still has the seat count and status it was read with,
+     * so concurrent partial cancellations of the same booking cannot both succeed.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Booking b
+            SET b.seatsBooked = b.seatsBooked - :count,
+                b.totalAmount = b.pricePerSeat * (b.seatsBooked - :count),
+                b.refundAmount = CASE WHEN :refund > 0 THEN COALESCE(b.refundAmount, 0) + :refund
+                                      ELSE b.refundAmount END,
+                b.updatedAt = :now
+            WHERE b.id = :bookingId
+              AND b.seatsBooked = :expectedSeats
+              AND b.bookingStatus = :status
+            """)
+    int cancelSeats(@Param("bookingId") Long bookingId,
+                    @Param("expectedSeats") int expectedSeats,
+                    @Param("status") BookingStatus status,
+                    @Param("count") int count,
+                    @Param("refund") double refund,
+                    @Param("now") LocalDateTime now);
+
+    /**
+     * Compensates cancelSeats when the seats could not be returned to the event — adds the
+     * seats back and takes off the refund cancelSeats added. Only applies while the booking
+     * is still as cancelSeats left it, so a cancellation or expiry committed in between is
+     * never overwritten.
+     */
+    @Transactional
+    @Modifying(clearAutomatically = true)
+    @Query("""
+            UPDATE Booking b
+            SET b.seatsBooked = b.seatsBooked + :count,
+                b.totalAmount = b.pricePerSeat * (b.seatsBooked + :count),
+                b.refundAmount = CASE WHEN :refund > 0 THEN NULLIF(b.refundAmount - :refund, 0)
+                                      ELSE b.refundAmount END,
+                b.updatedAt = :now
+            WHERE b.id = :bookingId
+              AND b.seatsBooked = :expectedSeats
+              AND b.bookingStatus = :status
+            """)
+    int undoCancelSeats(@Param("bookingId") Long bookingId,
+                        @Param("expectedSeats") int expectedSeats,
+                        @Param("status") BookingStatus status,
+                        @Param("count") int count,
+                        @Param("refund") double refund,
+                        @Param("now") LocalDateTime now);
+
+    // ── Pending booking expiry ────────────────────────────────────────────────
+
+    /**
+     * Returns the oldest expiry buckets that still contain PENDING bookings.
+     * Range scan on idx_bookings_expiry_bucket_status — cost is proportional to the
+     * number of due rows, not to the size of the bookings table.
+     */
+    @Query(value = """
+            SELECT DISTINCT b.expiry_bucket FROM bookings b
+            WHERE b.expiry_bucket <= :currentBucket
+              AND b.booking_status = 'PENDING'
+            ORDER BY b.expiry_bucket
+            LIMIT :maxBuckets
+            """, nativeQuery = true)
+    List<Long> findDueExpiryBuckets(@Param("currentBucket") long currentBucket,
+                                    @Param("maxBuckets") int maxBuckets);
+
+    /**
+     * Claims up to batchSize PENDING bookings of one expiry bucket.
+     * Rows already locked by another booking-service instance are skipped rather than
+     * waited on, so several instances can drain the same bucket concurrently.
+     */
+    @Query(value = """
+            SELECT * FROM bookings b
+            WHERE b.expiry_bucket = :bucket
+              AND b.booking_status = 'PENDING'
+            ORDER BY b.id
+            LIMIT :batchSize
+            FOR UPDATE SKIP LOCKED
+            """, nativeQuery = true)
+    List<Booking> claimExpiredBatch(@Param("bucket") long bucket,
+                                    @Param("batchSize") int batchSize);
+
+    /**
+     * Cancels the claimed bookings with a single UPDATE statement.
+     */
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+            UPDATE Booking b
+            SET b.bookingStatus = :cancelled,
+                b.cancellationReason = :reason,
+                b.expiryBucket = null,
+                b.updatedAt = :now
+            WHERE b.id IN :ids
+            """)
+    int cancelExpired(@Param("ids") List<Long> ids,
+                      @Param("cancelled") BookingStatus cancelled,
+                      @Param("reason") String reason,
+                      @Param("now") LocalDateTime now);
+
+    // ── Event cancellation ────────────────────────────────────────────────────
+
+    /**
+     * Next page of an event's bookings in one status, after the given id.
+     * Keyset range scan on idx_bookings_event_status — every page costs the same,
+     * however deep into a 60k-booking event the run is.
+     */
+    @Query("""
+            SELECT b.id FROM Booking b
+            WHERE b.eventId = :eventId
+              AND b.bookingStatus = :status
+              AND b.id > :afterId
+            ORDER BY b.id
+            """)
+    List<Long> findIdsForEventCancellation(@Param("eventId") Long eventId,
+                                           @Param("status") BookingStatus status,
+                                           @Param("afterId") long afterId,
+                                           Limit limit);
+
+    /**
+     * Cancels one page of an event's bookings with a single UPDATE.
+     * Rows whose status changed since the page was read are left alone.
+     * Paid bookings are refunded in full — the cancellation policy only covers cancellations by the user.
+     * The refund is added to any already recorded for partial cancellations, as in cancelSeats.
+     */
+    @Modifying
+    @Query("""
+            UPDATE Booking b
+            SET b.bookingStatus = com.suraj.sport.bookingservice.entity.BookingStatus.CANCELLED,
+                b.cancellationReason = :reason,
+                b.refundAmount = CASE WHEN b.paymentId IS NOT NULL THEN COALESCE(b.refundAmount, 0) + b.totalAmount
+                                      ELSE b.refundAmount END,
+                b.expiryBucket = null,
+                b.updatedAt = :now
+            WHERE b.id IN :ids
+              AND b.bookingStatus = :status
+            """)
+    int cancelForEvent(@Param("ids") List<Long> ids,
+                       @Param("status") BookingStatus status,
+                       @Param("reason") String reason,
+                       @Param("now") LocalDateTime now);
+
+    /**
+     * Next chunk of paid bookings cancelled by an event cancellation, after the given id.
+     * Only the three columns a refund needs are read.
+     */
+    @Query("""
+            SELECT new com.suraj.sport.bookingservice.dto.request.BookingRefundRequest(
+                b.id, b.paymentId, b.totalAmount)
+            FROM Booking b
+            WHERE b.eventId = :eventId
+              AND b.bookingStatus = com.suraj.sport.bookingservice.entity.BookingStatus.CANCELLED
+              AND b.cancellationReason = :reason
+              AND b.paymentId IS NOT NULL
+              AND b.id > :afterId
+            ORDER BY b.id
+            """)
+    List<BookingRefundRequest> findRefundsForEventCancellation(@Param("eventId") Long eventId,
+                                                               @Param("reason") String reason,
+                                                               @Param("afterId") long afterId,
+                                                               Limit limit);
 }
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.suraj.sport.bookingservice.repository;
+
+import com.suraj.sport.bookingservice.entity.EventCancellation;
+import com.suraj.sport.bookingservice.entity.EventCancellationStatus;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface EventCancellationRepository extends JpaRepository<EventCancellation, Long> {
+
+    // Runs to resume after a restart or a failure
+    @Query("SELECT c.eventId FROM EventCancellation c WHERE c.status IN :statuses")
+    List<Long> findEventIdsByStatusIn(@Param("statuses") Collection<EventCancellationStatus> statuses);
+}
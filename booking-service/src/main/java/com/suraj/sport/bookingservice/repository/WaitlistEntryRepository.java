@@ -0,0 +1,67 @@
+package com.suraj.sport.bookingservice.repository;
+
+import com.suraj.sport.bookingservice.entity.WaitlistEntry;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface WaitlistEntryRepository extends JpaRepository<WaitlistEntry, Long> {
+
+    /**
+     * Ids at the head of an event's waitlist, in queue order — by join time, then id for
+     * entries created in the same instant.
+     * Range scan on idx_waitlist_entries_event_status_created starting at the first waiting
+     * entry, so the cost follows the number of entries asked for, never the length of the
+     * waitlist. Ordering by the full index prefix (rather than just createdAt and id, which is
+     * equivalent here) lets H2 read the rows in index order instead of sorting every waiting
+     * entry first.
+     */
+    @Query("""
+            SELECT w.id FROM WaitlistEntry w
+            WHERE w.eventId = :eventId
+              AND w.status = com.suraj.sport.bookingservice.entity.WaitlistStatus.WAITING
+            ORDER BY w.eventId, w.status, w.createdAt, w.id
+            """)
+    List<Long> findWaitingIds(@Param("eventId") Long eventId, Limit limit);
+
+    /**
+     * Locks the given entries if they are still WAITING — rows served by a concurrent
+     * allocation in the meantime are left out once it commits.
+     * Locking by id keeps the lock to these rows; FOR UPDATE on the head query itself
+     * makes H2 lock every waiting entry of the event before applying the LIMIT.
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("""
+            SELECT w FROM WaitlistEntry w
+            WHERE w.id IN :ids
+              AND w.status = com.suraj.sport.bookingservice.entity.WaitlistStatus.WAITING
+            ORDER BY w.createdAt, w.id
+            """)
+    List<WaitlistEntry> lockWaiting(@Param("ids") Collection<Long> ids);
+
+    /**
+     * Closes an event's waitlist when the event is cancelled — every entry still WAITING is
+     * CANCELLED with one UPDATE, on the same index prefix as findWaitingIds. Entries locked by
+     * a concurrent allocation are taken once it commits; the offers it made are PENDING
+     * bookings, cancelled with the event's other bookings.
+     */
+    @Modifying
+    @Query("""
+            UPDATE WaitlistEntry w
+            SET w.status = com.suraj.sport.bookingservice.entity.WaitlistStatus.CANCELLED,
+                w.updatedAt = :now
+            WHERE w.eventId = :eventId
+              AND w.status = com.suraj.sport.bookingservice.entity.WaitlistStatus.WAITING
+            """)
+    int cancelWaiting(@Param("eventId") Long eventId, @Param("now") LocalDateTime now);
+}
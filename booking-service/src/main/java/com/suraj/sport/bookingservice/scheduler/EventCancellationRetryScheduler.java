@@ -0,0 +1,35 @@
+package com.suraj.sport.bookingservice.scheduler;
+
+import com.suraj.sport.bookingservice.service.EventCancellationService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Resumes event cancellation runs from their checkpoints — on startup for runs cut short
+ * by a restart, and periodically for runs that failed (e.g. Payment Service was down).
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventCancellationRetryScheduler {
+
+    private final EventCancellationService eventCancellationService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeOnStartup() {
+        resumeUnfinished();
+    }
+
+    @Scheduled(fixedDelayString = "${booking.event-cancellation.retry-interval:PT1M}",
+            initialDelayString = "${booking.event-cancellation.retry-interval:PT1M}")
+    public void resumeUnfinished() {
+        int resumed = eventCancellationService.resumeUnfinished();
+        if (resumed > 0) {
+            log.info("Resumed {} unfinished event cancellations", resumed);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.suraj.sport.bookingservice.scheduler;
+
+import com.suraj.sport.bookingservice.service.BookingExpiryService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically auto-cancels PENDING bookings whose seat hold has expired.
+ * <p>
+ * Safe to run on every booking-service instance — bookings are claimed with
+ * SKIP LOCKED, so instances split the due rows between them instead of
+ * cancelling the same booking twice.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PendingBookingExpiryScheduler {
+
+    private final BookingExpiryService bookingExpiryService;
+
+    @Scheduled(fixedDelayString = "${booking.expiry.poll-interval:PT15S}")
+    public void expirePendingBookings() {
+        int expired = bookingExpiryService.expireDueBookings();
+        if (expired > 0) {
+            log.info("Auto-cancelled {} expired PENDING bookings", expired);
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.suraj.sport.bookingservice.service;
+
+public interface BookingExpiryService {
+
+    /**
+     * Returns the expiry bucket a booking entering PENDING right now should be placed in.
+     */
+    long nextExpiryBucket();
+
+    /**
+     * Cancels every PENDING booking whose expiry bucket is due and restores its seats.
+     * Returns the number of bookings cancelled by this call.
+     */
+    int expireDueBookings();
+}
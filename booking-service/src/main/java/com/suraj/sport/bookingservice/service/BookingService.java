@@ -13,6 +13,8 @@ public interface BookingService {
 
     BookingResponse cancelBooking(Long bookingId, CancelBookingRequest request);
 
+    BookingResponse cancelSeats(Long bookingId, int count);
+
     BookingResponse retryPayment(Long bookingId);
 
     BookingResponse reBook(Long bookingId);
@@ -0,0 +1,24 @@
+package com.suraj.sport.bookingservice.service;
+
+import com.suraj.sport.bookingservice.dto.request.EventCancellationRequest;
+import com.suraj.sport.bookingservice.dto.response.EventCancellationResponse;
+
+public interface EventCancellationService {
+
+    /**
+     * Starts cancelling every active booking of a cancelled event, or resumes the run
+     * already recorded for it. Returns immediately — the run continues in the background.
+     */
+    EventCancellationResponse startCancellation(EventCancellationRequest request);
+
+    /**
+     * Returns the progress of the cancellation run of an event.
+     */
+    EventCancellationResponse getCancellation(Long eventId);
+
+    /**
+     * Resumes every run that was interrupted by a restart or stopped by a failure.
+     * Returns the number of runs resumed.
+     */
+    int resumeUnfinished();
+}
@@ -0,0 +1,21 @@
+package com.suraj.sport.bookingservice.service;
+
+import com.suraj.sport.bookingservice.dto.request.JoinWaitlistRequest;
+import com.suraj.sport.bookingservice.dto.response.WaitlistEntryResponse;
+import com.suraj.sport.bookingservice.entity.Booking;
+
+public interface WaitlistService {
+
+    WaitlistEntryResponse joinWaitlist(JoinWaitlistRequest request);
+
+    WaitlistEntryResponse getWaitlistEntry(Long entryId);
+
+    WaitlistEntryResponse leaveWaitlist(Long entryId);
+
+    /**
+     * Offers seats freed from a booking of an event to the event's waitlist, in queue order.
+     * Must run in the transaction that freed the seats. Returns the number of seats offered —
+     * the caller returns only the rest to Event Service.
+     */
+    int offerFreedSeats(Booking freedFrom, int seats);
+}
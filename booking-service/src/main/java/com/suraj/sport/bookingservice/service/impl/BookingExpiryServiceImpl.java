@@ -0,0 +1,159 @@
+package com.suraj.sport.bookingservice.service.impl;
+
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.config.BookingExpiryProperties;
+import com.suraj.sport.bookingservice.entity.Booking;
+import com.suraj.sport.bookingservice.entity.BookingStatus;
+import com.suraj.sport.bookingservice.repository.BookingRepository;
+import com.suraj.sport.bookingservice.service.BookingExpiryService;
+import com.suraj.sport.bookingservice.service.WaitlistService;
+import com.suraj.sport.bookingservice.sharding.BookingShards;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BookingExpiryServiceImpl implements BookingExpiryService {
+
+    static final String EXPIRY_CANCELLATION_REASON = "Payment not completed within the seat hold window";
+
+    private final BookingRepository bookingRepository;
+    private final EventServiceClient eventServiceClient;
+    private final WaitlistService waitlistService;
+    private final BookingExpiryProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingShards bookingShards;
+
+    // =====================================================================
+    // EXPIRY BUCKET
+    // =====================================================================
+
+    /**
+     * Buckets are whole epoch minutes. A booking created at 10:03:20 with a 15 minute
+     * hold lands in the 10:19 bucket — it is never cancelled early, at most one minute late.
+     */
+    @Override
+    public long nextExpiryBucket() {
+        return expiryBucketAfter(properties.getPendingHold());
+    }
+
+    /**
+     * Expiry bucket for a PENDING booking that may hold its seats for the given time —
+     * also used for waitlist offers, which have a hold of their own.
+     */
+    static long expiryBucketAfter(Duration hold) {
+        long expiresAtMillis = Instant.now().plus(hold).toEpochMilli();
+        return TimeUnit.MILLISECONDS.toMinutes(expiresAtMillis) + 1;
+    }
+
+    // =====================================================================
+    // EXPIRE DUE BOOKINGS
+    // =====================================================================
+
+    /**
+     * Drains due expiry buckets oldest first.
+     * <p>
+     * Flow (per batch, each in its own short transaction):
+     * 1. Claim up to batchSize PENDING rows of the bucket — SELECT ... FOR UPDATE SKIP LOCKED,
+     *    so rows held by another booking-service instance are skipped, not waited on
+     * 2. Cancel all claimed rows with one bulk UPDATE
+     * 3. Offer the freed seats to each event's waitlist, in the same transaction
+     * 4. After commit, restore the seats nobody was waiting for with one Event Service call
+     *    per event in the batch
+     * <p>
+     * A bucket is finished once a claim comes back empty. Rows skipped because another
+     * instance holds them are that instance's responsibility.
+     * <p>
+     * With sharding on, every shard is drained in turn. Claimed rows of slots that are moving
+     * are left for the next run.
+     * <p>
+     * NOTE: A batch made up only of rows left for later ends the bucket for this run, even if
+     * rows that could be expired sit behind it.
+     * <p>
+     * FIXME: Distributed transaction — if seat restoration fails after the cancellation
+     *   commits, the seats stay deducted. Failures are logged for manual reconciliation
+     *   until the SAGA pattern is implemented in Section 14.
+     */
+    @Override
+    public int expireDueBookings() {
+        long currentBucket = TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis());
+        return bookingShards.onEveryShard(shard -> {
+            List<Long> dueBuckets = bookingRepository.findDueExpiryBuckets(currentBucket, properties.getMaxBucketsPerRun());
+
+            int expired = 0;
+            for (Long bucket : dueBuckets) {
+                ExpiredBatch batch;
+                do {
+                    batch = transactionTemplate.execute(status -> expireBatch(shard, bucket));
+                    expired += batch.cancelled();
+                    restoreSeats(batch.seatsByEvent());
+                } while (batch.cancelled() > 0);
+            }
+            return expired;
+        }).stream().mapToInt(Integer::intValue).sum();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * Claims and cancels one batch of a bucket and offers the freed seats to the waitlist.
+     * Returns the seats to restore grouped by event — empty once the bucket is drained.
+     */
+    private ExpiredBatch expireBatch(int shard, long bucket) {
+        List<Booking> claimed = bookingRepository.claimExpiredBatch(bucket, properties.getBatchSize()).stream()
+                .filter(booking -> bookingShards.ownsForWrite(shard, booking.getEventId()))
+                .toList();
+        if (claimed.isEmpty()) {
+            return new ExpiredBatch(0, Map.of());
+        }
+
+        List<Long> ids = claimed.stream().map(Booking::getId).toList();
+        bookingRepository.cancelExpired(ids, BookingStatus.CANCELLED, EXPIRY_CANCELLATION_REASON, LocalDateTime.now());
+
+        Map<Long, Integer> freedByEvent = new HashMap<>();
+        Map<Long, Booking> freedFromByEvent = new HashMap<>();
+        for (Booking booking : claimed) {
+            freedByEvent.merge(booking.getEventId(), booking.getSeatsBooked(), Integer::sum);
+            freedFromByEvent.putIfAbsent(booking.getEventId(), booking);
+        }
+
+        // Waitlisted users get the freed seats first — only the rest go back to Event Service
+        Map<Long, Integer> seatsByEvent = new HashMap<>();
+        freedByEvent.forEach((eventId, seats) -> {
+            int offered = waitlistService.offerFreedSeats(freedFromByEvent.get(eventId), seats);
+            if (offered < seats) {
+                seatsByEvent.put(eventId, seats - offered);
+            }
+        });
+        return new ExpiredBatch(claimed.size(), seatsByEvent);
+    }
+
+    /**
+     * Restores seats for one cancelled batch — a single call per event, not per booking.
+     */
+    private void restoreSeats(Map<Long, Integer> seatsByEvent) {
+        seatsByEvent.forEach((eventId, seats) -> {
+            try {
+                eventServiceClient.restoreSeats(eventId, seats);
+            } catch (Exception ex) {
+                log.error("Failed to restore {} seats for event {} after pending booking expiry: {}",
+                        seats, eventId, ex.getMessage());
+            }
+        });
+    }
+
+    private record ExpiredBatch(int cancelled, Map<Long, Integer> seatsByEvent) {}
+}
@@ -1,26 +1,53 @@
 package com.suraj.sport.bookingservice.service.impl;
 
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.client.PaymentServiceClient;
+import com.suraj.sport.bookingservice.dto.request.BookingRefundRequest;
+import com.suraj.sport.bookingservice.dto.request.BulkRefundRequest;
 import com.suraj.sport.bookingservice.dto.request.CancelBookingRequest;
 import com.suraj.sport.bookingservice.dto.request.CreateBookingRequest;
 import com.suraj.sport.bookingservice.dto.response.BookingResponse;
 import com.suraj.sport.bookingservice.dto.response.CreateBookingResponse;
+import com.suraj.sport.bookingservice.dto.response.EventDetailsResponse;
 import com.suraj.sport.bookingservice.entity.Booking;
 import com.suraj.sport.bookingservice.entity.BookingStatus;
 import com.suraj.sport.bookingservice.exception.*;
 import com.suraj.sport.bookingservice.mapper.BookingMapper;
+import com.suraj.sport.bookingservice.policy.CancellationPolicy;
+import com.suraj.sport.bookingservice.policy.CancellationPolicyRegistry;
+import com.suraj.sport.bookingservice.pricing.PriceQuote;
+import com.suraj.sport.bookingservice.pricing.PriceQuoteVerifier;
 import com.suraj.sport.bookingservice.repository.BookingRepository;
+import com.suraj.sport.bookingservice.service.BookingExpiryService;
 import com.suraj.sport.bookingservice.service.BookingService;
+import com.suraj.sport.bookingservice.service.WaitlistService;
+import com.suraj.sport.bookingservice.sharding.BookingShards;
+import com.suraj.sport.bookingservice.sharding.ShardedBy;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class BookingServiceImpl implements BookingService {
 
     private final BookingRepository bookingRepository;
+    private final BookingExpiryService bookingExpiryService;
+    private final EventServiceClient eventServiceClient;
+    private final PaymentServiceClient paymentServiceClient;
+    private final WaitlistService waitlistService;
+    private final TransactionTemplate transactionTemplate;
+    private final CancellationPolicyRegistry cancellationPolicyRegistry;
+    private final PriceQuoteVerifier priceQuoteVerifier;
+    private final BookingShards bookingShards;
 
     // =====================================================================
     // CREATE BOOKING
@@ -30,56 +57,58 @@ public class BookingServiceImpl implements BookingService {
      * Creates a new booking for a sports event.
      * <p>
      * Flow:
-     * 1. Check seats available in Event Service
-     * 2. Deduct seats in Event Service immediately
-     * 3. Create booking with status PENDING
-     * 4. Initiate payment with status PENDING
-     * 5. Payment success → booking CONFIRMED
-     * 6. Payment failed → restore seats in Event Service → booking stays PENDING
+     * 1. Take the seats in Event Service — one guarded UPDATE there, so two users can never
+     *    both get the last seats
+     * 2. Create booking with status PENDING — it holds the seats until it is paid, cancelled
+     *    or expires; if it cannot be saved, the seats are given back
+     * 3. Initiate payment with status PENDING
+     * 4. Payment success → booking CONFIRMED
+     * 5. Payment failed → booking stays PENDING, holding its seats until it expires
      * <p>
      * Restrictions:
      * - Multiple bookings per user per event are allowed — each is a separate record
      * - Booking stays PENDING until payment is confirmed
+     * - A price quote token that was tampered with or issued for another event → InvalidPriceQuoteException
+     * - Event not open for booking, or too few seats left → SeatsNotAvailableException
      * <p>
-     * FIXME: Race condition — two users may check seats simultaneously and both succeed.
-     *   Option A: Optimistic locking (@Version on Event entity)
-     *   Option B: Pessimistic locking
-     *   Option C: Redis distributed lock — most scalable
-     *   Revisit when Redis is introduced.
+     * Note: The booking is charged the price quoted by Event Service. The client passes the
+     * quote token it got with the event and it is verified locally (PriceQuoteVerifier) —
+     * only a missing or expired token costs a call to Event Service for a fresh quote.
      * <p>
-     * FIXME: Distributed transaction — if seat deduction succeeds but booking save fails,
-     *   seats are deducted but no booking exists. Implement SAGA pattern in Section 14.
-     * <p>
-     * FIXME: Seat locking window — seats are deducted then restored on payment failure.
-     *   This creates a temporary window where seats are unavailable to other users.
-     *   Proper solution: Redis TTL-based seat locking. Revisit when Redis is introduced.
+     * FIXME: Distributed transaction — if the booking cannot be saved and giving the seats
+     *   back fails too, or the instance dies in between, seats stay deducted with no booking.
+     *   Failures are logged for manual reconciliation. Implement SAGA pattern in Section 14.
      */
     @Override
-    public CreateBookingResponse createBooking(CreateBookingRequest request) {
+    public CreateBookingResponse createBooking(@ShardedBy(ShardedBy.Key.EVENT) CreateBookingRequest request) {
 
-        // TODO: checkSeatsAvailability(request.getEventId(), request.getSeatsBooked())
-        // Call Event Service to verify requested seats are available
-        // Throw InsufficientSeatsException if not enough seats available
-        // Throw EventNotFoundException if event does not exist
-        // Throw EventNotBookableException if event is COMPLETED or CANCELLED
+        // The quote token the client got with the event is verified locally — a valid one
+        // carries the price and event details, so no call to Event Service is needed
+        PriceQuote priceQuote = priceQuoteVerifier.verify(request.getPriceQuote(), request.getEventId());
+        if (priceQuote == null) {
+            priceQuote = fetchPriceQuote(request.getEventId());
+        }
 
-        // TODO: deductSeats(request.getEventId(), request.getSeatsBooked())
-        // Call Event Service to deduct requested seats immediately
-        // Only proceed if deduction is successful
+        Booking booking = BookingMapper.mapToBooking(request, priceQuote);
+        applyEventSnapshot(booking, priceQuote.eventDate(), priceQuote.sportType());
+        booking.setExpiryBucket(bookingExpiryService.nextExpiryBucket());
 
-        // TODO: fetchPricePerSeat(request.getEventId())
-        // Call Event Service to get current price per seat for total amount calculation
-        double pricePerSeat = 0.0; // STUB — replace with actual price from Event Service
+        // Take the seats — fails if the event is not bookable or has too few left
+        eventServiceClient.reduceSeats(request.getEventId(), request.getSeatsBooked());
 
-        // Create booking with PENDING status
-        Booking booking = BookingMapper.mapToBooking(request, pricePerSeat);
-        Booking savedBooking = bookingRepository.save(booking);
+        // Create booking with PENDING status — seats are held until the expiry bucket is due
+        Booking savedBooking;
+        try {
+            savedBooking = bookingRepository.save(booking);
+        } catch (RuntimeException ex) {
+            giveBackSeats(request.getEventId(), request.getSeatsBooked(), "a booking that could not be saved");
+            throw ex;
+        }
 
         // TODO: initiatePayment(savedBooking)
         // Call Payment Service to create a PENDING payment record
         // On success → update booking status to CONFIRMED, set paymentId
-        // On failure → restoreSeats(request.getEventId(), request.getSeatsBooked())
-        //              keep booking as PENDING, user can retry payment later
+        // On failure → keep booking as PENDING with its seats, user can retry payment later
 
         // TODO: notifyUser(savedBooking)
         // Notify user via Notification Service that booking is created
@@ -98,21 +127,31 @@ public class BookingServiceImpl implements BookingService {
      * Flow:
      * 1. Booking must exist → else BookingNotFoundException
      * 2. Booking must be PENDING or CONFIRMED → else BookingNotCancellableException
-     * 3. Check cancellationDeadline from Event Service — if past deadline → throw exception
-     * 4. Update booking status to CANCELLED with cancellation reason
-     * 5. Restore seats in Event Service, if the booking status was CONFIRMED
+     * 3. Evaluate the booking's cancellation policy — if past its deadline → BookingNotCancellableException
+     * 4. Update booking status to CANCELLED with cancellation reason and refund amount — one
+     *    conditional UPDATE that only applies while the booking still has the status and seats
+     *    it was read with, else BookingNotCancellableException
+     * 5. Offer the seats to the event's waitlist, restore the rest in Event Service — all of
+     *    them if the offer fails
      * 6. Trigger refund in Payment Service if booking was CONFIRMED
      * <p>
-     * FIXME: Refund logic — refund amount may vary based on cancellation policy.
-     *   e.g. full refund before deadline, partial refund after.
-     *   Business decision needed — revisit when Payment Service is wired.
+     * Seats are only released by the call whose UPDATE applied, so a concurrent expiry,
+     * event cancellation, partial or double cancellation never frees the same seats twice.
+     * <p>
+     * Note: The refund is the policy's percentage of totalAmount for how long before the
+     * event the booking is cancelled (booking.cancellation-policy). The policy version and
+     * event date were recorded on the booking when it was made, so no call is needed here.
+     * <p>
+     * TODO: refreshEventSnapshot()
+     * Bookings keep the eventDate they were made with — update them when Event Service
+     * publishes reschedules once Kafka is introduced.
      * <p>
      * FIXME: Distributed transaction — if booking cancellation succeeds but seat
-     *   restoration fails, booking is cancelled but seats not restored.
-     *   Implement SAGA pattern in Section 14.
+     *   restoration fails, booking is cancelled but seats not restored. Failures are
+     *   logged for manual reconciliation. Implement SAGA pattern in Section 14.
      */
     @Override
-    public BookingResponse cancelBooking(Long bookingId, CancelBookingRequest request) {
+    public BookingResponse cancelBooking(@ShardedBy(ShardedBy.Key.ID) Long bookingId, CancelBookingRequest request) {
 
         // Edge case: booking must exist
         Booking booking = findBookingOrThrow(bookingId);
@@ -120,26 +159,37 @@ public class BookingServiceImpl implements BookingService {
         // Edge case: only PENDING or CONFIRMED bookings can be cancelled
         validateBookingIsCancellable(booking);
 
-        // TODO: checkCancellationDeadline(booking.getEventId())
-        // Call Event Service to get cancellationDeadline for the event
-        // If current date is past the deadline → throw BookingNotCancellableException
-        // with message informing the user of the deadline
-
-        // Update booking status to CANCELLED
-        booking.setBookingStatus(BookingStatus.CANCELLED);
-        booking.setCancellationReason(request.getCancellationReason());
-        Booking savedBooking = bookingRepository.save(booking);
-
-        // TODO: restoreSeats(booking.getEventId(), booking.getSeatsBooked())
-        // Only restore seats if booking was CONFIRMED — PENDING bookings already
-        // had their seats restored when payment failed during creation
-//        if (previousStatus == BookingStatus.CONFIRMED) {
-//            // Call Event Service to restore seats
-//        }
+        // Edge case: cancellation deadline of the booking's policy must not have passed
+        int refundPercent = checkCancellationDeadline(booking, LocalDateTime.now());
+        BookingStatus previousStatus = booking.getBookingStatus();
+
+        // Update booking status to CANCELLED — only paid bookings are refunded.
+        // Fails if anything else cancelled or changed the booking first.
+        Double refundAmount = previousStatus == BookingStatus.CONFIRMED
+                ? previouslyRefunded(booking) + refundOf(booking.getTotalAmount(), refundPercent)
+                : booking.getRefundAmount();
+        int updated = bookingRepository.cancelBooking(bookingId, previousStatus, booking.getSeatsBooked(),
+                request.getCancellationReason(), refundAmount, LocalDateTime.now());
+        if (updated == 0) {
+            throw new BookingNotCancellableException("Booking was modified concurrently, please retry");
+        }
+        Booking savedBooking = findBookingOrThrow(bookingId);
+
+        // Release the seats — PENDING bookings hold theirs too, until paid or expired.
+        // Waitlisted users get them first, only the rest go back to Event Service.
+        int seatsOffered = offerToWaitlist(savedBooking, savedBooking.getSeatsBooked());
+        if (seatsOffered < savedBooking.getSeatsBooked()) {
+            try {
+                eventServiceClient.restoreSeats(savedBooking.getEventId(), savedBooking.getSeatsBooked() - seatsOffered);
+            } catch (RuntimeException ex) {
+                log.error("Failed to restore {} seats for event {} after cancelling booking {}: {}",
+                        savedBooking.getSeatsBooked() - seatsOffered, savedBooking.getEventId(), bookingId, ex.getMessage());
+            }
+        }
 
         // TODO: processRefund(booking)
-        // Call Payment Service to trigger refund if booking was CONFIRMED
-        // Refund amount depends on cancellation policy — full or partial
+        // Call Payment Service to refund the seats cancelled now if booking was CONFIRMED —
+        // refundAmount also includes refunds already requested by partial cancellations
 
         // TODO: notifyUser(savedBooking)
         // Notify user via Notification Service that booking has been cancelled
@@ -148,6 +198,86 @@ public class BookingServiceImpl implements BookingService {
         return BookingMapper.mapToBookingResponse(savedBooking);
     }
 
+    // =====================================================================
+    // CANCEL SEATS (PARTIAL CANCELLATION)
+    // =====================================================================
+
+    /**
+     * Cancels some of the seats of a PENDING or CONFIRMED booking — the booking stays active
+     * with the remaining seats, so nothing has to be cancelled and re-booked.
+     * <p>
+     * Flow (one saga step):
+     * 1. Booking must be PENDING or CONFIRMED and keep at least one seat → else BookingNotCancellableException
+     * 2. Evaluate the booking's cancellation policy — if past its deadline → BookingNotCancellableException
+     * 3. Take the seats off the booking and recompute totalAmount with one conditional UPDATE
+     * 4. Offer exactly those seats to the event's waitlist and restore the rest in Event Service —
+     *    if none went to the waitlist and the restore fails, step 3 is undone, unless the
+     *    booking was changed again in between (then the cancellation stands, see below)
+     * 5. Request a refund of pricePerSeat * count at the policy's percentage from Payment Service,
+     *    if the booking was CONFIRMED
+     * <p>
+     * Only the cancelled seats are ever released — the remaining seats stay held throughout.
+     * <p>
+     * FIXME: Distributed transaction — a refund request that fails after the seats were
+     *   restored is logged, not retried. So is a failed restore whose undo found the booking
+     *   already changed by another cancellation or expiry. The refund stays recorded in refundAmount for
+     *   reconciliation until the SAGA pattern is implemented in Section 14.
+     */
+    @Override
+    public BookingResponse cancelSeats(@ShardedBy(ShardedBy.Key.ID) Long bookingId, int count) {
+
+        // Edge case: booking must exist
+        Booking booking = findBookingOrThrow(bookingId);
+
+        // Edge case: only PENDING or CONFIRMED bookings can be cancelled
+        validateBookingIsCancellable(booking);
+
+        // Edge case: partial cancellation must leave at least one seat
+        int seatsBooked = booking.getSeatsBooked();
+        if (count < 1 || count >= seatsBooked) {
+            throw new BookingNotCancellableException("Cannot cancel " + count + " of " + seatsBooked
+                    + " seats — cancel between 1 and " + (seatsBooked - 1) + " seats, or cancel the whole booking");
+        }
+
+        // Edge case: cancellation deadline of the booking's policy must not have passed
+        LocalDateTime now = LocalDateTime.now();
+        int refundPercent = checkCancellationDeadline(booking, now);
+        boolean paid = booking.getBookingStatus() == BookingStatus.CONFIRMED && booking.getPaymentId() != null;
+        double refundAmount = paid ? refundOf(booking.getPricePerSeat() * count, refundPercent) : 0.0;
+
+        // Take the seats off the booking — fails if another cancellation changed it first
+        int updated = bookingRepository.cancelSeats(
+                bookingId, seatsBooked, booking.getBookingStatus(), count, refundAmount, now);
+        if (updated == 0) {
+            throw new BookingNotCancellableException("Booking was modified concurrently, please retry");
+        }
+
+        // Waitlisted users get the cancelled seats first, only the rest go back to Event Service
+        int seatsOffered = offerToWaitlist(booking, count);
+        if (seatsOffered < count) {
+            try {
+                eventServiceClient.restoreSeats(booking.getEventId(), count - seatsOffered);
+            } catch (RuntimeException ex) {
+                // Undone only if no seats have a new holder and nothing changed the booking since
+                if (seatsOffered == 0 && bookingRepository.undoCancelSeats(bookingId, seatsBooked - count,
+                        booking.getBookingStatus(), count, refundAmount, LocalDateTime.now()) == 1) {
+                    throw ex;
+                }
+                log.error("Failed to restore {} seats for event {} after cancelling seats of booking {}: {}",
+                        count - seatsOffered, booking.getEventId(), bookingId, ex.getMessage());
+            }
+        }
+
+        if (refundAmount > 0) {
+            requestPartialRefund(booking, count, seatsBooked - count, refundAmount);
+        }
+
+        // TODO: notifyUser(booking)
+        // Notify user via Notification Service of the cancelled seats and the refund
+
+        return BookingMapper.mapToBookingResponse(findBookingOrThrow(bookingId));
+    }
+
     // =====================================================================
     // RETRY PAYMENT (PENDING -> CONFIRMED)
     // =====================================================================
@@ -157,22 +287,20 @@ public class BookingServiceImpl implements BookingService {
      * <p>
      * Flow:
      * 1. Booking must be PENDING → else BookingNotRetryableException
-     * 2. Re-check seats availability — someone may have booked in between
-     * 3. Re-deduct seats in Event Service
-     * 4. Retry payment via Payment Service
-     * 5. Payment success → booking CONFIRMED
-     * 6. Payment failed → restore seats → stays PENDING
+     * 2. Retry payment via Payment Service
+     * 3. Payment success → booking CONFIRMED
+     * 4. Payment failed → stays PENDING
      * <p>
-     * Note: Seats are re-checked and re-deducted on every retry because between
-     * the original PENDING state and the retry, seats may have been restored
-     * (due to payment failure) and taken by another user.
+     * Note: A PENDING booking still holds the seats it took when it was made, so a retry
+     * takes none. PENDING bookings that are never paid are auto-cancelled and their seats
+     * restored by PendingBookingExpiryScheduler once booking.expiry.pending-hold elapses.
      * <p>
-     * TODO: implementPendingBookingScheduler()
-     * Scheduler to auto-cancel and soft delete PENDING bookings after event ends.
+     * TODO: softDeleteStalePendingBookings()
+     * Soft delete auto-cancelled bookings after the event ends.
      * Revisit when eventEndDate is added to Event Service.
      */
     @Override
-    public BookingResponse retryPayment(Long bookingId) {
+    public BookingResponse retryPayment(@ShardedBy(ShardedBy.Key.ID) Long bookingId) {
 
         // Edge case: booking must exist
         Booking booking = findBookingOrThrow(bookingId);
@@ -183,18 +311,10 @@ public class BookingServiceImpl implements BookingService {
                     "Only PENDING bookings can retry payment. Current status: " + booking.getBookingStatus());
         }
 
-        // TODO: checkSeatsAvailability(booking.getEventId(), booking.getSeatsBooked())
-        // Re-check seats — someone else may have booked in between
-        // Throw InsufficientSeatsException if seats no longer available
-
-        // TODO: deductSeats(booking.getEventId(), booking.getSeatsBooked())
-        // Re-deduct seats in Event Service before retrying payment
-
         // TODO: retryPayment(booking)
         // Call Payment Service to retry payment for this booking
         // On success → set bookingStatus = CONFIRMED, set paymentId
-        // On failure → restoreSeats(booking.getEventId(), booking.getSeatsBooked())
-        //              keep bookingStatus = PENDING, user can retry again
+        // On failure → keep bookingStatus = PENDING, user can retry again
 
         // TODO: notifyUser(booking)
         // Notify user of payment retry result via Notification Service
@@ -212,17 +332,17 @@ public class BookingServiceImpl implements BookingService {
      * <p>
      * Flow:
      * 1. Booking must be CANCELLED → else BookingNotRebookableException
-     * 2. Check event is still available — call Event Service
-     * 3. Check seats available — call Event Service
-     * 4. Deduct seats — call Event Service
-     * 5. Reset booking to PENDING, clear cancellationReason and paymentId
-     * 6. Initiate new payment — call Payment Service
+     * 2. Take the seats again — call Event Service, which refuses events not open for
+     *    booking and events with too few seats left (SeatsNotAvailableException)
+     * 3. Reset booking to PENDING, clear cancellationReason and paymentId — only if it is
+     *    still CANCELLED, else the seats are given back and BookingNotRebookableException thrown
+     * 4. Initiate new payment — call Payment Service
      * <p>
      * FIXME: Distributed transaction — same risks as createBooking.
      *   Implement SAGA pattern in Section 14.
      */
     @Override
-    public BookingResponse reBook(Long bookingId) {
+    public BookingResponse reBook(@ShardedBy(ShardedBy.Key.ID) Long bookingId) {
 
         // Edge case: booking must exist
         Booking booking = findBookingOrThrow(bookingId);
@@ -233,28 +353,34 @@ public class BookingServiceImpl implements BookingService {
                     "Only CANCELLED bookings can be re-booked. Current status: " + booking.getBookingStatus());
         }
 
-        // TODO: checkEventAvailability(booking.getEventId())
-        // Call Event Service to verify event is still UPCOMING or ONGOING
-        // Throw EventNotBookableException if event is COMPLETED or CANCELLED
-
-        // TODO: checkSeatsAvailability(booking.getEventId(), booking.getSeatsBooked())
-        // Call Event Service to verify requested seats are still available
-        // Throw InsufficientSeatsException if not enough seats available
-
-        // TODO: deductSeats(booking.getEventId(), booking.getSeatsBooked())
-        // Call Event Service to deduct seats again for this re-booking
-
-        // Reset booking to PENDING — treated as fresh booking
-        booking.setBookingStatus(BookingStatus.PENDING);
-        booking.setCancellationReason(null);
-        booking.setPaymentId(null);
-        Booking savedBooking = bookingRepository.save(booking);
+        // Fresh booking, fresh terms — current event date and active cancellation policy
+        // TODO: Charge the current price too once payment is wired in Section 8
+        EventDetailsResponse event = eventServiceClient.getEvent(booking.getEventId());
+        applyEventSnapshot(booking, event.eventDate(), event.sportType());
+
+        // Take the seats again — fails if the event is not bookable or has too few left
+        eventServiceClient.reduceSeats(booking.getEventId(), booking.getSeatsBooked());
+
+        // Reset booking to PENDING — treated as fresh booking with a fresh seat hold.
+        // Fails if a concurrent re-booking reset it first.
+        int updated;
+        try {
+            updated = bookingRepository.reBook(bookingId, booking.getEventDate(), booking.getSportType(),
+                    booking.getCancellationPolicy(), bookingExpiryService.nextExpiryBucket(), LocalDateTime.now());
+        } catch (RuntimeException ex) {
+            giveBackSeats(booking.getEventId(), booking.getSeatsBooked(), "booking " + bookingId + " that could not be re-booked");
+            throw ex;
+        }
+        if (updated == 0) {
+            giveBackSeats(booking.getEventId(), booking.getSeatsBooked(), "booking " + bookingId + " that was re-booked concurrently");
+            throw new BookingNotRebookableException("Booking was modified concurrently, please retry");
+        }
+        Booking savedBooking = findBookingOrThrow(bookingId);
 
         // TODO: initiatePayment(savedBooking)
         // Call Payment Service to create a new PENDING payment record
         // On success → set bookingStatus = CONFIRMED, set paymentId
-        // On failure → restoreSeats(booking.getEventId(), booking.getSeatsBooked())
-        //              keep bookingStatus = PENDING, user can retry payment later
+        // On failure → keep bookingStatus = PENDING with its seats, user can retry payment later
 
         // TODO: notifyUser(savedBooking)
         // Notify user that re-booking is initiated and payment is pending
@@ -277,9 +403,13 @@ public class BookingServiceImpl implements BookingService {
      * TODO: implementCaching()
      * Consider caching frequently accessed bookings using Redis.
      * Revisit when Redis is introduced.
+     * <p>
+     * Note: Read-only, so it is served by the read replica when one is configured
+     * (see ReplicaRoutingDataSource). With sharding on, the shard is read off the id.
      */
     @Override
-    public BookingResponse getBookingById(Long bookingId) {
+    @Transactional(readOnly = true)
+    public BookingResponse getBookingById(@ShardedBy(ShardedBy.Key.ID) Long bookingId) {
 
         // Edge case: booking must exist
         Booking booking = findBookingOrThrow(bookingId);
@@ -305,13 +435,19 @@ public class BookingServiceImpl implements BookingService {
      * TODO: softDeleteVisibility()
      * Once auth/roles are implemented in Section 12, exclude soft deleted bookings
      * for regular users. Repository query will change to findAllByUserIdAndIsDeletedFalse().
+     * <p>
+     * Note: Read-only, so it is served by the read replica when one is configured.
+     * With sharding on, a user's bookings are spread over every shard — all shards are
+     * queried at once and their results merged, oldest first.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<BookingResponse> getAllBookingsByUserId(Long userId) {
 
         // TODO: Replace with paginated and filtered query once implemented
-        // TODO: Replace findAllByUserId with findAllByUserIdAndIsDeletedFalse once auth/roles added
-        return bookingRepository.findAllByUserId(userId)
+        // TODO: Replace with the IsDeletedFalse variant of the query once auth/roles added
+        return bookingShards.scatter(() -> bookingRepository.findAllByUserIdOrderByCreatedAtAscIdAsc(userId),
+                        Booking::getEventId, Comparator.comparing(Booking::getCreatedAt).thenComparing(Booking::getId))
                 .stream()
                 .map(BookingMapper::mapToBookingResponse)
                 .collect(Collectors.toList());
@@ -339,4 +475,105 @@ public class BookingServiceImpl implements BookingService {
             throw new BookingNotCancellableException("Booking is already cancelled");
         }
     }
+
+    /**
+     * Returns the refund percentage the booking's cancellation policy grants at the given time.
+     * Throws BookingNotCancellableException once the policy's cancellation deadline has passed.
+     * Bookings made before event snapshots were recorded have no eventDate and are refunded in full.
+     */
+    private int checkCancellationDeadline(Booking booking, LocalDateTime now) {
+        if (booking.getEventDate() == null) {
+            return 100;
+        }
+        CancellationPolicy policy = cancellationPolicyRegistry.policyOf(booking);
+        int refundPercent = policy.refundPercent(booking.getEventDate(), now);
+        if (refundPercent == CancellationPolicy.PAST_DEADLINE) {
+            throw new BookingNotCancellableException(
+                    "Cancellation deadline has passed. Bookings for this event could be cancelled until "
+                            + policy.deadline(booking.getEventDate()));
+        }
+        return refundPercent;
+    }
+
+    /**
+     * Compensates a reduceSeats call whose booking was not recorded. A failure is logged
+     * for manual reconciliation rather than hiding the error that caused the compensation.
+     */
+    private void giveBackSeats(Long eventId, int seats, String forWhat) {
+        try {
+            eventServiceClient.restoreSeats(eventId, seats);
+        } catch (RuntimeException ex) {
+            log.error("Failed to give back {} seats of event {} taken for {}: {}",
+                    seats, eventId, forWhat, ex.getMessage());
+        }
+    }
+
+    /**
+     * Offers seats freed by a committed cancellation to the event's waitlist, in a transaction
+     * of its own. A failed offer rolled back without offering anything, so 0 is returned and
+     * the caller restores every seat in Event Service — the seats are never left with nobody.
+     */
+    private int offerToWaitlist(Booking freedFrom, int seats) {
+        try {
+            return transactionTemplate.execute(status -> waitlistService.offerFreedSeats(freedFrom, seats));
+        } catch (RuntimeException ex) {
+            log.error("Failed to offer {} freed seats of event {} to its waitlist, restoring them instead: {}",
+                    seats, freedFrom.getEventId(), ex.getMessage());
+            return 0;
+        }
+    }
+
+    /**
+     * Requests the refund for a partial cancellation. The reason names the seats left on the
+     * booking — it only ever decreases for one payment, so each partial cancellation has a
+     * distinct reason and Payment Service drops a resent request as a duplicate.
+     */
+    private void requestPartialRefund(Booking booking, int count, int seatsRemaining, double refundAmount) {
+        String reason = "Partial cancellation of " + count + " seats, " + seatsRemaining + " remaining";
+        try {
+            paymentServiceClient.requestRefunds(new BulkRefundRequest(reason, List.of(
+                    new BookingRefundRequest(booking.getId(), booking.getPaymentId(), refundAmount))));
+        } catch (RuntimeException ex) {
+            log.error("Failed to request refund of {} for booking {} after cancelling {} seats: {}",
+                    refundAmount, booking.getId(), count, ex.getMessage());
+        }
+    }
+
+    /**
+     * Share of an amount refunded at the given percentage, rounded to cents.
+     */
+    private static double refundOf(double amount, int refundPercent) {
+        return Math.round(amount * refundPercent) / 100.0;
+    }
+
+    /**
+     * Refunds already recorded on the booking by earlier partial cancellations.
+     */
+    private static double previouslyRefunded(Booking booking) {
+        return booking.getRefundAmount() != null ? booking.getRefundAmount() : 0.0;
+    }
+
+    /**
+     * Records the event details the booking's cancellation terms depend on,
+     * and the policy version that is active for the event right now.
+     */
+    private void applyEventSnapshot(Booking booking, LocalDateTime eventDate, String sportType) {
+        booking.setEventDate(eventDate);
+        booking.setSportType(sportType);
+        booking.setCancellationPolicy(
+                cancellationPolicyRegistry.activePolicyFor(booking.getEventId(), sportType).key());
+    }
+
+    /**
+     * Reads the event for a fresh price quote when the client passed none, or an expired one.
+     * Event Service only quotes events that are open for booking.
+     */
+    private PriceQuote fetchPriceQuote(Long eventId) {
+        EventDetailsResponse event = eventServiceClient.getEvent(eventId);
+        if (event.priceQuote() == null) {
+            throw new EventNotBookableException(
+                    "Event is not open for booking — current status: " + event.status());
+        }
+        return priceQuoteVerifier.decode(event.priceQuote().token(), eventId);
+    }
 }
\ No newline at end of file
@@ -0,0 +1,296 @@
+package com.suraj.sport.bookingservice.service.impl;
+
+import com.suraj.sport.bookingservice.client.PaymentServiceClient;
+import com.suraj.sport.bookingservice.config.EventCancellationProperties;
+import com.suraj.sport.bookingservice.dto.request.BookingRefundRequest;
+import com.suraj.sport.bookingservice.dto.request.BulkRefundRequest;
+import com.suraj.sport.bookingservice.dto.request.EventCancellationRequest;
+import com.suraj.sport.bookingservice.dto.response.EventCancellationResponse;
+import com.suraj.sport.bookingservice.entity.BookingStatus;
+import com.suraj.sport.bookingservice.entity.EventCancellation;
+import com.suraj.sport.bookingservice.entity.EventCancellationStatus;
+import com.suraj.sport.bookingservice.exception.EventCancellationNotFoundException;
+import com.suraj.sport.bookingservice.exception.ShardUnavailableException;
+import com.suraj.sport.bookingservice.mapper.BookingMapper;
+import com.suraj.sport.bookingservice.repository.BookingRepository;
+import com.suraj.sport.bookingservice.repository.EventCancellationRepository;
+import com.suraj.sport.bookingservice.repository.WaitlistEntryRepository;
+import com.suraj.sport.bookingservice.service.EventCancellationService;
+import com.suraj.sport.bookingservice.sharding.BookingShards;
+import com.suraj.sport.bookingservice.sharding.ShardedBy;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventCancellationServiceImpl implements EventCancellationService {
+
+    private static final int MAX_ERROR_LENGTH = 255;
+
+    private final BookingRepository bookingRepository;
+    private final EventCancellationRepository eventCancellationRepository;
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final PaymentServiceClient paymentServiceClient;
+    private final EventCancellationProperties properties;
+    private final TransactionTemplate transactionTemplate;
+    private final BookingShards bookingShards;
+
+    // Events whose run is executing on this instance — a repeated command never starts a second one
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+
+    // =====================================================================
+    // START CANCELLATION
+    // =====================================================================
+
+    /**
+     * Records the cancellation of an event and starts its run in the background.
+     * <p>
+     * Idempotent per event — the command may be delivered more than once:
+     * - No run yet      → a new run is recorded and started
+     * - Run IN_PROGRESS → started again only if not already executing here
+     * - Run FAILED      → resumed from its checkpoints
+     * - Run COMPLETED   → returned as is
+     * <p>
+     * TODO: notifyUsers(eventId)
+     * Notify every affected user via Notification Service once it exists — the cancelled
+     * bookings can be streamed by the same keyset query the run uses.
+     */
+    @Override
+    public EventCancellationResponse startCancellation(@ShardedBy(ShardedBy.Key.EVENT) EventCancellationRequest request) {
+        EventCancellation cancellation;
+        try {
+            cancellation = transactionTemplate.execute(status -> recordCancellation(request));
+        } catch (DataIntegrityViolationException ex) {
+            // Another delivery of the same command recorded the run first
+            cancellation = findCancellationOrThrow(request.getEventId());
+        }
+
+        if (cancellation.getStatus() != EventCancellationStatus.COMPLETED) {
+            submit(cancellation.getEventId());
+        }
+        return BookingMapper.mapToEventCancellationResponse(cancellation);
+    }
+
+    // =====================================================================
+    // GET CANCELLATION
+    // =====================================================================
+
+    @Override
+    public EventCancellationResponse getCancellation(@ShardedBy(ShardedBy.Key.EVENT) Long eventId) {
+        return BookingMapper.mapToEventCancellationResponse(findCancellationOrThrow(eventId));
+    }
+
+    // =====================================================================
+    // RESUME UNFINISHED RUNS
+    // =====================================================================
+
+    /**
+     * Safe to call on every booking-service instance — each stage only ever touches rows
+     * still in the state it expects, and Payment Service ignores refunds it already holds.
+     * <p>
+     * NOTE: Two instances may resume the same run at once; the work is not duplicated but
+     * both advance the same checkpoints. Claim runs with a lease once booking-service is
+     * scaled out.
+     */
+    @Override
+    public int resumeUnfinished() {
+        List<Long> eventIds = bookingShards.onEveryShard(shard -> eventCancellationRepository.findEventIdsByStatusIn(
+                        List.of(EventCancellationStatus.IN_PROGRESS, EventCancellationStatus.FAILED)).stream()
+                        .filter(eventId -> bookingShards.owns(shard, eventId))
+                        .toList())
+                .stream().flatMap(List::stream).toList();
+        return (int) eventIds.stream().filter(this::submit).count();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Interrupted runs keep their checkpoints and are resumed on the next start
+        workers.shutdownNow();
+    }
+
+    // =====================================================================
+    // PIPELINE
+    // =====================================================================
+
+    /**
+     * Runs both stages of an event cancellation to completion.
+     * <p>
+     * Flow:
+     * 1. Close the event's waitlist — WAITING entries are CANCELLED, so seats freed by the
+     *    bookings below are never offered to them (see WaitlistServiceImpl.offerFreedSeats)
+     * 2. Cancel one batch of bookings — a keyset page of ids, one bulk UPDATE and the
+     *    advanced checkpoint, all in one short transaction
+     * 3. Send the paid bookings cancelled so far to Payment Service in refund chunks,
+     *    advancing the refund checkpoint after each accepted chunk
+     * 4. Repeat 2-3 until no active bookings remain, then mark the run COMPLETED
+     * <p>
+     * Only one page of ids or one refund chunk is held in memory at a time, and no
+     * transaction spans more than one batch — a 60k-booking event is 120 short
+     * transactions, not one long one. Seats are not restored: the event is cancelled.
+     * <p>
+     * Any failure stops the run as FAILED with its checkpoints intact; it is resumed by
+     * EventCancellationRetryScheduler or a repeated command.
+     */
+    private void run(Long eventId) {
+        long startTime = System.currentTimeMillis();
+        try {
+            // Repeated on a resume — it only touches entries that joined since
+            int entriesCancelled = transactionTemplate.execute(
+                    status -> waitlistEntryRepository.cancelWaiting(eventId, LocalDateTime.now()));
+            if (entriesCancelled > 0) {
+                log.info("Event {} waitlist closed — {} waiting entries cancelled", eventId, entriesCancelled);
+            }
+
+            boolean moreToCancel;
+            do {
+                moreToCancel = Boolean.TRUE.equals(transactionTemplate.execute(status -> cancelNextBatch(eventId)));
+                requestRefunds(eventId);
+            } while (moreToCancel);
+
+            EventCancellation completed = transactionTemplate.execute(status -> {
+                EventCancellation cancellation = findCancellationOrThrow(eventId);
+                cancellation.setStatus(EventCancellationStatus.COMPLETED);
+                cancellation.setLastError(null);
+                cancellation.setCompletedAt(LocalDateTime.now());
+                return cancellation;
+            });
+            log.info("Event {} cancellation completed in {}ms — {} bookings cancelled, {} refunds requested",
+                    eventId, System.currentTimeMillis() - startTime,
+                    completed.getBookingsCancelled(), completed.getRefundsRequested());
+        } catch (Exception ex) {
+            log.error("Event {} cancellation stopped, will be resumed from its checkpoint: {}",
+                    eventId, ex.getMessage());
+            markFailed(eventId, ex);
+        }
+    }
+
+    /**
+     * Cancels the next page of bookings in the status currently being drained.
+     * Returns false once CONFIRMED and PENDING bookings are both exhausted.
+     */
+    private boolean cancelNextBatch(Long eventId) {
+        EventCancellation cancellation = findCancellationOrThrow(eventId);
+        BookingStatus status = cancellation.getCancelStatus();
+        if (status == null) {
+            return false;
+        }
+
+        List<Long> ids = bookingRepository.findIdsForEventCancellation(
+                eventId, status, cancellation.getCancelCursor(), Limit.of(properties.getBatchSize()));
+        if (ids.isEmpty()) {
+            // CONFIRMED first — those are the bookings that need refunds
+            cancellation.setCancelStatus(status == BookingStatus.CONFIRMED ? BookingStatus.PENDING : null);
+            cancellation.setCancelCursor(0);
+            return cancellation.getCancelStatus() != null;
+        }
+
+        int cancelled = bookingRepository.cancelForEvent(ids, status, cancellation.getReason(), LocalDateTime.now());
+        cancellation.setCancelCursor(ids.getLast());
+        cancellation.setBookingsCancelled(cancellation.getBookingsCancelled() + cancelled);
+        return true;
+    }
+
+    /**
+     * Sends every paid booking cancelled so far, after the refund checkpoint, to Payment
+     * Service in chunks. The checkpoint only moves once Payment Service has accepted a chunk.
+     */
+    private void requestRefunds(Long eventId) {
+        EventCancellation cancellation = findCancellationOrThrow(eventId);
+        long refundCursor = cancellation.getRefundCursor();
+
+        while (true) {
+            List<BookingRefundRequest> chunk = bookingRepository.findRefundsForEventCancellation(
+                    eventId, cancellation.getReason(), refundCursor, Limit.of(properties.getRefundChunkSize()));
+            if (chunk.isEmpty()) {
+                return;
+            }
+
+            paymentServiceClient.requestRefunds(new BulkRefundRequest(cancellation.getReason(), chunk));
+
+            refundCursor = chunk.getLast().bookingId();
+            long checkpoint = refundCursor;
+            transactionTemplate.executeWithoutResult(status -> {
+                EventCancellation current = findCancellationOrThrow(eventId);
+                current.setRefundCursor(checkpoint);
+                current.setRefundsRequested(current.getRefundsRequested() + chunk.size());
+            });
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private EventCancellation recordCancellation(EventCancellationRequest request) {
+        EventCancellation existing = eventCancellationRepository.findById(request.getEventId()).orElse(null);
+        if (existing == null) {
+            return eventCancellationRepository.saveAndFlush(EventCancellation.builder()
+                    .eventId(request.getEventId())
+                    .reason(request.getReason())
+                    .status(EventCancellationStatus.IN_PROGRESS)
+                    .cancelStatus(BookingStatus.CONFIRMED)
+                    .build());
+        }
+        if (existing.getStatus() == EventCancellationStatus.FAILED) {
+            existing.setStatus(EventCancellationStatus.IN_PROGRESS);
+        }
+        return existing;
+    }
+
+    /**
+     * Starts the run of an event on a worker, on the event's shard, unless it is already
+     * executing here.
+     */
+    private boolean submit(Long eventId) {
+        if (!running.add(eventId)) {
+            return false;
+        }
+        workers.execute(() -> {
+            try {
+                bookingShards.onEvent(eventId, () -> {
+                    run(eventId);
+                    return null;
+                });
+            } catch (ShardUnavailableException ex) {
+                // The run stays as it is and is picked up by the next resume
+                log.warn("Event {} cancellation not started: {}", eventId, ex.getMessage());
+            } finally {
+                running.remove(eventId);
+            }
+        });
+        return true;
+    }
+
+    private void markFailed(Long eventId, Exception ex) {
+        String error = String.valueOf(ex.getMessage());
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                EventCancellation cancellation = findCancellationOrThrow(eventId);
+                cancellation.setStatus(EventCancellationStatus.FAILED);
+                cancellation.setLastError(error.length() > MAX_ERROR_LENGTH ? error.substring(0, MAX_ERROR_LENGTH) : error);
+            });
+        } catch (Exception markEx) {
+            // The run stays IN_PROGRESS and is still picked up by the next resume
+            log.error("Failed to record the failure of event {} cancellation: {}", eventId, markEx.getMessage());
+        }
+    }
+
+    private EventCancellation findCancellationOrThrow(Long eventId) {
+        return eventCancellationRepository.findById(eventId)
+                .orElseThrow(() -> new EventCancellationNotFoundException(eventId));
+    }
+}
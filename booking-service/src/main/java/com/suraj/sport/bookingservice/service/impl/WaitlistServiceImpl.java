@@ -0,0 +1,172 @@
+package com.suraj.sport.bookingservice.service.impl;
+
+import com.suraj.sport.bookingservice.config.WaitlistProperties;
+import com.suraj.sport.bookingservice.dto.request.JoinWaitlistRequest;
+import com.suraj.sport.bookingservice.dto.response.WaitlistEntryResponse;
+import com.suraj.sport.bookingservice.entity.Booking;
+import com.suraj.sport.bookingservice.entity.BookingStatus;
+import com.suraj.sport.bookingservice.entity.WaitlistEntry;
+import com.suraj.sport.bookingservice.entity.WaitlistStatus;
+import com.suraj.sport.bookingservice.exception.WaitlistEntryNotCancellableException;
+import com.suraj.sport.bookingservice.exception.WaitlistEntryNotFoundException;
+import com.suraj.sport.bookingservice.mapper.BookingMapper;
+import com.suraj.sport.bookingservice.policy.CancellationPolicyRegistry;
+import com.suraj.sport.bookingservice.repository.BookingRepository;
+import com.suraj.sport.bookingservice.repository.EventCancellationRepository;
+import com.suraj.sport.bookingservice.repository.WaitlistEntryRepository;
+import com.suraj.sport.bookingservice.service.WaitlistService;
+import com.suraj.sport.bookingservice.sharding.ShardedBy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class WaitlistServiceImpl implements WaitlistService {
+
+    private final WaitlistEntryRepository waitlistEntryRepository;
+    private final BookingRepository bookingRepository;
+    private final EventCancellationRepository eventCancellationRepository;
+    private final CancellationPolicyRegistry cancellationPolicyRegistry;
+    private final WaitlistProperties properties;
+
+    // =====================================================================
+    // JOIN / GET / LEAVE WAITLIST
+    // =====================================================================
+
+    /**
+     * Appends the user to the back of the event's waitlist.
+     * <p>
+     * TODO: checkEventAvailability(request.getEventId())
+     * Call Event Service to reject events that are COMPLETED or CANCELLED, and point the
+     * user at a regular booking while seats are still available.
+     */
+    @Override
+    public WaitlistEntryResponse joinWaitlist(@ShardedBy(ShardedBy.Key.EVENT) JoinWaitlistRequest request) {
+        WaitlistEntry entry = waitlistEntryRepository.save(BookingMapper.mapToWaitlistEntry(request));
+        return BookingMapper.mapToWaitlistEntryResponse(entry);
+    }
+
+    @Override
+    public WaitlistEntryResponse getWaitlistEntry(@ShardedBy(ShardedBy.Key.ID) Long entryId) {
+        return BookingMapper.mapToWaitlistEntryResponse(findEntryOrThrow(entryId));
+    }
+
+    /**
+     * Takes a WAITING entry out of the queue. Seats already offered to it stay with their
+     * PENDING bookings — those are cancelled like any other booking.
+     */
+    @Override
+    @Transactional
+    public WaitlistEntryResponse leaveWaitlist(@ShardedBy(ShardedBy.Key.ID) Long entryId) {
+        WaitlistEntry entry = findEntryOrThrow(entryId);
+        if (entry.getStatus() != WaitlistStatus.WAITING) {
+            throw new WaitlistEntryNotCancellableException(
+                    "Only WAITING entries can leave the waitlist. Current status: " + entry.getStatus());
+        }
+        entry.setStatus(WaitlistStatus.CANCELLED);
+        return BookingMapper.mapToWaitlistEntryResponse(entry);
+    }
+
+    // =====================================================================
+    // OFFER FREED SEATS
+    // =====================================================================
+
+    /**
+     * Hands freed seats straight to waitlisted users, so they never go back to the open pool
+     * where the fastest client would take them.
+     * <p>
+     * Flow:
+     * 1. Read the head of the event's queue — at most one entry per seat still to offer, since
+     *    every entry served takes at least one seat. The waitlist is never scanned beyond that.
+     * 2. Lock those entries and serve the ones still WAITING in queue order. An entry asking
+     *    for more seats than are left gets what is left and keeps its place for the rest.
+     *    Entries a concurrent allocation served first are skipped, and the next head is read.
+     * 3. Each offer is a PENDING booking holding the seats for booking.waitlist.offer-hold.
+     *    Offers that are not paid in time expire like any other PENDING booking, and their
+     *    seats are offered to the next entries in the queue.
+     * <p>
+     * Offers take the price and event details of the booking that freed the seats, so no
+     * call to Event Service is made while the transaction is open.
+     * <p>
+     * Nothing is offered once the event is being cancelled — its waitlist is closed by the
+     * cancellation run, and a cancellation or expiry racing it must not create new offers.
+     * <p>
+     * TODO: notifyUser(offer)
+     * Notify each waitlisted user via Notification Service that seats are held for them.
+     */
+    @Override
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int offerFreedSeats(Booking freedFrom, int seats) {
+        if (eventCancellationRepository.existsById(freedFrom.getEventId())) {
+            log.debug("Event {} is cancelled — {} freed seats not offered to its waitlist", freedFrom.getEventId(), seats);
+            return 0;
+        }
+        String policy = cancellationPolicyRegistry
+                .activePolicyFor(freedFrom.getEventId(), freedFrom.getSportType()).key();
+        long expiryBucket = BookingExpiryServiceImpl.expiryBucketAfter(properties.getOfferHold());
+
+        int remaining = seats;
+        List<Booking> offers = new ArrayList<>();
+        List<Long> headIds;
+        while (remaining > 0
+                && !(headIds = waitlistEntryRepository.findWaitingIds(freedFrom.getEventId(), Limit.of(remaining))).isEmpty()) {
+            for (WaitlistEntry entry : waitlistEntryRepository.lockWaiting(headIds)) {
+                if (remaining == 0) {
+                    break;
+                }
+                remaining -= offer(entry, Math.min(remaining, entry.getSeatsRequested() - entry.getSeatsOffered()),
+                        freedFrom, policy, expiryBucket, offers);
+            }
+        }
+        if (offers.isEmpty()) {
+            return 0;
+        }
+        bookingRepository.saveAll(offers);
+
+        log.info("Offered {} of {} freed seats of event {} to {} waitlisted users",
+                seats - remaining, seats, freedFrom.getEventId(), offers.size());
+        return seats - remaining;
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * Records an offer of seats to a waitlist entry as a PENDING booking held until the
+     * expiry bucket. Returns the number of seats offered.
+     */
+    private int offer(WaitlistEntry entry, int offered, Booking freedFrom, String policy,
+                      long expiryBucket, List<Booking> offers) {
+        entry.setSeatsOffered(entry.getSeatsOffered() + offered);
+        if (entry.getSeatsOffered() == entry.getSeatsRequested()) {
+            entry.setStatus(WaitlistStatus.OFFERED);
+        }
+        offers.add(Booking.builder()
+                .userId(entry.getUserId())
+                .eventId(entry.getEventId())
+                .seatsBooked(offered)
+                .pricePerSeat(freedFrom.getPricePerSeat())
+                .totalAmount(freedFrom.getPricePerSeat() * offered)
+                .bookingStatus(BookingStatus.PENDING)
+                .eventDate(freedFrom.getEventDate())
+                .sportType(freedFrom.getSportType())
+                .cancellationPolicy(policy)
+                .expiryBucket(expiryBucket)
+                .build());
+        return offered;
+    }
+
+    private WaitlistEntry findEntryOrThrow(Long entryId) {
+        return waitlistEntryRepository.findById(entryId)
+                .orElseThrow(() -> new WaitlistEntryNotFoundException(entryId));
+    }
+}
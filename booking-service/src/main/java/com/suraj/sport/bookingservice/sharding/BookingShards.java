@@ -0,0 +1,158 @@
+package com.suraj.sport.bookingservice.sharding;
+
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.IntFunction;
+import java.util.function.Supplier;
+import java.util.function.ToLongFunction;
+
+/**
+ * Runs database work on the shard it belongs to.
+ * <p>
+ * Calls for one event, booking or waitlist entry are routed by ShardRoutingAspect from their
+ * @ShardedBy parameter; work that spans events — a user's bookings, the schedulers — goes
+ * through scatter or onEveryShard.
+ * <p>
+ * With sharding off there is one shard, 0, and everything runs inline as before.
+ */
+@Component
+public class BookingShards {
+
+    // Null with sharding off
+    private final ShardDirectory directory;
+
+    private final ExecutorService scatterWorkers = Executors.newVirtualThreadPerTaskExecutor();
+
+    public BookingShards(ObjectProvider<ShardDirectory> directory) {
+        this.directory = directory.getIfAvailable();
+    }
+
+    public int shardCount() {
+        return directory != null ? directory.shardCount() : 1;
+    }
+
+    /**
+     * Shard the calls for an event run on.
+     */
+    public int shardOfEvent(long eventId) {
+        return directory != null ? directory.routeTo(ShardKeys.slotOfEvent(eventId)) : 0;
+    }
+
+    /**
+     * Shard the calls for a booking or waitlist entry run on — read off the id, no lookup.
+     */
+    public int shardOfId(long id) {
+        if (directory == null || !ShardKeys.isSharded(id)) {
+            return 0;
+        }
+        return directory.routeTo(ShardKeys.slotOfId(id));
+    }
+
+    /**
+     * False for rows of the event read from a shard that does not hold its slot — copies a
+     * slot move has not finished making or removing.
+     */
+    public boolean owns(int shard, long eventId) {
+        return directory == null || directory.shardOf(ShardKeys.slotOfEvent(eventId)) == shard;
+    }
+
+    /**
+     * Like owns, and also false while the event's slot is moving — for background work that
+     * writes to rows it found on its own rather than through a routed call.
+     */
+    public boolean ownsForWrite(int shard, long eventId) {
+        if (directory == null) {
+            return true;
+        }
+        int slot = ShardKeys.slotOfEvent(eventId);
+        return directory.shardOf(slot) == shard && !directory.isMoving(slot);
+    }
+
+    public <T> T onEvent(long eventId, Supplier<T> work) {
+        return ShardContext.call(shardOfEvent(eventId), work);
+    }
+
+    /**
+     * Runs work on each shard in turn and returns the results by shard.
+     */
+    public <T> List<T> onEveryShard(IntFunction<T> work) {
+        List<T> results = new ArrayList<>();
+        for (int shard = 0; shard < shardCount(); shard++) {
+            int current = shard;
+            results.add(ShardContext.call(shard, () -> work.apply(current)));
+        }
+        return results;
+    }
+
+    /**
+     * Runs a query on all shards at once and merges the results, each sorted by order, into
+     * one list sorted by order. Rows a shard does not own are left out.
+     * <p>
+     * Each shard's query runs in its own transaction on a worker thread.
+     */
+    public <T> List<T> scatter(Supplier<List<T>> query, ToLongFunction<T> eventIdOf, Comparator<? super T> order) {
+        if (shardCount() == 1) {
+            return query.get();
+        }
+
+        List<CompletableFuture<List<T>>> parts = new ArrayList<>();
+        for (int shard = 0; shard < shardCount(); shard++) {
+            int current = shard;
+            parts.add(CompletableFuture.supplyAsync(() -> ShardContext.call(current, query), scatterWorkers)
+                    .thenApply(rows -> rows.stream().filter(row -> owns(current, eventIdOf.applyAsLong(row))).toList()));
+        }
+        try {
+            return merge(parts.stream().map(CompletableFuture::join).toList(), order);
+        } catch (CompletionException ex) {
+            throw ex.getCause() instanceof RuntimeException cause ? cause : ex;
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        scatterWorkers.shutdownNow();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * K-way merge of sorted lists.
+     */
+    private static <T> List<T> merge(List<List<T>> sorted, Comparator<? super T> order) {
+        PriorityQueue<Head<T>> heads = new PriorityQueue<>((a, b) -> order.compare(a.value(), b.value()));
+        int size = 0;
+        for (List<T> list : sorted) {
+            size += list.size();
+            Iterator<T> rest = list.iterator();
+            if (rest.hasNext()) {
+                heads.add(new Head<>(rest.next(), rest));
+            }
+        }
+
+        List<T> merged = new ArrayList<>(size);
+        while (!heads.isEmpty()) {
+            Head<T> head = heads.poll();
+            merged.add(head.value());
+            if (head.rest().hasNext()) {
+                heads.add(new Head<>(head.rest().next(), head.rest()));
+            }
+        }
+        return merged;
+    }
+
+    private record Head<T>(T value, Iterator<T> rest) {
+    }
+}
@@ -0,0 +1,10 @@
+package com.suraj.sport.bookingservice.sharding;
+
+/**
+ * Anything stored on, or routed to, the shard of an event — entities with sharded ids and
+ * the requests that create them (see ShardedBy).
+ */
+public interface EventKeyed {
+
+    Long getEventId();
+}
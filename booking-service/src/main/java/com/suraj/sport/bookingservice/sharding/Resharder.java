@@ -0,0 +1,371 @@
+package com.suraj.sport.bookingservice.sharding;
+
+import com.suraj.sport.bookingservice.dto.response.ShardLayoutResponse;
+import com.suraj.sport.bookingservice.dto.response.SlotMoveResponse;
+import com.suraj.sport.bookingservice.exception.SlotMoveException;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.dialect.Dialect;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.ResultSetMetaData;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves slots — everything stored for their events — from one shard to another, and plans
+ * the moves that spread slots evenly after a shard is added.
+ * <p>
+ * Flow of a move:
+ * 1. Mark the slots moving and wait three directory refresh intervals — every instance has
+ *    then either seen the mark and refuses calls for the slots, or gone stale and refuses
+ *    all calls (see ShardDirectory)
+ * 2. Copy the events' bookings, waitlist entries and cancellation runs to the target in one
+ *    transaction, first clearing anything a failed earlier move left there
+ * 3. Point the slots at the target, then delete the rows from the source
+ * 4. Clear the mark
+ * <p>
+ * Ids need no rewriting: they carry the slot, not the shard (see ShardKeys). The target's
+ * sequences are advanced past the source's so new waitlist entries still queue behind the
+ * moved ones.
+ * <p>
+ * Refused while an event of the slots has a cancellation run in progress — it would keep
+ * writing to the source — and for slots holding rows from before sharding, whose ids carry
+ * no slot and are only found on shard 0.
+ * <p>
+ * Moves of different slots run concurrently. Slots are claimed under a lock held only while
+ * they are checked and marked, never across the wait or the copy.
+ * <p>
+ * NOTE: The claims are per instance — moves of the same slots started on two instances at
+ * once are not refused. Run moves from one instance.
+ */
+@Slf4j
+public class Resharder {
+
+    // Copied in this order, deleted in reverse
+    private static final List<String> TABLES = List.of("bookings", "waitlist_entries", "event_cancellations");
+    private static final List<String> SEQUENCES = List.of("bookings_seq", "waitlist_entries_seq");
+
+    private static final int BATCH_SIZE = 500;
+
+    private final ShardRoutingDataSource shards;
+    private final ShardDirectory directory;
+    private final Dialect dialect;
+    private final Duration settle;
+
+    // Slots being moved by this instance — the directory only shows a move's mark after its
+    // next refresh. Guarded by claimLock
+    private final ReentrantLock claimLock = new ReentrantLock();
+    private final Set<Integer> claimedSlots = new HashSet<>();
+
+    // Concurrent moves to one target must not interleave their sequence restarts, or a
+    // restart could take the sequence back
+    private final ReentrantLock sequenceLock = new ReentrantLock();
+
+    public Resharder(ShardRoutingDataSource shards, ShardDirectory directory, Dialect dialect,
+                     Duration directoryRefreshInterval) {
+        this.shards = shards;
+        this.directory = directory;
+        this.dialect = dialect;
+        this.settle = directoryRefreshInterval.multipliedBy(3);
+    }
+
+    // =====================================================================
+    // LAYOUT AND REBALANCE PLAN
+    // =====================================================================
+
+    /**
+     * Current layout, with the fewest moves that leave every shard within one slot of the
+     * others — the surplus of the fullest shards goes to the emptiest.
+     */
+    public ShardLayoutResponse layout() {
+        List<List<Integer>> slotsByShard = directory.slotsByShard();
+        int shardCount = slotsByShard.size();
+
+        List<ShardLayoutResponse.SlotMove> plan = new ArrayList<>();
+        List<Integer> surplus = new ArrayList<>();
+        List<Integer> surplusFrom = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            List<Integer> slots = slotsByShard.get(shard);
+            for (int i = fairShare(shard, shardCount); i < slots.size(); i++) {
+                surplus.add(slots.get(i));
+                surplusFrom.add(shard);
+            }
+        }
+        int next = 0;
+        for (int shard = 0; shard < shardCount; shard++) {
+            for (int i = slotsByShard.get(shard).size(); i < fairShare(shard, shardCount) && next < surplus.size(); i++, next++) {
+                plan.add(new ShardLayoutResponse.SlotMove(surplus.get(next), surplusFrom.get(next), shard));
+            }
+        }
+
+        return new ShardLayoutResponse(shardCount, slotsByShard.stream().map(List::size).toList(),
+                directory.movingSlots(), plan);
+    }
+
+    // =====================================================================
+    // MOVE SLOTS
+    // =====================================================================
+
+    /**
+     * Moves the given slots to the target shard. Slots already on it are left alone.
+     * Returns once the move is complete — at least three directory refresh intervals.
+     */
+    public SlotMoveResponse move(Collection<Integer> requestedSlots, int target) {
+        long startTime = System.currentTimeMillis();
+        if (target < 0 || target >= directory.shardCount()) {
+            throw new SlotMoveException("No shard " + target + " — shards are 0 to " + (directory.shardCount() - 1));
+        }
+
+        Map<Integer, Set<Integer>> slotsBySource = claim(requestedSlots, target);
+        List<Integer> slots = slotsBySource.values().stream().flatMap(Set::stream).toList();
+        if (slots.isEmpty()) {
+            return new SlotMoveResponse(List.of(), target, 0, 0, 0, 0);
+        }
+
+        try {
+            directory.setMoving(slots, true);
+        } catch (RuntimeException ex) {
+            release(slots);
+            throw ex;
+        }
+        try {
+            log.info("Moving {} slots to shard {} — waiting {} for every instance to stop serving them",
+                    slots.size(), target, settle);
+            Thread.sleep(settle.toMillis());
+
+            long[] moved = new long[TABLES.size()];
+            for (Map.Entry<Integer, Set<Integer>> group : slotsBySource.entrySet()) {
+                long[] groupMoved = moveGroup(group.getValue(), group.getKey(), target);
+                for (int i = 0; i < moved.length; i++) {
+                    moved[i] += groupMoved[i];
+                }
+            }
+
+            long duration = System.currentTimeMillis() - startTime;
+            log.info("Moved {} slots to shard {} in {}ms — {} bookings, {} waitlist entries, {} event cancellations",
+                    slots.size(), target, duration, moved[0], moved[1], moved[2]);
+            return new SlotMoveResponse(slots, target, moved[0], moved[1], moved[2], duration);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new SlotMoveException("Interrupted before any data was moved");
+        } finally {
+            try {
+                directory.setMoving(slots, false);
+            } finally {
+                release(slots);
+            }
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * Checks the requested slots and claims those not already on the target. Returns them by
+     * source shard.
+     */
+    private Map<Integer, Set<Integer>> claim(Collection<Integer> requestedSlots, int target) {
+        claimLock.lock();
+        try {
+            Map<Integer, Set<Integer>> slotsBySource = new TreeMap<>();
+            for (int slot : new TreeSet<>(requestedSlots)) {
+                if (slot < 0 || slot >= ShardKeys.SLOTS) {
+                    throw new SlotMoveException("No slot " + slot + " — slots are 0 to " + (ShardKeys.SLOTS - 1));
+                }
+                if (claimedSlots.contains(slot) || directory.isMoving(slot)) {
+                    throw new SlotMoveException("Slot " + slot + " is already being moved");
+                }
+                if (directory.shardOf(slot) != target) {
+                    slotsBySource.computeIfAbsent(directory.shardOf(slot), source -> new TreeSet<>()).add(slot);
+                }
+            }
+            slotsBySource.values().forEach(claimedSlots::addAll);
+            return slotsBySource;
+        } finally {
+            claimLock.unlock();
+        }
+    }
+
+    private void release(Collection<Integer> slots) {
+        claimLock.lock();
+        try {
+            claimedSlots.removeAll(slots);
+        } finally {
+            claimLock.unlock();
+        }
+    }
+
+    private static int fairShare(int shard, int shardCount) {
+        return ShardKeys.SLOTS / shardCount + (shard < ShardKeys.SLOTS % shardCount ? 1 : 0);
+    }
+
+    /**
+     * Moves slots that are all on the same source shard. Returns the rows moved by table.
+     */
+    private long[] moveGroup(Set<Integer> slots, int source, int target) {
+        NamedParameterJdbcTemplate from = new NamedParameterJdbcTemplate(shards.shard(source));
+        NamedParameterJdbcTemplate to = new NamedParameterJdbcTemplate(shards.shard(target));
+
+        List<Long> eventIds = eventIdsIn(from, slots);
+        long[] moved = new long[TABLES.size()];
+        if (eventIds.isEmpty()) {
+            directory.assign(slots, target);
+            return moved;
+        }
+
+        List<List<Long>> chunks = chunks(eventIds);
+        for (List<Long> chunk : chunks) {
+            checkMovable(from, chunk, slots);
+        }
+
+        transaction(shards.shard(target)).executeWithoutResult(status -> {
+            for (List<Long> chunk : chunks) {
+                for (String table : TABLES.reversed()) {
+                    to.update("DELETE FROM " + table + " WHERE event_id IN (:eventIds)", Map.of("eventIds", chunk));
+                }
+                for (int i = 0; i < TABLES.size(); i++) {
+                    moved[i] += copy(TABLES.get(i), chunk, from, to.getJdbcTemplate());
+                }
+            }
+        });
+        advanceSequences(from.getJdbcTemplate(), to.getJdbcTemplate());
+
+        directory.assign(slots, target);
+
+        try {
+            transaction(shards.shard(source)).executeWithoutResult(status -> {
+                for (List<Long> chunk : chunks) {
+                    for (String table : TABLES.reversed()) {
+                        from.update("DELETE FROM " + table + " WHERE event_id IN (:eventIds)", Map.of("eventIds", chunk));
+                    }
+                }
+            });
+        } catch (RuntimeException ex) {
+            // The slots are served from the target already — what is left on the source is
+            // ignored by every read (BookingShards.owns) and cleared by moving the slots back
+            log.error("Moved slots {} to shard {} but could not delete them from shard {}: {}",
+                    slots, target, source, ex.getMessage());
+        }
+        return moved;
+    }
+
+    /**
+     * Events of the slots with rows on the source — a range scan of each table's event_slot
+     * index (see V9).
+     */
+    private List<Long> eventIdsIn(NamedParameterJdbcTemplate source, Set<Integer> slots) {
+        Set<Long> eventIds = new TreeSet<>();
+        for (String table : TABLES) {
+            eventIds.addAll(source.queryForList("SELECT DISTINCT event_id FROM " + table + " WHERE event_slot IN (:slots)",
+                    Map.of("slots", slots), Long.class));
+        }
+        return new ArrayList<>(eventIds);
+    }
+
+    private void checkMovable(NamedParameterJdbcTemplate source, List<Long> eventIds, Set<Integer> slots) {
+        Map<String, Object> params = Map.of("eventIds", eventIds, "firstShardedId", ShardKeys.FIRST_SHARDED_ID);
+        Integer running = source.queryForObject("""
+                SELECT COUNT(*) FROM event_cancellations
+                WHERE event_id IN (:eventIds) AND status = 'IN_PROGRESS'
+                """, params, Integer.class);
+        if (running != null && running > 0) {
+            throw new SlotMoveException("Slots " + slots + " have event cancellations in progress — retry once they complete");
+        }
+        Integer unsharded = source.queryForObject("""
+                SELECT (SELECT COUNT(*) FROM bookings WHERE event_id IN (:eventIds) AND id < :firstShardedId)
+                     + (SELECT COUNT(*) FROM waitlist_entries WHERE event_id IN (:eventIds) AND id < :firstShardedId)
+                """, params, Integer.class);
+        if (unsharded != null && unsharded > 0) {
+            throw new SlotMoveException("Slots " + slots + " hold rows from before sharding, which must stay on shard 0");
+        }
+    }
+
+    /**
+     * Copies a table's rows of the given events, streaming them in JDBC batches.
+     */
+    private long copy(String table, List<Long> eventIds, NamedParameterJdbcTemplate from, JdbcTemplate to) {
+        List<Object[]> batch = new ArrayList<>(BATCH_SIZE);
+        String[] insert = {null};
+        long[] copied = {0};
+        from.query("SELECT * FROM " + table + " WHERE event_id IN (:eventIds)", Map.of("eventIds", eventIds), rs -> {
+            ResultSetMetaData columns = rs.getMetaData();
+            if (insert[0] == null) {
+                insert[0] = insertStatement(table, columns);
+            }
+            Object[] row = new Object[columns.getColumnCount()];
+            for (int i = 0; i < row.length; i++) {
+                row[i] = rs.getObject(i + 1);
+            }
+            batch.add(row);
+            if (batch.size() == BATCH_SIZE) {
+                to.batchUpdate(insert[0], batch);
+                copied[0] += batch.size();
+                batch.clear();
+            }
+        });
+        if (!batch.isEmpty()) {
+            to.batchUpdate(insert[0], batch);
+            copied[0] += batch.size();
+        }
+        return copied[0];
+    }
+
+    private static String insertStatement(String table, ResultSetMetaData columns) throws java.sql.SQLException {
+        List<String> names = new ArrayList<>();
+        for (int i = 1; i <= columns.getColumnCount(); i++) {
+            names.add(columns.getColumnName(i));
+        }
+        return "INSERT INTO " + table + " (" + String.join(", ", names) + ") VALUES ("
+                + String.join(", ", names.stream().map(name -> "?").toList()) + ")";
+    }
+
+    /**
+     * Restarts each target sequence past the source's, if behind. Blocks instances reserved
+     * from the target before this still run below — see ShardedSequenceGenerator.
+     */
+    private void advanceSequences(JdbcTemplate from, JdbcTemplate to) {
+        sequenceLock.lock();
+        try {
+            for (String sequence : SEQUENCES) {
+                long sourceValue = nextValue(from, sequence);
+                long targetValue = nextValue(to, sequence);
+                if (targetValue < sourceValue) {
+                    // Standard SQL, as understood by H2 and PostgreSQL alike
+                    to.execute("ALTER SEQUENCE " + sequence + " RESTART WITH " + sourceValue);
+                }
+            }
+        } finally {
+            sequenceLock.unlock();
+        }
+    }
+
+    private long nextValue(JdbcTemplate jdbc, String sequence) {
+        Long value = jdbc.queryForObject(dialect.getSequenceSupport().getSequenceNextValString(sequence), Long.class);
+        return value != null ? value : 0;
+    }
+
+    private static List<List<Long>> chunks(List<Long> ids) {
+        List<List<Long>> chunks = new ArrayList<>();
+        for (int i = 0; i < ids.size(); i += BATCH_SIZE) {
+            chunks.add(ids.subList(i, Math.min(i + BATCH_SIZE, ids.size())));
+        }
+        return chunks;
+    }
+
+    private static TransactionTemplate transaction(DataSource dataSource) {
+        return new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+    }
+}
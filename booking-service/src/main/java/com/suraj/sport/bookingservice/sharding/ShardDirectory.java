@@ -0,0 +1,194 @@
+package com.suraj.sport.bookingservice.sharding;
+
+import com.suraj.sport.bookingservice.exception.ShardUnavailableException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeSet;
+
+/**
+ * Which shard each slot is stored on — the booking_shard_slots table on shard 0, re-read by
+ * every instance each booking.sharding.directory-refresh-interval.
+ * <p>
+ * Seeded on the first start with sharding on: slots are spread over the configured shards
+ * round-robin — or, when shard 0 already holds data from before sharding, all left on
+ * shard 0, to be spread by moving slots (see Resharder).
+ * <p>
+ * A slot marked moving is being copied to another shard; calls routed to it are refused
+ * until the move completes. An instance that has failed to re-read the directory for twice
+ * the refresh interval refuses all routed calls, so a move never has to wait on it for
+ * longer than that.
+ */
+@Slf4j
+public class ShardDirectory {
+
+    private final JdbcTemplate jdbc;
+    private final TransactionTemplate transactionTemplate;
+    private final int shardCount;
+    private final long staleAfterMillis;
+
+    private volatile Layout layout;
+    private volatile long refreshedAt;
+
+    public ShardDirectory(DataSource shard0, int shardCount, Duration refreshInterval) {
+        this.jdbc = new JdbcTemplate(shard0);
+        this.transactionTemplate = new TransactionTemplate(new DataSourceTransactionManager(shard0));
+        this.shardCount = shardCount;
+        this.staleAfterMillis = refreshInterval.multipliedBy(2).toMillis();
+        if (!load()) {
+            seed();
+            load();
+        }
+    }
+
+    public int shardCount() {
+        return shardCount;
+    }
+
+    /**
+     * Shard currently holding the slot's data, moving or not.
+     */
+    public int shardOf(int slot) {
+        return layout.shards()[slot];
+    }
+
+    public boolean isMoving(int slot) {
+        return layout.moving()[slot];
+    }
+
+    /**
+     * Shard a call for the slot runs on.
+     * Throws ShardUnavailableException while the slot is moving or the directory is stale.
+     */
+    public int routeTo(int slot) {
+        if (System.currentTimeMillis() - refreshedAt > staleAfterMillis) {
+            throw new ShardUnavailableException("Shard directory could not be refreshed, please retry");
+        }
+        Layout current = layout;
+        if (current.moving()[slot]) {
+            throw new ShardUnavailableException("Slot " + slot + " is moving to another shard, please retry");
+        }
+        return current.shards()[slot];
+    }
+
+    /**
+     * Slots held by each shard, indexed by shard.
+     */
+    public List<List<Integer>> slotsByShard() {
+        List<List<Integer>> slots = new ArrayList<>();
+        for (int shard = 0; shard < shardCount; shard++) {
+            slots.add(new ArrayList<>());
+        }
+        int[] shards = layout.shards();
+        for (int slot = 0; slot < ShardKeys.SLOTS; slot++) {
+            slots.get(shards[slot]).add(slot);
+        }
+        return slots;
+    }
+
+    public Set<Integer> movingSlots() {
+        Set<Integer> slots = new TreeSet<>();
+        boolean[] moving = layout.moving();
+        for (int slot = 0; slot < ShardKeys.SLOTS; slot++) {
+            if (moving[slot]) {
+                slots.add(slot);
+            }
+        }
+        return slots;
+    }
+
+    @Scheduled(fixedDelayString = "${booking.sharding.directory-refresh-interval:PT5S}")
+    public void refresh() {
+        try {
+            load();
+        } catch (DataAccessException | IllegalStateException ex) {
+            log.warn("Could not refresh the shard directory: {}", ex.getMessage());
+        }
+    }
+
+    // =====================================================================
+    // CHANGES — made by Resharder only
+    // =====================================================================
+
+    void setMoving(Collection<Integer> slots, boolean moving) {
+        update("UPDATE booking_shard_slots SET moving = ? WHERE slot = ?", slots, moving);
+    }
+
+    void assign(Collection<Integer> slots, int shard) {
+        update("UPDATE booking_shard_slots SET shard = ? WHERE slot = ?", slots, shard);
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * Reads the whole directory. Returns false if it has not been seeded yet.
+     */
+    private boolean load() {
+        int[] shards = new int[ShardKeys.SLOTS];
+        boolean[] moving = new boolean[ShardKeys.SLOTS];
+        int[] rows = {0};
+        jdbc.query("SELECT slot, shard, moving FROM booking_shard_slots", rs -> {
+            int slot = rs.getInt(1);
+            int shard = rs.getInt(2);
+            if (shard >= shardCount) {
+                throw new IllegalStateException("Slot " + slot + " is stored on shard " + shard
+                        + ", but only " + shardCount + " shards are configured");
+            }
+            shards[slot] = shard;
+            moving[slot] = rs.getBoolean(3);
+            rows[0]++;
+        });
+        if (rows[0] == 0) {
+            return false;
+        }
+        if (rows[0] != ShardKeys.SLOTS) {
+            throw new IllegalStateException("Shard directory has " + rows[0] + " slots, expected " + ShardKeys.SLOTS);
+        }
+        layout = new Layout(shards, moving);
+        refreshedAt = System.currentTimeMillis();
+        return true;
+    }
+
+    private void seed() {
+        boolean existingData = hasRows("bookings") || hasRows("waitlist_entries") || hasRows("event_cancellations");
+        List<Object[]> rows = new ArrayList<>();
+        for (int slot = 0; slot < ShardKeys.SLOTS; slot++) {
+            rows.add(new Object[]{slot, existingData ? 0 : slot % shardCount});
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbc.batchUpdate(
+                    "INSERT INTO booking_shard_slots (slot, shard, moving) VALUES (?, ?, FALSE)", rows));
+            log.info("Seeded the shard directory — {}", existingData
+                    ? "all slots on shard 0, which holds data from before sharding"
+                    : "slots spread over " + shardCount + " shards");
+        } catch (DuplicateKeyException ex) {
+            // Another instance seeded it first
+        }
+    }
+
+    private boolean hasRows(String table) {
+        return !jdbc.queryForList("SELECT 1 FROM " + table + " LIMIT 1").isEmpty();
+    }
+
+    private void update(String sql, Collection<Integer> slots, Object value) {
+        List<Object[]> rows = slots.stream().map(slot -> new Object[]{value, slot}).toList();
+        transactionTemplate.executeWithoutResult(status -> jdbc.batchUpdate(sql, rows));
+        load();
+    }
+
+    private record Layout(int[] shards, boolean[] moving) {
+    }
+}
@@ -0,0 +1,70 @@
+package com.suraj.sport.bookingservice.sharding;
+
+/**
+ * How events map to slots and how slots are carried in ids.
+ * <p>
+ * Every event hashes to one of SLOTS slots, and the shard directory assigns each slot to a
+ * shard (see ShardDirectory). Everything booking-service stores for an event — bookings,
+ * waitlist entries, the event cancellation run — lives on the shard of its slot.
+ * <p>
+ * Ids of bookings and waitlist entries (see ShardedSequenceGenerator) are laid out as
+ * <pre>
+ *   | LOCAL_BASE + local sequence value | origin shard (6 bits) | slot (10 bits) |
+ * </pre>
+ * so the slot — and through the directory the shard — of a booking is read off its id. The
+ * origin shard is the shard whose sequence issued the local value: (local, origin) is unique
+ * across shards, so ids stay unique when a slot moves to another shard.
+ * <p>
+ * LOCAL_BASE puts every sharded id at 2^40 or above, clear of the plain sequence ids issued
+ * before sharding, which carry no slot. Those rows stay on shard 0 (Resharder never moves
+ * them) and are looked up there.
+ * <p>
+ * NOTE: SLOTS and the id layout are fixed for good — they are baked into every id issued.
+ */
+public final class ShardKeys {
+
+    private static final int SLOT_BITS = 10;
+    private static final int SHARD_BITS = 6;
+    private static final long LOCAL_BASE = 1L << 24;
+
+    public static final int SLOTS = 1 << SLOT_BITS;
+    public static final int MAX_SHARDS = 1 << SHARD_BITS;
+
+    // Lowest sharded id — every id issued before sharding is below it
+    static final long FIRST_SHARDED_ID = LOCAL_BASE << (SHARD_BITS + SLOT_BITS);
+
+    private ShardKeys() {
+    }
+
+    /**
+     * Slot of an event — a hash of the id, so consecutive events spread over all slots.
+     */
+    public static int slotOfEvent(long eventId) {
+        // MurmurHash3 64-bit finalizer
+        long h = eventId;
+        h ^= h >>> 33;
+        h *= 0xff51afd7ed558ccdL;
+        h ^= h >>> 33;
+        h *= 0xc4ceb9fe1a85ec53L;
+        h ^= h >>> 33;
+        return (int) (h & (SLOTS - 1));
+    }
+
+    /**
+     * False for ids issued before sharding, which carry no slot.
+     */
+    public static boolean isSharded(long id) {
+        return id >= FIRST_SHARDED_ID;
+    }
+
+    /**
+     * Slot carried in a sharded id.
+     */
+    public static int slotOfId(long id) {
+        return (int) (id & (SLOTS - 1));
+    }
+
+    static long compose(long local, int originShard, int slot) {
+        return ((LOCAL_BASE + local) << (SHARD_BITS + SLOT_BITS)) | ((long) originShard << SLOT_BITS) | slot;
+    }
+}
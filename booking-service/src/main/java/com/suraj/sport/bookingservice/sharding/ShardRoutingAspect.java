@@ -0,0 +1,74 @@
+package com.suraj.sport.bookingservice.sharding;
+
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.springframework.aop.support.AopUtils;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Method;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Runs every service method with a @ShardedBy parameter on that parameter's shard.
+ * <p>
+ * Ordered just before the transaction interceptor, so a @Transactional method's
+ * transaction — and every nested one — is on the shard already.
+ */
+@Aspect
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE - 1)
+@RequiredArgsConstructor
+public class ShardRoutingAspect {
+
+    private static final Route UNROUTED = new Route(-1, null);
+
+    private final BookingShards bookingShards;
+
+    private final ConcurrentMap<Method, Route> routes = new ConcurrentHashMap<>();
+
+    @Around("execution(public * com.suraj.sport.bookingservice.service.impl.*.*(..))")
+    public Object routeToShard(ProceedingJoinPoint joinPoint) throws Throwable {
+        Route route = routes.computeIfAbsent(((MethodSignature) joinPoint.getSignature()).getMethod(),
+                method -> routeOf(AopUtils.getMostSpecificMethod(method, joinPoint.getTarget().getClass())));
+        Object key = route.parameter() >= 0 ? joinPoint.getArgs()[route.parameter()] : null;
+        if (key == null) {
+            return joinPoint.proceed();
+        }
+
+        int shard = route.key() == ShardedBy.Key.ID
+                ? bookingShards.shardOfId((Long) key)
+                : bookingShards.shardOfEvent(key instanceof EventKeyed keyed ? keyed.getEventId() : (Long) key);
+        Integer previous = ShardContext.enter(shard);
+        try {
+            return joinPoint.proceed();
+        } finally {
+            ShardContext.restore(previous);
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static Route routeOf(Method method) {
+        Annotation[][] annotations = method.getParameterAnnotations();
+        for (int i = 0; i < annotations.length; i++) {
+            for (Annotation annotation : annotations[i]) {
+                if (annotation instanceof ShardedBy shardedBy) {
+                    return new Route(i, shardedBy.value());
+                }
+            }
+        }
+        return UNROUTED;
+    }
+
+    private record Route(int parameter, ShardedBy.Key key) {
+    }
+}
@@ -0,0 +1,57 @@
+package com.suraj.sport.bookingservice.sharding;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+
+import javax.sql.DataSource;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands out connections of the current thread's shard (see ShardContext), or of shard 0 —
+ * which also holds the shard directory — when none is set: schema migration, startup checks.
+ * <p>
+ * Must sit behind a LazyConnectionDataSourceProxy: a @Transactional service method opens its
+ * transaction before ShardRoutingAspect or the method body has picked the shard, so the
+ * choice has to wait until the first statement.
+ * <p>
+ * Closing it closes the pools of shards 1..n; shard 0's pool is a bean of its own.
+ */
+public class ShardRoutingDataSource extends AbstractRoutingDataSource implements AutoCloseable {
+
+    private final List<DataSource> shards;
+
+    public ShardRoutingDataSource(List<DataSource> shards) {
+        this.shards = List.copyOf(shards);
+        Map<Object, Object> targets = new HashMap<>();
+        for (int i = 0; i < shards.size(); i++) {
+            targets.put(i, shards.get(i));
+        }
+        setTargetDataSources(targets);
+        setDefaultTargetDataSource(shards.getFirst());
+        setLenientFallback(false);
+        afterPropertiesSet();
+    }
+
+    public int shardCount() {
+        return shards.size();
+    }
+
+    public DataSource shard(int shard) {
+        return shards.get(shard);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        return ShardContext.current();
+    }
+
+    @Override
+    public void close() throws Exception {
+        for (DataSource shard : shards.subList(1, shards.size())) {
+            if (shard instanceof AutoCloseable pool) {
+                pool.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.suraj.sport.bookingservice.sharding;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks the service method parameter that picks the shard the call runs on — the call's
+ * database work, its transactions included, all go to that shard (see ShardRoutingAspect).
+ */
+@Target(ElementType.PARAMETER)
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardedBy {
+
+    Key value();
+
+    enum Key {
+        // An event id, or an EventKeyed request carrying one
+        EVENT,
+        // A sharded id — of a booking or a waitlist entry
+        ID
+    }
+}
@@ -0,0 +1,24 @@
+package com.suraj.sport.bookingservice.sharding;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Generates sharded ids (see ShardKeys) for an EventKeyed entity from a pooled sequence
+ * that exists on every shard.
+ */
+@IdGeneratorType(ShardedSequenceGenerator.class)
+@Target({ElementType.FIELD, ElementType.METHOD})
+@Retention(RetentionPolicy.RUNTIME)
+public @interface ShardedSequence {
+
+    // Sequence the local part of the id is drawn from
+    String name();
+
+    // Local values reserved per sequence call — one round trip per this many inserts
+    int allocationSize() default 50;
+}
@@ -0,0 +1,99 @@
+package com.suraj.sport.bookingservice.sharding;
+
+import org.hibernate.boot.model.naming.Identifier;
+import org.hibernate.boot.model.relational.Database;
+import org.hibernate.boot.model.relational.ExportableProducer;
+import org.hibernate.boot.model.relational.Namespace;
+import org.hibernate.boot.model.relational.Sequence;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+import org.hibernate.generator.GeneratorCreationContext;
+
+import java.lang.reflect.Member;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.EnumSet;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Id generator behind @ShardedSequence.
+ * <p>
+ * The local part comes from the sequence of the shard the insert runs on, reserved
+ * allocationSize values at a time per shard; the slot comes from the entity's event. The
+ * sequence is read on the session's own connection, so it is the current shard's.
+ * <p>
+ * A sequence value v reserves the local values v to v + allocationSize - 1 — the sequence
+ * must be incremented by allocationSize (V2 and V5 create them that way).
+ */
+public class ShardedSequenceGenerator implements BeforeExecutionGenerator, ExportableProducer {
+
+    private final String sequenceName;
+    private final int allocationSize;
+
+    // A lock rather than synchronized: a new block is read from the database while it is held,
+    // and a virtual thread blocked in JDBC inside a monitor pins its carrier thread
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // Next local value and end of the reserved block, by shard — guarded by lock
+    private final long[] next = new long[ShardKeys.MAX_SHARDS];
+    private final long[] end = new long[ShardKeys.MAX_SHARDS];
+
+    public ShardedSequenceGenerator(ShardedSequence config, Member member, GeneratorCreationContext context) {
+        this.sequenceName = config.name();
+        this.allocationSize = config.allocationSize();
+    }
+
+    @Override
+    public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+                           EventType eventType) {
+        int shard = ShardContext.currentOrDefault();
+        int slot = ShardKeys.slotOfEvent(((EventKeyed) owner).getEventId());
+        return ShardKeys.compose(nextLocal(session, shard), shard, slot);
+    }
+
+    @Override
+    public EnumSet<EventType> getEventTypes() {
+        return EventTypeSets.INSERT_ONLY;
+    }
+
+    // Lets ddl-auto create the sequence in the dev profile
+    @Override
+    public void registerExportables(Database database) {
+        Namespace namespace = database.getDefaultNamespace();
+        Identifier name = Identifier.toIdentifier(sequenceName);
+        if (namespace.locateSequence(name) != null) {
+            return;
+        }
+        namespace.createSequence(name, physicalName -> new Sequence("orm",
+                namespace.getPhysicalName().catalog(), namespace.getPhysicalName().schema(), physicalName,
+                1, allocationSize));
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private long nextLocal(SharedSessionContractImplementor session, int shard) {
+        lock.lock();
+        try {
+            if (next[shard] == end[shard]) {
+                long first = session.doReturningWork(connection -> {
+                    String sql = session.getJdbcServices().getDialect().getSequenceSupport()
+                            .getSequenceNextValString(sequenceName);
+                    try (PreparedStatement statement = connection.prepareStatement(sql);
+                         ResultSet rs = statement.executeQuery()) {
+                        rs.next();
+                        return rs.getLong(1);
+                    }
+                });
+                next[shard] = first;
+                end[shard] = first + allocationSize;
+            }
+            return next[shard]++;
+        } finally {
+            lock.unlock();
+        }
+    }
+}
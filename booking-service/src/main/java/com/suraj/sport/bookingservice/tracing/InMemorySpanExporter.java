@@ -0,0 +1,54 @@
+package com.suraj.sport.bookingservice.tracing;
+
+import com.suraj.sport.bookingservice.config.TracingProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Holds the most recent kept traces (booking.tracing.in-memory-capacity) so they can be
+ * inspected — and asserted in tests — without a collector.
+ */
+@Component
+public class InMemorySpanExporter implements SpanExporter {
+
+    private final int capacity;
+    private final ConcurrentLinkedDeque<List<Span>> traces = new ConcurrentLinkedDeque<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    public InMemorySpanExporter(TracingProperties properties) {
+        this.capacity = properties.getInMemoryCapacity();
+    }
+
+    @Override
+    public void export(List<Span> spans) {
+        traces.addLast(spans);
+        if (size.incrementAndGet() > capacity && traces.pollFirst() != null) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * The kept traces, oldest first.
+     */
+    public List<List<Span>> getTraces() {
+        return List.copyOf(traces);
+    }
+
+    /**
+     * The spans kept for a trace — empty if it was dropped or has been evicted.
+     */
+    public List<Span> getTrace(String traceId) {
+        return traces.stream()
+                .flatMap(List::stream)
+                .filter(span -> span.getTraceId().equals(traceId))
+                .toList();
+    }
+
+    public void clear() {
+        traces.clear();
+        size.set(0);
+    }
+}
@@ -0,0 +1,10 @@
+package com.suraj.sport.bookingservice.tracing;
+
+public enum SpanKind {
+    // An incoming HTTP request
+    SERVER,
+    // An outgoing HTTP call to another service
+    CLIENT,
+    // Anything in between — controller, service and repository methods
+    INTERNAL
+}
@@ -0,0 +1,38 @@
+package com.suraj.sport.bookingservice.tracing;
+
+import java.util.regex.Pattern;
+
+/**
+ * The W3C trace context header that carries a trace across services:
+ * "00-{32 hex trace id}-{16 hex parent span id}-{2 hex flags}".
+ * <p>
+ * Flags are always sent as 01 (sampled) — every service records every trace and decides
+ * which to keep once its part is complete (see Tracer).
+ */
+public record TraceParent(String traceId, String parentSpanId) {
+
+    public static final String HEADER = "traceparent";
+
+    private static final Pattern FORMAT = Pattern.compile("00-[0-9a-f]{32}-[0-9a-f]{16}-[0-9a-f]{2}");
+    private static final String INVALID_TRACE_ID = "0".repeat(32);
+    private static final String INVALID_SPAN_ID = "0".repeat(16);
+
+    /**
+     * Returns null if the header is absent or malformed — the request then starts a new trace.
+     */
+    public static TraceParent parse(String header) {
+        if (header == null || !FORMAT.matcher(header).matches()) {
+            return null;
+        }
+        String traceId = header.substring(3, 35);
+        String parentSpanId = header.substring(36, 52);
+        if (traceId.equals(INVALID_TRACE_ID) || parentSpanId.equals(INVALID_SPAN_ID)) {
+            return null;
+        }
+        return new TraceParent(traceId, parentSpanId);
+    }
+
+    public static String format(Span span) {
+        return "00-" + span.getTraceId() + "-" + span.getSpanId() + "-01";
+    }
+}
@@ -0,0 +1,42 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+
+/**
+ * Replaces IDENTITY primary keys with pooled sequences so Hibernate can batch inserts.
+ * <p>
+ * Written in Java rather than SQL because each sequence has to start above the highest id
+ * already in its table, and neither H2 nor PostgreSQL accepts a subquery in START WITH.
+ * <p>
+ * Hibernate's pooled optimizer treats each value it reads as the top of a block of
+ * ALLOCATION_SIZE ids, so the first value is max(id) + ALLOCATION_SIZE — the first block
+ * then begins right after the last existing row.
+ */
+public class V2__Pooled_id_sequences extends BaseJavaMigration {
+
+    // Must match allocationSize on the entities' @ShardedSequence
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<String> TABLES = List.of("bookings");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (String table : TABLES) {
+                long maxId;
+                try (ResultSet rs = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+                    rs.next();
+                    maxId = rs.getLong(1);
+                }
+                statement.execute("CREATE SEQUENCE " + table + "_seq START WITH " + (maxId + ALLOCATION_SIZE)
+                        + " INCREMENT BY " + ALLOCATION_SIZE);
+                statement.execute("ALTER TABLE " + table + " ALTER COLUMN id DROP IDENTITY");
+            }
+        }
+    }
+}
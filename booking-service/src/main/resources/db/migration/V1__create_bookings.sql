@@ -0,0 +1,20 @@
+CREATE TABLE bookings (
+    id                  BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    user_id             BIGINT           NOT NULL,
+    event_id            BIGINT           NOT NULL,
+    payment_id          BIGINT,
+    seats_booked        INTEGER          NOT NULL,
+    price_per_seat      DOUBLE PRECISION NOT NULL,
+    total_amount        DOUBLE PRECISION NOT NULL,
+    booking_status      VARCHAR(32)      NOT NULL,
+    cancellation_reason VARCHAR(255),
+    expiry_bucket       BIGINT,
+    is_deleted          BOOLEAN          NOT NULL,
+    deleted_at          TIMESTAMP(6),
+    created_at          TIMESTAMP(6),
+    updated_at          TIMESTAMP(6),
+    CONSTRAINT chk_bookings_status CHECK (booking_status IN ('PENDING', 'CONFIRMED', 'CANCELLED'))
+);
+
+-- Pending booking expiry scans due buckets only
+CREATE INDEX idx_bookings_expiry_bucket_status ON bookings (expiry_bucket, booking_status);
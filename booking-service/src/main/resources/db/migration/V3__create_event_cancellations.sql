@@ -0,0 +1,19 @@
+CREATE TABLE event_cancellations (
+    event_id           BIGINT       PRIMARY KEY,
+    reason             VARCHAR(255) NOT NULL,
+    status             VARCHAR(32)  NOT NULL,
+    cancel_status      VARCHAR(32),
+    cancel_cursor      BIGINT       NOT NULL,
+    bookings_cancelled BIGINT       NOT NULL,
+    refund_cursor      BIGINT       NOT NULL,
+    refunds_requested  BIGINT       NOT NULL,
+    last_error         VARCHAR(255),
+    created_at         TIMESTAMP(6),
+    updated_at         TIMESTAMP(6),
+    completed_at       TIMESTAMP(6),
+    CONSTRAINT chk_event_cancellations_status CHECK (status IN ('IN_PROGRESS', 'COMPLETED', 'FAILED')),
+    CONSTRAINT chk_event_cancellations_cancel_status CHECK (cancel_status IN ('PENDING', 'CONFIRMED', 'CANCELLED'))
+);
+
+-- Event cancellation pages through an event's bookings one status at a time, in id order
+CREATE INDEX idx_bookings_event_status ON bookings (event_id, booking_status, id);
@@ -0,0 +1,6 @@
+-- Event snapshot and cancellation policy recorded on each booking, so refunds are
+-- evaluated locally and stay reproducible after policies change
+ALTER TABLE bookings ADD COLUMN event_date TIMESTAMP(6);
+ALTER TABLE bookings ADD COLUMN sport_type VARCHAR(255);
+ALTER TABLE bookings ADD COLUMN cancellation_policy VARCHAR(64);
+ALTER TABLE bookings ADD COLUMN refund_amount DOUBLE PRECISION;
@@ -0,0 +1,16 @@
+CREATE SEQUENCE waitlist_entries_seq START WITH 1 INCREMENT BY 50;
+
+CREATE TABLE waitlist_entries (
+    id              BIGINT      PRIMARY KEY,
+    user_id         BIGINT      NOT NULL,
+    event_id        BIGINT      NOT NULL,
+    seats_requested INTEGER     NOT NULL,
+    seats_offered   INTEGER     NOT NULL,
+    status          VARCHAR(32) NOT NULL,
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    CONSTRAINT chk_waitlist_entries_status CHECK (status IN ('WAITING', 'OFFERED', 'CANCELLED'))
+);
+
+-- Freed seats are matched against the head of an event's queue of WAITING entries
+CREATE INDEX idx_waitlist_entries_event_status ON waitlist_entries (event_id, status, id);
@@ -0,0 +1,7 @@
+-- Shard directory: which shard stores each of the 1024 event slots (ShardDirectory).
+-- Seeded at the first start with booking.sharding.enabled; only read from shard 0.
+CREATE TABLE booking_shard_slots (
+    slot   INTEGER PRIMARY KEY,
+    shard  INTEGER NOT NULL,
+    moving BOOLEAN NOT NULL
+);
@@ -0,0 +1,4 @@
+-- The waitlist is served in join order — created_at, then id for entries created in the same
+-- instant. Ids alone are not join order: instances allocate them from separate pooled blocks.
+DROP INDEX idx_waitlist_entries_event_status;
+CREATE INDEX idx_waitlist_entries_event_status_created ON waitlist_entries (event_id, status, created_at, id);
@@ -0,0 +1,287 @@
+package com.suraj.sport.bookingservice;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the native image built by the native Maven profile against the default in-memory H2
+ * database, exercises the main booking endpoints, and compares its startup time and memory
+ * with the JVM build of the same jar.
+ * <p>
+ * Event Service is stubbed — GET /api/v1/event/{eventId} answers with a signed price quote and
+ * PATCH restore-seats is recorded — so bookings can be made and cancelled. Those calls go
+ * through RestClient and Jackson as they do in production, which is where missing
+ * reachability metadata shows.
+ * <p>
+ * Runs in the integration-test phase of ./mvnw -Pnative verify. Startup and memory are
+ * printed rather than asserted; memory is read from /proc, so only on Linux.
+ */
+@EnabledIfSystemProperty(named = "native.image", matches = ".+")
+class NativeImageSmokeIT {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    // Must match booking.price-quote.secret in application.yml
+    private static final String QUOTE_SECRET = "local-dev-price-quote-secret-not-for-production";
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    private static HttpServer eventService;
+    private static final List<String> seatCalls = new CopyOnWriteArrayList<>();
+
+    @BeforeAll
+    static void startEventServiceStub() throws Exception {
+        eventService = startEventServiceStub(seatCalls);
+    }
+
+    @AfterAll
+    static void stopEventServiceStub() {
+        eventService.stop(0);
+    }
+
+    @Test
+    void nativeImageServesMainEndpoints() throws Exception {
+        try (RunningService service = start(nativeImage())) {
+            exerciseMainEndpoints(service.baseUrl());
+        }
+    }
+
+    @Test
+    void compareStartupAndMemoryWithJvm() throws Exception {
+        Map<String, List<String>> launches = Map.of(
+                "native", nativeImage(),
+                "jvm", List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                        "-jar", System.getProperty("jvm.jar")));
+
+        System.out.printf("%n%-8s %16s %16s %16s%n", "build", "first request (ms)", "RSS (MB)", "peak RSS (MB)");
+        for (String build : List.of("native", "jvm")) {
+            try (RunningService service = start(launches.get(build))) {
+                exerciseMainEndpoints(service.baseUrl());
+                System.out.printf("%-8s %16d %16s %16s%n", build, service.startupMillis(),
+                        service.memoryMegabytes("VmRSS"), service.memoryMegabytes("VmHWM"));
+            }
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * Makes, reads, lists and cancels a booking, and checks that request validation and the
+     * OpenAPI document work.
+     */
+    private void exerciseMainEndpoints(String baseUrl) throws Exception {
+        long userId = System.nanoTime() % 1_000_000 + 1;
+
+        seatCalls.clear();
+        HttpResponse<String> created = send(baseUrl, "POST", "/api/v1/booking",
+                "{\"userId\":" + userId + ",\"eventId\":1,\"seatsBooked\":2}");
+        assertThat(created.statusCode()).as(created.body()).isEqualTo(201);
+        assertThat(seatCalls).containsExactly("/api/v1/event/1/reduce-seats?seats=2");
+        JsonNode booking = JSON.readTree(created.body()).get("data");
+        assertThat(booking.get("totalAmount").asDouble()).isEqualTo(100.0);
+        long bookingId = booking.get("id").asLong();
+
+        HttpResponse<String> fetched = send(baseUrl, "GET", "/api/v1/booking/" + bookingId, null);
+        assertThat(fetched.statusCode()).as(fetched.body()).isEqualTo(200);
+        assertThat(JSON.readTree(fetched.body()).get("data").get("bookingStatus").asString()).isEqualTo("PENDING");
+
+        HttpResponse<String> listed = send(baseUrl, "GET", "/api/v1/booking/user/" + userId, null);
+        assertThat(listed.statusCode()).as(listed.body()).isEqualTo(200);
+        assertThat(JSON.readTree(listed.body()).get("data").size()).isEqualTo(1);
+
+        seatCalls.clear();
+        HttpResponse<String> cancelled = send(baseUrl, "PATCH", "/api/v1/booking/" + bookingId + "/cancel",
+                "{\"cancellationReason\":\"Smoke test\"}");
+        assertThat(cancelled.statusCode()).as(cancelled.body()).isEqualTo(200);
+        assertThat(JSON.readTree(cancelled.body()).get("data").get("bookingStatus").asString()).isEqualTo("CANCELLED");
+        assertThat(seatCalls).containsExactly("/api/v1/event/1/restore-seats?seats=2");
+
+        HttpResponse<String> invalid = send(baseUrl, "POST", "/api/v1/booking", "{\"seatsBooked\":0}");
+        assertThat(invalid.statusCode()).isEqualTo(400);
+
+        HttpResponse<String> apiDocs = send(baseUrl, "GET", "/v3/api-docs", null);
+        assertThat(apiDocs.statusCode()).isEqualTo(200);
+        assertThat(JSON.readTree(apiDocs.body()).get("paths").has("/api/v1/booking")).isTrue();
+    }
+
+    private static HttpResponse<String> send(String baseUrl, String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path));
+        if (json != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return HTTP.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static List<String> nativeImage() {
+        return List.of(System.getProperty("native.image"));
+    }
+
+    /**
+     * Launches the service and waits until it answers its first request.
+     */
+    private RunningService start(List<String> launch) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(launch);
+        command.add("--server.port=" + port);
+        command.add("--services.event.base-url=http://localhost:" + eventService.getAddress().getPort());
+        // Nothing listens there, so seat commands fall back to REST and reach the stub
+        command.add("--services.event.seat-commands.port=" + freePort());
+        Path log = Files.createTempFile("native-image-smoke", ".log");
+
+        long startTime = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        RunningService service = new RunningService(process, "http://localhost:" + port, log);
+        try {
+            while (System.nanoTime() - startTime < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Exited before serving a request:\n" + Files.readString(log));
+                }
+                try {
+                    send(service.baseUrl(), "GET", "/api/v1/booking/user/0", null);
+                    service.startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                    return service;
+                } catch (IOException notListeningYet) {
+                    Thread.sleep(5);
+                }
+            }
+            throw new IllegalStateException("Did not serve a request within " + STARTUP_TIMEOUT + ":\n" + Files.readString(log));
+        } catch (Exception ex) {
+            service.close();
+            throw ex;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static HttpServer startEventServiceStub(List<String> seatCalls) throws Exception {
+        LocalDateTime eventDate = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+        byte[] event = ("""
+                {"success":true,"message":"Event Retrieved Successfully","data":{"id":1,"sportType":"Football",\
+                "eventDate":"%s","status":"UPCOMING","priceQuote":{"eventId":1,"basePrice":50.0,\
+                "pricePerSeat":50.0,"expiresAt":"%s","token":"%s"}}}"""
+                .formatted(eventDate, expiresAt, quoteToken(eventDate, expiresAt)))
+                .getBytes(StandardCharsets.UTF_8);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/api/v1/event/", exchange -> {
+            if ("PATCH".equals(exchange.getRequestMethod())) {
+                seatCalls.add(exchange.getRequestURI().toString());
+                respond(exchange, "{\"success\":true,\"message\":\"Seats Updated Successfully\",\"data\":null}"
+                        .getBytes(StandardCharsets.UTF_8));
+            } else {
+                respond(exchange, event);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    private static void respond(HttpExchange exchange, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    /**
+     * Signs a quote the way Event Service's PriceQuoteSigner does.
+     */
+    private static String quoteToken(LocalDateTime eventDate, Instant expiresAt) throws Exception {
+        byte[] payload = ("1|5000|" + expiresAt.getEpochSecond() + "|" + eventDate + "|Football")
+                .getBytes(StandardCharsets.UTF_8);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(QUOTE_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        Base64.Encoder base64 = Base64.getUrlEncoder().withoutPadding();
+        return base64.encodeToString(payload) + "." + base64.encodeToString(mac.doFinal(payload));
+    }
+
+    private static final class RunningService implements AutoCloseable {
+
+        private final Process process;
+        private final String baseUrl;
+        private final Path log;
+        private long startupMillis;
+
+        RunningService(Process process, String baseUrl, Path log) {
+            this.process = process;
+            this.baseUrl = baseUrl;
+            this.log = log;
+        }
+
+        String baseUrl() {
+            return baseUrl;
+        }
+
+        long startupMillis() {
+            return startupMillis;
+        }
+
+        /**
+         * A memory figure of the process from /proc/{pid}/status, e.g. VmRSS, or "n/a".
+         */
+        String memoryMegabytes(String field) throws IOException {
+            Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+            if (!Files.exists(status)) {
+                return "n/a";
+            }
+            return Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith(field + ":"))
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")) / 1024 + "")
+                    .findFirst()
+                    .orElse("n/a");
+        }
+
+        @Override
+        public void close() throws Exception {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            Files.deleteIfExists(log);
+        }
+    }
+}
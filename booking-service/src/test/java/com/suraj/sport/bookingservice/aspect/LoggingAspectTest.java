@@ -0,0 +1,144 @@
+package com.suraj.sport.bookingservice.aspect;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.core.read.ListAppender;
+import com.suraj.sport.bookingservice.config.LoggingProperties;
+import com.suraj.sport.bookingservice.logging.ArgumentMasker;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.slf4j.LoggerFactory;
+import org.slf4j.event.KeyValuePair;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class LoggingAspectTest {
+
+    private final ListAppender<ILoggingEvent> appender = new ListAppender<>();
+
+    @BeforeEach
+    void attachAppender() {
+        appender.start();
+        for (Class<?> target : List.of(SampledService.class, UnsampledService.class)) {
+            Logger logger = (Logger) LoggerFactory.getLogger(target);
+            logger.setLevel(Level.INFO);
+            logger.addAppender(appender);
+        }
+    }
+
+    @AfterEach
+    void detachAppender() {
+        for (Class<?> target : List.of(SampledService.class, UnsampledService.class)) {
+            Logger logger = (Logger) LoggerFactory.getLogger(target);
+            logger.detachAppender(appender);
+            logger.setLevel(null);
+        }
+    }
+
+    @Test
+    void logsOneMaskedEventPerSampledCall() throws Throwable {
+        LoggingAspect aspect = aspect(Map.of());
+
+        Object result = aspect.logMethodExecution(joinPoint(new SampledService(), () -> "booked"));
+
+        assertThat(result).isEqualTo("booked");
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLoggerName()).isEqualTo(SampledService.class.getName());
+            assertThat(event.getLevel()).isEqualTo(Level.INFO);
+            assertThat(event.getMessage()).isEqualTo("Call completed");
+            assertThat(keyValues(event))
+                    .containsEntry("method", "createBooking")
+                    .containsEntry("args", "[bookingId=42, priceQuote=****]")
+                    .containsKey("durationMs");
+        });
+    }
+
+    @Test
+    void appliesTheLongestMatchingPrefix() throws Throwable {
+        Map<String, Double> sampleRates = new LinkedHashMap<>();
+        sampleRates.put("com.suraj.sport.bookingservice", 1.0);
+        sampleRates.put("com.suraj.sport.bookingservice.aspect", 0.0);
+        sampleRates.put(SampledService.class.getName(), 1.0);
+        // A prefix only matches whole name segments
+        sampleRates.put(UnsampledService.class.getName().replace("UnsampledService", "Unsampled"), 1.0);
+        LoggingAspect aspect = aspect(sampleRates);
+
+        for (int call = 0; call < 20; call++) {
+            aspect.logMethodExecution(joinPoint(new SampledService(), () -> "booked"));
+            aspect.logMethodExecution(joinPoint(new UnsampledService(), () -> "booked"));
+        }
+
+        assertThat(appender.list).hasSize(20)
+                .allSatisfy(event -> assertThat(event.getLoggerName()).isEqualTo(SampledService.class.getName()));
+    }
+
+    @Test
+    void alwaysLogsFailures() {
+        LoggingAspect aspect = aspect(Map.of("com.suraj.sport.bookingservice", 0.0));
+
+        assertThatThrownBy(() -> aspect.logMethodExecution(joinPoint(new UnsampledService(), () -> {
+            throw new IllegalStateException("Event is sold out");
+        }))).isInstanceOf(IllegalStateException.class);
+
+        assertThat(appender.list).singleElement().satisfies(event -> {
+            assertThat(event.getLevel()).isEqualTo(Level.ERROR);
+            assertThat(event.getMessage()).isEqualTo("Call failed");
+            assertThat(keyValues(event))
+                    .containsEntry("error", "Event is sold out")
+                    .containsEntry("args", "[bookingId=42, priceQuote=****]");
+        });
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static LoggingAspect aspect(Map<String, Double> sampleRates) {
+        LoggingProperties properties = new LoggingProperties();
+        properties.setSampleRates(sampleRates);
+        properties.setMaskedFields(List.of("priceQuote"));
+        return new LoggingAspect(properties, new ArgumentMasker(properties));
+    }
+
+    private static ProceedingJoinPoint joinPoint(Object target, Call call) throws Throwable {
+        MethodSignature signature = mock(MethodSignature.class);
+        when(signature.getName()).thenReturn("createBooking");
+        when(signature.getParameterNames()).thenReturn(new String[]{"bookingId", "priceQuote"});
+
+        ProceedingJoinPoint joinPoint = mock(ProceedingJoinPoint.class);
+        when(joinPoint.getTarget()).thenReturn(target);
+        when(joinPoint.getSignature()).thenReturn(signature);
+        when(joinPoint.getArgs()).thenReturn(new Object[]{42L, "signed.token"});
+        when(joinPoint.proceed()).thenAnswer(invocation -> call.proceed());
+        return joinPoint;
+    }
+
+    private static Map<String, Object> keyValues(ILoggingEvent event) {
+        Map<String, Object> keyValues = new LinkedHashMap<>();
+        for (KeyValuePair pair : event.getKeyValuePairs()) {
+            keyValues.put(pair.key, pair.value);
+        }
+        return keyValues;
+    }
+
+    private interface Call {
+        Object proceed() throws Exception;
+    }
+
+    private static final class SampledService {
+    }
+
+    private static final class UnsampledService {
+    }
+}
@@ -0,0 +1,187 @@
+package com.suraj.sport.bookingservice.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import com.suraj.sport.bookingservice.BookingServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares concurrent-booking throughput with platform request threads (the default) and
+ * with virtual threads (the virtual-threads profile).
+ * <p>
+ * Each mode boots the service on a random port against a stub Event Service that answers
+ * GET /api/v1/event/{eventId} after event-latency-ms with a signed price quote. Bookings are
+ * posted without a quote token, so every one of them waits on that call — a burst of clients
+ * whose quotes have expired. With platform threads Tomcat can only have 200 such bookings
+ * in flight; with virtual threads the wait no longer holds a thread.
+ * <p>
+ * Results are printed rather than asserted. Run with:
+ * ./mvnw test -Pbenchmark -Dtest=ConcurrentBookingBenchmark
+ * and tune with -Dbenchmark.requests, -Dbenchmark.concurrency and -Dbenchmark.event-latency-ms.
+ */
+@Tag("benchmark")
+class ConcurrentBookingBenchmark {
+
+    private static final int REQUESTS = Integer.getInteger("benchmark.requests", 5000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 1000);
+    private static final int EVENT_LATENCY_MS = Integer.getInteger("benchmark.event-latency-ms", 50);
+    private static final int WARMUP_REQUESTS = 1000;
+
+    // Must match booking.price-quote.secret in application.yml
+    private static final String QUOTE_SECRET = "local-dev-price-quote-secret-not-for-production";
+
+    @Test
+    void compareExecutionModes() throws Exception {
+        HttpServer eventService = startEventServiceStub();
+        try {
+            String eventServiceUrl = "http://localhost:" + eventService.getAddress().getPort();
+            Result platform = run("platform", false, eventServiceUrl);
+            Result virtual = run("virtual", true, eventServiceUrl);
+
+            System.out.printf("%nConcurrent bookings — %d requests, %d in flight, Event Service latency %dms%n",
+                    REQUESTS, CONCURRENCY, EVENT_LATENCY_MS);
+            System.out.printf("%-10s %12s %10s %10s %8s%n", "mode", "bookings/s", "p50 (ms)", "p99 (ms)", "errors");
+            for (Result result : new Result[]{platform, virtual}) {
+                System.out.printf("%-10s %12.0f %10d %10d %8d%n", result.mode(), result.throughput(),
+                        result.p50Millis(), result.p99Millis(), result.errors());
+            }
+        } finally {
+            eventService.stop(0);
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private Result run(String mode, boolean virtualThreads, String eventServiceUrl) throws Exception {
+        // As command-line arguments — default properties would lose to application.yml
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookingServiceApplication.class)
+                .run("--server.port=0",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.datasource.url=jdbc:h2:mem:benchmark-" + mode,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--booking.pinning-audit.enabled=false",
+                        "--services.event.base-url=" + eventServiceUrl,
+                        "--logging.level.com.suraj.sport.bookingservice=WARN")) {
+            URI bookings = URI.create("http://localhost:"
+                    + context.getEnvironment().getProperty("local.server.port") + "/api/v1/booking");
+
+            fire(bookings, WARMUP_REQUESTS);
+            long startTime = System.nanoTime();
+            long[] latencies = new long[REQUESTS];
+            int errors = fire(bookings, latencies);
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+
+            Arrays.sort(latencies);
+            return new Result(mode, REQUESTS / seconds,
+                    latencies[REQUESTS / 2] / 1_000_000, latencies[REQUESTS * 99 / 100] / 1_000_000, errors);
+        }
+    }
+
+    private int fire(URI bookings, int requests) throws Exception {
+        return fire(bookings, new long[requests]);
+    }
+
+    /**
+     * Posts latencies.length bookings, at most CONCURRENCY at a time, recording each latency.
+     * Returns the number that did not succeed.
+     */
+    private int fire(URI bookings, long[] latencies) throws Exception {
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(CONCURRENCY);
+        // Closed in reverse order — every request has completed before the client shuts down
+        try (HttpClient httpClient = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+             ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < latencies.length; i++) {
+                int request = i;
+                inFlight.acquire();
+                clients.submit(() -> {
+                    long sentAt = System.nanoTime();
+                    try {
+                        HttpResponse<Void> response = httpClient.send(HttpRequest.newBuilder(bookings)
+                                        .header("Content-Type", "application/json")
+                                        .POST(HttpRequest.BodyPublishers.ofString(
+                                                "{\"userId\":" + (request % 500 + 1) + ",\"eventId\":1,\"seatsBooked\":1}"))
+                                        .build(),
+                                HttpResponse.BodyHandlers.discarding());
+                        if (response.statusCode() != 201) {
+                            errors.incrementAndGet();
+                        }
+                    } catch (Exception ex) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[request] = System.nanoTime() - sentAt;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return errors.get();
+    }
+
+    private HttpServer startEventServiceStub() throws Exception {
+        LocalDateTime eventDate = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.SECONDS);
+        Instant expiresAt = Instant.now().plus(1, ChronoUnit.HOURS).truncatedTo(ChronoUnit.SECONDS);
+        byte[] event = ("""
+                {"success":true,"message":"Event Retrieved Successfully","data":{"id":1,"sportType":"Football",\
+                "eventDate":"%s","status":"UPCOMING","priceQuote":{"eventId":1,"basePrice":50.0,\
+                "pricePerSeat":50.0,"expiresAt":"%s","token":"%s"}}}"""
+                .formatted(eventDate, expiresAt, quoteToken(eventDate, expiresAt)))
+                .getBytes(StandardCharsets.UTF_8);
+
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENCY);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/v1/event/", exchange -> {
+            try {
+                Thread.sleep(EVENT_LATENCY_MS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+            }
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, event.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(event);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    /**
+     * Signs a quote the way Event Service's PriceQuoteSigner does.
+     */
+    private String quoteToken(LocalDateTime eventDate, Instant expiresAt) throws Exception {
+        byte[] payload = ("1|5000|" + expiresAt.getEpochSecond() + "|" + eventDate + "|Football")
+                .getBytes(StandardCharsets.UTF_8);
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(QUOTE_SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        Base64.Encoder base64 = Base64.getUrlEncoder().withoutPadding();
+        return base64.encodeToString(payload) + "." + base64.encodeToString(mac.doFinal(payload));
+    }
+
+    private record Result(String mode, double throughput, long p50Millis, long p99Millis, int errors) {
+    }
+}
@@ -0,0 +1,135 @@
+package com.suraj.sport.bookingservice.benchmark;
+
+import com.suraj.sport.bookingservice.BookingServiceApplication;
+import com.suraj.sport.bookingservice.entity.Booking;
+import com.suraj.sport.bookingservice.entity.BookingStatus;
+import com.suraj.sport.bookingservice.repository.BookingRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Write throughput of the default (dev) persistence settings against the prod profile.
+ * <p>
+ * Each run starts the booking-service context without the web layer, inserts bookings
+ * in transactions of CHUNK rows and then confirms them all — the same shape as the
+ * expiry scheduler and bulk cancellation paths. The prepared statement count comes from
+ * Hibernate statistics: with JDBC batching one statement carries up to batch_size rows.
+ * <p>
+ * Results are printed rather than asserted. Run with: ./mvnw test -Pbenchmark
+ */
+@Tag("benchmark")
+class PersistenceProfileBenchmark {
+
+    private static final int ROWS = 10_000;
+    private static final int CHUNK = 500;
+    private static final int WARMUP_ROUNDS = 1;
+    private static final int MEASURED_ROUNDS = 3;
+
+    @TempDir
+    Path dataDir;
+
+    @Test
+    void compareDefaultAndProdProfiles() {
+        Result dev = run("default", new SpringApplicationBuilder(BookingServiceApplication.class),
+                "--spring.datasource.url=jdbc:h2:mem:benchmark-default");
+
+        // Passed as an argument so it outranks the url in application-prod.yml
+        Result prod = run("prod", new SpringApplicationBuilder(BookingServiceApplication.class).profiles("prod"),
+                "--spring.datasource.url=jdbc:h2:file:" + dataDir.resolve("bookingdb")
+                        + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH");
+
+        System.out.printf("%n%-10s %15s %15s %22s %22s%n",
+                "profile", "inserts/s", "updates/s", "insert statements", "update statements");
+        for (Result result : List.of(dev, prod)) {
+            System.out.printf("%-10s %15.0f %15.0f %22d %22d%n", result.profile(),
+                    result.insertsPerSecond(), result.updatesPerSecond(),
+                    result.insertStatements(), result.updateStatements());
+        }
+        System.out.printf("(%d rows per round, %d measured rounds, transactions of %d rows)%n%n",
+                ROWS, MEASURED_ROUNDS, CHUNK);
+    }
+
+    private Result run(String profile, SpringApplicationBuilder builder, String datasourceUrlArg) {
+        try (ConfigurableApplicationContext context = builder
+                .web(WebApplicationType.NONE)
+                .properties("spring.jpa.properties.hibernate.generate_statistics=true",
+                        "booking.expiry.poll-interval=PT1H")
+                .run(datasourceUrlArg)) {
+
+            BookingRepository repository = context.getBean(BookingRepository.class);
+            TransactionTemplate transactionTemplate = context.getBean(TransactionTemplate.class);
+            Statistics statistics = context.getBean(EntityManagerFactory.class)
+                    .unwrap(SessionFactory.class)
+                    .getStatistics();
+
+            for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                confirmAll(repository, transactionTemplate, insertAll(repository, transactionTemplate));
+            }
+
+            long insertNanos = 0;
+            long updateNanos = 0;
+            long insertStatements = 0;
+            long updateStatements = 0;
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                statistics.clear();
+                long start = System.nanoTime();
+                List<Long> ids = insertAll(repository, transactionTemplate);
+                insertNanos += System.nanoTime() - start;
+                insertStatements += statistics.getPrepareStatementCount();
+
+                statistics.clear();
+                start = System.nanoTime();
+                confirmAll(repository, transactionTemplate, ids);
+                updateNanos += System.nanoTime() - start;
+                updateStatements += statistics.getPrepareStatementCount();
+            }
+
+            double rows = (double) ROWS * MEASURED_ROUNDS;
+            return new Result(profile, rows / (insertNanos / 1e9), rows / (updateNanos / 1e9),
+                    insertStatements / MEASURED_ROUNDS, updateStatements / MEASURED_ROUNDS);
+        }
+    }
+
+    private List<Long> insertAll(BookingRepository repository, TransactionTemplate transactionTemplate) {
+        List<Long> ids = new ArrayList<>(ROWS);
+        for (int offset = 0; offset < ROWS; offset += CHUNK) {
+            List<Booking> chunk = new ArrayList<>(CHUNK);
+            for (int i = 0; i < CHUNK; i++) {
+                chunk.add(Booking.builder()
+                        .userId((long) (offset + i))
+                        .eventId(1L)
+                        .seatsBooked(2)
+                        .pricePerSeat(50.0)
+                        .totalAmount(100.0)
+                        .bookingStatus(BookingStatus.PENDING)
+                        .build());
+            }
+            transactionTemplate.executeWithoutResult(status ->
+                    repository.saveAll(chunk).forEach(saved -> ids.add(saved.getId())));
+        }
+        return ids;
+    }
+
+    private void confirmAll(BookingRepository repository, TransactionTemplate transactionTemplate, List<Long> ids) {
+        for (int offset = 0; offset < ids.size(); offset += CHUNK) {
+            List<Long> chunk = ids.subList(offset, Math.min(offset + CHUNK, ids.size()));
+            transactionTemplate.executeWithoutResult(status ->
+                    repository.findAllById(chunk).forEach(booking -> booking.setBookingStatus(BookingStatus.CONFIRMED)));
+        }
+    }
+
+    private record Result(String profile, double insertsPerSecond, double updatesPerSecond,
+                          long insertStatements, long updateStatements) {}
+}
@@ -0,0 +1,187 @@
+package com.suraj.sport.bookingservice.benchmark;
+
+import com.sun.net.httpserver.HttpServer;
+import com.suraj.sport.bookingservice.BookingServiceApplication;
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Compares the cost of a seat command (restoreSeats) on the booking side over REST —
+ * PATCH /restore-seats, JSON ApiResult reply — and over the binary seat command port.
+ * <p>
+ * Each transport boots the service against stubs of Event Service that answer at once and
+ * do no work, so what is measured is the client: building and sending the request,
+ * connection handling, and reading the reply. Commands are sent one at a time (latency) and
+ * then benchmark.concurrency at a time from virtual threads (throughput).
+ * <p>
+ * Results are printed rather than asserted. Run with:
+ * ./mvnw test -Pbenchmark -Dtest=SeatCommandBenchmark
+ * and tune with -Dbenchmark.commands and -Dbenchmark.concurrency.
+ */
+@Tag("benchmark")
+class SeatCommandBenchmark {
+
+    private static final int COMMANDS = Integer.getInteger("benchmark.commands", 20000);
+    private static final int CONCURRENCY = Integer.getInteger("benchmark.concurrency", 64);
+    private static final int WARMUP_COMMANDS = 5000;
+
+    // Must match SeatCommandFrame
+    private static final int COMMAND_SIZE = 49;
+    private static final int REPLY_SIZE = 16;
+
+    @Test
+    void compareTransports() throws Exception {
+        HttpServer restStub = startRestStub();
+        ServerSocketChannel seatCommandStub = startSeatCommandStub();
+        try {
+            String baseUrl = "http://localhost:" + restStub.getAddress().getPort();
+            int seatCommandPort = ((InetSocketAddress) seatCommandStub.getLocalAddress()).getPort();
+            Result rest = run("rest", baseUrl, seatCommandPort);
+            Result binary = run("binary", baseUrl, seatCommandPort);
+
+            System.out.printf("%nrestoreSeats - %d commands, sequential then %d in flight%n", COMMANDS, CONCURRENCY);
+            System.out.printf("%-8s %10s %10s %14s %8s%n", "transport", "p50 (us)", "p99 (us)", "commands/s", "errors");
+            for (Result result : new Result[]{rest, binary}) {
+                System.out.printf("%-8s %10d %10d %14.0f %8d%n", result.transport(), result.p50Micros(),
+                        result.p99Micros(), result.throughput(), result.errors());
+            }
+        } finally {
+            restStub.stop(0);
+            seatCommandStub.close();
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private Result run(String transport, String baseUrl, int seatCommandPort) throws Exception {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(BookingServiceApplication.class)
+                .run("--server.port=0",
+                        "--spring.datasource.url=jdbc:h2:mem:seat-command-benchmark-" + transport,
+                        "--spring.jpa.show-sql=false",
+                        "--spring.h2.console.enabled=false",
+                        "--booking.pinning-audit.enabled=false",
+                        "--services.event.transport=" + transport,
+                        "--services.event.base-url=" + baseUrl,
+                        "--services.event.seat-commands.port=" + seatCommandPort,
+                        "--logging.level.com.suraj.sport.bookingservice=WARN")) {
+            EventServiceClient client = context.getBean(EventServiceClient.class);
+
+            send(client, new long[WARMUP_COMMANDS], 1);
+            long[] latencies = new long[COMMANDS];
+            send(client, latencies, 1);
+            Arrays.sort(latencies);
+
+            long startTime = System.nanoTime();
+            int errors = send(client, new long[COMMANDS], CONCURRENCY);
+            double seconds = (System.nanoTime() - startTime) / 1e9;
+
+            return new Result(transport, latencies[COMMANDS / 2] / 1000, latencies[COMMANDS * 99 / 100] / 1000,
+                    COMMANDS / seconds, errors);
+        }
+    }
+
+    /**
+     * Sends latencies.length restoreSeats commands, at most concurrency at a time, recording
+     * each latency. Returns the number that failed.
+     */
+    private int send(EventServiceClient client, long[] latencies, int concurrency) throws Exception {
+        AtomicInteger errors = new AtomicInteger();
+        Semaphore inFlight = new Semaphore(concurrency);
+        try (ExecutorService callers = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int i = 0; i < latencies.length; i++) {
+                int command = i;
+                inFlight.acquire();
+                callers.submit(() -> {
+                    long sentAt = System.nanoTime();
+                    try {
+                        client.restoreSeats(1L, 1);
+                    } catch (RuntimeException ex) {
+                        errors.incrementAndGet();
+                    } finally {
+                        latencies[command] = System.nanoTime() - sentAt;
+                        inFlight.release();
+                    }
+                });
+            }
+        }
+        return errors.get();
+    }
+
+    private HttpServer startRestStub() throws IOException {
+        byte[] restored = "{\"success\":true,\"message\":\"Seats Restored Successfully\",\"data\":null}"
+                .getBytes(StandardCharsets.UTF_8);
+        HttpServer server = HttpServer.create(new InetSocketAddress("localhost", 0), CONCURRENCY);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/api/v1/event/", exchange -> {
+            exchange.getResponseHeaders().set("Content-Type", "application/json");
+            exchange.sendResponseHeaders(200, restored.length);
+            try (OutputStream body = exchange.getResponseBody()) {
+                body.write(restored);
+            }
+        });
+        server.start();
+        return server;
+    }
+
+    /**
+     * Answers every command on a connection with a 200 reply, in the order received.
+     */
+    private ServerSocketChannel startSeatCommandStub() throws IOException {
+        ServerSocketChannel server = ServerSocketChannel.open().bind(new InetSocketAddress("localhost", 0));
+        Thread.ofVirtual().start(() -> {
+            while (server.isOpen()) {
+                try {
+                    SocketChannel connection = server.accept();
+                    Thread.ofVirtual().start(() -> answer(connection));
+                } catch (IOException ex) {
+                    return;
+                }
+            }
+        });
+        return server;
+    }
+
+    private void answer(SocketChannel connection) {
+        ByteBuffer command = ByteBuffer.allocate(COMMAND_SIZE);
+        ByteBuffer reply = ByteBuffer.allocate(REPLY_SIZE);
+        try (connection) {
+            while (true) {
+                command.clear();
+                while (command.hasRemaining()) {
+                    if (connection.read(command) < 0) {
+                        return;
+                    }
+                }
+                long requestId = command.getLong(Integer.BYTES);
+                reply.clear().putInt(REPLY_SIZE - Integer.BYTES).putLong(requestId).putShort((short) 200).putShort((short) 0);
+                reply.flip();
+                while (reply.hasRemaining()) {
+                    connection.write(reply);
+                }
+            }
+        } catch (IOException ignored) {
+            // Client disconnected
+        }
+    }
+
+    private record Result(String transport, long p50Micros, long p99Micros, double throughput, int errors) {
+    }
+}
@@ -0,0 +1,87 @@
+package com.suraj.sport.bookingservice.client.impl;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeatCommandFrameTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String SPAN_ID = "00f067aa0ba902b7";
+
+    @Test
+    void encodesACommandWithTheCallersTrace() {
+        ByteBuffer buffer = ByteBuffer.allocate(SeatCommandFrame.COMMAND_SIZE);
+
+        SeatCommandFrame.encodeCommand(buffer, 7L, SeatCommandFrame.REDUCE_SEATS, 42L, 3, TRACE_ID, SPAN_ID);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        buffer.flip();
+        assertThat(buffer.getInt()).isEqualTo(45);
+        assertThat(buffer.getLong()).isEqualTo(7L);
+        assertThat(buffer.get()).isEqualTo(SeatCommandFrame.REDUCE_SEATS);
+        assertThat(buffer.getLong()).isEqualTo(42L);
+        assertThat(buffer.getInt()).isEqualTo(3);
+        byte[] traceAndSpan = new byte[24];
+        buffer.get(traceAndSpan);
+        assertThat(HexFormat.of().formatHex(traceAndSpan)).isEqualTo(TRACE_ID + SPAN_ID);
+    }
+
+    @Test
+    void encodesZeroIdsWithoutATrace() {
+        ByteBuffer buffer = ByteBuffer.allocate(SeatCommandFrame.COMMAND_SIZE);
+
+        SeatCommandFrame.encodeCommand(buffer, 8L, SeatCommandFrame.RESTORE_SEATS, 42L, 1, null, null);
+
+        assertThat(buffer.hasRemaining()).isFalse();
+        byte[] traceAndSpan = new byte[24];
+        buffer.position(SeatCommandFrame.COMMAND_SIZE - 24).get(traceAndSpan);
+        assertThat(traceAndSpan).containsOnly(0);
+    }
+
+    @Test
+    void acceptsReplyLengthsWithinTheProtocol() {
+        assertThat(SeatCommandFrame.replyLength(ByteBuffer.allocate(4).putInt(0, 12))).isEqualTo(12);
+        assertThat(SeatCommandFrame.replyLength(ByteBuffer.allocate(4).putInt(0, 12 + SeatCommandFrame.MAX_MESSAGE_BYTES)))
+                .isEqualTo(12 + SeatCommandFrame.MAX_MESSAGE_BYTES);
+        assertThatThrownBy(() -> SeatCommandFrame.replyLength(ByteBuffer.allocate(4).putInt(0, 11)))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> SeatCommandFrame.replyLength(ByteBuffer.allocate(4).putInt(0, 13 + SeatCommandFrame.MAX_MESSAGE_BYTES)))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void decodesAReply() {
+        byte[] message = "Only 2 seats left — requested 3".getBytes(StandardCharsets.UTF_8);
+        ByteBuffer body = ByteBuffer.allocate(12 + message.length)
+                .putLong(7L)
+                .putShort((short) 409)
+                .putShort((short) message.length)
+                .put(message)
+                .flip();
+
+        SeatCommandFrame.Reply reply = SeatCommandFrame.decodeReply(body);
+
+        assertThat(reply.requestId()).isEqualTo(7L);
+        assertThat(reply.status()).isEqualTo(409);
+        assertThat(reply.message()).isEqualTo("Only 2 seats left — requested 3");
+    }
+
+    @Test
+    void decodesAnEmptyReplyFromTheMiddleOfABuffer() {
+        ByteBuffer buffer = ByteBuffer.allocate(32);
+        buffer.position(8);
+        ByteBuffer body = buffer.slice().putLong(9L).putShort((short) 200).putShort((short) 0).flip();
+
+        SeatCommandFrame.Reply reply = SeatCommandFrame.decodeReply(body);
+
+        assertThat(reply.requestId()).isEqualTo(9L);
+        assertThat(reply.status()).isEqualTo(200);
+        assertThat(reply.message()).isEmpty();
+    }
+}
@@ -0,0 +1,79 @@
+package com.suraj.sport.bookingservice.logging;
+
+import com.suraj.sport.bookingservice.config.LoggingProperties;
+import com.suraj.sport.bookingservice.dto.request.CreateBookingRequest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ArgumentMaskerTest {
+
+    private final ArgumentMasker masker = masker(List.of("priceQuote", "cancellationReason"), 256);
+
+    @Test
+    void masksArgumentsWithAMaskedParameterName() {
+        String rendered = masker.render(new String[]{"bookingId", "cancellationReason"},
+                new Object[]{42L, "card stolen, call 555-0100"});
+
+        assertThat(rendered).isEqualTo("[bookingId=42, cancellationReason=****]");
+    }
+
+    @Test
+    void masksFieldsInsideLombokToString() {
+        CreateBookingRequest request = CreateBookingRequest.builder()
+                .userId(1L)
+                .eventId(2L)
+                .seatsBooked(3)
+                .priceQuote("eyJldmVudElkIjoyfQ.c2lnbmF0dXJl")
+                .build();
+
+        String rendered = masker.render(new String[]{"request"}, new Object[]{request});
+
+        assertThat(rendered).isEqualTo(
+                "[request=CreateBookingRequest(userId=1, eventId=2, seatsBooked=3, priceQuote=****)]");
+    }
+
+    @Test
+    void onlyMasksWholeFieldNames() {
+        String rendered = masker.render(new String[]{"note"},
+                new Object[]{"Note(notpriceQuote=abc, priceQuote=def, priceQuoteId=7)"});
+
+        assertThat(rendered).isEqualTo("[note=Note(notpriceQuote=abc, priceQuote=****, priceQuoteId=7)]");
+    }
+
+    @Test
+    void rendersNullsAndFallsBackToPositionalNames() {
+        assertThat(masker.render(null, new Object[]{null, 5})).isEqualTo("[arg0=null, arg1=5]");
+        assertThat(masker.render(new String[0], new Object[0])).isEqualTo("[]");
+    }
+
+    @Test
+    void truncatesLongArgumentsAfterMasking() {
+        ArgumentMasker shortMasker = masker(List.of("priceQuote"), 20);
+
+        String rendered = shortMasker.render(new String[]{"text"}, new Object[]{"priceQuote=" + "x".repeat(100)});
+
+        assertThat(rendered).isEqualTo("[text=priceQuote=****]");
+        assertThat(shortMasker.render(new String[]{"text"}, new Object[]{"y".repeat(30)}))
+                .isEqualTo("[text=" + "y".repeat(20) + "...]");
+    }
+
+    @Test
+    void masksNothingWithoutMaskedFields() {
+        assertThat(masker(List.of(), 256).render(new String[]{"priceQuote"}, new Object[]{"token"}))
+                .isEqualTo("[priceQuote=token]");
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static ArgumentMasker masker(List<String> maskedFields, int maxArgumentLength) {
+        LoggingProperties properties = new LoggingProperties();
+        properties.setMaskedFields(maskedFields);
+        properties.setMaxArgumentLength(maxArgumentLength);
+        return new ArgumentMasker(properties);
+    }
+}
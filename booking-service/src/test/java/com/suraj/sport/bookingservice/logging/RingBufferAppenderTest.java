@@ -0,0 +1,164 @@
+package com.suraj.sport.bookingservice.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.classic.util.LogbackMDCAdapter;
+import ch.qos.logback.core.AppenderBase;
+import ch.qos.logback.core.read.ListAppender;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class RingBufferAppenderTest {
+
+    private final LoggerContext context = loggerContext();
+    private final Logger logger = context.getLogger(RingBufferAppenderTest.class);
+    private final RingBufferAppender ringAppender = new RingBufferAppender();
+
+    @AfterEach
+    void stop() {
+        ringAppender.stop();
+        context.stop();
+    }
+
+    @Test
+    void ringHandsEventsOverInOrderAndRefusesWhenFull() {
+        LogEventRing<Integer> ring = new LogEventRing<>(4);
+        for (int i = 0; i < 4; i++) {
+            assertThat(ring.offer(i)).isTrue();
+        }
+        assertThat(ring.offer(4)).isFalse();
+        assertThat(ring.remainingCapacity()).isZero();
+
+        assertThat(ring.poll()).isZero();
+        assertThat(ring.offer(4)).isTrue();
+        List<Integer> drained = new ArrayList<>();
+        for (Integer value = ring.poll(); value != null; value = ring.poll()) {
+            drained.add(value);
+        }
+        assertThat(drained).containsExactly(1, 2, 3, 4);
+        assertThat(ring.isEmpty()).isTrue();
+    }
+
+    @Test
+    void ringCapacityMustBeAPowerOfTwo() {
+        assertThatThrownBy(() -> new LogEventRing<>(6)).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> new LogEventRing<>(1)).isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void deliversEveryEventFromConcurrentProducers() throws Exception {
+        ListAppender<ILoggingEvent> target = new ListAppender<>();
+        start(target, 64, -1);
+
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < 4; p++) {
+            int producer = p;
+            producers.add(Thread.ofPlatform().start(() -> {
+                for (int i = 0; i < 500; i++) {
+                    ringAppender.doAppend(event(Level.WARN, producer + ":" + i));
+                }
+            }));
+        }
+        for (Thread producer : producers) {
+            producer.join();
+        }
+        ringAppender.stop();
+
+        // Producers may outrun the drain thread — whatever was not delivered must be reported
+        long delivered = 0;
+        long discarded = 0;
+        for (ILoggingEvent event : target.list) {
+            if (event.getLoggerName().equals(RingBufferAppender.class.getName())) {
+                discarded += (Long) event.getArgumentArray()[0];
+            } else {
+                delivered++;
+            }
+        }
+        assertThat(delivered + discarded).isEqualTo(2000);
+    }
+
+    @Test
+    void discardsBelowWarnFirstAndReportsTheCount() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        CountDownLatch firstTaken = new CountDownLatch(1);
+        ListAppender<ILoggingEvent> target = new ListAppender<>();
+        target.start();
+        AppenderBase<ILoggingEvent> blocking = new AppenderBase<>() {
+            @Override
+            protected void append(ILoggingEvent event) {
+                firstTaken.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException ex) {
+                    Thread.currentThread().interrupt();
+                }
+                target.doAppend(event);
+            }
+        };
+        start(blocking, 8, 4);
+
+        // The drain thread takes the first event and blocks on it, so the ring stays put
+        ringAppender.doAppend(event(Level.INFO, "first"));
+        assertThat(firstTaken.await(5, TimeUnit.SECONDS)).isTrue();
+
+        for (int i = 0; i < 6; i++) {
+            ringAppender.doAppend(event(Level.INFO, "info " + i));
+        }
+        for (int i = 0; i < 10; i++) {
+            ringAppender.doAppend(event(Level.ERROR, "error " + i));
+        }
+        release.countDown();
+        ringAppender.stop();
+
+        // INFO is taken while at least 4 of the 8 slots are free, ERROR until the ring is full
+        assertThat(target.list).extracting(ILoggingEvent::getFormattedMessage).containsExactly(
+                "first", "info 0", "info 1", "info 2", "info 3", "info 4",
+                "error 0", "error 1", "error 2",
+                "Discarded 8 log events — the log ring buffer was full");
+    }
+
+    @Test
+    void refusesToStartWithoutAnAttachedAppender() {
+        ringAppender.setContext(context);
+        ringAppender.start();
+
+        assertThat(ringAppender.isStarted()).isFalse();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    // A bare context has no MDC adapter, and events need one to be prepared for the drain thread
+    private static LoggerContext loggerContext() {
+        LoggerContext context = new LoggerContext();
+        context.setMDCAdapter(new LogbackMDCAdapter());
+        return context;
+    }
+
+    private void start(AppenderBase<ILoggingEvent> target, int capacity, int discardingThreshold) {
+        target.setContext(context);
+        target.start();
+        ringAppender.setContext(context);
+        ringAppender.setName("test");
+        ringAppender.setCapacity(capacity);
+        ringAppender.setDiscardingThreshold(discardingThreshold);
+        ringAppender.addAppender(target);
+        ringAppender.start();
+    }
+
+    private ILoggingEvent event(Level level, String message) {
+        return new LoggingEvent(Logger.FQCN, logger, level, message, null, null);
+    }
+}
@@ -0,0 +1,106 @@
+package com.suraj.sport.bookingservice.policy;
+
+import com.suraj.sport.bookingservice.config.CancellationPolicyProperties;
+import com.suraj.sport.bookingservice.entity.Booking;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static com.suraj.sport.bookingservice.policy.CancellationPolicyTest.definition;
+import static com.suraj.sport.bookingservice.policy.CancellationPolicyTest.tier;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CancellationPolicyRegistryTest {
+
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2030, 5, 25, 19, 30);
+
+    @Test
+    void resolvesEventThenSportTypeThenDefaultAtTheHighestVersion() {
+        CancellationPolicyRegistry registry = registry(
+                definition("standard", 1, tier("P7D", 100), tier("PT0S", 0)),
+                definition("standard", 2, tier("P3D", 100), tier("PT0S", 0)),
+                sportType(definition("cricket", 2, tier("P1D", 100)), "Cricket"),
+                sportType(definition("cricket", 1, tier("P2D", 100)), "cricket"),
+                event(definition("ipl-final", 1, tier("P14D", 100)), 42L));
+
+        assertThat(registry.activePolicyFor(42L, "Cricket").key()).isEqualTo("ipl-final/v1");
+        assertThat(registry.activePolicyFor(7L, "CRICKET").key()).isEqualTo("cricket/v2");
+        assertThat(registry.activePolicyFor(7L, "Football").key()).isEqualTo("standard/v2");
+        assertThat(registry.activePolicyFor(7L, null).key()).isEqualTo("standard/v2");
+    }
+
+    @Test
+    void keepsTheRefundTermsTheBookingWasMadeUnder() {
+        CancellationPolicyRegistry registry = registry(
+                definition("standard", 1, tier("P7D", 100), tier("PT0S", 50)),
+                definition("standard", 2, tier("P7D", 100), tier("PT0S", 0)));
+        Booking booking = booking("standard/v1");
+
+        CancellationPolicy policy = registry.policyOf(booking);
+
+        assertThat(policy.key()).isEqualTo("standard/v1");
+        assertThat(policy.refundPercent(EVENT_DATE, EVENT_DATE.minusDays(1))).isEqualTo(50);
+    }
+
+    @Test
+    void fallsBackToTheActivePolicyForUnknownOrMissingVersions() {
+        CancellationPolicyRegistry registry = registry(definition("standard", 2, tier("PT0S", 0)));
+
+        assertThat(registry.policyOf(booking("standard/v1")).key()).isEqualTo("standard/v2");
+        assertThat(registry.policyOf(booking(null)).key()).isEqualTo("standard/v2");
+    }
+
+    @Test
+    void refundsInFullUntilTheEventStartsWithoutADefaultPolicy() {
+        CancellationPolicyRegistry registry = registry();
+
+        CancellationPolicy policy = registry.activePolicyFor(7L, "Cricket");
+
+        assertThat(policy.key()).isEqualTo("full-refund/v0");
+        assertThat(policy.refundPercent(EVENT_DATE, EVENT_DATE.minusSeconds(1))).isEqualTo(100);
+        assertThat(policy.refundPercent(EVENT_DATE, EVENT_DATE.plusSeconds(1)))
+                .isEqualTo(CancellationPolicy.PAST_DEADLINE);
+    }
+
+    @Test
+    void rejectsAVersionDefinedTwice() {
+        assertThatThrownBy(() -> registry(
+                definition("standard", 1, tier("PT0S", 0)),
+                definition("standard", 1, tier("P1D", 100))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cancellation policy standard/v1 is defined twice");
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static CancellationPolicyRegistry registry(CancellationPolicyProperties.Definition... definitions) {
+        CancellationPolicyProperties properties = new CancellationPolicyProperties();
+        properties.setPolicies(List.of(definitions));
+        return new CancellationPolicyRegistry(properties);
+    }
+
+    private static CancellationPolicyProperties.Definition sportType(
+            CancellationPolicyProperties.Definition definition, String sportType) {
+        definition.setSportType(sportType);
+        return definition;
+    }
+
+    private static CancellationPolicyProperties.Definition event(
+            CancellationPolicyProperties.Definition definition, Long eventId) {
+        definition.setEventId(eventId);
+        return definition;
+    }
+
+    private static Booking booking(String cancellationPolicy) {
+        return Booking.builder()
+                .id(1L)
+                .eventId(7L)
+                .sportType("Football")
+                .cancellationPolicy(cancellationPolicy)
+                .build();
+    }
+}
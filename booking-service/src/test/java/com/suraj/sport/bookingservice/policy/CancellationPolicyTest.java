@@ -0,0 +1,84 @@
+package com.suraj.sport.bookingservice.policy;
+
+import com.suraj.sport.bookingservice.config.CancellationPolicyProperties;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CancellationPolicyTest {
+
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2030, 5, 25, 19, 30);
+
+    // Tiers deliberately out of order — compile sorts them
+    private final CancellationPolicy standard = CancellationPolicy.compile(definition("standard", 1,
+            tier("PT2H", 0), tier("P7D", 100), tier("P2D", 50)));
+
+    @Test
+    void appliesTheTierOfTheLargestBoundaryAlreadyReached() {
+        assertThat(refundPercentAt(Duration.ofDays(30))).isEqualTo(100);
+        assertThat(refundPercentAt(Duration.ofDays(7))).isEqualTo(100);
+        assertThat(refundPercentAt(Duration.ofDays(7).minusSeconds(1))).isEqualTo(50);
+        assertThat(refundPercentAt(Duration.ofDays(2))).isEqualTo(50);
+        assertThat(refundPercentAt(Duration.ofDays(1))).isZero();
+        assertThat(refundPercentAt(Duration.ofHours(2))).isZero();
+    }
+
+    @Test
+    void refusesCancellationsCloserThanTheSmallestTier() {
+        assertThat(refundPercentAt(Duration.ofHours(2).minusSeconds(1))).isEqualTo(CancellationPolicy.PAST_DEADLINE);
+        assertThat(refundPercentAt(Duration.ZERO)).isEqualTo(CancellationPolicy.PAST_DEADLINE);
+        assertThat(refundPercentAt(Duration.ofHours(-1))).isEqualTo(CancellationPolicy.PAST_DEADLINE);
+        assertThat(standard.deadline(EVENT_DATE)).isEqualTo(EVENT_DATE.minusHours(2));
+    }
+
+    @Test
+    void identifiesThePolicyByNameAndVersion() {
+        assertThat(standard.key()).isEqualTo("standard/v1");
+    }
+
+    @Test
+    void rejectsDefinitionsThatCannotBeEvaluated() {
+        assertThatThrownBy(() -> CancellationPolicy.compile(definition("empty", 1)))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cancellation policy empty/v1 has no tiers");
+        assertThatThrownBy(() -> CancellationPolicy.compile(definition("generous", 1, tier("P1D", 120))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("invalid tier");
+        assertThatThrownBy(() -> CancellationPolicy.compile(definition("late", 1, tier("-PT1H", 0))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("invalid tier");
+        assertThatThrownBy(() -> CancellationPolicy.compile(definition("twice", 2,
+                tier("PT48H", 50), tier("P2D", 25))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessage("Cancellation policy twice/v2 has two tiers at PT48H");
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private int refundPercentAt(Duration beforeEvent) {
+        return standard.refundPercent(EVENT_DATE, EVENT_DATE.minus(beforeEvent));
+    }
+
+    static CancellationPolicyProperties.Definition definition(String name, int version,
+                                                              CancellationPolicyProperties.Tier... tiers) {
+        CancellationPolicyProperties.Definition definition = new CancellationPolicyProperties.Definition();
+        definition.setName(name);
+        definition.setVersion(version);
+        definition.setTiers(List.of(tiers));
+        return definition;
+    }
+
+    static CancellationPolicyProperties.Tier tier(String before, int refundPercent) {
+        CancellationPolicyProperties.Tier tier = new CancellationPolicyProperties.Tier();
+        tier.setBefore(Duration.parse(before));
+        tier.setRefundPercent(refundPercent);
+        return tier;
+    }
+}
@@ -0,0 +1,141 @@
+package com.suraj.sport.bookingservice.pricing;
+
+import com.suraj.sport.bookingservice.config.PriceQuoteProperties;
+import com.suraj.sport.bookingservice.exception.InvalidPriceQuoteException;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceQuoteVerifierTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2030, 6, 1, 18, 30);
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+
+    private final PriceQuoteVerifier verifier = new PriceQuoteVerifier(properties(SECRET));
+
+    @Test
+    void verifiesATokenSignedWithTheSharedSecret() {
+        Instant expiresAt = Instant.now().plus(2, ChronoUnit.MINUTES);
+
+        PriceQuote quote = verifier.verify(token(SECRET, "7|12550|" + expiresAt.getEpochSecond() + "|" + EVENT_DATE + "|Football"), 7L);
+
+        assertThat(quote.eventId()).isEqualTo(7L);
+        assertThat(quote.pricePerSeat()).isEqualTo(125.5);
+        assertThat(quote.expiresAt()).isEqualTo(expiresAt.truncatedTo(ChronoUnit.SECONDS));
+        assertThat(quote.eventDate()).isEqualTo(EVENT_DATE);
+        assertThat(quote.sportType()).isEqualTo("Football");
+    }
+
+    @Test
+    void keepsAPipeInTheSportType() {
+        PriceQuote quote = verifier.verify(token(SECRET, payload(7, 100, future()) + "|Rugby|Sevens"), 7L);
+
+        assertThat(quote.sportType()).isEqualTo("Rugby|Sevens");
+    }
+
+    @Test
+    void returnsNullWithoutAToken() {
+        assertThat(verifier.verify(null, 7L)).isNull();
+        assertThat(verifier.verify(" ", 7L)).isNull();
+    }
+
+    @Test
+    void returnsNullForAnExpiredQuoteButDecodeStillAcceptsIt() {
+        String token = token(SECRET, payload(7, 100, Instant.now().minusSeconds(1)) + "|Football");
+
+        assertThat(verifier.verify(token, 7L)).isNull();
+        assertThat(verifier.decode(token, 7L).pricePerSeat()).isEqualTo(1.0);
+    }
+
+    @Test
+    void rejectsATamperedPayload() {
+        String token = token(SECRET, payload(7, 12550, future()) + "|Football");
+        String signature = token.substring(token.indexOf('.'));
+        String cheaper = BASE64.encodeToString((payload(7, 100, future()) + "|Football").getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> verifier.verify(cheaper + signature, 7L))
+                .isInstanceOf(InvalidPriceQuoteException.class)
+                .hasMessage("Price quote signature is invalid");
+    }
+
+    @Test
+    void rejectsATokenSignedWithAnotherSecret() {
+        String token = token("fedcba9876543210fedcba9876543210", payload(7, 12550, future()) + "|Football");
+
+        assertThatThrownBy(() -> verifier.verify(token, 7L))
+                .isInstanceOf(InvalidPriceQuoteException.class)
+                .hasMessage("Price quote signature is invalid");
+    }
+
+    @Test
+    void rejectsAQuoteOfAnotherEvent() {
+        String token = token(SECRET, payload(8, 12550, future()) + "|Football");
+
+        assertThatThrownBy(() -> verifier.verify(token, 7L))
+                .isInstanceOf(InvalidPriceQuoteException.class)
+                .hasMessage("Price quote was issued for event 8");
+    }
+
+    @Test
+    void rejectsAMalformedToken() {
+        assertThatThrownBy(() -> verifier.verify("no-separator", 7L))
+                .isInstanceOf(InvalidPriceQuoteException.class)
+                .hasMessage("Price quote is malformed");
+        assertThatThrownBy(() -> verifier.verify("not*base64.sig", 7L))
+                .isInstanceOf(InvalidPriceQuoteException.class)
+                .hasMessage("Price quote is malformed");
+    }
+
+    @Test
+    void refusesAMissingOrShortSecret() {
+        assertThatThrownBy(() -> new PriceQuoteVerifier(properties(null)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new PriceQuoteVerifier(properties("")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new PriceQuoteVerifier(properties("x".repeat(PriceQuoteVerifier.MIN_SECRET_BYTES - 1))))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("at least");
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static PriceQuoteProperties properties(String secret) {
+        PriceQuoteProperties properties = new PriceQuoteProperties();
+        properties.setSecret(secret);
+        return properties;
+    }
+
+    private static Instant future() {
+        return Instant.now().plus(2, ChronoUnit.MINUTES);
+    }
+
+    private static String payload(long eventId, long priceInCents, Instant expiresAt) {
+        return eventId + "|" + priceInCents + "|" + expiresAt.getEpochSecond() + "|" + EVENT_DATE;
+    }
+
+    /**
+     * Signs a payload the way Event Service's PriceQuoteSigner does.
+     */
+    private static String token(String secret, String payload) {
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+            return BASE64.encodeToString(bytes) + "." + BASE64.encodeToString(mac.doFinal(bytes));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.suraj.sport.bookingservice.service.impl;
+
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.client.PaymentServiceClient;
+import com.suraj.sport.bookingservice.entity.Booking;
+import com.suraj.sport.bookingservice.entity.BookingStatus;
+import com.suraj.sport.bookingservice.entity.WaitlistEntry;
+import com.suraj.sport.bookingservice.entity.WaitlistStatus;
+import com.suraj.sport.bookingservice.repository.BookingRepository;
+import com.suraj.sport.bookingservice.repository.WaitlistEntryRepository;
+import com.suraj.sport.bookingservice.service.BookingExpiryService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+// Runs expired only by the tests, two bookings per claimed batch
+@SpringBootTest(properties = {
+        "booking.expiry.poll-interval=PT1H",
+        "booking.expiry.batch-size=2"
+})
+class BookingExpiryServiceImplTest {
+
+    private static final AtomicLong EVENT_IDS = new AtomicLong(4_000);
+
+    @Autowired
+    private BookingExpiryService bookingExpiryService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean
+    private EventServiceClient eventServiceClient;
+
+    @MockitoBean
+    private PaymentServiceClient paymentServiceClient;
+
+    @Test
+    void drainsEveryDueBucketAndRestoresSeatsOncePerEventPerBatch() {
+        long firstEvent = EVENT_IDS.incrementAndGet();
+        long secondEvent = EVENT_IDS.incrementAndGet();
+        // Older bucket: one batch of two bookings of the same event
+        Booking first = pending(firstEvent, 2, minutesAgo(3));
+        Booking second = pending(firstEvent, 3, minutesAgo(3));
+        // Newer bucket: a full batch of both events, then a batch of one
+        Booking third = pending(secondEvent, 1, minutesAgo(1));
+        Booking fourth = pending(firstEvent, 1, minutesAgo(1));
+        Booking fifth = pending(secondEvent, 4, minutesAgo(1));
+        Booking notDue = pending(firstEvent, 1, minutesAgo(-5));
+
+        assertThat(bookingExpiryService.expireDueBookings()).isEqualTo(5);
+
+        for (Booking booking : new Booking[]{first, second, third, fourth, fifth}) {
+            Booking expired = bookingRepository.findById(booking.getId()).orElseThrow();
+            assertThat(expired.getBookingStatus()).isEqualTo(BookingStatus.CANCELLED);
+            assertThat(expired.getCancellationReason()).isEqualTo(BookingExpiryServiceImpl.EXPIRY_CANCELLATION_REASON);
+            assertThat(expired.getExpiryBucket()).isNull();
+        }
+        assertThat(statusOf(notDue)).isEqualTo(BookingStatus.PENDING);
+
+        verify(eventServiceClient).restoreSeats(firstEvent, 5);
+        verify(eventServiceClient).restoreSeats(firstEvent, 1);
+        verify(eventServiceClient).restoreSeats(secondEvent, 1);
+        verify(eventServiceClient).restoreSeats(secondEvent, 4);
+        verify(eventServiceClient, times(2)).restoreSeats(eq(firstEvent), anyInt());
+        verify(eventServiceClient, times(2)).restoreSeats(eq(secondEvent), anyInt());
+    }
+
+    @Test
+    void offersExpiredSeatsToTheWaitlistBeforeRestoringTheRest() {
+        long eventId = EVENT_IDS.incrementAndGet();
+        WaitlistEntry waiting = waitlistEntryRepository.save(WaitlistEntry.builder()
+                .userId(10L)
+                .eventId(eventId)
+                .seatsRequested(2)
+                .status(WaitlistStatus.WAITING)
+                .build());
+        pending(eventId, 5, minutesAgo(2));
+
+        assertThat(bookingExpiryService.expireDueBookings()).isEqualTo(1);
+
+        assertThat(waitlistEntryRepository.findById(waiting.getId()).orElseThrow().getStatus())
+                .isEqualTo(WaitlistStatus.OFFERED);
+        verify(eventServiceClient).restoreSeats(eventId, 3);
+    }
+
+    @Test
+    void skipsBookingsLockedByAnotherInstanceUntilTheyAreReleased() throws Exception {
+        long eventId = EVENT_IDS.incrementAndGet();
+        Booking locked = pending(eventId, 1, minutesAgo(2));
+        Booking free = pending(eventId, 2, minutesAgo(2));
+
+        CountDownLatch held = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<Void> otherInstance = CompletableFuture.runAsync(() ->
+                transactionTemplate.executeWithoutResult(status -> {
+                    jdbcTemplate.queryForList("SELECT id FROM bookings WHERE id = ? FOR UPDATE", locked.getId());
+                    held.countDown();
+                    await(release);
+                }));
+        assertThat(held.await(10, TimeUnit.SECONDS)).isTrue();
+
+        // The locked row is skipped, not waited on
+        assertThat(bookingExpiryService.expireDueBookings()).isEqualTo(1);
+        assertThat(statusOf(free)).isEqualTo(BookingStatus.CANCELLED);
+        assertThat(statusOf(locked)).isEqualTo(BookingStatus.PENDING);
+        verify(eventServiceClient).restoreSeats(eventId, 2);
+        verify(eventServiceClient, never()).restoreSeats(eventId, 1);
+
+        release.countDown();
+        otherInstance.get(10, TimeUnit.SECONDS);
+
+        // Still due, so the next run picks it up
+        assertThat(bookingExpiryService.expireDueBookings()).isEqualTo(1);
+        assertThat(statusOf(locked)).isEqualTo(BookingStatus.CANCELLED);
+        verify(eventServiceClient).restoreSeats(eventId, 1);
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private Booking pending(long eventId, int seats, long expiryBucket) {
+        return bookingRepository.save(Booking.builder()
+                .userId(1L)
+                .eventId(eventId)
+                .seatsBooked(seats)
+                .pricePerSeat(100.0)
+                .totalAmount(100.0 * seats)
+                .bookingStatus(BookingStatus.PENDING)
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .sportType("Football")
+                .expiryBucket(expiryBucket)
+                .build());
+    }
+
+    private static long minutesAgo(long minutes) {
+        return TimeUnit.MILLISECONDS.toMinutes(System.currentTimeMillis()) - minutes;
+    }
+
+    private BookingStatus statusOf(Booking booking) {
+        return bookingRepository.findById(booking.getId()).orElseThrow().getBookingStatus();
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+    }
+}
@@ -0,0 +1,232 @@
+package com.suraj.sport.bookingservice.service.impl;
+
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.client.PaymentServiceClient;
+import com.suraj.sport.bookingservice.config.PriceQuoteProperties;
+import com.suraj.sport.bookingservice.dto.request.BulkRefundRequest;
+import com.suraj.sport.bookingservice.dto.request.CancelBookingRequest;
+import com.suraj.sport.bookingservice.dto.request.CreateBookingRequest;
+import com.suraj.sport.bookingservice.dto.response.BookingResponse;
+import com.suraj.sport.bookingservice.dto.response.CreateBookingResponse;
+import com.suraj.sport.bookingservice.entity.Booking;
+import com.suraj.sport.bookingservice.entity.BookingStatus;
+import com.suraj.sport.bookingservice.repository.BookingRepository;
+import com.suraj.sport.bookingservice.service.BookingService;
+import com.suraj.sport.bookingservice.service.WaitlistService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.web.client.RestClientException;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class BookingServiceImplTest {
+
+    private static final AtomicLong EVENT_IDS = new AtomicLong(1_000);
+
+    @Autowired
+    private BookingService bookingService;
+
+    // Real repository unless stubbed — lets a test fail the save of a new booking
+    @MockitoSpyBean
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private PriceQuoteProperties priceQuoteProperties;
+
+    @MockitoBean
+    private EventServiceClient eventServiceClient;
+
+    @MockitoBean
+    private PaymentServiceClient paymentServiceClient;
+
+    // Offers nothing unless stubbed — every freed seat goes back to Event Service
+    @MockitoBean
+    private WaitlistService waitlistService;
+
+    // =====================================================================
+    // CREATE BOOKING
+    // =====================================================================
+
+    @Test
+    void createBookingHoldsTheSeatsUntilTheBookingExpires() {
+        long eventId = EVENT_IDS.incrementAndGet();
+
+        CreateBookingResponse response = bookingService.createBooking(bookingRequest(eventId, 2));
+
+        assertThat(response.bookingStatus()).isEqualTo(BookingStatus.PENDING);
+        assertThat(response.totalAmount()).isEqualTo(200.0);
+        verify(eventServiceClient).reduceSeats(eventId, 2);
+        verify(eventServiceClient, never()).restoreSeats(anyLong(), anyInt());
+        assertThat(bookingRepository.findById(response.id()).orElseThrow().getExpiryBucket()).isNotNull();
+    }
+
+    @Test
+    void createBookingGivesTheSeatsBackWhenTheBookingCannotBeSaved() {
+        long eventId = EVENT_IDS.incrementAndGet();
+        doThrow(new DataAccessResourceFailureException("Database down")).when(bookingRepository).save(any(Booking.class));
+
+        assertThatThrownBy(() -> bookingService.createBooking(bookingRequest(eventId, 2)))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        verify(eventServiceClient).reduceSeats(eventId, 2);
+        verify(eventServiceClient).restoreSeats(eventId, 2);
+    }
+
+    @Test
+    void createBookingStillFailsWithTheSaveErrorWhenTheSeatsCannotBeGivenBack() {
+        long eventId = EVENT_IDS.incrementAndGet();
+        doThrow(new DataAccessResourceFailureException("Database down")).when(bookingRepository).save(any(Booking.class));
+        doThrow(new RestClientException("Event Service down")).when(eventServiceClient).restoreSeats(anyLong(), anyInt());
+
+        assertThatThrownBy(() -> bookingService.createBooking(bookingRequest(eventId, 2)))
+                .isInstanceOf(DataAccessResourceFailureException.class);
+
+        verify(eventServiceClient).restoreSeats(eventId, 2);
+    }
+
+    // =====================================================================
+    // CANCEL BOOKING
+    // =====================================================================
+
+    @Test
+    void cancelBookingRestoresEverySeatWhenTheWaitlistOfferFails() {
+        Booking booking = confirmedBooking(3);
+        doThrow(new QueryTimeoutException("Waitlist locked")).when(waitlistService).offerFreedSeats(any(), anyInt());
+
+        BookingResponse response = bookingService.cancelBooking(booking.getId(), new CancelBookingRequest("Plans changed"));
+
+        assertThat(response.bookingStatus()).isEqualTo(BookingStatus.CANCELLED);
+        verify(eventServiceClient).restoreSeats(booking.getEventId(), 3);
+    }
+
+    // =====================================================================
+    // CANCEL SEATS
+    // =====================================================================
+
+    @Test
+    void cancelSeatsRestoresTheSeatsAndRefundsThem() {
+        Booking booking = confirmedBooking(4);
+
+        BookingResponse response = bookingService.cancelSeats(booking.getId(), 1);
+
+        assertThat(response.seatsBooked()).isEqualTo(3);
+        assertThat(response.totalAmount()).isEqualTo(300.0);
+        verify(eventServiceClient).restoreSeats(booking.getEventId(), 1);
+        verify(paymentServiceClient).requestRefunds(any(BulkRefundRequest.class));
+        Booking stored = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertThat(stored.getSeatsBooked()).isEqualTo(3);
+        assertThat(stored.getRefundAmount()).isEqualTo(100.0);
+    }
+
+    @Test
+    void cancelSeatsIsUndoneWhenTheSeatsCannotBeRestored() {
+        Booking booking = confirmedBooking(4);
+        doThrow(new RestClientException("Event Service down")).when(eventServiceClient).restoreSeats(anyLong(), anyInt());
+
+        assertThatThrownBy(() -> bookingService.cancelSeats(booking.getId(), 1))
+                .isInstanceOf(RestClientException.class);
+
+        Booking stored = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertThat(stored.getSeatsBooked()).isEqualTo(4);
+        assertThat(stored.getTotalAmount()).isEqualTo(400.0);
+        assertThat(stored.getRefundAmount()).isNull();
+        assertThat(stored.getBookingStatus()).isEqualTo(BookingStatus.CONFIRMED);
+        verify(paymentServiceClient, never()).requestRefunds(any());
+    }
+
+    @Test
+    void cancelSeatsRestoresTheSeatsWhenTheWaitlistOfferFails() {
+        Booking booking = confirmedBooking(4);
+        doThrow(new QueryTimeoutException("Waitlist locked")).when(waitlistService).offerFreedSeats(any(), anyInt());
+
+        BookingResponse response = bookingService.cancelSeats(booking.getId(), 2);
+
+        assertThat(response.seatsBooked()).isEqualTo(2);
+        verify(eventServiceClient).restoreSeats(booking.getEventId(), 2);
+    }
+
+    @Test
+    void undoNeverOverwritesAChangeCommittedInBetween() {
+        Booking booking = confirmedBooking(4);
+        // The booking is cancelled outright while the restore of the partial cancellation is in flight
+        doAnswer(invocation -> {
+            bookingRepository.cancelBooking(booking.getId(), BookingStatus.CONFIRMED, 3, "Cancelled meanwhile",
+                    300.0, LocalDateTime.now());
+            throw new RestClientException("Event Service down");
+        }).when(eventServiceClient).restoreSeats(anyLong(), anyInt());
+
+        BookingResponse response = bookingService.cancelSeats(booking.getId(), 1);
+
+        assertThat(response.bookingStatus()).isEqualTo(BookingStatus.CANCELLED);
+        Booking stored = bookingRepository.findById(booking.getId()).orElseThrow();
+        assertThat(stored.getSeatsBooked()).isEqualTo(3);
+        assertThat(stored.getRefundAmount()).isEqualTo(300.0);
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private CreateBookingRequest bookingRequest(long eventId, int seats) {
+        return CreateBookingRequest.builder()
+                .userId(1L)
+                .eventId(eventId)
+                .seatsBooked(seats)
+                .priceQuote(priceQuote(eventId, 10_000))
+                .build();
+    }
+
+    /**
+     * A quote for the event signed the way Event Service's PriceQuoteSigner does.
+     */
+    private String priceQuote(long eventId, long priceInCents) {
+        String payload = eventId + "|" + priceInCents + "|" + Instant.now().plus(2, ChronoUnit.MINUTES).getEpochSecond()
+                + "|" + LocalDateTime.now().plusDays(30).withNano(0) + "|Football";
+        try {
+            Mac mac = Mac.getInstance("HmacSHA256");
+            mac.init(new SecretKeySpec(priceQuoteProperties.getSecret().getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+            byte[] bytes = payload.getBytes(StandardCharsets.UTF_8);
+            Base64.Encoder base64 = Base64.getUrlEncoder().withoutPadding();
+            return base64.encodeToString(bytes) + "." + base64.encodeToString(mac.doFinal(bytes));
+        } catch (Exception ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    private Booking confirmedBooking(int seats) {
+        return bookingRepository.save(Booking.builder()
+                .userId(1L)
+                .eventId(EVENT_IDS.incrementAndGet())
+                .paymentId(1L)
+                .seatsBooked(seats)
+                .pricePerSeat(100.0)
+                .totalAmount(100.0 * seats)
+                .bookingStatus(BookingStatus.CONFIRMED)
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .sportType("Football")
+                .build());
+    }
+}
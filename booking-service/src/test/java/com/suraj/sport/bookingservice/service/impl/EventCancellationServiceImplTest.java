@@ -0,0 +1,150 @@
+package com.suraj.sport.bookingservice.service.impl;
+
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.client.PaymentServiceClient;
+import com.suraj.sport.bookingservice.dto.request.BookingRefundRequest;
+import com.suraj.sport.bookingservice.dto.request.BulkRefundRequest;
+import com.suraj.sport.bookingservice.dto.request.EventCancellationRequest;
+import com.suraj.sport.bookingservice.entity.Booking;
+import com.suraj.sport.bookingservice.entity.BookingStatus;
+import com.suraj.sport.bookingservice.entity.EventCancellationStatus;
+import com.suraj.sport.bookingservice.entity.WaitlistEntry;
+import com.suraj.sport.bookingservice.entity.WaitlistStatus;
+import com.suraj.sport.bookingservice.repository.BookingRepository;
+import com.suraj.sport.bookingservice.repository.WaitlistEntryRepository;
+import com.suraj.sport.bookingservice.service.EventCancellationService;
+import com.suraj.sport.bookingservice.service.WaitlistService;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.verify;
+
+@SpringBootTest
+class EventCancellationServiceImplTest {
+
+    private static final AtomicLong EVENT_IDS = new AtomicLong(2_000);
+    private static final String REASON = "Venue unavailable";
+
+    @Autowired
+    private EventCancellationService eventCancellationService;
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EventServiceClient eventServiceClient;
+
+    @MockitoBean
+    private PaymentServiceClient paymentServiceClient;
+
+    @Test
+    void cancelsBookingsAndRefundsWhatIsLeftOfEachPaidBooking() throws InterruptedException {
+        long eventId = EVENT_IDS.incrementAndGet();
+        // Already refunded 100.0 for one seat of four taken off by a partial cancellation
+        Booking partlyRefunded = booking(eventId, BookingStatus.CONFIRMED, 1L, 3, 100.0);
+        Booking paid = booking(eventId, BookingStatus.CONFIRMED, 2L, 2, null);
+        Booking pending = booking(eventId, BookingStatus.PENDING, null, 1, null);
+
+        cancelAndAwait(eventId);
+
+        assertThat(bookingRepository.findById(partlyRefunded.getId()).orElseThrow())
+                .satisfies(booking -> {
+                    assertThat(booking.getBookingStatus()).isEqualTo(BookingStatus.CANCELLED);
+                    assertThat(booking.getRefundAmount()).isEqualTo(400.0);
+                    assertThat(booking.getCancellationReason()).isEqualTo(REASON);
+                });
+        assertThat(bookingRepository.findById(paid.getId()).orElseThrow().getRefundAmount()).isEqualTo(200.0);
+        assertThat(bookingRepository.findById(pending.getId()).orElseThrow())
+                .satisfies(booking -> {
+                    assertThat(booking.getBookingStatus()).isEqualTo(BookingStatus.CANCELLED);
+                    assertThat(booking.getRefundAmount()).isNull();
+                });
+
+        // Payment Service is asked for the amount still paid, not the refund total
+        ArgumentCaptor<BulkRefundRequest> refunds = ArgumentCaptor.forClass(BulkRefundRequest.class);
+        verify(paymentServiceClient).requestRefunds(refunds.capture());
+        assertThat(refunds.getValue().reason()).isEqualTo(REASON);
+        assertThat(refunds.getValue().refunds()).containsExactly(
+                new BookingRefundRequest(partlyRefunded.getId(), 1L, 300.0),
+                new BookingRefundRequest(paid.getId(), 2L, 200.0));
+    }
+
+    @Test
+    void closesTheWaitlistAndOffersNoFreedSeatsOnceCancelled() throws InterruptedException {
+        long eventId = EVENT_IDS.incrementAndGet();
+        WaitlistEntry waiting = waitlistEntry(eventId);
+        Booking freedFrom = booking(eventId, BookingStatus.CONFIRMED, 1L, 2, null);
+
+        cancelAndAwait(eventId);
+
+        assertThat(waitlistEntryRepository.findById(waiting.getId()).orElseThrow().getStatus())
+                .isEqualTo(WaitlistStatus.CANCELLED);
+
+        // An entry joining afterwards, then seats freed by a cancellation racing the run
+        WaitlistEntry joinedLate = waitlistEntry(eventId);
+        int offered = transactionTemplate.execute(status -> waitlistService.offerFreedSeats(freedFrom, 2));
+
+        assertThat(offered).isZero();
+        assertThat(waitlistEntryRepository.findById(joinedLate.getId()).orElseThrow())
+                .satisfies(entry -> {
+                    assertThat(entry.getStatus()).isEqualTo(WaitlistStatus.WAITING);
+                    assertThat(entry.getSeatsOffered()).isZero();
+                });
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private void cancelAndAwait(long eventId) throws InterruptedException {
+        eventCancellationService.startCancellation(new EventCancellationRequest(eventId, REASON));
+        for (int attempt = 0; attempt < 100; attempt++) {
+            if (eventCancellationService.getCancellation(eventId).status() == EventCancellationStatus.COMPLETED) {
+                return;
+            }
+            Thread.sleep(100);
+        }
+        throw new AssertionError("Cancellation of event " + eventId + " did not complete");
+    }
+
+    private Booking booking(long eventId, BookingStatus status, Long paymentId, int seats, Double refundAmount) {
+        return bookingRepository.save(Booking.builder()
+                .userId(1L)
+                .eventId(eventId)
+                .paymentId(paymentId)
+                .seatsBooked(seats)
+                .pricePerSeat(100.0)
+                .totalAmount(100.0 * seats)
+                .refundAmount(refundAmount)
+                .bookingStatus(status)
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .sportType("Football")
+                .build());
+    }
+
+    private WaitlistEntry waitlistEntry(long eventId) {
+        return waitlistEntryRepository.save(WaitlistEntry.builder()
+                .userId(7L)
+                .eventId(eventId)
+                .seatsRequested(2)
+                .status(WaitlistStatus.WAITING)
+                .build());
+    }
+}
@@ -0,0 +1,166 @@
+package com.suraj.sport.bookingservice.service.impl;
+
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.client.PaymentServiceClient;
+import com.suraj.sport.bookingservice.entity.Booking;
+import com.suraj.sport.bookingservice.entity.BookingStatus;
+import com.suraj.sport.bookingservice.entity.WaitlistEntry;
+import com.suraj.sport.bookingservice.entity.WaitlistStatus;
+import com.suraj.sport.bookingservice.repository.BookingRepository;
+import com.suraj.sport.bookingservice.repository.WaitlistEntryRepository;
+import com.suraj.sport.bookingservice.service.WaitlistService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+@SpringBootTest
+class WaitlistServiceImplTest {
+
+    private static final AtomicLong EVENT_IDS = new AtomicLong(3_000);
+
+    @Autowired
+    private WaitlistService waitlistService;
+
+    @Autowired
+    private WaitlistEntryRepository waitlistEntryRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @MockitoBean
+    private EventServiceClient eventServiceClient;
+
+    @MockitoBean
+    private PaymentServiceClient paymentServiceClient;
+
+    @Test
+    void offersFreedSeatsInTheOrderUsersJoined() {
+        long eventId = EVENT_IDS.incrementAndGet();
+        WaitlistEntry first = join(eventId, 10L, 2);
+        WaitlistEntry second = join(eventId, 20L, 1);
+        WaitlistEntry third = join(eventId, 30L, 3);
+
+        assertThat(offer(eventId, 3)).isEqualTo(3);
+
+        assertThat(statusOf(first)).isEqualTo(WaitlistStatus.OFFERED);
+        assertThat(statusOf(second)).isEqualTo(WaitlistStatus.OFFERED);
+        assertThat(statusOf(third)).isEqualTo(WaitlistStatus.WAITING);
+        assertThat(offersOf(eventId)).extracting(Booking::getUserId, Booking::getSeatsBooked)
+                .containsExactlyInAnyOrder(tuple(10L, 2), tuple(20L, 1));
+        assertThat(offersOf(eventId)).allSatisfy(offer -> {
+            assertThat(offer.getBookingStatus()).isEqualTo(BookingStatus.PENDING);
+            assertThat(offer.getPricePerSeat()).isEqualTo(100.0);
+            assertThat(offer.getTotalAmount()).isEqualTo(100.0 * offer.getSeatsBooked());
+            assertThat(offer.getExpiryBucket()).isNotNull();
+        });
+    }
+
+    @Test
+    void fillsAnEntryPartiallyAndKeepsItsPlace() {
+        long eventId = EVENT_IDS.incrementAndGet();
+        WaitlistEntry first = join(eventId, 10L, 3);
+        WaitlistEntry second = join(eventId, 20L, 1);
+
+        assertThat(offer(eventId, 2)).isEqualTo(2);
+        WaitlistEntry partlyServed = waitlistEntryRepository.findById(first.getId()).orElseThrow();
+        assertThat(partlyServed.getStatus()).isEqualTo(WaitlistStatus.WAITING);
+        assertThat(partlyServed.getSeatsOffered()).isEqualTo(2);
+        assertThat(statusOf(second)).isEqualTo(WaitlistStatus.WAITING);
+
+        // The rest of the first entry comes before the second; seats nobody waits for are left over
+        assertThat(offer(eventId, 5)).isEqualTo(2);
+        assertThat(statusOf(first)).isEqualTo(WaitlistStatus.OFFERED);
+        assertThat(statusOf(second)).isEqualTo(WaitlistStatus.OFFERED);
+        assertThat(offersOf(eventId)).extracting(Booking::getSeatsBooked).containsExactlyInAnyOrder(2, 1, 1);
+    }
+
+    @Test
+    void concurrentAllocationsNeverOfferMoreThanWasRequested() throws Exception {
+        long eventId = EVENT_IDS.incrementAndGet();
+        List<WaitlistEntry> entries = List.of(join(eventId, 10L, 2), join(eventId, 20L, 2), join(eventId, 30L, 2));
+
+        CountDownLatch start = new CountDownLatch(1);
+        try (ExecutorService workers = Executors.newFixedThreadPool(2)) {
+            List<CompletableFuture<Integer>> allocations = List.of(
+                    CompletableFuture.supplyAsync(() -> offerOnSignal(start, eventId, 3), workers),
+                    CompletableFuture.supplyAsync(() -> offerOnSignal(start, eventId, 3), workers));
+            start.countDown();
+
+            assertThat(allocations.get(0).get() + allocations.get(1).get()).isEqualTo(6);
+        }
+
+        for (WaitlistEntry entry : entries) {
+            WaitlistEntry served = waitlistEntryRepository.findById(entry.getId()).orElseThrow();
+            assertThat(served.getStatus()).isEqualTo(WaitlistStatus.OFFERED);
+            assertThat(served.getSeatsOffered()).isEqualTo(2);
+        }
+        assertThat(offersOf(eventId).stream().mapToInt(Booking::getSeatsBooked).sum()).isEqualTo(6);
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private WaitlistEntry join(long eventId, long userId, int seats) {
+        return waitlistEntryRepository.save(WaitlistEntry.builder()
+                .userId(userId)
+                .eventId(eventId)
+                .seatsRequested(seats)
+                .status(WaitlistStatus.WAITING)
+                .build());
+    }
+
+    private int offer(long eventId, int seats) {
+        return transactionTemplate.execute(status -> waitlistService.offerFreedSeats(freedFrom(eventId), seats));
+    }
+
+    private int offerOnSignal(CountDownLatch start, long eventId, int seats) {
+        try {
+            start.await();
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(ex);
+        }
+        return offer(eventId, seats);
+    }
+
+    // The cancelled booking whose seats are offered — offers take its price and event details
+    private static Booking freedFrom(long eventId) {
+        return Booking.builder()
+                .userId(1L)
+                .eventId(eventId)
+                .seatsBooked(1)
+                .pricePerSeat(100.0)
+                .totalAmount(100.0)
+                .bookingStatus(BookingStatus.CANCELLED)
+                .eventDate(LocalDateTime.now().plusDays(30))
+                .sportType("Football")
+                .build();
+    }
+
+    private WaitlistStatus statusOf(WaitlistEntry entry) {
+        return waitlistEntryRepository.findById(entry.getId()).orElseThrow().getStatus();
+    }
+
+    private List<Booking> offersOf(long eventId) {
+        return bookingRepository.findAll().stream()
+                .filter(booking -> booking.getEventId() == eventId)
+                .toList();
+    }
+}
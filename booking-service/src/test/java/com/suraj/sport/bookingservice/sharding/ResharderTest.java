@@ -0,0 +1,210 @@
+package com.suraj.sport.bookingservice.sharding;
+
+import com.suraj.sport.bookingservice.dto.response.ShardLayoutResponse;
+import com.suraj.sport.bookingservice.dto.response.SlotMoveResponse;
+import com.suraj.sport.bookingservice.exception.SlotMoveException;
+import org.flywaydb.core.Flyway;
+import org.hibernate.dialect.H2Dialect;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Moves slots between two in-memory H2 shards, migrated as at startup with sharding on.
+ */
+class ResharderTest {
+
+    private static final AtomicLong DATABASES = new AtomicLong();
+    private static final Duration REFRESH_INTERVAL = Duration.ofMillis(100);
+
+    private SingleConnectionDataSource shard0;
+    private SingleConnectionDataSource shard1;
+    private ShardDirectory directory;
+    private Resharder resharder;
+
+    @BeforeEach
+    void createShards() {
+        shard0 = database();
+        shard1 = database();
+        migrate(shard1, "latest");
+    }
+
+    @AfterEach
+    void dropShards() {
+        shard0.destroy();
+        shard1.destroy();
+    }
+
+    @Test
+    void movesEverythingOfTheSlotsEventsAndAdvancesTheSequences() {
+        // Rows from before V9 are given their event_slot by the migration
+        migrate(shard0, "8");
+        long eventId = eventOnShard(0);
+        int slot = ShardKeys.slotOfEvent(eventId);
+        long otherEventId = eventOnShard(0, eventId + 1);
+        insertBooking(shard0, ShardKeys.compose(1, 0, slot), eventId);
+        insertBooking(shard0, ShardKeys.compose(2, 0, slot), eventId);
+        insertWaitlistEntry(shard0, ShardKeys.compose(1, 0, slot), eventId);
+        insertEventCancellation(shard0, eventId);
+        insertBooking(shard0, ShardKeys.compose(3, 0, ShardKeys.slotOfEvent(otherEventId)), otherEventId);
+        migrate(shard0, "latest");
+        startResharder();
+        new JdbcTemplate(shard0).execute("ALTER SEQUENCE bookings_seq RESTART WITH 5000");
+
+        SlotMoveResponse response = resharder.move(List.of(slot), 1);
+
+        assertThat(response.slotsMoved()).containsExactly(slot);
+        assertThat(response.bookingsMoved()).isEqualTo(2);
+        assertThat(response.waitlistEntriesMoved()).isEqualTo(1);
+        assertThat(response.eventCancellationsMoved()).isEqualTo(1);
+        assertThat(count(shard1, "bookings", eventId)).isEqualTo(2);
+        assertThat(count(shard1, "waitlist_entries", eventId)).isEqualTo(1);
+        assertThat(count(shard1, "event_cancellations", eventId)).isEqualTo(1);
+        assertThat(count(shard0, "bookings", eventId)).isZero();
+        assertThat(count(shard0, "waitlist_entries", eventId)).isZero();
+        assertThat(count(shard0, "event_cancellations", eventId)).isZero();
+        assertThat(count(shard0, "bookings", otherEventId)).isEqualTo(1);
+        assertThat(new JdbcTemplate(shard1).queryForObject("SELECT event_slot FROM bookings WHERE event_id = ? LIMIT 1",
+                Integer.class, eventId)).isEqualTo(slot);
+        assertThat(new JdbcTemplate(shard1).queryForObject("SELECT NEXT VALUE FOR bookings_seq", Long.class))
+                .isGreaterThanOrEqualTo(5000);
+
+        directory.refresh();
+        assertThat(directory.shardOf(slot)).isEqualTo(1);
+        assertThat(directory.isMoving(slot)).isFalse();
+    }
+
+    @Test
+    void refusesASlotAlreadyBeingMovedWithoutWaitingForThatMove() throws Exception {
+        migrate(shard0, "latest");
+        startResharder();
+        int slot = ShardKeys.slotOfEvent(eventOnShard(0));
+
+        CompletableFuture<SlotMoveResponse> first = CompletableFuture.supplyAsync(() -> resharder.move(List.of(slot), 1));
+        while (!first.isDone() && !resharder.layout().movingSlots().contains(slot)) {
+            directory.refresh();
+            Thread.sleep(10);
+        }
+
+        long startTime = System.currentTimeMillis();
+        assertThatThrownBy(() -> resharder.move(List.of(slot), 1))
+                .isInstanceOf(SlotMoveException.class)
+                .hasMessage("Slot " + slot + " is already being moved");
+        assertThat(System.currentTimeMillis() - startTime).isLessThan(REFRESH_INTERVAL.multipliedBy(3).toMillis());
+
+        assertThat(first.get().slotsMoved()).containsExactly(slot);
+    }
+
+    @Test
+    void refusesSlotsHoldingRowsFromBeforeSharding() {
+        migrate(shard0, "latest");
+        startResharder();
+        long eventId = eventOnShard(0);
+        insertBooking(shard0, 17, eventId);
+
+        assertThatThrownBy(() -> resharder.move(List.of(ShardKeys.slotOfEvent(eventId)), 1))
+                .isInstanceOf(SlotMoveException.class)
+                .hasMessageContaining("before sharding");
+        assertThat(count(shard0, "bookings", eventId)).isEqualTo(1);
+        directory.refresh();
+        assertThat(directory.isMoving(ShardKeys.slotOfEvent(eventId))).isFalse();
+    }
+
+    @Test
+    void plansNoMovesForAnEvenLayout() {
+        migrate(shard0, "latest");
+        startResharder();
+
+        ShardLayoutResponse layout = resharder.layout();
+
+        assertThat(layout.slotsPerShard()).containsExactly(ShardKeys.SLOTS / 2, ShardKeys.SLOTS / 2);
+        assertThat(layout.rebalancePlan()).isEmpty();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static SingleConnectionDataSource database() {
+        return new SingleConnectionDataSource("jdbc:h2:mem:resharder_" + DATABASES.incrementAndGet()
+                + ";MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH", "sa", "", true);
+    }
+
+    private static void migrate(DataSource dataSource, String target) {
+        Flyway.configure().dataSource(dataSource).locations("classpath:db/migration").target(target).load().migrate();
+    }
+
+    private void startResharder() {
+        directory = new ShardDirectory(shard0, 2, REFRESH_INTERVAL);
+        resharder = new Resharder(new ShardRoutingDataSource(List.of(shard0, shard1)), directory,
+                new H2Dialect(), REFRESH_INTERVAL);
+    }
+
+    /**
+     * First event, from the given id on, whose slot the seeded directory puts on the shard.
+     */
+    private static long eventOnShard(int shard, long from) {
+        long eventId = from;
+        while (ShardKeys.slotOfEvent(eventId) % 2 != shard) {
+            eventId++;
+        }
+        return eventId;
+    }
+
+    private static long eventOnShard(int shard) {
+        return eventOnShard(shard, 1);
+    }
+
+    private static void insertBooking(DataSource shard, long id, long eventId) {
+        insert(shard, "bookings", eventId, """
+                (id, user_id, event_id, seats_booked, price_per_seat, total_amount, booking_status, is_deleted%s)
+                VALUES (?, 1, ?, 2, 50.0, 100.0, 'CONFIRMED', FALSE%s)
+                """, id, eventId);
+    }
+
+    private static void insertWaitlistEntry(DataSource shard, long id, long eventId) {
+        insert(shard, "waitlist_entries", eventId, """
+                (id, user_id, event_id, seats_requested, seats_offered, status%s)
+                VALUES (?, 1, ?, 2, 0, 'WAITING'%s)
+                """, id, eventId);
+    }
+
+    private static void insertEventCancellation(DataSource shard, long eventId) {
+        insert(shard, "event_cancellations", eventId, """
+                (event_id, reason, status, cancel_cursor, bookings_cancelled, refund_cursor, refunds_requested%s)
+                VALUES (?, 'Rained off', 'COMPLETED', 0, 0, 0, 0%s)
+                """, eventId);
+    }
+
+    /**
+     * Inserts a row, with its event_slot once V9 has added the column.
+     */
+    private static void insert(DataSource shard, String table, long eventId, String columnsAndValues, Object... args) {
+        JdbcTemplate jdbc = new JdbcTemplate(shard);
+        boolean slotColumn = !jdbc.queryForList("""
+                SELECT column_name FROM information_schema.columns
+                WHERE table_name = ? AND column_name = 'event_slot'
+                """, table).isEmpty();
+        String sql = "INSERT INTO " + table + " " + (slotColumn
+                ? columnsAndValues.formatted(", event_slot", ", " + ShardKeys.slotOfEvent(eventId))
+                : columnsAndValues.formatted("", ""));
+        jdbc.update(sql, args);
+    }
+
+    private static long count(DataSource shard, String table, long eventId) {
+        Long count = new JdbcTemplate(shard).queryForObject(
+                "SELECT COUNT(*) FROM " + table + " WHERE event_id = ?", Long.class, eventId);
+        return count != null ? count : 0;
+    }
+}
@@ -0,0 +1,62 @@
+package com.suraj.sport.bookingservice.sharding;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.HashSet;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ShardKeysTest {
+
+    @Test
+    void slotOfEventIsStableAndInRange() {
+        for (long eventId = 1; eventId <= 10_000; eventId++) {
+            assertThat(ShardKeys.slotOfEvent(eventId))
+                    .isBetween(0, ShardKeys.SLOTS - 1)
+                    .isEqualTo(ShardKeys.slotOfEvent(eventId));
+        }
+    }
+
+    @Test
+    void consecutiveEventsSpreadOverAllSlots() {
+        Set<Integer> slots = new HashSet<>();
+        for (long eventId = 1; eventId <= 20 * ShardKeys.SLOTS; eventId++) {
+            slots.add(ShardKeys.slotOfEvent(eventId));
+        }
+        assertThat(slots).hasSize(ShardKeys.SLOTS);
+    }
+
+    @Test
+    void composedIdsCarryTheSlot() {
+        for (int slot : new int[]{0, 1, 511, ShardKeys.SLOTS - 1}) {
+            long id = ShardKeys.compose(42, ShardKeys.MAX_SHARDS - 1, slot);
+
+            assertThat(ShardKeys.slotOfId(id)).isEqualTo(slot);
+            assertThat(ShardKeys.isSharded(id)).isTrue();
+        }
+    }
+
+    @Test
+    void composedIdsAreUniqueAcrossOriginShards() {
+        Set<Long> ids = new HashSet<>();
+        for (int shard = 0; shard < ShardKeys.MAX_SHARDS; shard++) {
+            for (long local = 0; local < 100; local++) {
+                assertThat(ids.add(ShardKeys.compose(local, shard, 7))).isTrue();
+            }
+        }
+    }
+
+    @Test
+    void composedIdsIncreaseWithTheLocalValue() {
+        assertThat(ShardKeys.compose(2, 0, 0)).isGreaterThan(ShardKeys.compose(1, ShardKeys.MAX_SHARDS - 1, ShardKeys.SLOTS - 1));
+    }
+
+    @Test
+    void idsFromBeforeShardingCarryNoSlot() {
+        assertThat(ShardKeys.compose(0, 0, 0)).isEqualTo(ShardKeys.FIRST_SHARDED_ID);
+        assertThat(ShardKeys.isSharded(ShardKeys.FIRST_SHARDED_ID - 1)).isFalse();
+        assertThat(ShardKeys.isSharded(1)).isFalse();
+        assertThat(ShardKeys.isSharded(ShardKeys.FIRST_SHARDED_ID)).isTrue();
+    }
+}
@@ -1,17 +1,31 @@
 package com.suraj.sport.eventservice.aspect;
 
-import lombok.extern.slf4j.Slf4j;
+import com.suraj.sport.eventservice.config.LoggingProperties;
+import com.suraj.sport.eventservice.logging.ArgumentMasker;
+import lombok.RequiredArgsConstructor;
 import org.aspectj.lang.ProceedingJoinPoint;
 import org.aspectj.lang.annotation.Around;
 import org.aspectj.lang.annotation.Aspect;
 import org.aspectj.lang.annotation.Pointcut;
+import org.aspectj.lang.reflect.MethodSignature;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ThreadLocalRandom;
+
 @Aspect
 @Component
-@Slf4j
+@RequiredArgsConstructor
 public class LoggingAspect {
 
+    private final LoggingProperties properties;
+    private final ArgumentMasker argumentMasker;
+
+    private final ConcurrentMap<Class<?>, CallLogger> callLoggers = new ConcurrentHashMap<>();
+
     // =====================================================================
     // POINTCUTS
     // =====================================================================
@@ -39,36 +53,84 @@ public class LoggingAspect {
     // =====================================================================
 
     /**
-     * Around advice that logs method entry, exit, execution time and exceptions
-     * for all methods in the application layer (controller + service).
+     * Around advice that logs one structured event per call in the application layer
+     * (controller + service), to the logger of the class called: the method, its execution
+     * time and its arguments as key-value pairs, masked by ArgumentMasker.
+     * <p>
+     * Successful calls are sampled per logger (event.logging.sample-rates) and cost
+     * nothing beyond the sampling check when not logged; failed calls are always logged.
+     * The events are encoded as JSON and written off the request thread (logback-spring.xml).
      *
-     * TODO: In the future, consider masking sensitive data in logs (e.g. user emails,
-     * payment details) before logging method arguments for security compliance.
-     *
-     * TODO: Consider pushing logs to a centralized logging system (e.g. ELK Stack —
+     * TODO: Ship the JSON console output to a centralized logging system (e.g. ELK Stack —
      * Elasticsearch, Logstash, Kibana) when Observability is implemented in Section 11.
      */
     @Around("applicationLayer()")
     public Object logMethodExecution(ProceedingJoinPoint joinPoint) throws Throwable {
-        String methodName = joinPoint.getSignature().getName();
-        String className = joinPoint.getTarget().getClass().getSimpleName();
-        Object[] args = joinPoint.getArgs();
-
-        log.info("[START] {}.{}() called with args: {}", className, methodName, args);
-
-        long startTime = System.currentTimeMillis();
+        long startTime = System.nanoTime();
 
         try {
             Object result = joinPoint.proceed();
-            long duration = System.currentTimeMillis() - startTime;
-            log.info("[END] {}.{}() completed in {}ms", className, methodName, duration);
+            CallLogger callLogger = callLoggerFor(joinPoint);
+            if (callLogger.logger().isInfoEnabled() && callLogger.sampled()) {
+                callLogger.logger().atInfo()
+                        .setMessage("Call completed")
+                        .addKeyValue("method", joinPoint.getSignature().getName())
+                        .addKeyValue("durationMs", elapsedMillis(startTime))
+                        .addKeyValue("args", renderArgs(joinPoint))
+                        .log();
+            }
             return result;
 
         } catch (Exception ex) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("[ERROR] {}.{}() failed after {}ms with exception: {}",
-                    className, methodName, duration, ex.getMessage());
+            callLoggerFor(joinPoint).logger().atError()
+                    .setMessage("Call failed")
+                    .addKeyValue("method", joinPoint.getSignature().getName())
+                    .addKeyValue("durationMs", elapsedMillis(startTime))
+                    .addKeyValue("args", renderArgs(joinPoint))
+                    .addKeyValue("error", ex.getMessage())
+                    .log();
             throw ex;
         }
     }
-}
\ No newline at end of file
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private CallLogger callLoggerFor(ProceedingJoinPoint joinPoint) {
+        return callLoggers.computeIfAbsent(joinPoint.getTarget().getClass(), type -> new CallLogger(
+                LoggerFactory.getLogger(type), sampleRateOf(type.getName())));
+    }
+
+    /**
+     * The rate of the longest configured prefix of a logger name, or 1.0 if none matches.
+     */
+    private double sampleRateOf(String loggerName) {
+        String match = null;
+        for (String prefix : properties.getSampleRates().keySet()) {
+            boolean matches = loggerName.equals(prefix) || loggerName.startsWith(prefix + ".");
+            if (matches && (match == null || prefix.length() > match.length())) {
+                match = prefix;
+            }
+        }
+        return match != null ? properties.getSampleRates().get(match) : 1.0;
+    }
+
+    private String renderArgs(ProceedingJoinPoint joinPoint) {
+        String[] parameterNames = joinPoint.getSignature() instanceof MethodSignature signature
+                ? signature.getParameterNames()
+                : null;
+        return argumentMasker.render(parameterNames, joinPoint.getArgs());
+    }
+
+    private static long elapsedMillis(long startTime) {
+        return (System.nanoTime() - startTime) / 1_000_000;
+    }
+
+    private record CallLogger(Logger logger, double sampleRate) {
+
+        boolean sampled() {
+            return sampleRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < sampleRate;
+        }
+    }
+}
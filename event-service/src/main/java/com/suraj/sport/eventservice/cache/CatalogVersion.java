@@ -0,0 +1,19 @@
+package com.suraj.sport.eventservice.cache;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Fingerprint of the whole event list — changes whenever an event is created
+ * or any event (including its seat count) is updated.
+ */
+public record CatalogVersion(long eventCount, LocalDateTime lastUpdatedAt) {
+
+    public String eTag() {
+        long updatedMicros = lastUpdatedAt == null
+                ? 0
+                : ChronoUnit.MICROS.between(LocalDateTime.ofEpochSecond(0, 0, ZoneOffset.UTC), lastUpdatedAt);
+        return "\"c" + eventCount + "-" + updatedMicros + "\"";
+    }
+}
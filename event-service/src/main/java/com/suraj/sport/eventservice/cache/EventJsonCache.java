@@ -0,0 +1,274 @@
+package com.suraj.sport.eventservice.cache;
+
+import com.suraj.sport.eventservice.dto.response.ApiResult;
+import com.suraj.sport.eventservice.dto.response.EventResponse;
+import com.suraj.sport.eventservice.dto.response.PriceQuoteResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Serialized JSON of the events read by id, so a hot event is not run through Jackson on
+ * every GET (see EventJsonConverter).
+ * <p>
+ * Each entry holds the UTF-8 body of ApiResult&lt;EventResponse&gt; for one event, serialized
+ * once with the application's JsonMapper and with "priceQuote":null, plus where in it the
+ * fields a booking changes — availableSeats, updatedAt and version — and the price quote
+ * sit. Every read still loads the event, so a body is never staler than the event row;
+ * compared with the cached entry:
+ * - nothing changed → the cached bytes are written as they are
+ * - only availableSeats, updatedAt and version changed (a booking or a cancellation) →
+ *   the new values are spliced into a copy of the bytes, the rest is not serialized again
+ * - anything else changed → the body is serialized afresh
+ * The price quote is re-signed on every read (see PricingEngine), but its JSON only changes
+ * with the price or the whole-second expiry, so it is cached per entry too and written in
+ * place of the template's null.
+ * <p>
+ * NOTE: One entry per event ever read, like EventVersionCache — fine for today's catalogue
+ * sizes. Bound it (e.g. with Caffeine) if the catalogue grows large.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventJsonCache {
+
+    // The spliced fields, in the order they appear in the body
+    private static final int AVAILABLE_SEATS = 0;
+    private static final int UPDATED_AT = 1;
+    private static final int VERSION = 2;
+    private static final int PRICE_QUOTE = 3;
+    private static final String[] FIELD_NAMES = {"availableSeats", "updatedAt", "version", "priceQuote"};
+
+    private static final byte[] NULL = ascii("null");
+
+    private final JsonMapper jsonMapper;
+
+    private final ConcurrentMap<Long, Entry> entries = new ConcurrentHashMap<>();
+
+    /**
+     * The body to write for a result. Cached bytes when the event has not changed since it
+     * was last written, else spliced or serialized and cached for the next read.
+     */
+    public Body bodyOf(ApiResult<EventResponse> result) {
+        EventResponse event = result.getData();
+        if (event == null) {
+            return new Body(jsonMapper.writeValueAsBytes(result), -1, null);
+        }
+
+        Entry entry = entries.get(event.id());
+        if (entry == null || !entry.matches(result)) {
+            entry = entry != null && entry.canSplice(result) ? splice(entry, event) : serialize(result);
+            if (entry == null) {
+                // The JsonMapper's output cannot be spliced (e.g. indented, or nulls left out)
+                return new Body(jsonMapper.writeValueAsBytes(result), -1, null);
+            }
+            entries.put(event.id(), entry);
+        }
+        return new Body(entry.json, entry.offsets[PRICE_QUOTE], entry.quoteJson(event.priceQuote()));
+    }
+
+    /**
+     * The serialized JSON of one response. When quoteAt is set, the cached bytes hold null
+     * there and quote is written in its place.
+     */
+    public record Body(byte[] json, int quoteAt, byte[] quote) {
+
+        public int length() {
+            return quoteAt < 0 ? json.length : json.length - NULL.length + quote.length;
+        }
+
+        public void writeTo(OutputStream out) throws IOException {
+            if (quoteAt < 0) {
+                out.write(json);
+                return;
+            }
+            int rest = quoteAt + NULL.length;
+            out.write(json, 0, quoteAt);
+            out.write(quote);
+            out.write(json, rest, json.length - rest);
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * Serializes a result with its price quote left out, and finds the spliced fields in
+     * it. Returns null if they are not all there, in order, as compact JSON.
+     */
+    private Entry serialize(ApiResult<EventResponse> result) {
+        EventResponse event = result.getData();
+        byte[] json = jsonMapper.writeValueAsBytes(
+                ApiResult.of(result.isSuccess(), result.getMessage(), withoutQuote(event)));
+
+        byte[][] values = valuesOf(event);
+        int[] offsets = new int[FIELD_NAMES.length];
+        int from = 0;
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+            int key = indexOf(json, ascii("\"" + FIELD_NAMES[field] + "\":"), from);
+            if (key < 0) {
+                return null;
+            }
+            offsets[field] = key + FIELD_NAMES[field].length() + 3;
+            if (!regionEquals(json, offsets[field], values[field])) {
+                return null;
+            }
+            from = offsets[field] + values[field].length;
+        }
+        return new Entry(result, json, offsets, lengthsOf(values), null);
+    }
+
+    /**
+     * Copies an entry's bytes with the new availableSeats, updatedAt and version of an event
+     * written over the old ones.
+     */
+    private Entry splice(Entry entry, EventResponse event) {
+        byte[][] values = valuesOf(event);
+        int[] lengths = lengthsOf(values);
+
+        int size = entry.json.length;
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+            size += lengths[field] - entry.lengths[field];
+        }
+        byte[] json = new byte[size];
+        int[] offsets = new int[FIELD_NAMES.length];
+        int from = 0;
+        int to = 0;
+        for (int field = 0; field < FIELD_NAMES.length; field++) {
+            int unchanged = entry.offsets[field] - from;
+            System.arraycopy(entry.json, from, json, to, unchanged);
+            to += unchanged;
+            offsets[field] = to;
+            System.arraycopy(values[field], 0, json, to, lengths[field]);
+            to += lengths[field];
+            from = entry.offsets[field] + entry.lengths[field];
+        }
+        System.arraycopy(entry.json, from, json, to, entry.json.length - from);
+
+        return new Entry(entry.success, entry.message, event, json, offsets, lengths, entry.quote);
+    }
+
+    private byte[][] valuesOf(EventResponse event) {
+        byte[][] values = new byte[FIELD_NAMES.length][];
+        values[AVAILABLE_SEATS] = ascii(String.valueOf(event.availableSeats()));
+        values[UPDATED_AT] = jsonMapper.writeValueAsBytes(event.updatedAt());
+        values[VERSION] = ascii(String.valueOf(event.version()));
+        values[PRICE_QUOTE] = NULL;
+        return values;
+    }
+
+    private static int[] lengthsOf(byte[][] values) {
+        int[] lengths = new int[values.length];
+        for (int field = 0; field < values.length; field++) {
+            lengths[field] = values[field].length;
+        }
+        return lengths;
+    }
+
+    private static EventResponse withoutQuote(EventResponse event) {
+        return new EventResponse(event.id(), event.name(), event.sportType(), event.venue(), event.eventDate(),
+                event.totalSeats(), event.availableSeats(), event.pricePerSeat(), event.status(),
+                event.createdAt(), event.updatedAt(), event.version(), null);
+    }
+
+    /**
+     * True if two events differ at most in the fields a booking changes.
+     */
+    private static boolean sameDetails(EventResponse a, EventResponse b) {
+        return a.id() == b.id()
+                && a.totalSeats() == b.totalSeats()
+                && Double.compare(a.pricePerSeat(), b.pricePerSeat()) == 0
+                && a.status() == b.status()
+                && Objects.equals(a.name(), b.name())
+                && Objects.equals(a.sportType(), b.sportType())
+                && Objects.equals(a.venue(), b.venue())
+                && Objects.equals(a.eventDate(), b.eventDate())
+                && Objects.equals(a.createdAt(), b.createdAt());
+    }
+
+    // Key names contain no characters JSON escapes, and inside a string value a quote is
+    // always escaped — so "name": can only match a key
+    private static int indexOf(byte[] json, byte[] key, int from) {
+        for (int i = from; i <= json.length - key.length; i++) {
+            if (regionEquals(json, i, key)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static boolean regionEquals(byte[] json, int offset, byte[] value) {
+        return offset + value.length <= json.length
+                && Arrays.equals(json, offset, offset + value.length, value, 0, value.length);
+    }
+
+    private static byte[] ascii(String value) {
+        return value.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    private final class Entry {
+
+        private final boolean success;
+        private final String message;
+        private final EventResponse event;
+        private final byte[] json;
+        private final int[] offsets;
+        private final int[] lengths;
+
+        // JSON of the last price quote written for this event
+        private volatile Quote quote;
+
+        private Entry(ApiResult<EventResponse> result, byte[] json, int[] offsets, int[] lengths, Quote quote) {
+            this(result.isSuccess(), result.getMessage(), result.getData(), json, offsets, lengths, quote);
+        }
+
+        private Entry(boolean success, String message, EventResponse event, byte[] json,
+                      int[] offsets, int[] lengths, Quote quote) {
+            this.success = success;
+            this.message = message;
+            this.event = event;
+            this.json = json;
+            this.offsets = offsets;
+            this.lengths = lengths;
+            this.quote = quote;
+        }
+
+        boolean matches(ApiResult<EventResponse> result) {
+            EventResponse other = result.getData();
+            return canSplice(result)
+                    && event.availableSeats() == other.availableSeats()
+                    && event.version() == other.version()
+                    && Objects.equals(event.updatedAt(), other.updatedAt());
+        }
+
+        boolean canSplice(ApiResult<EventResponse> result) {
+            return success == result.isSuccess()
+                    && Objects.equals(message, result.getMessage())
+                    && sameDetails(event, result.getData());
+        }
+
+        byte[] quoteJson(PriceQuoteResponse priceQuote) {
+            if (priceQuote == null) {
+                return NULL;
+            }
+            Quote cached = quote;
+            if (cached != null && cached.value().equals(priceQuote)) {
+                return cached.json();
+            }
+            byte[] json = jsonMapper.writeValueAsBytes(priceQuote);
+            quote = new Quote(priceQuote, json);
+            return json;
+        }
+    }
+
+    private record Quote(PriceQuoteResponse value, byte[] json) {
+    }
+}
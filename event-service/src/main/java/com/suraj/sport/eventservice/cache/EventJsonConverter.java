@@ -0,0 +1,68 @@
+package com.suraj.sport.eventservice.cache;
+
+import com.suraj.sport.eventservice.dto.response.ApiResult;
+import com.suraj.sport.eventservice.dto.response.EventResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.core.ResolvableType;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.SmartHttpMessageConverter;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Writes ApiResult&lt;EventResponse&gt; bodies — GET /api/v1/event/{eventId} — from
+ * EventJsonCache rather than through Jackson, straight to the response stream and with a
+ * Content-Length. Registered ahead of the Jackson converter, which still writes every
+ * other type.
+ * <p>
+ * Turned off with event.http-cache.serialized-bodies=false.
+ */
+@Component
+@ConditionalOnProperty(name = "event.http-cache.serialized-bodies", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class EventJsonConverter implements SmartHttpMessageConverter<ApiResult<EventResponse>> {
+
+    private final EventJsonCache eventJsonCache;
+
+    @Override
+    public boolean canWrite(ResolvableType targetType, Class<?> valueClass, MediaType mediaType) {
+        return valueClass == ApiResult.class
+                && targetType.resolve() == ApiResult.class
+                && targetType.getGeneric(0).resolve() == EventResponse.class
+                && (mediaType == null || MediaType.APPLICATION_JSON.isCompatibleWith(mediaType));
+    }
+
+    @Override
+    public void write(ApiResult<EventResponse> result, ResolvableType type, MediaType contentType,
+                      HttpOutputMessage outputMessage, Map<String, Object> hints) throws IOException {
+        EventJsonCache.Body body = eventJsonCache.bodyOf(result);
+        HttpHeaders headers = outputMessage.getHeaders();
+        headers.setContentType(contentType != null && contentType.isConcrete() ? contentType : MediaType.APPLICATION_JSON);
+        headers.setContentLength(body.length());
+        body.writeTo(outputMessage.getBody());
+    }
+
+    @Override
+    public List<MediaType> getSupportedMediaTypes() {
+        return List.of(MediaType.APPLICATION_JSON);
+    }
+
+    // Write-only — request bodies are read by Jackson
+
+    @Override
+    public boolean canRead(ResolvableType type, MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    public ApiResult<EventResponse> read(ResolvableType type, HttpInputMessage inputMessage, Map<String, Object> hints) {
+        throw new UnsupportedOperationException("EventJsonConverter only writes responses");
+    }
+}
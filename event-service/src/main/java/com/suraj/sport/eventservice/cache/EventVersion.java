@@ -0,0 +1,14 @@
+package com.suraj.sport.eventservice.cache;
+
+import com.suraj.sport.eventservice.entity.EventStatus;
+
+/**
+ * Just enough of an event to answer a conditional GET — the version drives the ETag,
+ * the status drives the Cache-Control policy.
+ */
+public record EventVersion(long version, EventStatus status) {
+
+    public String eTag(long eventId) {
+        return "\"e" + eventId + "-v" + version + "\"";
+    }
+}
@@ -0,0 +1,70 @@
+package com.suraj.sport.eventservice.cache;
+
+import com.suraj.sport.eventservice.config.HttpCacheProperties;
+import com.suraj.sport.eventservice.entity.Event;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Short-lived cache of event versions used to answer If-None-Match without
+ * touching the database.
+ * <p>
+ * Writes made through this instance update or evict entries immediately. Entries also
+ * expire after event.http-cache.version-ttl, which bounds staleness for changes made
+ * by other event-service instances — during an on-sale each instance re-reads an
+ * event's version at most once per TTL, however many clients are polling it.
+ */
+@Component
+@RequiredArgsConstructor
+public class EventVersionCache {
+
+    private final HttpCacheProperties properties;
+
+    private final ConcurrentMap<Long, Entry<EventVersion>> versions = new ConcurrentHashMap<>();
+    private volatile Entry<CatalogVersion> catalogVersion;
+
+    public EventVersion getVersion(Long eventId) {
+        Entry<EventVersion> entry = versions.get(eventId);
+        return entry != null && entry.isFresh() ? entry.value() : null;
+    }
+
+    public void put(Event event) {
+        put(event.getId(), new EventVersion(event.getVersion(), event.getStatus()));
+    }
+
+    public void put(Long eventId, EventVersion version) {
+        versions.put(eventId, new Entry<>(version, expiresAt()));
+    }
+
+    public CatalogVersion getCatalogVersion() {
+        Entry<CatalogVersion> entry = catalogVersion;
+        return entry != null && entry.isFresh() ? entry.value() : null;
+    }
+
+    public void putCatalogVersion(CatalogVersion version) {
+        catalogVersion = new Entry<>(version, expiresAt());
+    }
+
+    /**
+     * Drops the cached version of an event — and the catalogue fingerprint,
+     * since any event change also changes the event list.
+     */
+    public void evict(Long eventId) {
+        versions.remove(eventId);
+        catalogVersion = null;
+    }
+
+    private long expiresAt() {
+        return System.nanoTime() + properties.getVersionTtl().toNanos();
+    }
+
+    private record Entry<T>(T value, long expiresAtNanos) {
+
+        boolean isFresh() {
+            return System.nanoTime() - expiresAtNanos < 0;
+        }
+    }
+}
@@ -0,0 +1,17 @@
+package com.suraj.sport.eventservice.client;
+
+/**
+ * Port for the calls Event Service makes into Booking Service.
+ * <p>
+ * Kept as an interface so the transport (REST today) can be swapped without
+ * touching the event logic that depends on it.
+ */
+public interface BookingServiceClient {
+
+    /**
+     * Tells Booking Service that an event was cancelled, so it cancels and refunds every
+     * active booking of the event. Booking Service does the work in the background and
+     * treats a repeated command for the same event as a resume.
+     */
+    void cancelEventBookings(Long eventId, String reason);
+}
@@ -0,0 +1,38 @@
+package com.suraj.sport.eventservice.client.impl;
+
+import com.suraj.sport.eventservice.client.BookingServiceClient;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.RestClient;
+
+import java.util.Map;
+
+@Component
+@ConditionalOnProperty(name = "services.booking.transport", havingValue = "rest", matchIfMissing = true)
+public class BookingServiceRestClient implements BookingServiceClient {
+
+    private final RestClient restClient;
+
+    public BookingServiceRestClient(@Qualifier("bookingRestClient") RestClient restClient) {
+        this.restClient = restClient;
+    }
+
+    /**
+     * Calls POST /api/v1/booking/event-cancellations on Booking Service.
+     * Non-2xx responses surface as RestClientResponseException to the caller.
+     *
+     * TODO: secureInternalCall()
+     * Attach a service token once internal endpoints are secured in Section 12.
+     */
+    @Override
+    public void cancelEventBookings(Long eventId, String reason) {
+        restClient.post()
+                .uri("/api/v1/booking/event-cancellations")
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(Map.of("eventId", eventId, "reason", reason))
+                .retrieve()
+                .toBodilessEntity();
+    }
+}
@@ -0,0 +1,27 @@
+package com.suraj.sport.eventservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Tuning for the live seat availability stream.
+ * Bound from the event.availability-stream.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "event.availability-stream")
+public class AvailabilityStreamProperties {
+
+    // Seat changes are coalesced and pushed at most once per interval per event
+    private Duration coalesceInterval = Duration.ofMillis(250);
+
+    // Idle streams get a comment line this often so dead connections are detected and released
+    private Duration heartbeatInterval = Duration.ofSeconds(15);
+
+    // Streams are closed after this long; EventSource clients reconnect automatically
+    private Duration emitterTimeout = Duration.ofMinutes(30);
+
+    // A subscriber whose previous message is still being written after this long is dropped
+    private Duration slowConsumerTimeout = Duration.ofSeconds(5);
+}
@@ -0,0 +1,34 @@
+package com.suraj.sport.eventservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Timing of automatic status transitions (UPCOMING → ONGOING → COMPLETED).
+ * Bound from the event.lifecycle.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "event.lifecycle")
+public class EventLifecycleProperties {
+
+    // Events have no end time — an ONGOING event is completed this long after its eventDate
+    private Duration defaultDuration = Duration.ofHours(4);
+
+    // Per sport type overrides of defaultDuration, matched ignoring case (e.g. Cricket: PT8H)
+    private Map<String, Duration> durations = new HashMap<>();
+
+    // A batch of transitions that failed to apply is retried after this long
+    private Duration retryDelay = Duration.ofSeconds(30);
+
+    public Duration durationOf(String sportType) {
+        return durations.entrySet().stream()
+                .filter(entry -> entry.getKey().equalsIgnoreCase(sportType))
+                .map(Map.Entry::getValue)
+                .findFirst()
+                .orElse(defaultDuration);
+    }
+}
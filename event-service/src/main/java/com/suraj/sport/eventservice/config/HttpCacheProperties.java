@@ -0,0 +1,26 @@
+package com.suraj.sport.eventservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * HTTP caching policy for the event read endpoints.
+ * Bound from the event.http-cache.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "event.http-cache")
+public class HttpCacheProperties {
+
+    // How long a cached event version may answer conditional GETs before it is re-read.
+    // Bounds how stale a 304 can be when another instance changed the event.
+    private Duration versionTtl = Duration.ofSeconds(1);
+
+    // max-age for COMPLETED and CANCELLED events — their fields can no longer change
+    private Duration immutableMaxAge = Duration.ofHours(1);
+
+    // Write events read by id from their cached JSON instead of serializing them on every read
+    // (see EventJsonCache)
+    private boolean serializedBodies = true;
+}
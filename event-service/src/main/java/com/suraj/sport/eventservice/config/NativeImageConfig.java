@@ -0,0 +1,29 @@
+package com.suraj.sport.eventservice.config;
+
+import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
+import com.suraj.sport.eventservice.dto.response.SeatAvailabilityUpdate;
+import org.springframework.aot.hint.annotation.RegisterReflectionForBinding;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Reachability metadata for the native image (the native Maven profile) that Spring AOT
+ * cannot derive from the application itself.
+ * <p>
+ * Derived by AOT at build time, nothing to add here:
+ * - entities, including their Lombok builders (Spring Data JPA managed types)
+ * - request and response bodies of controller methods, e.g. ApiResult and EventResponse
+ * - beans advised by LoggingAspect and TracingAspect — their CGLIB proxies are generated at
+ *   build time and their methods registered, which keeps the parameter names LoggingAspect
+ *   masks arguments by. Repository advice joins Spring Data's own JDK proxy.
+ * - RingBufferAppender, from logback-spring.xml
+ * Hibernate's own metadata comes from the GraalVM reachability metadata repository.
+ * <p>
+ * Registered here — types Jackson or Hibernate handle outside a controller signature:
+ * - CreateEventRequest, read line by line by NdjsonEventImportReader
+ * - SeatAvailabilityUpdate, built by a JPQL constructor expression and written to the
+ *   availability streams by SeatAvailabilityHub
+ */
+@Configuration
+@RegisterReflectionForBinding({CreateEventRequest.class, SeatAvailabilityUpdate.class})
+public class NativeImageConfig {
+}
@@ -0,0 +1,22 @@
+package com.suraj.sport.eventservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * Tuning for the startup virtual-thread pinning audit (see PinningAudit).
+ * Bound from the event.pinning-audit.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "event.pinning-audit")
+public class PinningAuditProperties {
+
+    // The audit only runs in virtual-thread mode; this switches it off there too
+    private boolean enabled = true;
+
+    // Virtual threads per probe — more than the Hikari pool, so they contend for connections
+    private int threads = 32;
+
+    // Calls each thread makes per probe
+    private int iterations = 5;
+}
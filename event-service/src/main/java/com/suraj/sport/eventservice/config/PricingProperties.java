@@ -0,0 +1,44 @@
+package com.suraj.sport.eventservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * Demand-based pricing of seats and the signed price quotes handed to Booking Service.
+ * Bound from the event.pricing.* section of application.yml.
+ * <p>
+ * The price of a seat is pricePerSeat × multiplier, where
+ * multiplier = 1 + scarcityWeight × (share of the house sold)
+ *                + demandWeight × min(1, seats sold in the window / (totalSeats × hotSellThrough)),
+ * capped at maxMultiplier. The event's own pricePerSeat is therefore the floor.
+ */
+@Data
+@ConfigurationProperties(prefix = "event.pricing")
+public class PricingProperties {
+
+    // Sell-through is measured over a sliding window of this length...
+    private Duration window = Duration.ofMinutes(15);
+
+    // ...made of this many buckets — sales older than the window drop out one bucket at a time
+    private int windowBuckets = 15;
+
+    // Added to the multiplier in proportion to the share of seats already sold
+    private double scarcityWeight = 0.5;
+
+    // Added to the multiplier in proportion to recent sell-through, up to hotSellThrough
+    private double demandWeight = 0.5;
+
+    // Share of the house sold within one window that counts as peak demand (e.g. 0.05 = 5%)
+    private double hotSellThrough = 0.05;
+
+    // The price never goes above pricePerSeat × maxMultiplier
+    private double maxMultiplier = 2.0;
+
+    // Quotes are honoured by Booking Service until this long after they were issued
+    private Duration quoteValidity = Duration.ofMinutes(2);
+
+    // HMAC-SHA256 key the quotes are signed with — shared with Booking Service
+    private String quoteSecret;
+}
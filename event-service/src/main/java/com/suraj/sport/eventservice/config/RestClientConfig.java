@@ -0,0 +1,23 @@
+package com.suraj.sport.eventservice.config;
+
+import com.suraj.sport.eventservice.tracing.TracingClientInterceptor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.client.RestClient;
+
+@Configuration
+public class RestClientConfig {
+
+    /**
+     * RestClient pointed at Booking Service — used to cancel the bookings of a cancelled event.
+     */
+    @Bean
+    public RestClient bookingRestClient(@Value("${services.booking.base-url}") String baseUrl,
+                                        TracingClientInterceptor tracingInterceptor) {
+        return RestClient.builder()
+                .baseUrl(baseUrl)
+                .requestInterceptor(tracingInterceptor)
+                .build();
+    }
+}
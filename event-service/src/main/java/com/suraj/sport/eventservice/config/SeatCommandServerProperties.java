@@ -0,0 +1,23 @@
+package com.suraj.sport.eventservice.config;
+
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * The binary port Booking Service sends seat commands to (see SeatCommandServer).
+ * Bound from the event.seat-command-server.* section of application.yml.
+ */
+@Data
+@ConfigurationProperties(prefix = "event.seat-command-server")
+public class SeatCommandServerProperties {
+
+    // Off → Booking Service falls back to the REST endpoints
+    private boolean enabled = true;
+
+    // Interface to listen on — loopback unless set. The port has no authentication yet, so
+    // only ever bind it to an internal interface (e.g. SEAT_COMMAND_ADDRESS=10.0.0.5)
+    private String address = "127.0.0.1";
+
+    // Must match booking-service's services.event.seat-commands.port; 0 picks a free port
+    private int port = 9081;
+}
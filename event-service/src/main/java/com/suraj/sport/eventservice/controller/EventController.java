@@ -1,12 +1,23 @@
 package com.suraj.sport.eventservice.controller;
 
+import com.suraj.sport.eventservice.cache.CatalogVersion;
+import com.suraj.sport.eventservice.cache.EventVersion;
+import com.suraj.sport.eventservice.config.HttpCacheProperties;
 import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
 import com.suraj.sport.eventservice.dto.request.UpdateEventRequest;
 import com.suraj.sport.eventservice.dto.response.ApiResult;
 import com.suraj.sport.eventservice.dto.response.CreateEventResponse;
+import com.suraj.sport.eventservice.dto.response.EventImportResponse;
 import com.suraj.sport.eventservice.dto.response.EventResponse;
+import com.suraj.sport.eventservice.dto.response.EventSearchResponse;
+import com.suraj.sport.eventservice.dto.response.PriceQuoteResponse;
+import com.suraj.sport.eventservice.dto.response.SeatAvailabilityUpdate;
 import com.suraj.sport.eventservice.dto.response.UpdateEventResponse;
+import com.suraj.sport.eventservice.entity.EventStatus;
+import com.suraj.sport.eventservice.importer.EventImportFormat;
+import com.suraj.sport.eventservice.service.EventImportService;
 import com.suraj.sport.eventservice.service.EventService;
+import com.suraj.sport.eventservice.stream.SeatAvailabilityHub;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -16,11 +27,18 @@ import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
+import java.io.InputStream;
 import java.util.List;
+import java.util.Objects;
 
 @Tag(name = "Event API", description = "Manages sports events")
 @RestController
@@ -29,6 +47,9 @@ import java.util.List;
 public class EventController {
 
     private final EventService eventService;
+    private final EventImportService eventImportService;
+    private final HttpCacheProperties httpCacheProperties;
+    private final SeatAvailabilityHub seatAvailabilityHub;
 
     // =====================================================================
     // POST EVENT
@@ -126,6 +147,100 @@ public class EventController {
                 .body(ApiResult.of(true, "Event Created Successfully", createEventResponse));
     }
 
+    // =====================================================================
+    // BULK IMPORT EVENTS
+    // =====================================================================
+
+    @Operation(
+            summary = "Bulk import sports events",
+            description = "Imports a season of fixtures from a streamed upload. Send the file as the raw request body with "
+                    + "Content-Type text/csv (header row: name,sportType,venue,eventDate,totalSeats,pricePerSeat) or "
+                    + "application/x-ndjson (one create-event JSON object per line). "
+                    + "Rows are validated like POST /api/v1/event; duplicates and invalid rows are skipped and reported "
+                    + "by line number without stopping the import."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Import finished — check the per-row report for rejected rows",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Import Completed",
+                                        "data": {
+                                            "totalRows": 380,
+                                            "imported": 377,
+                                            "duplicates": 2,
+                                            "failed": 1,
+                                            "errors": [
+                                                { "line": 14, "message": "Duplicate of line 9" },
+                                                { "line": 57, "message": "An event with the same name, venue and date already exists" },
+                                                { "line": 212, "message": "Invalid totalSeats 'TBC'" }
+                                            ],
+                                            "errorsTruncated": false
+                                        }
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Upload is empty, the CSV header is missing a column, or the upload was cut off",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "CSV header is missing required column: eventdate",
+                                        "data": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    @PostMapping(value = "/import", consumes = "text/csv")
+    public ResponseEntity<ApiResult<EventImportResponse>> importEventsCsv(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "CSV file with a header row",
+                    required = true,
+                    content = @Content(
+                            mediaType = "text/csv",
+                            examples = @ExampleObject(value = """
+                                    name,sportType,venue,eventDate,totalSeats,pricePerSeat
+                                    "MI vs CSK",Cricket,"Wankhede Stadium, Mumbai",2025-04-05T19:30:00,33000,1500
+                                    "RCB vs KKR",Cricket,"M. Chinnaswamy Stadium, Bengaluru",2025-04-06T19:30:00,35000,1800
+                                    """)
+                    )
+            )
+            InputStream body) {
+        EventImportResponse response = eventImportService.importEvents(body, EventImportFormat.CSV);
+        return ResponseEntity.ok(ApiResult.of(true, "Import Completed", response));
+    }
+
+    @Operation(
+            summary = "Bulk import sports events (NDJSON)",
+            description = "Same as the CSV import, for newline-delimited JSON uploads."
+    )
+    @PostMapping(value = "/import", consumes = "application/x-ndjson")
+    public ResponseEntity<ApiResult<EventImportResponse>> importEventsNdjson(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "One create-event JSON object per line",
+                    required = true,
+                    content = @Content(
+                            mediaType = "application/x-ndjson",
+                            examples = @ExampleObject(value = """
+                                    {"name":"MI vs CSK","sportType":"Cricket","venue":"Wankhede Stadium, Mumbai","eventDate":"2025-04-05T19:30:00","totalSeats":33000,"pricePerSeat":1500}
+                                    {"name":"RCB vs KKR","sportType":"Cricket","venue":"M. Chinnaswamy Stadium, Bengaluru","eventDate":"2025-04-06T19:30:00","totalSeats":35000,"pricePerSeat":1800}
+                                    """)
+                    )
+            )
+            InputStream body) {
+        EventImportResponse response = eventImportService.importEvents(body, EventImportFormat.NDJSON);
+        return ResponseEntity.ok(ApiResult.of(true, "Import Completed", response));
+    }
+
     // =====================================================================
     // PUT EVENT
     // =====================================================================
@@ -236,7 +351,10 @@ public class EventController {
 
     @Operation(
             summary = "Get a sports event by ID",
-            description = "Retrieves full details of a sports event by its unique ID."
+            description = "Retrieves full details of a sports event by its unique ID. Responses carry an ETag; send it back in If-None-Match to receive 304 Not Modified while the event is unchanged. "
+                    + "Bookable events include a signed price quote valid for 2 minutes — pass its token as priceQuote when creating a booking. "
+                    + "Their ETag is weak and covers the event version and quoted price, not the quote's expiry — a 304 means the price is unchanged; "
+                    + "fetch GET /api/v1/event/{eventId}/price-quote for a fresh token."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -259,12 +377,24 @@ public class EventController {
                                             "pricePerSeat": 2500.00,
                                             "status": "UPCOMING",
                                             "createdAt": "2025-02-25T10:00:00",
-                                            "updatedAt": "2025-02-26T10:00:00"
+                                            "updatedAt": "2025-02-26T10:00:00",
+                                            "version": 3,
+                                            "priceQuote": {
+                                                "eventId": 1,
+                                                "basePrice": 2500.00,
+                                                "pricePerSeat": 3125.00,
+                                                "expiresAt": "2025-05-20T10:02:00Z",
+                                                "token": "MXwzMTI1MDB8MTc0NzczNTMyMHwyMDI1LTA1LTI1VDE4OjAwfENyaWNrZXQ.K_76lAyrEA3cMGCYrudQyWioeEV1EiMKuCvF2B3CzOQ"
+                                            }
                                         }
                                     }
                                     """)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified — the ETag in If-None-Match is still current"
+            ),
             @ApiResponse(
                     responseCode = "404",
                     description = "Event not found",
@@ -297,9 +427,38 @@ public class EventController {
     @GetMapping("/{eventId}")
     public ResponseEntity<ApiResult<EventResponse>> getEventById(
             @Parameter(description = "ID of the event to retrieve", required = true, example = "1")
-            @PathVariable Long eventId) {
+            @PathVariable Long eventId,
+            WebRequest webRequest) {
+
+        // Conditional GET — answered from the version cache, without loading or serializing the event.
+        // Only matches the strong ETag of an event without a price quote (see quotedETag)
+        boolean conditional = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+        if (conditional) {
+            EventVersion version = eventService.getEventVersion(eventId);
+            if (webRequest.checkNotModified(version.eTag(eventId))) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(version.eTag(eventId))
+                        .cacheControl(cacheControlFor(version))
+                        .build();
+            }
+        }
+
         EventResponse eventResponse = eventService.getEventById(eventId);
-        return ResponseEntity.ok(ApiResult.of(true, "Event Retrieved Successfully", eventResponse));
+        EventVersion version = new EventVersion(eventResponse.version(), eventResponse.status());
+        List<PriceQuoteResponse> quotes = eventResponse.priceQuote() != null ? List.of(eventResponse.priceQuote()) : List.of();
+        String eTag = quotedETag(version.eTag(eventId), quotes);
+        // A bookable event is priced before it can be compared — validated against the weak ETag it is sent with
+        if (conditional && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(cacheControlFor(version))
+                    .build();
+        }
+        // Written by EventJsonConverter from the event's cached JSON rather than serialized again
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(cacheControlFor(version))
+                .body(ApiResult.of(true, "Event Retrieved Successfully", eventResponse));
     }
 
     // =====================================================================
@@ -314,7 +473,8 @@ public class EventController {
 //
     @Operation(
             summary = "Get all sports events",
-            description = "Retrieves all sports events. Note: Pagination and filtering will be added in the future."
+            description = "Retrieves all sports events. Responses carry an ETag that changes when any event changes; send it back in If-None-Match to receive 304 Not Modified. "
+                    + "Bookable events include a signed price quote, as on GET /api/v1/event/{eventId}, and make the ETag weak and cover the quoted prices. Note: Pagination and filtering will be added in the future."
     )
     @ApiResponses(value = {
             @ApiResponse(
@@ -338,7 +498,15 @@ public class EventController {
                                                 "pricePerSeat": 2500.00,
                                                 "status": "UPCOMING",
                                                 "createdAt": "2025-02-25T10:00:00",
-                                                "updatedAt": "2025-02-26T10:00:00"
+                                                "updatedAt": "2025-02-26T10:00:00",
+                                                "version": 3,
+                                                "priceQuote": {
+                                                    "eventId": 1,
+                                                    "basePrice": 2500.00,
+                                                    "pricePerSeat": 3125.00,
+                                                    "expiresAt": "2025-05-20T10:02:00Z",
+                                                    "token": "MXwzMTI1MDB8MTc0NzczNTMyMHwyMDI1LTA1LTI1VDE4OjAwfENyaWNrZXQ.K_76lAyrEA3cMGCYrudQyWioeEV1EiMKuCvF2B3CzOQ"
+                                                }
                                             },
                                             {
                                                 "id": 2,
@@ -351,13 +519,25 @@ public class EventController {
                                                 "pricePerSeat": 5000.00,
                                                 "status": "UPCOMING",
                                                 "createdAt": "2025-02-25T10:00:00",
-                                                "updatedAt": "2025-02-26T10:00:00"
+                                                "updatedAt": "2025-02-26T10:00:00",
+                                                "version": 3,
+                                                "priceQuote": {
+                                                    "eventId": 2,
+                                                    "basePrice": 5000.00,
+                                                    "pricePerSeat": 5500.00,
+                                                    "expiresAt": "2025-05-20T10:02:00Z",
+                                                    "token": "Mnw1MDAwMDB8MTc0NzczNTMyMHwyMDI1LTA2LTE1VDIwOjAwfEZvb3RiYWxs.qyfLGoiKfGmfFWb5IX9Ng6O-2dxECZVHI7Sgbn2e_eA"
+                                                }
                                             }
                                         ]
                                     }
                                     """)
                     )
             ),
+            @ApiResponse(
+                    responseCode = "304",
+                    description = "Not modified — the ETag in If-None-Match is still current"
+            ),
             @ApiResponse(
                     responseCode = "500",
                     description = "Unexpected internal server error",
@@ -374,9 +554,253 @@ public class EventController {
             )
     })
     @GetMapping
-    public ResponseEntity<ApiResult<List<EventResponse>>> getAllEvents() {
+    public ResponseEntity<ApiResult<List<EventResponse>>> getAllEvents(WebRequest webRequest) {
+
+        // Conditional GET — answered from the cached catalogue fingerprint. Only matches the
+        // strong ETag of a catalogue without price quotes (see quotedETag)
+        boolean conditional = webRequest.getHeader(HttpHeaders.IF_NONE_MATCH) != null;
+        if (conditional) {
+            CatalogVersion version = eventService.getCatalogVersion();
+            if (webRequest.checkNotModified(version.eTag())) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(version.eTag())
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+        }
+
         List<EventResponse> events = eventService.getAllEvents();
-        return ResponseEntity.ok(ApiResult.of(true, "Events Retrieved Successfully", events));
+        List<PriceQuoteResponse> quotes = events.stream()
+                .map(EventResponse::priceQuote)
+                .filter(Objects::nonNull)
+                .toList();
+        String eTag = quotedETag(eventService.getCatalogVersion().eTag(), quotes);
+        if (conditional && webRequest.checkNotModified(eTag)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                    .eTag(eTag)
+                    .cacheControl(CacheControl.noCache())
+                    .build();
+        }
+        return ResponseEntity.ok()
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(ApiResult.of(true, "Events Retrieved Successfully", events));
+    }
+
+    // =====================================================================
+    // SEARCH EVENTS
+    // =====================================================================
+
+    @Operation(
+            summary = "Search sports events",
+            description = "Full-text search over event name, venue and sport type. All words must match. Returns facet counts by sportType and status alongside the hits, ordered by event date."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Search completed successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Events Searched Successfully",
+                                        "data": {
+                                            "totalHits": 1,
+                                            "hits": [
+                                                {
+                                                    "id": 1,
+                                                    "name": "IPL 2025 Final",
+                                                    "sportType": "Cricket",
+                                                    "venue": "Wankhede Stadium, Mumbai",
+                                                    "eventDate": "2025-05-25T18:00:00",
+                                                    "status": "UPCOMING"
+                                                }
+                                            ],
+                                            "sportTypeFacets": {
+                                                "Cricket": 1
+                                            },
+                                            "statusFacets": {
+                                                "UPCOMING": 1
+                                            }
+                                        }
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "An unexpected error occurred",
+                                        "data": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    @GetMapping("/search")
+    public ResponseEntity<ApiResult<EventSearchResponse>> searchEvents(
+            @Parameter(description = "Search text — team, tournament, venue or sport", example = "ipl mumbai")
+            @RequestParam(required = false) String q,
+            @Parameter(description = "Only return events of this sport type", example = "Cricket")
+            @RequestParam(required = false) String sportType,
+            @Parameter(description = "Only return events in this status", example = "UPCOMING")
+            @RequestParam(required = false) EventStatus status,
+            @Parameter(description = "Maximum number of hits to return (1-100)", example = "20")
+            @RequestParam(defaultValue = "20") int limit) {
+        EventSearchResponse response = eventService.searchEvents(q, sportType, status, limit);
+        return ResponseEntity.ok(ApiResult.of(true, "Events Searched Successfully", response));
+    }
+
+    @Operation(
+            summary = "Autocomplete search terms",
+            description = "Suggests completions for the last word of a partially typed search, most common terms first."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Suggestions retrieved successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Suggestions Retrieved Successfully",
+                                        "data": ["mumbai", "muscat"]
+                                    }
+                                    """)
+                    )
+            )
+    })
+    @GetMapping("/search/autocomplete")
+    public ResponseEntity<ApiResult<List<String>>> autocomplete(
+            @Parameter(description = "Partially typed search text", required = true, example = "mu")
+            @RequestParam String prefix,
+            @Parameter(description = "Maximum number of suggestions to return (1-100)", example = "10")
+            @RequestParam(defaultValue = "10") int limit) {
+        List<String> suggestions = eventService.autocomplete(prefix, limit);
+        return ResponseEntity.ok(ApiResult.of(true, "Suggestions Retrieved Successfully", suggestions));
+    }
+
+    // =====================================================================
+    // SEAT AVAILABILITY STREAM
+    // =====================================================================
+
+    @Operation(
+            summary = "Stream live seat availability for an event",
+            description = "Server-sent events stream for watching available seats during a sale, instead of polling GET /api/v1/event/{eventId}. "
+                    + "The current seat count is sent on connect; after that an 'availability' message is pushed at most once every 250ms while seats change. "
+                    + "Idle streams receive a keep-alive comment every 15 seconds and are closed after 30 minutes — EventSource clients reconnect automatically. "
+                    + "Clients that cannot keep up are disconnected."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Stream opened",
+                    content = @Content(
+                            mediaType = "text/event-stream",
+                            examples = @ExampleObject(value = """
+                                    event:availability
+                                    id:42
+                                    data:{"eventId":1,"availableSeats":4987,"totalSeats":50000,"status":"UPCOMING","version":42}
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Event not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Event record not found for ID: 1",
+                                        "data": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    @GetMapping(value = "/{eventId}/availability/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamSeatAvailability(
+            @Parameter(description = "ID of the event to watch", required = true, example = "1")
+            @PathVariable Long eventId) {
+        SeatAvailabilityUpdate current = eventService.getSeatAvailability(eventId);
+        return seatAvailabilityHub.subscribe(current);
+    }
+
+    // =====================================================================
+    // PRICE QUOTE
+    // =====================================================================
+
+    @Operation(
+            summary = "Get a signed price quote for an event",
+            description = "Returns the current seat price, set from the event's base price by recent sell-through and remaining seats. "
+                    + "The quote token is signed and valid for 2 minutes — Booking Service charges the quoted price. Quotes are never cached."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Price quote issued",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Price Quote Issued Successfully",
+                                        "data": {
+                                            "eventId": 1,
+                                            "basePrice": 2500.00,
+                                            "pricePerSeat": 3125.00,
+                                            "expiresAt": "2025-05-20T10:02:00Z",
+                                            "token": "MXwzMTI1MDB8MTc0NzczNTMyMHwyMDI1LTA1LTI1VDE4OjAwfENyaWNrZXQ.K_76lAyrEA3cMGCYrudQyWioeEV1EiMKuCvF2B3CzOQ"
+                                        }
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Event not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Event record not found for ID: 1",
+                                        "data": null
+                                    }
+                                    """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Event is not open for booking",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "Event is not open for booking — current status: COMPLETED",
+                                        "data": null
+                                    }
+                                    """)
+                    )
+            )
+    })
+    @GetMapping("/{eventId}/price-quote")
+    public ResponseEntity<ApiResult<PriceQuoteResponse>> getPriceQuote(
+            @Parameter(description = "ID of the event to price", required = true, example = "1")
+            @PathVariable Long eventId) {
+        PriceQuoteResponse priceQuote = eventService.getPriceQuote(eventId);
+        return ResponseEntity.ok()
+                .cacheControl(CacheControl.noStore())
+                .body(ApiResult.of(true, "Price Quote Issued Successfully", priceQuote));
     }
 
     // =====================================================================
@@ -418,18 +842,60 @@ public class EventController {
 
     @Operation(
             summary = "Reduce available seats for an event",
-            description = "Internal endpoint called by Booking Service when a booking is made. Not available to end users. Will be fully implemented in Section 8."
+            description = "Internal endpoint called by Booking Service when a booking is made. Not available to end users."
     )
     @ApiResponses(value = {
             @ApiResponse(
-                    responseCode = "501",
-                    description = "Not yet implemented",
+                    responseCode = "200",
+                    description = "Seats reduced successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                {
+                                    "success": true,
+                                    "message": "Seats Reduced Successfully",
+                                    "data": null
+                                }
+                                """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid seat count",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                {
+                                    "success": false,
+                                    "message": "Seats to reduce must be greater than 0",
+                                    "data": null
+                                }
+                                """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Event not found",
                     content = @Content(
                             mediaType = "application/json",
                             examples = @ExampleObject(value = """
                                 {
                                     "success": false,
-                                    "message": "Will be implemented when Booking Service integration is set up",
+                                    "message": "Event record not found for ID: 1",
+                                    "data": null
+                                }
+                                """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "409",
+                    description = "Event is not open for booking or not enough seats are available",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                {
+                                    "success": false,
+                                    "message": "Cannot book 4 seats — only 2 seats are available",
                                     "data": null
                                 }
                                 """)
@@ -443,8 +909,7 @@ public class EventController {
             @Parameter(description = "Number of seats to reduce", required = true, example = "2")
             @RequestParam int seats) {
         eventService.reduceAvailableSeats(eventId, seats);
-        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED)
-                .body(ApiResult.of(false, "Will be implemented when Booking Service integration is set up", null));
+        return ResponseEntity.ok(ApiResult.of(true, "Seats Reduced Successfully", null));
     }
 
 // =====================================================================
@@ -453,18 +918,46 @@ public class EventController {
 
     @Operation(
             summary = "Restore available seats for an event",
-            description = "Internal endpoint called by Booking Service when a booking is cancelled. Not available to end users. Will be fully implemented in Section 8."
+            description = "Internal endpoint called by Booking Service when bookings are cancelled or expire. Not available to end users."
     )
     @ApiResponses(value = {
             @ApiResponse(
-                    responseCode = "501",
-                    description = "Not yet implemented",
+                    responseCode = "200",
+                    description = "Seats restored successfully",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                {
+                                    "success": true,
+                                    "message": "Seats Restored Successfully",
+                                    "data": null
+                                }
+                                """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Invalid seat count or restore would exceed total seats",
                     content = @Content(
                             mediaType = "application/json",
                             examples = @ExampleObject(value = """
                                 {
                                     "success": false,
-                                    "message": "Will be implemented when Booking Service integration is set up",
+                                    "message": "Cannot restore 5 seats — only 2 seats are booked",
+                                    "data": null
+                                }
+                                """)
+                    )
+            ),
+            @ApiResponse(
+                    responseCode = "404",
+                    description = "Event not found",
+                    content = @Content(
+                            mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                {
+                                    "success": false,
+                                    "message": "Event record not found for ID: 1",
                                     "data": null
                                 }
                                 """)
@@ -478,8 +971,46 @@ public class EventController {
             @Parameter(description = "Number of seats to restore", required = true, example = "2")
             @RequestParam int seats) {
         eventService.restoreAvailableSeats(eventId, seats);
-        return ResponseEntity.status(HttpStatus.NOT_IMPLEMENTED)
-                .body(ApiResult.of(false, "Will be implemented when Booking Service integration is set up", null));
+        return ResponseEntity.ok(ApiResult.of(true, "Seats Restored Successfully", null));
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * COMPLETED and CANCELLED events can no longer change, so shared caches may keep them.
+     * Every other event carries a live seat count — clients must revalidate on each use,
+     * which the ETag makes a cheap 304.
+     */
+    private CacheControl cacheControlFor(EventVersion version) {
+        return switch (version.status()) {
+            case COMPLETED, CANCELLED -> CacheControl.maxAge(httpCacheProperties.getImmutableMaxAge()).cachePublic();
+            case null, default -> CacheControl.noCache();
+        };
     }
 
-}
\ No newline at end of file
+    /**
+     * A fresh quote is signed for every response, so a body with quotes is not byte-for-byte
+     * the one a version ETag stands for. Its ETag is made weak and carries the quoted prices (a
+     * hash of them for a list) but not their expiry or token: the same version at the same price
+     * is the same representation, and a client whose quote has expired requotes from
+     * /price-quote. A strong ETag is only ever sent for a body without quotes, which stays so for
+     * as long as the version does.
+     */
+    private static String quotedETag(String eTag, List<PriceQuoteResponse> quotes) {
+        if (quotes.isEmpty()) {
+            return eTag;
+        }
+        String opaque = eTag.substring(0, eTag.length() - 1);
+        if (quotes.size() == 1) {
+            PriceQuoteResponse quote = quotes.getFirst();
+            return "W/" + opaque + "-q" + Math.round(quote.pricePerSeat() * 100) + "\"";
+        }
+        long hash = 1;
+        for (PriceQuoteResponse quote : quotes) {
+            hash = 31 * hash + Objects.hash(quote.eventId(), Math.round(quote.pricePerSeat() * 100));
+        }
+        return "W/" + opaque + "-q" + Long.toHexString(hash) + "\"";
+    }
+}
@@ -0,0 +1,82 @@
+package com.suraj.sport.eventservice.datasource;
+
+import com.suraj.sport.eventservice.config.ReplicaProperties;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+
+/**
+ * Measures how far the read replica is behind the primary.
+ * <p>
+ * Every heartbeat-interval the primary's replica_heartbeat row is stamped with the current
+ * time and read back from the replica. The time read back is how far the replica has
+ * applied the primary's commits: everything committed before it has been replicated. The
+ * replica may serve a read if that is within max-lag of now, and not before the reader's
+ * consistency token (see ConsistencyToken).
+ * <p>
+ * While the replica cannot be read — down, or without the heartbeat table — it counts as
+ * infinitely behind, so reads stay on the primary.
+ */
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final JdbcTemplate primary;
+    private final JdbcTemplate replica;
+    private final long maxLagMillis;
+
+    // Epoch millis the replica has applied the primary's commits up to; 0 while unknown
+    private volatile long replicatedUpTo;
+    private volatile boolean lagging = true;
+
+    public ReplicaLagMonitor(DataSource primary, DataSource replica, ReplicaProperties properties) {
+        this.primary = new JdbcTemplate(primary);
+        this.replica = new JdbcTemplate(replica);
+        this.maxLagMillis = properties.getMaxLag().toMillis();
+    }
+
+    /**
+     * True if the replica is within max-lag of the primary and has applied every commit up
+     * to readAfter (epoch millis, 0 for none).
+     */
+    public boolean isCaughtUpTo(long readAfter) {
+        long upTo = replicatedUpTo;
+        return upTo != 0 && upTo >= readAfter && System.currentTimeMillis() - upTo <= maxLagMillis;
+    }
+
+    @Scheduled(fixedDelayString = "${event.replica.heartbeat-interval:PT0.5S}")
+    public void heartbeat() {
+        long now = System.currentTimeMillis();
+        try {
+            if (primary.update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1", now) == 0) {
+                primary.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, ?)", now);
+            }
+        } catch (DataAccessException ex) {
+            // Another instance may have inserted the row first — the next beat updates it
+            log.debug("Could not write the replica heartbeat: {}", ex.getMessage());
+        }
+
+        long upTo;
+        try {
+            Long beatAt = replica.query("SELECT beat_at FROM replica_heartbeat WHERE id = 1",
+                    rs -> rs.next() ? rs.getLong(1) : null);
+            upTo = beatAt != null ? beatAt : 0;
+        } catch (DataAccessException ex) {
+            upTo = 0;
+            log.debug("Could not read the replica heartbeat: {}", ex.getMessage());
+        }
+        replicatedUpTo = upTo;
+
+        boolean nowLagging = !isCaughtUpTo(0);
+        if (nowLagging != lagging) {
+            lagging = nowLagging;
+            if (nowLagging) {
+                log.warn("Read replica is more than {} ms behind or unreachable — reads go to the primary", maxLagMillis);
+            } else {
+                log.info("Read replica caught up — read-only transactions go to the replica again");
+            }
+        }
+    }
+}
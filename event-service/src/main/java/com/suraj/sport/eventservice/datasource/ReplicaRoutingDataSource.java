@@ -0,0 +1,89 @@
+package com.suraj.sport.eventservice.datasource;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.util.Map;
+
+/**
+ * Sends read-only service transactions to the read replica and everything else to the
+ * primary.
+ * <p>
+ * A connection goes to the replica only when all of these hold:
+ * - the transaction is @Transactional(readOnly = true) and was started by a method of the
+ *   service package. Spring Data runs every repository finder in a read-only transaction of
+ *   its own, including the reads of read-modify-write flows (e.g. updateEvent), which must
+ *   see the primary — so those stay on the primary.
+ * - the replica is within event.replica.max-lag (see ReplicaLagMonitor)
+ * - the replica has caught up with the caller's consistency token (see ConsistencyToken)
+ * <p>
+ * Must sit behind a LazyConnectionDataSourceProxy: the transaction manager opens the
+ * connection before the transaction's read-only flag is set, so the choice has to wait
+ * until the first statement.
+ * <p>
+ * A transaction served by the replica is marked for its duration (see isReplicaTransaction),
+ * so what it read — possibly up to max-lag old — is never cached as current.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String PRIMARY = "primary";
+    private static final String REPLICA = "replica";
+
+    // Bound to a transaction for as long as its connection is the replica's
+    private static final Object REPLICA_TRANSACTION = new Object();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final String servicePackage;
+
+    public ReplicaRoutingDataSource(DataSource primary, DataSource replica, ReplicaLagMonitor lagMonitor,
+                                    String servicePackage) {
+        this.lagMonitor = lagMonitor;
+        this.servicePackage = servicePackage + ".";
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+        afterPropertiesSet();
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            ConsistencyToken.trackCommit();
+            return PRIMARY;
+        }
+        String transaction = TransactionSynchronizationManager.getCurrentTransactionName();
+        boolean serviceTransaction = transaction != null && transaction.startsWith(servicePackage);
+        if (serviceTransaction && lagMonitor.isCaughtUpTo(ConsistencyToken.readAfter())) {
+            markReplicaTransaction();
+            return REPLICA;
+        }
+        return PRIMARY;
+    }
+
+    /**
+     * True if the current transaction reads from the replica. Always false with the
+     * read/write split off.
+     */
+    public static boolean isReplicaTransaction() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_TRANSACTION);
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static void markReplicaTransaction() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REPLICA_TRANSACTION)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_TRANSACTION, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_TRANSACTION);
+            }
+        });
+    }
+}
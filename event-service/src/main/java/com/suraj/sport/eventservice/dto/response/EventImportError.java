@@ -0,0 +1,7 @@
+package com.suraj.sport.eventservice.dto.response;
+
+/**
+ * A rejected row of a bulk import. line is the 1-based line number in the uploaded
+ * file, counting the CSV header.
+ */
+public record EventImportError(long line, String message) {}
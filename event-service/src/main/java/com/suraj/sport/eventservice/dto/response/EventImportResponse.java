@@ -0,0 +1,17 @@
+package com.suraj.sport.eventservice.dto.response;
+
+import java.util.List;
+
+/**
+ * Outcome of a bulk import. Every data row is counted in exactly one of imported,
+ * duplicates or failed. errors lists the rejected rows (duplicates included), capped at
+ * the first 1000 — errorsTruncated is true if more were rejected.
+ */
+public record EventImportResponse(
+        int totalRows,
+        int imported,
+        int duplicates,
+        int failed,
+        List<EventImportError> errors,
+        boolean errorsTruncated
+) {}
@@ -15,6 +15,8 @@ public record EventResponse(
         double pricePerSeat,
         EventStatus status,
         LocalDateTime createdAt,
-        LocalDateTime updatedAt
+        LocalDateTime updatedAt,
+        long version,
+        PriceQuoteResponse priceQuote
 ) {
 }
\ No newline at end of file
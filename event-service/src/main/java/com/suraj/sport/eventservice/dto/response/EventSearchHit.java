@@ -0,0 +1,19 @@
+package com.suraj.sport.eventservice.dto.response;
+
+import com.suraj.sport.eventservice.entity.EventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * A single search result served straight from the in-memory index.
+ * Seat counts and pricing are intentionally absent — they change too often to be
+ * indexed and are available from GET /api/v1/event/{eventId}.
+ */
+public record EventSearchHit(
+        long id,
+        String name,
+        String sportType,
+        String venue,
+        LocalDateTime eventDate,
+        EventStatus status
+) {}
@@ -0,0 +1,13 @@
+package com.suraj.sport.eventservice.dto.response;
+
+import com.suraj.sport.eventservice.entity.EventStatus;
+
+import java.util.List;
+import java.util.Map;
+
+public record EventSearchResponse(
+        int totalHits,
+        List<EventSearchHit> hits,
+        Map<String, Integer> sportTypeFacets,
+        Map<EventStatus, Integer> statusFacets
+) {}
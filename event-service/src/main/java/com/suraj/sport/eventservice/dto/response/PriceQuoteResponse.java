@@ -0,0 +1,12 @@
+package com.suraj.sport.eventservice.dto.response;
+
+import java.time.Instant;
+
+public record PriceQuoteResponse(
+        long eventId,
+        double basePrice,
+        double pricePerSeat,
+        Instant expiresAt,
+        String token
+) {
+}
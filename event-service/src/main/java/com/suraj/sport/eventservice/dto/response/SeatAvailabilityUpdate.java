@@ -0,0 +1,16 @@
+package com.suraj.sport.eventservice.dto.response;
+
+import com.suraj.sport.eventservice.entity.EventStatus;
+
+/**
+ * Payload of one "availability" message on GET /api/v1/event/{eventId}/availability/stream.
+ * version is the event's optimistic-lock version — clients can discard messages older
+ * than one they have already seen, and it doubles as the SSE event id.
+ */
+public record SeatAvailabilityUpdate(
+        long eventId,
+        int availableSeats,
+        int totalSeats,
+        EventStatus status,
+        long version
+) {}
@@ -6,9 +6,16 @@ import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
+import java.util.Objects;
 
 @Entity
-@Table(name = "events")
+@Table(
+        name = "events",
+        uniqueConstraints = @UniqueConstraint(
+                name = Event.DEDUP_CONSTRAINT,
+                columnNames = {"event_date", "dedup_hash"}),
+        indexes = @Index(name = "idx_events_status_event_date", columnList = "status, event_date")
+)
 @NoArgsConstructor
 @AllArgsConstructor
 @Builder
@@ -16,8 +23,12 @@ import java.time.LocalDateTime;
 @Setter
 public class Event {
 
+    public static final String DEDUP_CONSTRAINT = "uk_events_event_date_dedup_hash";
+
+    // Pooled sequence rather than IDENTITY so bulk event imports can be JDBC-batched
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "events_seq")
+    @SequenceGenerator(name = "events_seq", sequenceName = "events_seq", allocationSize = 50)
     private Long id;
 
     private String name;
@@ -46,5 +57,48 @@ public class Event {
     @UpdateTimestamp
     private LocalDateTime updatedAt;
 
+    // Incremented on every change — optimistic locking for concurrent updates and
+    // the source of the ETag on GET /api/v1/event/{eventId}
+    @Version
+    private Long version;
+
     private LocalDateTime deletedAt;
+
+    // Hash of the normalized name and venue (see EventDedupHash). Unique together with
+    // eventDate, so the database rejects duplicate events even when two identical
+    // creates race — no lookup is needed before inserting.
+    @Column(name = "dedup_hash")
+    private Long dedupHash;
+
+    // Name, venue and date as loaded — the hash is only recomputed when one of them changes,
+    // so a legacy duplicate keeps the distinct hash V6 gave it through unrelated updates
+    @Transient
+    private String loadedName;
+
+    @Transient
+    private String loadedVenue;
+
+    @Transient
+    private LocalDateTime loadedEventDate;
+
+    @PostLoad
+    void rememberDedupIdentity() {
+        loadedName = name;
+        loadedVenue = venue;
+        loadedEventDate = eventDate;
+    }
+
+    @PrePersist
+    void computeDedupHash() {
+        dedupHash = EventDedupHash.of(name, venue);
+    }
+
+    @PreUpdate
+    void recomputeDedupHashIfChanged() {
+        if (!Objects.equals(name, loadedName)
+                || !Objects.equals(venue, loadedVenue)
+                || !Objects.equals(eventDate, loadedEventDate)) {
+            computeDedupHash();
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.suraj.sport.eventservice.entity;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.text.Normalizer;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+/**
+ * Computes the duplicate-detection hash stored in events.dedup_hash.
+ * <p>
+ * Name and venue are normalized first — Unicode NFKC, lower case, trimmed, runs of
+ * whitespace collapsed — so "IPL 2025 Final" at "Wankhede Stadium" and
+ * "ipl 2025  final" at "WANKHEDE STADIUM " count as the same event.
+ * <p>
+ * The hash is the first 64 bits of SHA-256. It is only ever compared together with
+ * event_date, so a collision would need two different events at the same timestamp.
+ */
+public final class EventDedupHash {
+
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    private EventDedupHash() {
+    }
+
+    public static long of(String name, String venue) {
+        // NUL separator keeps ("ab", "c") and ("a", "bc") apart
+        String key = normalize(name) + '\u0000' + normalize(venue);
+        return ByteBuffer.wrap(sha256().digest(key.getBytes(StandardCharsets.UTF_8))).getLong();
+    }
+
+    /**
+     * Hash of a duplicate that predates the unique constraint (see V6__Resolve_legacy_event_duplicates).
+     * The id is hashed in as a third part, so it differs from the hash of every event — the
+     * duplicate stays apart from the event it duplicates until its name, venue or date is edited.
+     */
+    public static long ofLegacyDuplicate(String name, String venue, long id) {
+        String key = normalize(name) + '\u0000' + normalize(venue) + '\u0000' + id;
+        return ByteBuffer.wrap(sha256().digest(key.getBytes(StandardCharsets.UTF_8))).getLong();
+    }
+
+    static String normalize(String value) {
+        if (value == null) {
+            return "";
+        }
+        String normalized = Normalizer.normalize(value, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT).trim();
+        return WHITESPACE.matcher(normalized).replaceAll(" ");
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException ex) {
+            // Every JRE is required to provide SHA-256
+            throw new IllegalStateException(ex);
+        }
+    }
+}
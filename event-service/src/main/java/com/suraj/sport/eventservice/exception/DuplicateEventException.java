@@ -1,7 +1,26 @@
 package com.suraj.sport.eventservice.exception;
 
+import com.suraj.sport.eventservice.entity.Event;
+import org.hibernate.exception.ConstraintViolationException;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.util.Locale;
+
 public class DuplicateEventException extends RuntimeException {
+
+    public static final String SAME_NAME_VENUE_AND_DATE = "An event with the same name, venue and date already exists";
+
     public DuplicateEventException(String message) {
         super(message);
     }
+
+    /**
+     * True if the violation is the unique (event_date, dedup_hash) constraint on events.
+     * H2 reports the name of the backing index (e.g. UK_..._INDEX_1), so this matches on containment.
+     */
+    public static boolean isDuplicateEventViolation(DataIntegrityViolationException ex) {
+        return ex.getCause() instanceof ConstraintViolationException violation
+                && violation.getConstraintName() != null
+                && violation.getConstraintName().toLowerCase(Locale.ROOT).contains(Event.DEDUP_CONSTRAINT);
+    }
 }
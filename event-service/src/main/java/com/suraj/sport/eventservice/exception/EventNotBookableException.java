@@ -0,0 +1,7 @@
+package com.suraj.sport.eventservice.exception;
+
+public class EventNotBookableException extends RuntimeException {
+    public EventNotBookableException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
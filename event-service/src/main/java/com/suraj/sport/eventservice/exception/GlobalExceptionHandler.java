@@ -2,7 +2,10 @@ package com.suraj.sport.eventservice.exception;
 
 import com.suraj.sport.eventservice.dto.response.ApiResult;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.OptimisticLockingFailureException;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.http.converter.HttpMessageNotReadableException;
 import org.springframework.validation.FieldError;
@@ -45,6 +48,25 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.CONFLICT, ex.getMessage());
     }
 
+    // Duplicates are rejected by the unique (event_date, dedup_hash) constraint on insert
+    // or update, not by a lookup beforehand — report them exactly as before
+    @ExceptionHandler(DataIntegrityViolationException.class)
+    public ResponseEntity<ApiResult<Void>> handleDataIntegrityViolation(DataIntegrityViolationException ex) {
+        if (DuplicateEventException.isDuplicateEventViolation(ex)) {
+            return handleDuplicateEvent(new DuplicateEventException(DuplicateEventException.SAME_NAME_VENUE_AND_DATE));
+        }
+        log.warn("Data integrity violation: {}", ex.getMostSpecificCause().getMessage());
+        return error(HttpStatus.CONFLICT, "The request conflicts with existing data");
+    }
+
+    // Left after EventServiceImpl.updateEvent has re-read and retried — the event keeps
+    // changing under the edit, so the client should simply send it again
+    @ExceptionHandler(OptimisticLockingFailureException.class)
+    public ResponseEntity<ApiResult<Void>> handleOptimisticLockingFailure(OptimisticLockingFailureException ex) {
+        log.warn("Optimistic locking failure: {}", ex.getMessage());
+        return error(HttpStatus.CONFLICT, "The event was modified concurrently, please retry");
+    }
+
     @ExceptionHandler(InvalidSeatCountException.class)
     public ResponseEntity<ApiResult<Void>> handleInvalidSeatCount(InvalidSeatCountException ex) {
         return error(HttpStatus.BAD_REQUEST, ex.getMessage());
@@ -60,6 +82,21 @@ public class GlobalExceptionHandler {
         return error(HttpStatus.BAD_REQUEST, ex.getMessage());
     }
 
+    @ExceptionHandler(EventNotBookableException.class)
+    public ResponseEntity<ApiResult<Void>> handleEventNotBookable(EventNotBookableException ex) {
+        return error(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(InsufficientSeatsException.class)
+    public ResponseEntity<ApiResult<Void>> handleInsufficientSeats(InsufficientSeatsException ex) {
+        return error(HttpStatus.CONFLICT, ex.getMessage());
+    }
+
+    @ExceptionHandler(InvalidImportFileException.class)
+    public ResponseEntity<ApiResult<Void>> handleInvalidImportFile(InvalidImportFileException ex) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage());
+    }
+
     // ── Catch-All ─────────────────────────────────────────────────────────────
 
     @ExceptionHandler(Exception.class)
@@ -70,8 +107,11 @@ public class GlobalExceptionHandler {
 
     // ── Helper ────────────────────────────────────────────────────────────────
 
+    // Content type is fixed so errors still render as JSON on endpoints that produce
+    // something else, e.g. the text/event-stream availability stream
     private ResponseEntity<ApiResult<Void>> error(HttpStatus status, String message) {
         return ResponseEntity.status(status)
+                .contentType(MediaType.APPLICATION_JSON)
                 .body(ApiResult.of(false, message, null));
     }
 }
\ No newline at end of file
@@ -0,0 +1,7 @@
+package com.suraj.sport.eventservice.exception;
+
+public class InsufficientSeatsException extends RuntimeException {
+    public InsufficientSeatsException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
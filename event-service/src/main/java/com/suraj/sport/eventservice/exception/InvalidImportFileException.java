@@ -0,0 +1,7 @@
+package com.suraj.sport.eventservice.exception;
+
+public class InvalidImportFileException extends RuntimeException {
+    public InvalidImportFileException(String message) {
+        super(message);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,183 @@
+package com.suraj.sport.eventservice.importer;
+
+import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
+import com.suraj.sport.eventservice.exception.InvalidImportFileException;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * CSV with a header row naming the columns, in any order:
+ * name,sportType,venue,eventDate,totalSeats,pricePerSeat
+ * <p>
+ * Fields may be double-quoted (RFC 4180) so names and venues can contain commas;
+ * a quoted field cannot span lines. eventDate is ISO-8601, e.g. 2025-05-25T19:30:00.
+ */
+public class CsvEventImportReader implements EventImportReader {
+
+    private static final List<String> COLUMNS =
+            List.of("name", "sporttype", "venue", "eventdate", "totalseats", "priceperseat");
+
+    private final BufferedReader reader;
+    private final int[] columnIndex = new int[COLUMNS.size()];
+    private long lineNumber;
+
+    public CsvEventImportReader(BufferedReader reader) throws IOException {
+        this.reader = reader;
+        readHeader();
+    }
+
+    @Override
+    public EventImportRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            return parseRow(line);
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private void readHeader() throws IOException {
+        String header = reader.readLine();
+        lineNumber++;
+        if (header == null) {
+            throw new InvalidImportFileException("CSV upload is empty — a header row is required");
+        }
+        // Spreadsheet exports often start with a UTF-8 byte order mark
+        if (header.startsWith("\uFEFF")) {
+            header = header.substring(1);
+        }
+
+        Map<String, Integer> positions = new HashMap<>();
+        List<String> names = split(header);
+        for (int i = 0; i < names.size(); i++) {
+            positions.put(names.get(i).trim().toLowerCase(Locale.ROOT), i);
+        }
+        for (int i = 0; i < COLUMNS.size(); i++) {
+            Integer position = positions.get(COLUMNS.get(i));
+            if (position == null) {
+                throw new InvalidImportFileException("CSV header is missing required column: " + COLUMNS.get(i));
+            }
+            columnIndex[i] = position;
+        }
+    }
+
+    private EventImportRow parseRow(String line) {
+        List<String> fields = split(line);
+        if (fields == null) {
+            return EventImportRow.failed(lineNumber, "Unterminated quoted field");
+        }
+        try {
+            CreateEventRequest request = CreateEventRequest.builder()
+                    .name(field(fields, 0))
+                    .sportType(field(fields, 1))
+                    .venue(field(fields, 2))
+                    .eventDate(parseDate(field(fields, 3)))
+                    .totalSeats(parseInt(field(fields, 4)))
+                    .pricePerSeat(parseDouble(field(fields, 5)))
+                    .build();
+            return EventImportRow.parsed(lineNumber, request);
+        } catch (IllegalArgumentException ex) {
+            return EventImportRow.failed(lineNumber, ex.getMessage());
+        }
+    }
+
+    private String field(List<String> fields, int column) {
+        int position = columnIndex[column];
+        if (position >= fields.size()) {
+            return null;
+        }
+        String value = fields.get(position).trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    // Missing numbers and dates are left null/zero so bean validation reports them
+    // with the same messages as POST /api/v1/event
+
+    private LocalDateTime parseDate(String value) {
+        if (value == null) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(value);
+        } catch (DateTimeParseException ex) {
+            throw new IllegalArgumentException("Invalid eventDate '" + value + "' — expected e.g. 2025-05-25T19:30:00");
+        }
+    }
+
+    private int parseInt(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid totalSeats '" + value + "'");
+        }
+    }
+
+    private double parseDouble(String value) {
+        if (value == null) {
+            return 0;
+        }
+        try {
+            return Double.parseDouble(value);
+        } catch (NumberFormatException ex) {
+            throw new IllegalArgumentException("Invalid pricePerSeat '" + value + "'");
+        }
+    }
+
+    /**
+     * Splits one CSV line into fields. Returns null if a quoted field is not closed.
+     */
+    private static List<String> split(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder current = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    current.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    current.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(current.toString());
+                current.setLength(0);
+            } else {
+                current.append(c);
+            }
+        }
+        if (quoted) {
+            return null;
+        }
+        fields.add(current.toString());
+        return fields;
+    }
+}
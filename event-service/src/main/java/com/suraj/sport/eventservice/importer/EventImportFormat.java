@@ -0,0 +1,6 @@
+package com.suraj.sport.eventservice.importer;
+
+public enum EventImportFormat {
+    CSV,
+    NDJSON
+}
@@ -0,0 +1,16 @@
+package com.suraj.sport.eventservice.importer;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Reads an import file one row at a time, so an upload is never held in memory whole.
+ */
+public interface EventImportReader extends Closeable {
+
+    /**
+     * Returns the next data row, or null once the input is exhausted.
+     * Blank lines are skipped; line numbers still count them.
+     */
+    EventImportRow next() throws IOException;
+}
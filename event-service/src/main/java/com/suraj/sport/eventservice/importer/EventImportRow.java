@@ -0,0 +1,18 @@
+package com.suraj.sport.eventservice.importer;
+
+import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
+
+/**
+ * One data row of an import file. Exactly one of request and error is set —
+ * error when the row could not be parsed into a request at all.
+ */
+public record EventImportRow(long line, CreateEventRequest request, String error) {
+
+    static EventImportRow parsed(long line, CreateEventRequest request) {
+        return new EventImportRow(line, request, null);
+    }
+
+    static EventImportRow failed(long line, String error) {
+        return new EventImportRow(line, null, error);
+    }
+}
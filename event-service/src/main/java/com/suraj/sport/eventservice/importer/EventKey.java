@@ -0,0 +1,17 @@
+package com.suraj.sport.eventservice.importer;
+
+import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
+import com.suraj.sport.eventservice.entity.EventDedupHash;
+
+import java.time.LocalDateTime;
+
+/**
+ * The identity of an event for duplicate detection — the same (event_date, dedup_hash)
+ * pair the events table holds a unique constraint on.
+ */
+public record EventKey(LocalDateTime eventDate, long dedupHash) {
+
+    public static EventKey of(CreateEventRequest request) {
+        return new EventKey(request.getEventDate(), EventDedupHash.of(request.getName(), request.getVenue()));
+    }
+}
@@ -0,0 +1,46 @@
+package com.suraj.sport.eventservice.importer;
+
+import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+
+/**
+ * Newline-delimited JSON — one CreateEventRequest object per line, the same shape
+ * as the POST /api/v1/event body.
+ */
+public class NdjsonEventImportReader implements EventImportReader {
+
+    private final BufferedReader reader;
+    private final JsonMapper jsonMapper;
+    private long lineNumber;
+
+    public NdjsonEventImportReader(BufferedReader reader, JsonMapper jsonMapper) {
+        this.reader = reader;
+        this.jsonMapper = jsonMapper;
+    }
+
+    @Override
+    public EventImportRow next() throws IOException {
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNumber++;
+            if (line.isBlank()) {
+                continue;
+            }
+            try {
+                return EventImportRow.parsed(lineNumber, jsonMapper.readValue(line, CreateEventRequest.class));
+            } catch (JacksonException ex) {
+                return EventImportRow.failed(lineNumber, "Malformed JSON: " + ex.getOriginalMessage());
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+}
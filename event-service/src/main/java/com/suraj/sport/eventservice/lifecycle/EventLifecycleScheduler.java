@@ -0,0 +1,261 @@
+package com.suraj.sport.eventservice.lifecycle;
+
+import com.suraj.sport.eventservice.cache.EventVersionCache;
+import com.suraj.sport.eventservice.config.EventLifecycleProperties;
+import com.suraj.sport.eventservice.entity.Event;
+import com.suraj.sport.eventservice.entity.EventStatus;
+import com.suraj.sport.eventservice.repository.EventRepository;
+import com.suraj.sport.eventservice.search.EventSearchIndex;
+import com.suraj.sport.eventservice.stream.SeatAvailabilityHub;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Moves events through their lifecycle automatically:
+ * UPCOMING → ONGOING at eventDate, ONGOING → COMPLETED at eventDate + duration
+ * (event.lifecycle.durations, by sport type).
+ * <p>
+ * Every UPCOMING or ONGOING event has exactly one pending transition, kept in a priority
+ * queue ordered by due time. The queue is loaded once on startup and then kept current by
+ * EventServiceImpl and the bulk import on every create and update — there is no periodic
+ * scan of the events table. A single timer is armed for the head of the queue, so the
+ * scheduler sleeps until the next transition is due and fires it on time.
+ * <p>
+ * Transitions that fall due together (e.g. all the fixtures of a matchday) are applied
+ * with one guarded UPDATE per status per batch of up to TRANSITION_BATCH_SIZE events.
+ * The guard makes a queued transition a no-op if the event has since been rescheduled,
+ * cancelled or moved on by hand. The events are then re-read in the same batches to refresh
+ * the search index, version cache and availability streams, and to queue their next
+ * transition.
+ * <p>
+ * Note: Events created or updated on another event-service instance are only picked up
+ * here after a restart. Transitions fired by several instances are harmless — the guarded
+ * UPDATE only matches on the first.
+ * <p>
+ * The queue is guarded by a ReentrantLock rather than a monitor: track() runs on request
+ * threads and re-arms the timer while holding it, which can park — under virtual threads
+ * (spring.threads.virtual.enabled) a monitor would pin the carrier for that park. The timer
+ * thread itself is virtual in that mode too.
+ * TODO: Propagate schedule changes between instances once Kafka is introduced.
+ */
+@Slf4j
+@Component
+public class EventLifecycleScheduler {
+
+    private static final int TRANSITION_BATCH_SIZE = 500;
+
+    private final EventRepository eventRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventVersionCache eventVersionCache;
+    private final SeatAvailabilityHub seatAvailabilityHub;
+    private final EventLifecycleProperties properties;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final PriorityQueue<Transition> queue = new PriorityQueue<>(Comparator.comparing(Transition::dueAt));
+    // The current transition of each event — queue entries that no longer match are stale and skipped
+    private final Map<Long, Transition> pending = new HashMap<>();
+    private final ScheduledExecutorService timer;
+    private ScheduledFuture<?> wakeUp;
+
+    public EventLifecycleScheduler(EventRepository eventRepository,
+                                   EventSearchIndex eventSearchIndex,
+                                   EventVersionCache eventVersionCache,
+                                   SeatAvailabilityHub seatAvailabilityHub,
+                                   EventLifecycleProperties properties,
+                                   Environment environment) {
+        this.eventRepository = eventRepository;
+        this.eventSearchIndex = eventSearchIndex;
+        this.eventVersionCache = eventVersionCache;
+        this.seatAvailabilityHub = seatAvailabilityHub;
+        this.properties = properties;
+        ThreadFactory threadFactory = Threading.VIRTUAL.isActive(environment)
+                ? Thread.ofVirtual().name("event-lifecycle").factory()
+                : Thread.ofPlatform().name("event-lifecycle").daemon().factory();
+        this.timer = Executors.newSingleThreadScheduledExecutor(threadFactory);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSchedule() {
+        long startTime = System.currentTimeMillis();
+        List<EventSchedule> schedules = eventRepository.findLifecycleSchedules();
+        lock.lock();
+        try {
+            schedules.forEach(this::enqueue);
+            armTimer();
+        } finally {
+            lock.unlock();
+        }
+        log.info("Event lifecycle scheduler loaded {} pending transitions in {}ms",
+                schedules.size(), System.currentTimeMillis() - startTime);
+    }
+
+    /**
+     * Queues the next transition of an event after it was created or updated, replacing
+     * any transition queued for it before. Events that are CANCELLED or COMPLETED are dropped.
+     */
+    public void track(Event event) {
+        lock.lock();
+        try {
+            enqueue(new EventSchedule(event.getId(), event.getStatus(), event.getEventDate(), event.getSportType()));
+            armTimer();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        timer.shutdownNow();
+    }
+
+    // =====================================================================
+    // FIRING TRANSITIONS
+    // =====================================================================
+
+    private void fireDueTransitions() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Transition> due = new ArrayList<>();
+        lock.lock();
+        try {
+            // This run is the armed wake-up; anything tracked from here on arms a new one
+            wakeUp = null;
+            while (!queue.isEmpty() && !queue.peek().dueAt().isAfter(now)) {
+                Transition transition = queue.poll();
+                if (pending.remove(transition.eventId(), transition)) {
+                    due.add(transition);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+
+        try {
+            if (!due.isEmpty()) {
+                apply(due, now);
+            }
+        } catch (RuntimeException ex) {
+            log.error("Failed to apply {} event lifecycle transitions — retrying in {}",
+                    due.size(), properties.getRetryDelay(), ex);
+            LocalDateTime retryAt = now.plus(properties.getRetryDelay());
+            lock.lock();
+            try {
+                due.forEach(transition -> {
+                    if (pending.putIfAbsent(transition.eventId(), transition.withDueAt(retryAt)) == null) {
+                        queue.add(pending.get(transition.eventId()));
+                    }
+                });
+            } finally {
+                lock.unlock();
+            }
+        } finally {
+            lock.lock();
+            try {
+                armTimer();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    private void apply(List<Transition> due, LocalDateTime now) {
+        Map<EventStatus, List<Long>> idsByFromStatus = new EnumMap<>(EventStatus.class);
+        due.forEach(transition -> idsByFromStatus
+                .computeIfAbsent(transition.from(), status -> new ArrayList<>())
+                .add(transition.eventId()));
+
+        int transitioned = 0;
+        for (Map.Entry<EventStatus, List<Long>> entry : idsByFromStatus.entrySet()) {
+            List<Long> eventIds = entry.getValue();
+            for (int from = 0; from < eventIds.size(); from += TRANSITION_BATCH_SIZE) {
+                List<Long> batch = eventIds.subList(from, Math.min(from + TRANSITION_BATCH_SIZE, eventIds.size()));
+                transitioned += eventRepository.transitionStatus(batch, entry.getKey(), nextStatus(entry.getKey()), now);
+            }
+        }
+
+        // Re-read every due event, transitioned or not — a guarded no-op means it changed
+        // elsewhere, and its current row says what (if anything) to queue next
+        List<Long> eventIds = due.stream().map(Transition::eventId).toList();
+        for (int from = 0; from < eventIds.size(); from += TRANSITION_BATCH_SIZE) {
+            List<Event> events = eventRepository.findAllById(
+                    eventIds.subList(from, Math.min(from + TRANSITION_BATCH_SIZE, eventIds.size())));
+            for (Event event : events) {
+                eventSearchIndex.index(event);
+                eventVersionCache.evict(event.getId());
+                seatAvailabilityHub.publish(event.getId());
+                track(event);
+            }
+        }
+
+        log.info("Applied {} of {} due event lifecycle transitions", transitioned, due.size());
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * Replaces the pending transition of an event. Must hold the lock.
+     */
+    private void enqueue(EventSchedule schedule) {
+        Transition transition = switch (schedule.status()) {
+            case UPCOMING -> new Transition(schedule.eventId(), EventStatus.UPCOMING, schedule.eventDate());
+            case ONGOING -> new Transition(schedule.eventId(), EventStatus.ONGOING,
+                    schedule.eventDate().plus(properties.durationOf(schedule.sportType())));
+            case COMPLETED, CANCELLED -> null;
+        };
+        if (transition == null) {
+            pending.remove(schedule.eventId());
+            return;
+        }
+        // The entry this replaces stays in the queue until polled, then is skipped as stale
+        if (!transition.equals(pending.put(schedule.eventId(), transition))) {
+            queue.add(transition);
+        }
+    }
+
+    /**
+     * Points the timer at the head of the queue. Must hold the lock.
+     */
+    private void armTimer() {
+        while (!queue.isEmpty() && !queue.peek().equals(pending.get(queue.peek().eventId()))) {
+            queue.poll();
+        }
+        if (queue.isEmpty() || timer.isShutdown()) {
+            return;
+        }
+        long delayNanos = Math.max(0, Duration.between(LocalDateTime.now(), queue.peek().dueAt()).toNanos());
+        if (wakeUp != null) {
+            if (wakeUp.getDelay(TimeUnit.NANOSECONDS) <= delayNanos) {
+                return;
+            }
+            wakeUp.cancel(false);
+        }
+        wakeUp = timer.schedule(this::fireDueTransitions, delayNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private static EventStatus nextStatus(EventStatus status) {
+        return status == EventStatus.UPCOMING ? EventStatus.ONGOING : EventStatus.COMPLETED;
+    }
+
+    private record Transition(Long eventId, EventStatus from, LocalDateTime dueAt) {
+
+        Transition withDueAt(LocalDateTime newDueAt) {
+            return new Transition(eventId, from, newDueAt);
+        }
+    }
+}
@@ -0,0 +1,10 @@
+package com.suraj.sport.eventservice.lifecycle;
+
+import com.suraj.sport.eventservice.entity.EventStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * The columns of an event that decide its next lifecycle transition.
+ */
+public record EventSchedule(Long eventId, EventStatus status, LocalDateTime eventDate, String sportType) {}
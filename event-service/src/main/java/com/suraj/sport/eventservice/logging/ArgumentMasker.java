@@ -0,0 +1,63 @@
+package com.suraj.sport.eventservice.logging;
+
+import com.suraj.sport.eventservice.config.LoggingProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.regex.Pattern;
+
+/**
+ * Renders method arguments for the call logs with sensitive values masked
+ * (event.logging.masked-fields).
+ * <p>
+ * An argument is masked whole when its parameter has a masked name. Otherwise it is
+ * rendered with toString(), and masked fields inside it — "name=value" as printed by
+ * Lombok's toString() on our DTOs — have their values replaced.
+ */
+@Component
+public class ArgumentMasker {
+
+    private static final String MASK = "****";
+
+    private final LoggingProperties properties;
+    private final Pattern maskedField;
+
+    public ArgumentMasker(LoggingProperties properties) {
+        this.properties = properties;
+        this.maskedField = properties.getMaskedFields().isEmpty()
+                ? null
+                : Pattern.compile("\\b(" + String.join("|", properties.getMaskedFields().stream()
+                        .map(Pattern::quote).toList()) + ")=[^,)]*");
+    }
+
+    public String render(String[] parameterNames, Object[] args) {
+        StringBuilder rendered = new StringBuilder("[");
+        for (int i = 0; i < args.length; i++) {
+            if (i > 0) {
+                rendered.append(", ");
+            }
+            String name = parameterNames != null && i < parameterNames.length ? parameterNames[i] : "arg" + i;
+            rendered.append(name).append('=').append(render(name, args[i]));
+        }
+        return rendered.append(']').toString();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private String render(String name, Object arg) {
+        if (arg == null) {
+            return "null";
+        }
+        if (properties.getMaskedFields().contains(name)) {
+            return MASK;
+        }
+        String value = String.valueOf(arg);
+        if (maskedField != null) {
+            value = maskedField.matcher(value).replaceAll("$1=" + MASK);
+        }
+        return value.length() > properties.getMaxArgumentLength()
+                ? value.substring(0, properties.getMaxArgumentLength()) + "..."
+                : value;
+    }
+}
@@ -0,0 +1,84 @@
+package com.suraj.sport.eventservice.logging;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Bounded many-producer, single-consumer ring of log events, without locks.
+ * <p>
+ * Each slot carries a sequence number saying whose turn it is: a producer may fill slot
+ * i for position p once its sequence is p, and publishes the event by setting it to p + 1;
+ * the consumer takes it once it reads p + 1, and frees the slot for the next lap by setting
+ * it to p + capacity. Producers claim positions with one CAS on the tail, so a full ring
+ * is detected without waiting — offer() simply returns false.
+ */
+final class LogEventRing<E> {
+
+    private final int mask;
+    private final AtomicReferenceArray<E> slots;
+    private final AtomicLongArray sequences;
+    private final AtomicLong tail = new AtomicLong();
+    // Written by the consumer only; read by producers to estimate how full the ring is
+    private final AtomicLong head = new AtomicLong();
+
+    LogEventRing(int capacity) {
+        if (capacity < 2 || Integer.bitCount(capacity) != 1) {
+            throw new IllegalArgumentException("Ring capacity must be a power of two, was " + capacity);
+        }
+        this.mask = capacity - 1;
+        this.slots = new AtomicReferenceArray<>(capacity);
+        this.sequences = new AtomicLongArray(capacity);
+        for (int i = 0; i < capacity; i++) {
+            sequences.set(i, i);
+        }
+    }
+
+    boolean offer(E event) {
+        long position = tail.get();
+        while (true) {
+            int index = (int) (position & mask);
+            long lag = sequences.get(index) - position;
+            if (lag == 0) {
+                if (tail.compareAndSet(position, position + 1)) {
+                    slots.set(index, event);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+                position = tail.get();
+            } else if (lag < 0) {
+                // The slot still holds the event from the previous lap — the ring is full
+                return false;
+            } else {
+                position = tail.get();
+            }
+        }
+    }
+
+    /**
+     * Takes the oldest event, or returns null if there is none. Consumer thread only.
+     */
+    E poll() {
+        long position = head.get();
+        int index = (int) (position & mask);
+        if (sequences.get(index) != position + 1) {
+            return null;
+        }
+        E event = slots.get(index);
+        slots.set(index, null);
+        sequences.set(index, position + mask + 1);
+        head.lazySet(position + 1);
+        return event;
+    }
+
+    /**
+     * Free slots — approximate while producers are running.
+     */
+    int remainingCapacity() {
+        return (int) Math.max(0, mask + 1 - (tail.get() - head.get()));
+    }
+
+    boolean isEmpty() {
+        return tail.get() == head.get();
+    }
+}
@@ -0,0 +1,200 @@
+package com.suraj.sport.eventservice.logging;
+
+import ch.qos.logback.classic.Level;
+import ch.qos.logback.classic.Logger;
+import ch.qos.logback.classic.LoggerContext;
+import ch.qos.logback.classic.spi.ILoggingEvent;
+import ch.qos.logback.classic.spi.LoggingEvent;
+import ch.qos.logback.core.Appender;
+import ch.qos.logback.core.UnsynchronizedAppenderBase;
+import ch.qos.logback.core.spi.AppenderAttachable;
+import ch.qos.logback.core.spi.AppenderAttachableImpl;
+
+import java.util.Iterator;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Hands log events to the appenders attached to it (see logback-spring.xml) on a single
+ * background thread, so request threads never encode JSON or write to the console.
+ * <p>
+ * Events go through a lock-free LogEventRing of the configured capacity. Logging never
+ * blocks the caller — under overload events are discarded instead:
+ * - below WARN, once fewer than discardingThreshold slots are free
+ * - WARN and ERROR, only once the ring is full
+ * The number discarded is reported in a WARN of its own as soon as the ring has drained.
+ * <p>
+ * Unlike logback's AsyncAppender (a lock-based ArrayBlockingQueue) producers only contend
+ * on one CAS, and the drain thread is only woken when it has gone idle.
+ */
+public class RingBufferAppender extends UnsynchronizedAppenderBase<ILoggingEvent>
+        implements AppenderAttachable<ILoggingEvent> {
+
+    private static final long IDLE_PARK_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final AppenderAttachableImpl<ILoggingEvent> appenders = new AppenderAttachableImpl<>();
+    private final LongAdder discarded = new LongAdder();
+
+    // Set from logback-spring.xml
+    private int capacity = 8192;
+    private int discardingThreshold = -1;
+    private int maxFlushTimeMillis = 1000;
+
+    private LogEventRing<ILoggingEvent> ring;
+    private Thread drainer;
+    private volatile boolean drainerParked;
+
+    @Override
+    public void start() {
+        if (isStarted()) {
+            return;
+        }
+        if (!appenders.iteratorForAppenders().hasNext()) {
+            addError("No appender attached to " + getName());
+            return;
+        }
+        try {
+            ring = new LogEventRing<>(capacity);
+        } catch (IllegalArgumentException ex) {
+            addError(ex.getMessage());
+            return;
+        }
+        if (discardingThreshold < 0) {
+            discardingThreshold = capacity / 5;
+        }
+        drainer = Thread.ofPlatform().name("log-drain-" + getName()).daemon().unstarted(this::drain);
+        super.start();
+        drainer.start();
+    }
+
+    @Override
+    public void stop() {
+        if (!isStarted()) {
+            return;
+        }
+        super.stop();
+        LockSupport.unpark(drainer);
+        try {
+            drainer.join(maxFlushTimeMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+        if (drainer.isAlive()) {
+            addWarn("Log drain did not finish within " + maxFlushTimeMillis + "ms — remaining events are lost");
+        }
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    protected void append(ILoggingEvent event) {
+        boolean discardable = !event.getLevel().isGreaterOrEqual(Level.WARN);
+        if (discardable && ring.remainingCapacity() < discardingThreshold) {
+            discarded.increment();
+            return;
+        }
+        // Captures the formatted message, thread name and MDC while still on the caller's thread
+        event.prepareForDeferredProcessing();
+        if (!ring.offer(event)) {
+            discarded.increment();
+            return;
+        }
+        if (drainerParked) {
+            LockSupport.unpark(drainer);
+        }
+    }
+
+    // =====================================================================
+    // DRAIN THREAD
+    // =====================================================================
+
+    private void drain() {
+        while (isStarted()) {
+            ILoggingEvent event = ring.poll();
+            if (event != null) {
+                appenders.appendLoopOnAppenders(event);
+                continue;
+            }
+            reportDiscarded();
+            drainerParked = true;
+            // Re-checked after publishing the flag — an event offered before it was set
+            // did not unpark, so it must be seen here
+            if (ring.isEmpty() && isStarted()) {
+                LockSupport.parkNanos(this, IDLE_PARK_NANOS);
+            }
+            drainerParked = false;
+        }
+
+        // Stopped — flush what is left
+        for (ILoggingEvent event = ring.poll(); event != null; event = ring.poll()) {
+            appenders.appendLoopOnAppenders(event);
+        }
+        reportDiscarded();
+    }
+
+    private void reportDiscarded() {
+        long count = discarded.sumThenReset();
+        if (count == 0) {
+            return;
+        }
+        Logger logger = ((LoggerContext) getContext()).getLogger(RingBufferAppender.class);
+        LoggingEvent report = new LoggingEvent(Logger.FQCN, logger, Level.WARN,
+                "Discarded {} log events — the log ring buffer was full", null, new Object[]{count});
+        appenders.appendLoopOnAppenders(report);
+    }
+
+    // =====================================================================
+    // CONFIGURATION
+    // =====================================================================
+
+    public void setCapacity(int capacity) {
+        this.capacity = capacity;
+    }
+
+    public void setDiscardingThreshold(int discardingThreshold) {
+        this.discardingThreshold = discardingThreshold;
+    }
+
+    public void setMaxFlushTimeMillis(int maxFlushTimeMillis) {
+        this.maxFlushTimeMillis = maxFlushTimeMillis;
+    }
+
+    // =====================================================================
+    // APPENDER ATTACHMENT
+    // =====================================================================
+
+    @Override
+    public void addAppender(Appender<ILoggingEvent> appender) {
+        appenders.addAppender(appender);
+    }
+
+    @Override
+    public Iterator<Appender<ILoggingEvent>> iteratorForAppenders() {
+        return appenders.iteratorForAppenders();
+    }
+
+    @Override
+    public Appender<ILoggingEvent> getAppender(String name) {
+        return appenders.getAppender(name);
+    }
+
+    @Override
+    public boolean isAttached(Appender<ILoggingEvent> appender) {
+        return appenders.isAttached(appender);
+    }
+
+    @Override
+    public void detachAndStopAllAppenders() {
+        appenders.detachAndStopAllAppenders();
+    }
+
+    @Override
+    public boolean detachAppender(Appender<ILoggingEvent> appender) {
+        return appenders.detachAppender(appender);
+    }
+
+    @Override
+    public boolean detachAppender(String name) {
+        return appenders.detachAppender(name);
+    }
+}
@@ -4,6 +4,7 @@ import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
 import com.suraj.sport.eventservice.dto.request.UpdateEventRequest;
 import com.suraj.sport.eventservice.dto.response.CreateEventResponse;
 import com.suraj.sport.eventservice.dto.response.EventResponse;
+import com.suraj.sport.eventservice.dto.response.PriceQuoteResponse;
 import com.suraj.sport.eventservice.dto.response.UpdateEventResponse;
 import com.suraj.sport.eventservice.entity.Event;
 import com.suraj.sport.eventservice.entity.EventStatus;
@@ -60,7 +61,10 @@ public class EventMapper {
         );
     }
 
-    public static EventResponse mapToEventResponse(Event event) {
+    /**
+     * priceQuote is null for events that can no longer be booked.
+     */
+    public static EventResponse mapToEventResponse(Event event, PriceQuoteResponse priceQuote) {
         return new EventResponse(
                 event.getId(),
                 event.getName(),
@@ -72,7 +76,9 @@ public class EventMapper {
                 event.getPricePerSeat(),
                 event.getStatus(),
                 event.getCreatedAt(),
-                event.getUpdatedAt()
+                event.getUpdatedAt(),
+                event.getVersion(),
+                priceQuote
         );
     }
 }
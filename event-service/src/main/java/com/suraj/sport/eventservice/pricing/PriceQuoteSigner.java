@@ -0,0 +1,66 @@
+package com.suraj.sport.eventservice.pricing;
+
+import com.suraj.sport.eventservice.config.PricingProperties;
+import com.suraj.sport.eventservice.entity.Event;
+import org.springframework.stereotype.Component;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.time.Instant;
+import java.util.Base64;
+
+/**
+ * Issues price quote tokens signed with HMAC-SHA256, so Booking Service can trust a quoted
+ * price without asking Event Service again.
+ * <p>
+ * A token is base64url(payload) + "." + base64url(signature), where the payload is
+ * "eventId|priceInCents|expiresAtEpochSecond|eventDate|sportType". Besides the price it
+ * carries the event date and sport type a booking snapshots for its cancellation policy,
+ * so a booking made with a valid token needs nothing else from Event Service.
+ * Booking Service verifies it with the shared event.pricing.quote-secret.
+ */
+@Component
+public class PriceQuoteSigner {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final Base64.Encoder BASE64 = Base64.getUrlEncoder().withoutPadding();
+    // A key shorter than the HMAC-SHA256 output weakens the signature (RFC 2104)
+    static final int MIN_SECRET_BYTES = 32;
+
+    // Initialised once; each signature is computed on a clone since Mac is not thread-safe
+    private final Mac prototype;
+
+    public PriceQuoteSigner(PricingProperties properties) {
+        if (properties.getQuoteSecret() == null || properties.getQuoteSecret().isBlank()) {
+            throw new IllegalStateException("event.pricing.quote-secret must be set (PRICE_QUOTE_SECRET)");
+        }
+        byte[] secret = properties.getQuoteSecret().getBytes(StandardCharsets.UTF_8);
+        if (secret.length < MIN_SECRET_BYTES) {
+            throw new IllegalStateException("event.pricing.quote-secret must be at least " + MIN_SECRET_BYTES + " bytes");
+        }
+        try {
+            prototype = Mac.getInstance(ALGORITHM);
+            prototype.init(new SecretKeySpec(secret, ALGORITHM));
+        } catch (GeneralSecurityException ex) {
+            throw new IllegalStateException("Cannot initialise price quote signing", ex);
+        }
+    }
+
+    public String token(Event event, double pricePerSeat, Instant expiresAt) {
+        byte[] payload = String.join("|",
+                String.valueOf(event.getId()),
+                String.valueOf(Math.round(pricePerSeat * 100)),
+                String.valueOf(expiresAt.getEpochSecond()),
+                String.valueOf(event.getEventDate()),
+                String.valueOf(event.getSportType())
+        ).getBytes(StandardCharsets.UTF_8);
+        try {
+            Mac mac = (Mac) prototype.clone();
+            return BASE64.encodeToString(payload) + "." + BASE64.encodeToString(mac.doFinal(payload));
+        } catch (CloneNotSupportedException ex) {
+            throw new IllegalStateException("Cannot sign price quote", ex);
+        }
+    }
+}
@@ -0,0 +1,93 @@
+package com.suraj.sport.eventservice.pricing;
+
+import com.suraj.sport.eventservice.config.PricingProperties;
+import com.suraj.sport.eventservice.dto.response.PriceQuoteResponse;
+import com.suraj.sport.eventservice.entity.Event;
+import com.suraj.sport.eventservice.entity.EventStatus;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Prices seats from demand: how fast an event has been selling over the last
+ * event.pricing.window, and how much of the house is left (see PricingProperties).
+ * <p>
+ * Sales are counted in memory as seats are reduced, one lock-free SalesWindow per event,
+ * so a price is a handful of arithmetic on the event row already loaded — cheap enough to
+ * recompute for every booking request — and for every event in a listing. Each quote
+ * carries a signed token valid for event.pricing.quote-validity (see PriceQuoteSigner), so
+ * the price can be snapshotted onto the booking as quoted.
+ * <p>
+ * NOTE: Sell-through is counted per instance and starts from zero after a restart, so
+ * until the window fills the price reflects scarcity only. Once the service is scaled
+ * out, keep the counters in a shared store (e.g. Redis) instead.
+ */
+@Component
+@RequiredArgsConstructor
+public class PricingEngine {
+
+    private final PricingProperties properties;
+    private final PriceQuoteSigner priceQuoteSigner;
+
+    private final ConcurrentMap<Long, SalesWindow> windows = new ConcurrentHashMap<>();
+
+    public void recordSale(Long eventId, int seats) {
+        windows.computeIfAbsent(eventId, id -> new SalesWindow(properties.getWindowBuckets(), bucketMillis()))
+                .record(seats, System.currentTimeMillis());
+    }
+
+    /**
+     * Quotes an event if it is UPCOMING or ONGOING, else returns null.
+     */
+    public PriceQuoteResponse quoteIfBookable(Event event) {
+        return event.getStatus() == EventStatus.UPCOMING || event.getStatus() == EventStatus.ONGOING
+                ? quote(event)
+                : null;
+    }
+
+    public PriceQuoteResponse quote(Event event) {
+        double price = priceOf(event);
+        // Whole seconds, as signed — the expiry in the quote is exactly the one covered by the signature
+        Instant expiresAt = Instant.now().plus(properties.getQuoteValidity()).truncatedTo(ChronoUnit.SECONDS);
+        return new PriceQuoteResponse(
+                event.getId(),
+                event.getPricePerSeat(),
+                price,
+                expiresAt,
+                priceQuoteSigner.token(event, price, expiresAt)
+        );
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private double priceOf(Event event) {
+        if (event.getTotalSeats() <= 0) {
+            return event.getPricePerSeat();
+        }
+        double soldShare = (double) (event.getTotalSeats() - event.getAvailableSeats()) / event.getTotalSeats();
+        double sellThrough = soldInWindow(event.getId()) / (event.getTotalSeats() * properties.getHotSellThrough());
+
+        double multiplier = 1
+                + properties.getScarcityWeight() * soldShare
+                + properties.getDemandWeight() * Math.min(1, sellThrough);
+        multiplier = Math.min(multiplier, properties.getMaxMultiplier());
+
+        // Priced to the cent, like the refunds computed from it
+        return Math.round(event.getPricePerSeat() * multiplier * 100) / 100.0;
+    }
+
+    private long soldInWindow(Long eventId) {
+        SalesWindow window = windows.get(eventId);
+        return window != null ? window.sum(System.currentTimeMillis()) : 0;
+    }
+
+    private long bucketMillis() {
+        return Math.max(1, properties.getWindow().toMillis() / properties.getWindowBuckets());
+    }
+}
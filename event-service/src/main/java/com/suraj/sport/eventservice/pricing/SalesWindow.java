@@ -0,0 +1,52 @@
+package com.suraj.sport.eventservice.pricing;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Seats sold for one event over a sliding time window, without locks.
+ * <p>
+ * The window is a ring of buckets. Each slot packs the bucket number it currently counts
+ * for (high 32 bits) together with its seat count (low 32 bits) into a single long, so a
+ * sale that lands in a slot still holding an older bucket resets and counts in one CAS —
+ * no sale can be lost between a reset and an increment.
+ */
+final class SalesWindow {
+
+    private static final long LOW_BITS = 0xFFFF_FFFFL;
+
+    private final long bucketMillis;
+    private final AtomicLongArray slots;
+
+    SalesWindow(int buckets, long bucketMillis) {
+        this.bucketMillis = bucketMillis;
+        this.slots = new AtomicLongArray(buckets);
+    }
+
+    void record(int seats, long nowMillis) {
+        long bucket = (nowMillis / bucketMillis) & LOW_BITS;
+        int index = (int) (bucket % slots.length());
+        long current;
+        long next;
+        do {
+            current = slots.get(index);
+            next = (current >>> 32) == bucket
+                    ? current + seats
+                    : bucket << 32 | seats;
+        } while (!slots.compareAndSet(index, current, next));
+    }
+
+    /**
+     * Seats sold in the current bucket and the buckets before it that are still in the window.
+     */
+    long sum(long nowMillis) {
+        long bucket = (nowMillis / bucketMillis) & LOW_BITS;
+        long total = 0;
+        for (int i = 0; i < slots.length(); i++) {
+            long slot = slots.get(i);
+            if (((bucket - (slot >>> 32)) & LOW_BITS) < slots.length()) {
+                total += slot & LOW_BITS;
+            }
+        }
+        return total;
+    }
+}
@@ -1,13 +1,123 @@
 package com.suraj.sport.eventservice.repository;
 
+import com.suraj.sport.eventservice.cache.CatalogVersion;
+import com.suraj.sport.eventservice.cache.EventVersion;
+import com.suraj.sport.eventservice.dto.response.SeatAvailabilityUpdate;
 import com.suraj.sport.eventservice.entity.Event;
+import com.suraj.sport.eventservice.entity.EventStatus;
+import com.suraj.sport.eventservice.importer.EventKey;
+import com.suraj.sport.eventservice.lifecycle.EventSchedule;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface EventRepository extends JpaRepository<Event,Long> {
 
-     Optional<Event> findByNameAndVenueAndEventDate(String eventName, String venue, LocalDateTime eventDate);
+     // Conditional GET on a version cache miss — reads two columns instead of the whole row
+     @Query("SELECT new com.suraj.sport.eventservice.cache.EventVersion(e.version, e.status) FROM Event e WHERE e.id = :eventId")
+     Optional<EventVersion> findVersionById(@Param("eventId") Long eventId);
+
+     // Conditional GET on the event list — any insert or update changes the count or the latest updatedAt
+     @Query("SELECT new com.suraj.sport.eventservice.cache.CatalogVersion(COUNT(e), MAX(e.updatedAt)) FROM Event e")
+     CatalogVersion findCatalogVersion();
+
+     // Bulk import duplicate check — the keys of every event in the date window of one import batch
+     // Range scan on the (event_date, dedup_hash) unique index
+     @Query("SELECT new com.suraj.sport.eventservice.importer.EventKey(e.eventDate, e.dedupHash) FROM Event e WHERE e.eventDate BETWEEN :from AND :to AND e.dedupHash IS NOT NULL")
+     List<EventKey> findKeysByEventDateBetween(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+
+     // Used to build the search index page by page — Slice skips the COUNT query a Page would run
+     Slice<Event> findAllBy(Pageable pageable);
+
+     // Seat availability stream — one query per flush for every event that changed
+     @Query("""
+             SELECT new com.suraj.sport.eventservice.dto.response.SeatAvailabilityUpdate(
+                 e.id, e.availableSeats, e.totalSeats, e.status, e.version)
+             FROM Event e WHERE e.id IN :eventIds
+             """)
+     List<SeatAvailabilityUpdate> findSeatAvailability(@Param("eventIds") Collection<Long> eventIds);
+
+     // Lifecycle scheduler startup load — every event still waiting for a transition,
+     // read through the (status, event_date) index
+     @Query("""
+             SELECT new com.suraj.sport.eventservice.lifecycle.EventSchedule(
+                 e.id, e.status, e.eventDate, e.sportType)
+             FROM Event e
+             WHERE e.status IN (com.suraj.sport.eventservice.entity.EventStatus.UPCOMING,
+                                com.suraj.sport.eventservice.entity.EventStatus.ONGOING)
+             """)
+     List<EventSchedule> findLifecycleSchedules();
+
+     /**
+      * Moves a batch of events from one status to the next in a single statement.
+      * Only rows still in the expected status whose eventDate has passed are changed, so
+      * a transition queued before a manual status change or a reschedule is a no-op.
+      * Returns the number of events that actually transitioned.
+      */
+     @Transactional
+     @Modifying(clearAutomatically = true)
+     @Query("""
+             UPDATE Event e
+             SET e.status = :to,
+                 e.updatedAt = :now,
+                 e.version = e.version + 1
+             WHERE e.id IN :eventIds
+               AND e.status = :from
+               AND e.eventDate <= :now
+             """)
+     int transitionStatus(@Param("eventIds") Collection<Long> eventIds,
+                          @Param("from") EventStatus from,
+                          @Param("to") EventStatus to,
+                          @Param("now") LocalDateTime now);
+
+     /**
+      * Atomically takes seats from the available pool.
+      * The WHERE clause is the availability check — concurrent bookings can never
+      * oversell, and no row lock is held between reading and writing the seat count.
+      * Returns 0 if the event does not exist, is not bookable, or has too few seats left.
+      */
+     @Transactional
+     @Modifying(clearAutomatically = true)
+     @Query("""
+             UPDATE Event e
+             SET e.availableSeats = e.availableSeats - :seats,
+                 e.updatedAt = :now,
+                 e.version = e.version + 1
+             WHERE e.id = :eventId
+               AND e.status IN (com.suraj.sport.eventservice.entity.EventStatus.UPCOMING,
+                                com.suraj.sport.eventservice.entity.EventStatus.ONGOING)
+               AND e.availableSeats >= :seats
+             """)
+     int reduceAvailableSeats(@Param("eventId") Long eventId,
+                              @Param("seats") int seats,
+                              @Param("now") LocalDateTime now);
+
+     /**
+      * Atomically adds seats back to the available pool.
+      * The WHERE clause guards against restoring more seats than the event has —
+      * returns 0 if the event does not exist or the restore would exceed totalSeats.
+      */
+     @Transactional
+     @Modifying(clearAutomatically = true)
+     @Query("""
+             UPDATE Event e
+             SET e.availableSeats = e.availableSeats + :seats,
+                 e.updatedAt = :now,
+                 e.version = e.version + 1
+             WHERE e.id = :eventId
+               AND e.availableSeats + :seats <= e.totalSeats
+             """)
+     int restoreAvailableSeats(@Param("eventId") Long eventId,
+                               @Param("seats") int seats,
+                               @Param("now") LocalDateTime now);
 
 }
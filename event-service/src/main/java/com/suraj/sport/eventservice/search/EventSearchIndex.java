@@ -0,0 +1,500 @@
+package com.suraj.sport.eventservice.search;
+
+import com.suraj.sport.eventservice.dto.response.EventSearchHit;
+import com.suraj.sport.eventservice.dto.response.EventSearchResponse;
+import com.suraj.sport.eventservice.entity.Event;
+import com.suraj.sport.eventservice.entity.EventStatus;
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+
+/**
+ * In-process inverted index over event name, venue and sport type.
+ * <p>
+ * Every indexed version of an event gets a dense int document number. Per-document
+ * data is stored column-wise in primitive arrays indexed by that number, so matching,
+ * faceting and ordering never box ids or chase entity graphs:
+ * - terms        : term → sorted doc numbers containing it. A sorted map, so prefix
+ *                  autocomplete is a range lookup instead of a scan over all terms.
+ * - sportTypeOrd : doc → ordinal of its sportType value (facet counting by array slot)
+ * - statusOrd    : doc → EventStatus ordinal
+ * - dateKey      : doc → event date as epoch seconds (ordering hits)
+ * - live         : docs that are the current version of an event
+ * <p>
+ * Re-indexing an event appends a new document and marks the old one dead instead of
+ * rewriting postings in place — doc numbers only ever grow, so postings stay sorted and
+ * intersections are plain merges. Dead documents are purged by compaction once they
+ * outnumber live ones.
+ * <p>
+ * The index is rebuilt from the database on startup (see EventSearchIndexLoader) and
+ * kept current incrementally by EventServiceImpl on every create and update.
+ * <p>
+ * Note: The index is local to each event-service instance. Updates made on another
+ * instance become visible here only after restart.
+ * TODO: Propagate index updates between instances once Kafka is introduced.
+ */
+@Component
+public class EventSearchIndex {
+
+    private static final Pattern DIACRITICS = Pattern.compile("\\p{M}+");
+    private static final Pattern NON_ALPHANUMERIC = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final EventStatus[] STATUSES = EventStatus.values();
+    private static final int INITIAL_CAPACITY = 1024;
+    private static final int MIN_DEAD_DOCS_BEFORE_COMPACTION = 1024;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private final NavigableMap<String, Postings> terms = new TreeMap<>();
+    private final Map<Long, Integer> docByEventId = new HashMap<>();
+    private final List<String> sportTypeValues = new ArrayList<>();
+    private final Map<String, Integer> sportTypeOrdinals = new HashMap<>();
+    private final BitSet live = new BitSet();
+
+    private IndexedEvent[] documents = new IndexedEvent[INITIAL_CAPACITY];
+    private int[] sportTypeOrd = new int[INITIAL_CAPACITY];
+    private int[] statusOrd = new int[INITIAL_CAPACITY];
+    private long[] dateKey = new long[INITIAL_CAPACITY];
+    private int nextDoc;
+    private int deadDocs;
+
+    // =====================================================================
+    // INDEXING
+    // =====================================================================
+
+    /**
+     * Adds the event to the index, or replaces its previous version.
+     */
+    public void index(Event event) {
+        IndexedEvent document = IndexedEvent.of(event);
+
+        lock.writeLock().lock();
+        try {
+            Integer previousDoc = docByEventId.get(document.id());
+            if (previousDoc != null) {
+                markDead(previousDoc);
+            }
+            addDocument(document);
+            compactIfNeeded();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Removes the event from the index — no-op if it was never indexed.
+     */
+    public void remove(Long eventId) {
+        lock.writeLock().lock();
+        try {
+            Integer doc = docByEventId.remove(eventId);
+            if (doc != null) {
+                markDead(doc);
+                compactIfNeeded();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // =====================================================================
+    // SEARCH
+    // =====================================================================
+
+    /**
+     * Full-text search with sportType and status facets.
+     * <p>
+     * - Every query token must match (AND semantics). A blank query matches every event.
+     * - sportType and status filters are optional; sportType is case-insensitive.
+     * - Facet counts are disjunctive: the sportType counts ignore the sportType filter
+     *   and the status counts ignore the status filter, so clients can show how many
+     *   results each alternative value would return.
+     * - Hits are ordered by event date, soonest first.
+     */
+    public EventSearchResponse search(String query, String sportType, EventStatus status, int limit) {
+        List<String> queryTerms = tokenize(query);
+
+        lock.readLock().lock();
+        try {
+            DocIterator candidates = queryTerms.isEmpty() ? liveDocs() : matchAll(queryTerms);
+
+            boolean[] sportTypeAccepted = acceptedSportTypes(sportType);
+            int statusFilter = status == null ? -1 : status.ordinal();
+            int[] sportTypeCounts = new int[sportTypeValues.size()];
+            int[] statusCounts = new int[STATUSES.length];
+            TopDocs top = new TopDocs(limit);
+            int totalHits = 0;
+
+            for (int doc = candidates.next(); doc >= 0; doc = candidates.next()) {
+                boolean sportTypeMatches = sportTypeAccepted == null || sportTypeAccepted[sportTypeOrd[doc]];
+                boolean statusMatches = statusFilter < 0 || statusFilter == statusOrd[doc];
+
+                if (statusMatches) {
+                    sportTypeCounts[sportTypeOrd[doc]]++;
+                }
+                if (sportTypeMatches && statusOrd[doc] >= 0) {
+                    statusCounts[statusOrd[doc]]++;
+                }
+                if (sportTypeMatches && statusMatches) {
+                    totalHits++;
+                    top.offer(doc);
+                }
+            }
+
+            return new EventSearchResponse(
+                    totalHits,
+                    top.toHits(),
+                    toSportTypeFacets(sportTypeCounts),
+                    toStatusFacets(statusCounts)
+            );
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Returns up to limit indexed terms starting with the given prefix,
+     * most frequent first so popular teams and venues surface before rare ones.
+     */
+    public List<String> autocomplete(String prefix, int limit) {
+        List<String> prefixTerms = tokenize(prefix);
+        if (prefixTerms.isEmpty()) {
+            return List.of();
+        }
+        // Only the last token is completed — earlier tokens are already whole words
+        String termPrefix = prefixTerms.getLast();
+
+        lock.readLock().lock();
+        try {
+            PriorityQueue<Map.Entry<String, Postings>> top = new PriorityQueue<>(limit + 1,
+                    Comparator.comparingInt((Map.Entry<String, Postings> e) -> e.getValue().size())
+                            .thenComparing(Map.Entry::getKey, Comparator.reverseOrder()));
+            for (Map.Entry<String, Postings> entry :
+                    terms.subMap(termPrefix, true, termPrefix + Character.MAX_VALUE, false).entrySet()) {
+                top.offer(entry);
+                if (top.size() > limit) {
+                    top.poll();
+                }
+            }
+            List<String> suggestions = new ArrayList<>(top.size());
+            while (!top.isEmpty()) {
+                suggestions.add(top.poll().getKey());
+            }
+            return suggestions.reversed();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Lowercases, strips accents and splits on anything that is not a letter or digit.
+     * "Estádio do Maracanã" → [estadio, do, maracana]
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = DIACRITICS.matcher(Normalizer.normalize(text, Normalizer.Form.NFKD))
+                .replaceAll("")
+                .toLowerCase(Locale.ROOT);
+        return Arrays.stream(NON_ALPHANUMERIC.split(normalized))
+                .filter(token -> !token.isEmpty())
+                .distinct()
+                .toList();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private void addDocument(IndexedEvent document) {
+        int doc = nextDoc++;
+        ensureCapacity(doc + 1);
+
+        documents[doc] = document;
+        sportTypeOrd[doc] = sportTypeOrdinal(document.sportType());
+        statusOrd[doc] = document.status() == null ? -1 : document.status().ordinal();
+        dateKey[doc] = document.eventDate() == null
+                ? Long.MAX_VALUE
+                : document.eventDate().toEpochSecond(ZoneOffset.UTC);
+        live.set(doc);
+        docByEventId.put(document.id(), doc);
+
+        for (String term : document.terms()) {
+            terms.computeIfAbsent(term, t -> new Postings()).add(doc);
+        }
+    }
+
+    private void markDead(int doc) {
+        live.clear(doc);
+        documents[doc] = null;
+        deadDocs++;
+    }
+
+    /**
+     * Rebuilds the index from its live documents once dead ones dominate,
+     * so postings do not grow without bound as events are updated.
+     */
+    private void compactIfNeeded() {
+        if (deadDocs < MIN_DEAD_DOCS_BEFORE_COMPACTION || deadDocs < live.cardinality()) {
+            return;
+        }
+        List<IndexedEvent> liveDocuments = new ArrayList<>(live.cardinality());
+        for (int doc = live.nextSetBit(0); doc >= 0; doc = live.nextSetBit(doc + 1)) {
+            liveDocuments.add(documents[doc]);
+        }
+
+        terms.clear();
+        docByEventId.clear();
+        live.clear();
+        documents = new IndexedEvent[Math.max(INITIAL_CAPACITY, liveDocuments.size())];
+        sportTypeOrd = new int[documents.length];
+        statusOrd = new int[documents.length];
+        dateKey = new long[documents.length];
+        nextDoc = 0;
+        deadDocs = 0;
+
+        liveDocuments.forEach(this::addDocument);
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= documents.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, documents.length * 2);
+        documents = Arrays.copyOf(documents, newCapacity);
+        sportTypeOrd = Arrays.copyOf(sportTypeOrd, newCapacity);
+        statusOrd = Arrays.copyOf(statusOrd, newCapacity);
+        dateKey = Arrays.copyOf(dateKey, newCapacity);
+    }
+
+    private int sportTypeOrdinal(String sportType) {
+        String value = sportType == null ? "" : sportType;
+        return sportTypeOrdinals.computeIfAbsent(value, v -> {
+            sportTypeValues.add(v);
+            return sportTypeValues.size() - 1;
+        });
+    }
+
+    /**
+     * Resolves a case-insensitive sportType filter to the set of matching ordinals,
+     * or null when no filter is applied.
+     */
+    private boolean[] acceptedSportTypes(String sportType) {
+        if (sportType == null) {
+            return null;
+        }
+        boolean[] accepted = new boolean[sportTypeValues.size()];
+        for (int ord = 0; ord < accepted.length; ord++) {
+            accepted[ord] = sportTypeValues.get(ord).equalsIgnoreCase(sportType);
+        }
+        return accepted;
+    }
+
+    /**
+     * Intersects the postings of every query term, starting from the rarest term
+     * so the working set is as small as possible from the first step.
+     */
+    private DocIterator matchAll(List<String> queryTerms) {
+        List<Postings> postings = new ArrayList<>(queryTerms.size());
+        for (String term : queryTerms) {
+            Postings posting = terms.get(term);
+            if (posting == null) {
+                return DocIterator.EMPTY;
+            }
+            postings.add(posting);
+        }
+        postings.sort(Comparator.comparingInt(Postings::size));
+
+        int[] result = postings.getFirst().copyLive(live);
+        int size = result.length;
+        for (int i = 1; i < postings.size() && size > 0; i++) {
+            size = postings.get(i).retainInto(result, size);
+        }
+        return DocIterator.of(result, size);
+    }
+
+    private DocIterator liveDocs() {
+        return new DocIterator() {
+            private int doc = -1;
+
+            @Override
+            public int next() {
+                doc = live.nextSetBit(doc + 1);
+                return doc;
+            }
+        };
+    }
+
+    private Map<String, Integer> toSportTypeFacets(int[] counts) {
+        Map<String, Integer> facets = new TreeMap<>();
+        for (int ord = 0; ord < counts.length; ord++) {
+            if (counts[ord] > 0 && !sportTypeValues.get(ord).isEmpty()) {
+                facets.put(sportTypeValues.get(ord), counts[ord]);
+            }
+        }
+        return facets;
+    }
+
+    private static Map<EventStatus, Integer> toStatusFacets(int[] counts) {
+        Map<EventStatus, Integer> facets = new EnumMap<>(EventStatus.class);
+        for (int ord = 0; ord < counts.length; ord++) {
+            if (counts[ord] > 0) {
+                facets.put(STATUSES[ord], counts[ord]);
+            }
+        }
+        return facets;
+    }
+
+    private int compareDocs(int a, int b) {
+        int byDate = Long.compare(dateKey[a], dateKey[b]);
+        return byDate != 0 ? byDate : Long.compare(documents[a].id(), documents[b].id());
+    }
+
+    // =====================================================================
+    // INTERNAL STRUCTURES
+    // =====================================================================
+
+    /**
+     * Growable, always-sorted array of doc numbers for one term.
+     */
+    private static final class Postings {
+
+        private int[] docs = new int[4];
+        private int size;
+
+        void add(int doc) {
+            if (size == docs.length) {
+                docs = Arrays.copyOf(docs, size * 2);
+            }
+            docs[size++] = doc;
+        }
+
+        int size() {
+            return size;
+        }
+
+        int[] copyLive(BitSet live) {
+            int[] copy = new int[size];
+            int n = 0;
+            for (int i = 0; i < size; i++) {
+                if (live.get(docs[i])) {
+                    copy[n++] = docs[i];
+                }
+            }
+            return n == size ? copy : Arrays.copyOf(copy, n);
+        }
+
+        /**
+         * Keeps only those of the first candidateCount candidates that are also in this
+         * posting. Both arrays are sorted, so this is a single forward merge.
+         */
+        int retainInto(int[] candidates, int candidateCount) {
+            int kept = 0;
+            int j = 0;
+            for (int i = 0; i < candidateCount && j < size; i++) {
+                int doc = candidates[i];
+                while (j < size && docs[j] < doc) {
+                    j++;
+                }
+                if (j < size && docs[j] == doc) {
+                    candidates[kept++] = doc;
+                }
+            }
+            return kept;
+        }
+    }
+
+    /**
+     * Bounded max-heap keeping the limit soonest events — O(n log limit) instead of
+     * sorting every match, which matters for broad queries like a bare sportType filter.
+     */
+    private final class TopDocs {
+
+        private final int limit;
+        private final PriorityQueue<Integer> heap;
+
+        TopDocs(int limit) {
+            this.limit = limit;
+            this.heap = new PriorityQueue<>(limit + 1, (a, b) -> compareDocs(b, a));
+        }
+
+        void offer(int doc) {
+            if (heap.size() < limit) {
+                heap.offer(doc);
+            } else if (compareDocs(doc, heap.peek()) < 0) {
+                heap.poll();
+                heap.offer(doc);
+            }
+        }
+
+        List<EventSearchHit> toHits() {
+            Integer[] docs = heap.toArray(new Integer[0]);
+            Arrays.sort(docs, EventSearchIndex.this::compareDocs);
+            List<EventSearchHit> hits = new ArrayList<>(docs.length);
+            for (Integer doc : docs) {
+                hits.add(documents[doc].toHit());
+            }
+            return hits;
+        }
+    }
+
+    /**
+     * Forward-only cursor over matching doc numbers; returns -1 when exhausted.
+     */
+    private interface DocIterator {
+
+        DocIterator EMPTY = () -> -1;
+
+        int next();
+
+        static DocIterator of(int[] docs, int size) {
+            return new DocIterator() {
+                private int i;
+
+                @Override
+                public int next() {
+                    return i < size ? docs[i++] : -1;
+                }
+            };
+        }
+    }
+
+    /**
+     * Immutable snapshot of the indexed fields of one event.
+     */
+    private record IndexedEvent(
+            long id,
+            String name,
+            String sportType,
+            String venue,
+            LocalDateTime eventDate,
+            EventStatus status,
+            Set<String> terms
+    ) {
+        static IndexedEvent of(Event event) {
+            Set<String> terms = new HashSet<>();
+            terms.addAll(tokenize(event.getName()));
+            terms.addAll(tokenize(event.getVenue()));
+            terms.addAll(tokenize(event.getSportType()));
+            return new IndexedEvent(
+                    event.getId(),
+                    event.getName(),
+                    event.getSportType(),
+                    event.getVenue(),
+                    event.getEventDate(),
+                    event.getStatus(),
+                    Set.copyOf(terms)
+            );
+        }
+
+        EventSearchHit toHit() {
+            return new EventSearchHit(id, name, sportType, venue, eventDate, status);
+        }
+    }
+}
@@ -0,0 +1,46 @@
+package com.suraj.sport.eventservice.search;
+
+import com.suraj.sport.eventservice.entity.Event;
+import com.suraj.sport.eventservice.repository.EventRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.stereotype.Component;
+
+/**
+ * Builds the search index from the events table once the application has started.
+ * Events are read in pages so a multi-season catalogue never has to sit in memory
+ * as JPA entities all at once.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EventSearchIndexLoader {
+
+    private static final int PAGE_SIZE = 1000;
+
+    private final EventRepository eventRepository;
+    private final EventSearchIndex eventSearchIndex;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        long startTime = System.currentTimeMillis();
+        int indexed = 0;
+
+        Slice<Event> page = eventRepository.findAllBy(PageRequest.of(0, PAGE_SIZE, Sort.by("id")));
+        while (true) {
+            page.forEach(eventSearchIndex::index);
+            indexed += page.getNumberOfElements();
+            if (!page.hasNext()) {
+                break;
+            }
+            page = eventRepository.findAllBy(page.nextPageable());
+        }
+
+        log.info("Event search index built with {} events in {}ms", indexed, System.currentTimeMillis() - startTime);
+    }
+}
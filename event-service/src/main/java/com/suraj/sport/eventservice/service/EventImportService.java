@@ -0,0 +1,11 @@
+package com.suraj.sport.eventservice.service;
+
+import com.suraj.sport.eventservice.dto.response.EventImportResponse;
+import com.suraj.sport.eventservice.importer.EventImportFormat;
+
+import java.io.InputStream;
+
+public interface EventImportService {
+
+    EventImportResponse importEvents(InputStream body, EventImportFormat format);
+}
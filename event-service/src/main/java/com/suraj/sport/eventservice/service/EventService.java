@@ -1,10 +1,16 @@
 package com.suraj.sport.eventservice.service;
 
+import com.suraj.sport.eventservice.cache.CatalogVersion;
+import com.suraj.sport.eventservice.cache.EventVersion;
 import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
 import com.suraj.sport.eventservice.dto.request.UpdateEventRequest;
 import com.suraj.sport.eventservice.dto.response.CreateEventResponse;
 import com.suraj.sport.eventservice.dto.response.EventResponse;
+import com.suraj.sport.eventservice.dto.response.EventSearchResponse;
+import com.suraj.sport.eventservice.dto.response.PriceQuoteResponse;
+import com.suraj.sport.eventservice.dto.response.SeatAvailabilityUpdate;
 import com.suraj.sport.eventservice.dto.response.UpdateEventResponse;
+import com.suraj.sport.eventservice.entity.EventStatus;
 
 import java.util.List;
 
@@ -18,6 +24,18 @@ public interface EventService {
 
     List<EventResponse> getAllEvents();
 
+    EventVersion getEventVersion(Long eventId);
+
+    CatalogVersion getCatalogVersion();
+
+    EventSearchResponse searchEvents(String query, String sportType, EventStatus status, int limit);
+
+    List<String> autocomplete(String prefix, int limit);
+
+    SeatAvailabilityUpdate getSeatAvailability(Long eventId);
+
+    PriceQuoteResponse getPriceQuote(Long eventId);
+
     void deleteEvent(Long eventId);
 
     void reduceAvailableSeats(Long eventId, int seats);
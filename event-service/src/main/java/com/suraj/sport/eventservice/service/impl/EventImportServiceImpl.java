@@ -0,0 +1,262 @@
+package com.suraj.sport.eventservice.service.impl;
+
+import com.suraj.sport.eventservice.cache.EventVersionCache;
+import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
+import com.suraj.sport.eventservice.dto.response.EventImportError;
+import com.suraj.sport.eventservice.dto.response.EventImportResponse;
+import com.suraj.sport.eventservice.entity.Event;
+import com.suraj.sport.eventservice.exception.DuplicateEventException;
+import com.suraj.sport.eventservice.exception.InvalidImportFileException;
+import com.suraj.sport.eventservice.importer.CsvEventImportReader;
+import com.suraj.sport.eventservice.importer.EventImportFormat;
+import com.suraj.sport.eventservice.importer.EventImportReader;
+import com.suraj.sport.eventservice.importer.EventImportRow;
+import com.suraj.sport.eventservice.importer.EventKey;
+import com.suraj.sport.eventservice.importer.NdjsonEventImportReader;
+import com.suraj.sport.eventservice.lifecycle.EventLifecycleScheduler;
+import com.suraj.sport.eventservice.mapper.EventMapper;
+import com.suraj.sport.eventservice.repository.EventRepository;
+import com.suraj.sport.eventservice.search.EventSearchIndex;
+import com.suraj.sport.eventservice.service.EventImportService;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Session;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EventImportServiceImpl implements EventImportService {
+
+    // Rows per transaction — also the JDBC batch size, so one batch is one round trip
+    private static final int IMPORT_BATCH_SIZE = 500;
+
+    // Bounds the response for an upload that is wrong on every row
+    private static final int MAX_REPORTED_ERRORS = 1000;
+
+    private final EventRepository eventRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventVersionCache eventVersionCache;
+    private final EventLifecycleScheduler eventLifecycleScheduler;
+    private final Validator validator;
+    private final JsonMapper jsonMapper;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManager entityManager;
+
+    // =====================================================================
+    // BULK IMPORT
+    // =====================================================================
+
+    /**
+     * Imports a season of fixtures from a streamed CSV or NDJSON upload.
+     * <p>
+     * The body is parsed row by row and handled in batches of IMPORT_BATCH_SIZE:
+     * - Each row gets the same bean validation as POST /api/v1/event.
+     * - Duplicates are checked by (eventDate, dedup hash) against the existing events in the
+     *   batch's date window, loaded in one query per batch, and against rows earlier in the
+     *   same upload. The unique constraint still catches events created concurrently.
+     * - The valid rows of a batch are inserted in one transaction as JDBC batches.
+     * <p>
+     * Rejected rows never stop the import — they are listed in the response with their
+     * line number. A batch that has been committed stays committed if a later batch or the
+     * upload itself fails.
+     * <p>
+     * TODO: secureImportEndpoint()
+     *   - Once auth is implemented, restrict imports to organizers and admins.
+     */
+    @Override
+    public EventImportResponse importEvents(InputStream body, EventImportFormat format) {
+        long startTime = System.currentTimeMillis();
+        ImportReport report = new ImportReport();
+        // Keys of every row accepted so far in this upload → the line it came from
+        Map<EventKey, Long> acceptedKeys = new HashMap<>();
+
+        try (EventImportReader reader = openReader(body, format)) {
+            List<EventImportRow> batch = new ArrayList<>(IMPORT_BATCH_SIZE);
+            EventImportRow row;
+            while ((row = reader.next()) != null) {
+                report.totalRows++;
+                if (row.error() != null) {
+                    report.fail(row.line(), row.error());
+                    continue;
+                }
+                String violations = validate(row.request());
+                if (violations != null) {
+                    report.fail(row.line(), violations);
+                    continue;
+                }
+                batch.add(row);
+                if (batch.size() == IMPORT_BATCH_SIZE) {
+                    importBatch(batch, acceptedKeys, report);
+                    batch.clear();
+                }
+            }
+            importBatch(batch, acceptedKeys, report);
+        } catch (IOException ex) {
+            throw new InvalidImportFileException(
+                    "Upload could not be read after " + report.totalRows + " rows (" + report.imported
+                            + " imported): " + ex.getMessage());
+        }
+
+        log.info("Imported {} of {} events ({} duplicates, {} failed) in {}ms",
+                report.imported, report.totalRows, report.duplicates, report.failed,
+                System.currentTimeMillis() - startTime);
+        return report.toResponse();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private EventImportReader openReader(InputStream body, EventImportFormat format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+        return switch (format) {
+            case CSV -> new CsvEventImportReader(reader);
+            case NDJSON -> new NdjsonEventImportReader(reader, jsonMapper);
+        };
+    }
+
+    private String validate(CreateEventRequest request) {
+        Set<ConstraintViolation<CreateEventRequest>> violations = validator.validate(request);
+        if (violations.isEmpty()) {
+            return null;
+        }
+        return violations.stream()
+                .map(ConstraintViolation::getMessage)
+                .sorted()
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Drops duplicates from a batch and inserts the rest in a single transaction.
+     */
+    private void importBatch(List<EventImportRow> batch, Map<EventKey, Long> acceptedKeys, ImportReport report) {
+        if (batch.isEmpty()) {
+            return;
+        }
+
+        // One range query per batch instead of one lookup per row — fixture lists are
+        // ordered by date, so a batch covers a narrow window of the season
+        LocalDateTime from = LocalDateTime.MAX;
+        LocalDateTime to = LocalDateTime.MIN;
+        for (EventImportRow row : batch) {
+            LocalDateTime eventDate = row.request().getEventDate();
+            from = eventDate.isBefore(from) ? eventDate : from;
+            to = eventDate.isAfter(to) ? eventDate : to;
+        }
+        Set<EventKey> existingKeys = new HashSet<>(eventRepository.findKeysByEventDateBetween(from, to));
+
+        List<EventImportRow> accepted = new ArrayList<>(batch.size());
+        for (EventImportRow row : batch) {
+            EventKey key = EventKey.of(row.request());
+            if (existingKeys.contains(key)) {
+                report.duplicate(row.line(), DuplicateEventException.SAME_NAME_VENUE_AND_DATE);
+                continue;
+            }
+            Long firstLine = acceptedKeys.putIfAbsent(key, row.line());
+            if (firstLine != null) {
+                report.duplicate(row.line(), "Duplicate of line " + firstLine);
+                continue;
+            }
+            accepted.add(row);
+        }
+        if (accepted.isEmpty()) {
+            return;
+        }
+
+        List<Event> savedEvents;
+        try {
+            savedEvents = transactionTemplate.execute(status -> {
+                // Batch regardless of the profile's hibernate.jdbc.batch_size
+                entityManager.unwrap(Session.class).setJdbcBatchSize(IMPORT_BATCH_SIZE);
+                return eventRepository.saveAll(accepted.stream()
+                        .map(row -> EventMapper.mapToEvent(row.request()))
+                        .toList());
+            });
+        } catch (DataIntegrityViolationException ex) {
+            if (!DuplicateEventException.isDuplicateEventViolation(ex)) {
+                throw ex;
+            }
+            // A concurrent create or import inserted one of these events after the
+            // batch was checked — the batch rolled back, so retry its rows one by one
+            savedEvents = importOneByOne(accepted, report);
+        }
+
+        if (!savedEvents.isEmpty()) {
+            savedEvents.forEach(eventSearchIndex::index);
+            savedEvents.forEach(eventLifecycleScheduler::track);
+            eventVersionCache.evict(savedEvents.getFirst().getId());
+            report.imported += savedEvents.size();
+        }
+    }
+
+    private List<Event> importOneByOne(List<EventImportRow> rows, ImportReport report) {
+        List<Event> savedEvents = new ArrayList<>(rows.size());
+        for (EventImportRow row : rows) {
+            try {
+                savedEvents.add(eventRepository.save(EventMapper.mapToEvent(row.request())));
+            } catch (DataIntegrityViolationException ex) {
+                if (!DuplicateEventException.isDuplicateEventViolation(ex)) {
+                    throw ex;
+                }
+                report.duplicate(row.line(), DuplicateEventException.SAME_NAME_VENUE_AND_DATE);
+            }
+        }
+        return savedEvents;
+    }
+
+    /**
+     * Running totals for one import.
+     */
+    private static final class ImportReport {
+
+        private int totalRows;
+        private int imported;
+        private int duplicates;
+        private int failed;
+        private final List<EventImportError> errors = new ArrayList<>();
+        private boolean errorsTruncated;
+
+        void fail(long line, String message) {
+            failed++;
+            addError(line, message);
+        }
+
+        void duplicate(long line, String message) {
+            duplicates++;
+            addError(line, message);
+        }
+
+        private void addError(long line, String message) {
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new EventImportError(line, message));
+            } else {
+                errorsTruncated = true;
+            }
+        }
+
+        EventImportResponse toResponse() {
+            return new EventImportResponse(totalRows, imported, duplicates, failed, errors, errorsTruncated);
+        }
+    }
+}
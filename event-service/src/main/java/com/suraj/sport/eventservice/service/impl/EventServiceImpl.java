@@ -1,27 +1,56 @@
 package com.suraj.sport.eventservice.service.impl;
 
+import com.suraj.sport.eventservice.cache.CatalogVersion;
+import com.suraj.sport.eventservice.cache.EventVersion;
+import com.suraj.sport.eventservice.cache.EventVersionCache;
+import com.suraj.sport.eventservice.client.BookingServiceClient;
+import com.suraj.sport.eventservice.datasource.ReplicaRoutingDataSource;
 import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
 import com.suraj.sport.eventservice.dto.request.UpdateEventRequest;
 import com.suraj.sport.eventservice.dto.response.CreateEventResponse;
 import com.suraj.sport.eventservice.dto.response.EventResponse;
+import com.suraj.sport.eventservice.dto.response.EventSearchResponse;
+import com.suraj.sport.eventservice.dto.response.PriceQuoteResponse;
+import com.suraj.sport.eventservice.dto.response.SeatAvailabilityUpdate;
 import com.suraj.sport.eventservice.dto.response.UpdateEventResponse;
 import com.suraj.sport.eventservice.entity.Event;
 import com.suraj.sport.eventservice.entity.EventStatus;
 import com.suraj.sport.eventservice.exception.*;
+import com.suraj.sport.eventservice.lifecycle.EventLifecycleScheduler;
 import com.suraj.sport.eventservice.mapper.EventMapper;
+import com.suraj.sport.eventservice.pricing.PricingEngine;
 import com.suraj.sport.eventservice.repository.EventRepository;
+import com.suraj.sport.eventservice.search.EventSearchIndex;
 import com.suraj.sport.eventservice.service.EventService;
+import com.suraj.sport.eventservice.stream.SeatAvailabilityHub;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Objects;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class EventServiceImpl implements EventService {
 
+    private static final int MAX_SEARCH_RESULTS = 100;
+    private static final String EVENT_CANCELLED_REASON = "Event cancelled by organizer";
+    private static final int MAX_UPDATE_ATTEMPTS = 3;
+
     private final EventRepository eventRepository;
+    private final EventSearchIndex eventSearchIndex;
+    private final EventVersionCache eventVersionCache;
+    private final SeatAvailabilityHub seatAvailabilityHub;
+    private final EventLifecycleScheduler eventLifecycleScheduler;
+    private final BookingServiceClient bookingServiceClient;
+    private final PricingEngine pricingEngine;
 
     // =====================================================================
     // CREATE EVENT
@@ -31,25 +60,24 @@ public class EventServiceImpl implements EventService {
      * Creates a new sports event.
      * - Status is automatically set to UPCOMING on creation.
      * - Available seats are automatically set equal to total seats on creation.
-     * - Duplicate events (same name, venue, and date) are rejected.
+     * - The event moves to ONGOING at its eventDate automatically (EventLifecycleScheduler).
+     * - Duplicate events (same normalized name and venue, same date) are rejected by the
+     *   unique constraint on (event_date, dedup_hash) — the violation is translated to
+     *   DuplicateEventException by GlobalExceptionHandler. Unlike a lookup before the
+     *   insert, this also holds when two identical requests arrive at the same time.
      */
     @Override
     public CreateEventResponse createEvent(CreateEventRequest createEventRequest) {
 
-        // Edge case: reject duplicate events to prevent accidental double-creation
-        // by organizers or repeated API calls
-        eventRepository.findByNameAndVenueAndEventDate(
-                createEventRequest.getName(),
-                createEventRequest.getVenue(),
-                createEventRequest.getEventDate()
-        ).ifPresent(e -> {
-            throw new DuplicateEventException("An event with the same name, venue and date already exists");
-        });
-
         // Map request to entity — status defaults to UPCOMING, availableSeats = totalSeats
         Event event = EventMapper.mapToEvent(createEventRequest);
         Event savedEvent = eventRepository.save(event);
 
+        // Make the new event searchable immediately; the event list has changed
+        eventSearchIndex.index(savedEvent);
+        eventVersionCache.evict(savedEvent.getId());
+        eventLifecycleScheduler.track(savedEvent);
+
         // TODO: validateSportType(createEventRequest.getSportType())
         // Integrate with an AI model or sports reference API (e.g. SportsDB) to verify
         // that the provided sport type is real and supported.
@@ -83,41 +111,44 @@ public class EventServiceImpl implements EventService {
      * - Event date cannot be changed once the event is ONGOING.
      * - Available seats are recalculated automatically if total seats change.
      * - Available seats cannot be manually set — managed by the booking system.
+     * <p>
+     * Cancelling an event sends one command to Booking Service, which cancels every active
+     * booking and requests the refunds in the background (see cancelBookingsOfCancelledEvent).
+     * <p>
+     * Note: UPCOMING → ONGOING → COMPLETED also happens automatically when the event is due
+     * (EventLifecycleScheduler). A changed eventDate or status reschedules that transition.
      */
     @Override
     public UpdateEventResponse updateEvent(Long eventId, UpdateEventRequest updateEventRequest) {
 
-        Event event = findEventOrThrow(eventId);
-
-        validateEventIsUpdatable(event);
-        validateStatusTransition(event.getStatus(), updateEventRequest.getStatus());
-        validateEventDateChange(event, updateEventRequest);
-        recalculateAvailableSeatsIfNeeded(event, updateEventRequest.getTotalSeats());
-
-        // TODO: notifyUsersIfVenueChanged(event, updateEventRequest)
-        // If venue has changed and bookings exist, notify all booked users via
-        // email/SMS with the new venue details.
-
-        // TODO: notifyUsersIfDateChanged(event, updateEventRequest)
-        // If event date has changed and bookings exist, notify all booked users.
-        // Users should be given the option to keep their booking or request a refund.
-
-        // FIXME: handleCancellationWithBookings(event)
-        // If an event is being CANCELLED and active bookings exist:
-        // 1. Fetch all bookings from Booking Service
-        // 2. Trigger refund process via Payment Service for each booking
-        // 3. Notify all affected users via Notification Service
-        // This requires inter-service communication — revisit when Kafka is implemented.
+        // Bookings, cancellations and the lifecycle scheduler bump version with bulk UPDATEs,
+        // so during an on-sale the event almost always changes between the read and the save.
+        // Such a conflict is re-read and the edit applied again to the fresh row.
+        Event savedEvent = null;
+        EventStatus previousStatus = null;
+        for (int attempt = 1; savedEvent == null; attempt++) {
+            Event event = findEventOrThrow(eventId);
+            previousStatus = event.getStatus();
+            try {
+                savedEvent = applyUpdate(event, updateEventRequest);
+            } catch (ObjectOptimisticLockingFailureException ex) {
+                if (attempt == MAX_UPDATE_ATTEMPTS) {
+                    throw ex;
+                }
+                log.debug("Event {} changed during update (attempt {}) — retrying", eventId, attempt);
+            }
+        }
 
-        // FIXME: handleDateChangeWithBookings(event, updateEventRequest)
-        // If event date changes after bookings are made:
-        // Option A: Auto-refund all existing bookings
-        // Option B: Notify users and allow them to either keep booking or request refund
-        // Option C: Allow users to re-select seats for new date with same payment
-        // Business decision needed — revisit when Notification + Payment services are wired.
+        // Re-index — name, venue, sport type or status may have changed;
+        // total seats or status changes are pushed to availability streams
+        eventSearchIndex.index(savedEvent);
+        eventVersionCache.evict(savedEvent.getId());
+        seatAvailabilityHub.publish(savedEvent.getId());
+        eventLifecycleScheduler.track(savedEvent);
 
-        Event updatedEvent = EventMapper.mapToUpdatedEvent(updateEventRequest, event);
-        Event savedEvent = eventRepository.save(updatedEvent);
+        if (previousStatus != EventStatus.CANCELLED && savedEvent.getStatus() == EventStatus.CANCELLED) {
+            cancelBookingsOfCancelledEvent(savedEvent.getId());
+        }
 
         return EventMapper.mapToUpdateEventResponse(savedEvent);
     }
@@ -136,18 +167,32 @@ public class EventServiceImpl implements EventService {
      *     Repository query will change to findByIdAndIsDeletedFalse() at that point.
      *     Admin users will have a separate endpoint to retrieve deleted events.
      *
+     * Note: The version of every event read here is cached so repeat polls carrying
+     * If-None-Match can be answered by getEventVersion() without a database hit.
+     * <p>
+     * Note: Bookable events carry a fresh signed price quote — clients pass its token to
+     * Booking Service with the booking, so it needs no price lookup of its own.
+     * <p>
+     * Note: Read-only, so it is served by the read replica when one is configured
+     * (see ReplicaRoutingDataSource). A version read from the replica is not cached — it
+     * may be older than one a write just evicted, and would be served as current.
+     *
      * TODO: implementCaching()
      * Consider caching frequently accessed events using Redis to reduce database hits.
      * Especially useful for high-traffic events like IPL finals or World Cup matches.
      * Revisit when Observability and performance tuning is covered in Section 11.
      */
     @Override
+    @Transactional(readOnly = true)
     public EventResponse getEventById(Long eventId) {
 
         // Edge case: event must exist
         Event event = findEventOrThrow(eventId);
+        if (!ReplicaRoutingDataSource.isReplicaTransaction()) {
+            eventVersionCache.put(event);
+        }
 
-        return EventMapper.mapToEventResponse(event);
+        return EventMapper.mapToEventResponse(event, pricingEngine.quoteIfBookable(event));
     }
 
 // =====================================================================
@@ -174,18 +219,146 @@ public class EventServiceImpl implements EventService {
      * Add filtering support — by status (UPCOMING, ONGOING), sportType (Cricket, Football),
      * venue, date range etc. to allow users to browse events more effectively.
      * Controller method signature will accept @RequestParam filters at that point.
+     * <p>
+     * Note: Read-only, so it is served by the read replica when one is configured — the
+     * catalogue fingerprint is then not cached, as for getEventById.
      */
     @Override
+    @Transactional(readOnly = true)
     public List<EventResponse> getAllEvents() {
 
         // TODO: Replace with paginated and filtered query once implemented
         // TODO: Replace findAll() with findAllByIsDeletedFalse() once auth/roles are added
-        return eventRepository.findAll()
-                .stream()
-                .map(EventMapper::mapToEventResponse)
+        List<Event> events = eventRepository.findAll();
+
+        // The list just read is itself the catalogue fingerprint — cache it for conditional GETs
+        LocalDateTime lastUpdatedAt = events.stream()
+                .map(Event::getUpdatedAt)
+                .filter(Objects::nonNull)
+                .max(Comparator.naturalOrder())
+                .orElse(null);
+        if (!ReplicaRoutingDataSource.isReplicaTransaction()) {
+            eventVersionCache.putCatalogVersion(new CatalogVersion(events.size(), lastUpdatedAt));
+        }
+
+        return events.stream()
+                .map(event -> EventMapper.mapToEventResponse(event, pricingEngine.quoteIfBookable(event)))
                 .collect(Collectors.toList());
     }
 
+    // =====================================================================
+    // EVENT VERSIONS (CONDITIONAL GET)
+    // =====================================================================
+
+    /**
+     * Returns the current version and status of an event for If-None-Match checks.
+     * <p>
+     * Served from EventVersionCache while fresh; on a miss only the version and status
+     * columns are read, never the full row.
+     * <p>
+     * Restrictions:
+     * - Throws EventNotFoundException if no event exists with the given ID.
+     */
+    @Override
+    public EventVersion getEventVersion(Long eventId) {
+        EventVersion cached = eventVersionCache.getVersion(eventId);
+        if (cached != null) {
+            return cached;
+        }
+        EventVersion version = eventRepository.findVersionById(eventId)
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+        eventVersionCache.put(eventId, version);
+        return version;
+    }
+
+    /**
+     * Returns the fingerprint of the event list for If-None-Match checks on GET /api/v1/event.
+     * Served from EventVersionCache while fresh; on a miss a single aggregate query is run.
+     */
+    @Override
+    public CatalogVersion getCatalogVersion() {
+        CatalogVersion cached = eventVersionCache.getCatalogVersion();
+        if (cached != null) {
+            return cached;
+        }
+        CatalogVersion version = eventRepository.findCatalogVersion();
+        eventVersionCache.putCatalogVersion(version);
+        return version;
+    }
+
+    // =====================================================================
+    // SEARCH EVENTS
+    // =====================================================================
+
+    /**
+     * Full-text search over event name, venue and sport type, with facet counts
+     * by sportType and status.
+     * <p>
+     * Served entirely from the in-memory EventSearchIndex — no database query, so
+     * latency stays flat as the catalogue grows across seasons.
+     * <p>
+     * Restrictions:
+     * - limit is clamped to 1..100
+     * - Results carry no seat or price data — clients fetch GET /api/v1/event/{eventId}
+     *   for the event they open.
+     */
+    @Override
+    public EventSearchResponse searchEvents(String query, String sportType, EventStatus status, int limit) {
+        return eventSearchIndex.search(query, sportType, status, clampLimit(limit));
+    }
+
+    /**
+     * Suggests completions for the last word of a partially typed query —
+     * e.g. "mumbai ind" → ["indians", "india"].
+     */
+    @Override
+    public List<String> autocomplete(String prefix, int limit) {
+        return eventSearchIndex.autocomplete(prefix, clampLimit(limit));
+    }
+
+    // =====================================================================
+    // SEAT AVAILABILITY
+    // =====================================================================
+
+    /**
+     * Returns the current seat counts of an event — the first message of an
+     * availability stream. Later messages are pushed by SeatAvailabilityHub.
+     * <p>
+     * Restrictions:
+     * - Throws EventNotFoundException if no event exists with the given ID.
+     */
+    @Override
+    public SeatAvailabilityUpdate getSeatAvailability(Long eventId) {
+        return eventRepository.findSeatAvailability(List.of(eventId)).stream()
+                .findFirst()
+                .orElseThrow(() -> new EventNotFoundException(eventId));
+    }
+
+    // =====================================================================
+    // PRICE QUOTE
+    // =====================================================================
+
+    /**
+     * Returns a signed quote of the current seat price of an event, priced by
+     * PricingEngine from recent sell-through and remaining inventory.
+     * <p>
+     * Called by Booking Service when a booking is made — the quoted price is what the
+     * booking is charged, so a quote is only issued while the event can be booked.
+     * <p>
+     * Restrictions:
+     * - Event must exist → else EventNotFoundException
+     * - Event must be UPCOMING or ONGOING → else EventNotBookableException
+     */
+    @Override
+    public PriceQuoteResponse getPriceQuote(Long eventId) {
+        Event event = findEventOrThrow(eventId);
+        if (event.getStatus() != EventStatus.UPCOMING && event.getStatus() != EventStatus.ONGOING) {
+            throw new EventNotBookableException(
+                    "Event is not open for booking — current status: " + event.getStatus());
+        }
+        return pricingEngine.quote(event);
+    }
+
     // =====================================================================
 // DELETE EVENT
 // =====================================================================
@@ -220,6 +393,36 @@ public class EventServiceImpl implements EventService {
     // PRIVATE HELPER METHODS
     // =====================================================================
 
+    /**
+     * Validates and saves one update of the event as read — throws
+     * ObjectOptimisticLockingFailureException if the row has changed since.
+     */
+    private Event applyUpdate(Event event, UpdateEventRequest updateEventRequest) {
+
+        validateEventIsUpdatable(event);
+        validateStatusTransition(event.getStatus(), updateEventRequest.getStatus());
+        validateEventDateChange(event, updateEventRequest);
+        recalculateAvailableSeatsIfNeeded(event, updateEventRequest.getTotalSeats());
+
+        // TODO: notifyUsersIfVenueChanged(event, updateEventRequest)
+        // If venue has changed and bookings exist, notify all booked users via
+        // email/SMS with the new venue details.
+
+        // TODO: notifyUsersIfDateChanged(event, updateEventRequest)
+        // If event date has changed and bookings exist, notify all booked users.
+        // Users should be given the option to keep their booking or request a refund.
+
+        // FIXME: handleDateChangeWithBookings(event, updateEventRequest)
+        // If event date changes after bookings are made:
+        // Option A: Auto-refund all existing bookings
+        // Option B: Notify users and allow them to either keep booking or request refund
+        // Option C: Allow users to re-select seats for new date with same payment
+        // Business decision needed — revisit when Notification + Payment services are wired.
+
+        Event updatedEvent = EventMapper.mapToUpdatedEvent(updateEventRequest, event);
+        return eventRepository.save(updatedEvent);
+    }
+
     /**
      * Fetches the event by ID or throws EventNotFoundException if not found.
      */
@@ -228,6 +431,31 @@ public class EventServiceImpl implements EventService {
                 .orElseThrow(() -> new EventNotFoundException(eventId));
     }
 
+    /**
+     * Sends the cancellation command for a newly CANCELLED event to Booking Service.
+     * The event stays CANCELLED even if the command cannot be delivered — Booking Service
+     * treats a repeated command as a resume, so it can simply be sent again.
+     * <p>
+     * FIXME: Reliable delivery — a failed command is only logged today. Write it to an
+     *   outbox in the same transaction as the status change and relay it once Kafka is
+     *   introduced.
+     */
+    private void cancelBookingsOfCancelledEvent(Long eventId) {
+        try {
+            bookingServiceClient.cancelEventBookings(eventId, EVENT_CANCELLED_REASON);
+        } catch (Exception ex) {
+            log.error("Failed to send the booking cancellation command for cancelled event {}: {}",
+                    eventId, ex.getMessage());
+        }
+    }
+
+    /**
+     * Keeps search page sizes within 1..MAX_SEARCH_RESULTS.
+     */
+    private int clampLimit(int limit) {
+        return Math.max(1, Math.min(limit, MAX_SEARCH_RESULTS));
+    }
+
     /**
      * Ensures the event is in a state that allows updates.
      * CANCELLED and COMPLETED events are immutable — no further changes allowed.
@@ -307,18 +535,20 @@ public class EventServiceImpl implements EventService {
 
     /**
      * Reduces available seats for a sports event when a booking is made.
-     *
-     * IMPORTANT: This method is intentionally left as a stub until inter-service
-     * communication is implemented in Section 8. This endpoint will be called
-     * internally by Booking Service only — not exposed to end users.
-     *
-     * TODO: implementReduceAvailableSeats()
-     *   - Event must exist → else EventNotFoundException
-     *   - Event must be UPCOMING or ONGOING → else throw EventNotBookableException
-     *   - Requested seats must be greater than 0
-     *   - Available seats must be sufficient → else throw InsufficientSeatsException
-     *   - Reduce availableSeats by requested amount
-     *
+     * <p>
+     * Called internally by Booking Service only — not exposed to end users.
+     * <p>
+     * The decrement is a single conditional UPDATE that also checks status and
+     * remaining seats, so concurrent bookings during an on-sale can never oversell.
+     * The new seat count is pushed to availability stream subscribers on the next flush,
+     * and the sale is counted towards the event's sell-through for pricing.
+     * <p>
+     * Restrictions:
+     * - Seats to reduce must be greater than 0 → else InvalidSeatCountException
+     * - Event must exist → else EventNotFoundException
+     * - Event must be UPCOMING or ONGOING → else EventNotBookableException
+     * - Available seats must be sufficient → else InsufficientSeatsException
+     * <p>
      * TODO: secureInternalEndpoint()
      *   - Once auth is implemented, this endpoint should only be accessible
      *     by internal services, not end users. Consider using a service token
@@ -326,8 +556,26 @@ public class EventServiceImpl implements EventService {
      */
     @Override
     public void reduceAvailableSeats(Long eventId, int seats) {
-        // TODO: implement once inter-service communication is set up in Section 8
-        throw new UnsupportedOperationException("Will be implemented when Booking Service integration is set up");
+
+        // Edge case: reducing zero or negative seats is meaningless
+        if (seats <= 0) {
+            throw new InvalidSeatCountException("Seats to reduce must be greater than 0");
+        }
+
+        int updated = eventRepository.reduceAvailableSeats(eventId, seats, LocalDateTime.now());
+        if (updated == 0) {
+            // Work out which guard rejected the UPDATE
+            Event event = findEventOrThrow(eventId);
+            if (event.getStatus() != EventStatus.UPCOMING && event.getStatus() != EventStatus.ONGOING) {
+                throw new EventNotBookableException(
+                        "Event is not open for booking — current status: " + event.getStatus());
+            }
+            throw new InsufficientSeatsException(
+                    "Cannot book " + seats + " seats — only " + event.getAvailableSeats() + " seats are available");
+        }
+        pricingEngine.recordSale(eventId, seats);
+        eventVersionCache.evict(eventId);
+        seatAvailabilityHub.publish(eventId);
     }
 
 // =====================================================================
@@ -336,17 +584,19 @@ public class EventServiceImpl implements EventService {
 
     /**
      * Restores available seats for a sports event when a booking is cancelled.
-     *
-     * IMPORTANT: This method is intentionally left as a stub until inter-service
-     * communication is implemented in Section 8. This endpoint will be called
-     * internally by Booking Service only — not exposed to end users.
-     *
-     * TODO: implementRestoreAvailableSeats()
-     *   - Event must exist → else EventNotFoundException
-     *   - Seats to restore must be greater than 0
-     *   - Restored seats cannot exceed totalSeats — safety check against data corruption
-     *   - Restore availableSeats by requested amount
-     *
+     * <p>
+     * Called internally by Booking Service only — not exposed to end users.
+     * Booking Service batches restores per event (e.g. when expired PENDING bookings
+     * are auto-cancelled), so a single call may restore seats for many bookings.
+     * <p>
+     * The increment is a single conditional UPDATE, so concurrent restores never
+     * lose updates and never push availableSeats past totalSeats.
+     * <p>
+     * Restrictions:
+     * - Seats to restore must be greater than 0 → else InvalidSeatCountException
+     * - Event must exist → else EventNotFoundException
+     * - Restored seats cannot exceed totalSeats → else InvalidSeatCountException
+     * <p>
      * TODO: secureInternalEndpoint()
      *   - Once auth is implemented, this endpoint should only be accessible
      *     by internal services, not end users. Consider using a service token
@@ -354,7 +604,21 @@ public class EventServiceImpl implements EventService {
      */
     @Override
     public void restoreAvailableSeats(Long eventId, int seats) {
-        // TODO: implement once inter-service communication is set up in Section 8
-        throw new UnsupportedOperationException("Will be implemented when Booking Service integration is set up");
+
+        // Edge case: restoring zero or negative seats is meaningless
+        if (seats <= 0) {
+            throw new InvalidSeatCountException("Seats to restore must be greater than 0");
+        }
+
+        int updated = eventRepository.restoreAvailableSeats(eventId, seats, LocalDateTime.now());
+        eventVersionCache.evict(eventId);
+        if (updated == 0) {
+            // Distinguish a missing event from a restore that would exceed total seats
+            Event event = findEventOrThrow(eventId);
+            throw new InvalidSeatCountException(
+                    "Cannot restore " + seats + " seats — only " +
+                            (event.getTotalSeats() - event.getAvailableSeats()) + " seats are booked");
+        }
+        seatAvailabilityHub.publish(eventId);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,238 @@
+package com.suraj.sport.eventservice.stream;
+
+import com.suraj.sport.eventservice.config.AvailabilityStreamProperties;
+import com.suraj.sport.eventservice.dto.response.SeatAvailabilityUpdate;
+import com.suraj.sport.eventservice.repository.EventRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyEmitter.DataWithMediaType;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * In-process fan-out of seat availability changes to SSE subscribers.
+ * <p>
+ * Reduce and restore only mark an event as changed. Every coalesce interval (250ms by
+ * default) the hub reads the current seat counts of all changed events that have
+ * subscribers in a single query, serializes each update once, and hands the same frame
+ * to every subscriber of that event. A burst of bookings during an on-sale therefore
+ * costs one query and one message per event per interval, not one per booking.
+ * <p>
+ * Subscribers do not hold a request thread. Writes run on virtual threads, so a client
+ * on a slow network only ever parks its own send. Each subscriber has a single pending
+ * slot: a newer update replaces one that has not been written yet, so memory per
+ * subscriber is bounded no matter how far behind it falls. A subscriber whose write has
+ * been stuck longer than slow-consumer-timeout is dropped; its EventSource reconnects
+ * and starts again from the current seat count. Updates are only sent to a subscriber
+ * with a newer version than the last one it was sent.
+ * <p>
+ * NOTE: Changes made by other event-service instances are not seen here. Once the
+ * service is scaled out, publish changes through a shared broker (e.g. Redis pub/sub)
+ * and keep this hub as the per-instance fan-out.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SeatAvailabilityHub {
+
+    private static final String EVENT_NAME = "availability";
+
+    private final EventRepository eventRepository;
+    private final JsonMapper jsonMapper;
+    private final AvailabilityStreamProperties properties;
+
+    private final ConcurrentMap<Long, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+    private final Set<Long> changedEvents = ConcurrentHashMap.newKeySet();
+    private final ExecutorService senders = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * Opens a stream for one event. The current seat count is sent straight away so the
+     * client does not need a separate GET before listening.
+     * <p>
+     * The event is marked as changed once the subscriber is registered: a change committed
+     * after current was read but before then was not marked by publish, and would otherwise
+     * not reach this subscriber until the next one. The next flush re-reads the count and
+     * sends it only if it is newer than current.
+     */
+    public SseEmitter subscribe(SeatAvailabilityUpdate current) {
+        SseEmitter emitter = new SseEmitter(properties.getEmitterTimeout().toMillis());
+        Subscriber subscriber = new Subscriber(current.eventId(), emitter, current.version());
+
+        emitter.onCompletion(() -> unsubscribe(subscriber));
+        emitter.onTimeout(() -> unsubscribe(subscriber));
+        emitter.onError(ex -> unsubscribe(subscriber));
+
+        subscribers.compute(current.eventId(), (eventId, set) -> {
+            Set<Subscriber> target = set != null ? set : ConcurrentHashMap.newKeySet();
+            target.add(subscriber);
+            return target;
+        });
+        subscriber.offer(frameOf(current), true);
+        changedEvents.add(current.eventId());
+        return emitter;
+    }
+
+    /**
+     * Records that an event's seat count changed. Cheap enough to call on every
+     * booking — events nobody is watching are ignored.
+     */
+    public void publish(Long eventId) {
+        if (subscribers.containsKey(eventId)) {
+            changedEvents.add(eventId);
+        }
+    }
+
+    // =====================================================================
+    // SCHEDULED FLUSH
+    // =====================================================================
+
+    @Scheduled(fixedDelayString = "${event.availability-stream.coalesce-interval:PT0.25S}")
+    public void flush() {
+        if (changedEvents.isEmpty()) {
+            return;
+        }
+
+        // Drain before reading — a change that lands after this point is either
+        // already visible to the query below or re-marks the event for the next flush
+        List<Long> eventIds = new ArrayList<>(changedEvents);
+        changedEvents.removeAll(eventIds);
+
+        for (SeatAvailabilityUpdate update : eventRepository.findSeatAvailability(eventIds)) {
+            Set<Subscriber> watching = subscribers.get(update.eventId());
+            if (watching == null) {
+                continue;
+            }
+            Set<DataWithMediaType> frame = frameOf(update);
+            watching.forEach(subscriber -> subscriber.offerUpdate(update.version(), frame));
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${event.availability-stream.heartbeat-interval:PT15S}")
+    public void sendHeartbeats() {
+        Set<DataWithMediaType> heartbeat = SseEmitter.event().comment("keep-alive").build();
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.offer(heartbeat, false)));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.emitter.complete()));
+        senders.shutdownNow();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * Serializes an update once so every subscriber of the event is sent the same bytes.
+     */
+    private Set<DataWithMediaType> frameOf(SeatAvailabilityUpdate update) {
+        return SseEmitter.event()
+                .name(EVENT_NAME)
+                .id(Long.toString(update.version()))
+                .data(jsonMapper.writeValueAsString(update))
+                .build();
+    }
+
+    private void unsubscribe(Subscriber subscriber) {
+        subscribers.computeIfPresent(subscriber.eventId, (eventId, set) -> {
+            set.remove(subscriber);
+            return set.isEmpty() ? null : set;
+        });
+    }
+
+    /**
+     * One open stream. At most one frame is pending and at most one virtual thread is
+     * writing to the emitter at any time.
+     */
+    private final class Subscriber {
+
+        private final Long eventId;
+        private final SseEmitter emitter;
+        private final AtomicReference<Set<DataWithMediaType>> pending = new AtomicReference<>();
+        private final AtomicBoolean sending = new AtomicBoolean();
+        private volatile long sendStartedAt;
+        // Version of the latest update offered — only written by flush once subscribed
+        private volatile long version;
+
+        private Subscriber(Long eventId, SseEmitter emitter, long version) {
+            this.eventId = eventId;
+            this.emitter = emitter;
+            this.version = version;
+        }
+
+        /**
+         * Offers an update unless the subscriber has already been offered this version or a newer one.
+         */
+        void offerUpdate(long updateVersion, Set<DataWithMediaType> frame) {
+            if (updateVersion > version) {
+                version = updateVersion;
+                offer(frame, true);
+            }
+        }
+
+        /**
+         * Parks a frame in the pending slot and starts a writer if none is running.
+         * replace = false is used for heartbeats, which never displace a real update.
+         */
+        void offer(Set<DataWithMediaType> frame, boolean replace) {
+            if (replace) {
+                pending.set(frame);
+            } else if (!pending.compareAndSet(null, frame)) {
+                return;
+            }
+
+            if (sending.compareAndSet(false, true)) {
+                sendStartedAt = System.nanoTime();
+                senders.execute(this::drain);
+            } else if (System.nanoTime() - sendStartedAt > properties.getSlowConsumerTimeout().toNanos()) {
+                drop();
+            }
+        }
+
+        private void drain() {
+            try {
+                Set<DataWithMediaType> frame;
+                while ((frame = pending.getAndSet(null)) != null) {
+                    sendStartedAt = System.nanoTime();
+                    emitter.send(frame);
+                }
+            } catch (IOException | IllegalStateException ex) {
+                // Client went away or the emitter already completed — the container
+                // completes the async request, we only need to stop fanning out to it
+                unsubscribe(this);
+                return;
+            } finally {
+                sending.set(false);
+            }
+
+            // A frame may have been parked after the last getAndSet but before the flag
+            // was released — pick it up rather than leave it until the next change
+            if (pending.get() != null && sending.compareAndSet(false, true)) {
+                senders.execute(this::drain);
+            }
+        }
+
+        private void drop() {
+            unsubscribe(this);
+            pending.set(null);
+            log.warn("Dropping slow availability subscriber for event {}", eventId);
+            // complete() waits for the stuck write to release the emitter — never on the flush thread
+            senders.execute(emitter::complete);
+        }
+    }
+}
@@ -0,0 +1,35 @@
+package com.suraj.sport.eventservice.tracing;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Logs one structured event per kept trace — the root span, its duration and each span
+ * with its own — so slow and failed requests can be read from the JSON logs.
+ */
+@Slf4j
+@Component
+public class LoggingSpanExporter implements SpanExporter {
+
+    @Override
+    public void export(List<Span> spans) {
+        if (!log.isInfoEnabled() || spans.isEmpty()) {
+            return;
+        }
+        // The root ends last
+        Span root = spans.getLast();
+        log.atInfo()
+                .setMessage("Trace kept")
+                .addKeyValue("traceId", root.getTraceId())
+                .addKeyValue("root", root.getName())
+                .addKeyValue("durationMs", root.getDuration().toMillis())
+                .addKeyValue("error", spans.stream().anyMatch(Span::isError))
+                .addKeyValue("spans", spans.stream()
+                        .map(span -> span.getName() + " " + span.getDuration().toMillis() + "ms"
+                                + (span.isError() ? " ERROR " + span.getErrorMessage() : ""))
+                        .toList())
+                .log();
+    }
+}
@@ -0,0 +1,160 @@
+package com.suraj.sport.eventservice.tracing;
+
+import com.suraj.sport.eventservice.config.TracingProperties;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.MDC;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Starts and ends spans, tracks the current span of each thread, and decides which traces
+ * are kept.
+ * <p>
+ * Spans are created by TracingFilter (incoming requests), TracingAspect (controller, service
+ * and repository methods) and TracingClientInterceptor (calls to other services). A span
+ * started while another is current becomes its child; the first span of a thread starts
+ * a new trace, or continues the caller's when the request carried a traceparent header.
+ * <p>
+ * Sampling is tail-based: every span is recorded, and once the local root span (the request,
+ * or a scheduled job) ends the whole trace is kept if it failed or the root took at least
+ * event.tracing.slow-threshold — otherwise only event.tracing.sample-rate of traces are
+ * kept. A trace failed if its root did (a 5xx, or an exception escaping a job) or a call to
+ * another service did; business exceptions handled as 4xx responses only mark their own
+ * spans. Kept traces go to every SpanExporter bean.
+ * <p>
+ * The current trace and span ids are also put in the logging MDC (traceId, spanId), so the
+ * JSON logs of a request can be matched to its trace.
+ * <p>
+ * Note: Work handed to another thread (e.g. the availability stream fan-out) starts traces
+ * of its own. Each service keeps or drops its part of a trace independently — a trace
+ * kept here for being slow may have been dropped by a service it called.
+ * TODO: Export to an OpenTelemetry collector once Observability is implemented in Section 11.
+ */
+@Component
+@RequiredArgsConstructor
+public class Tracer {
+
+    private static final ThreadLocal<Span> CURRENT = new ThreadLocal<>();
+    private static final HexFormat HEX = HexFormat.of();
+
+    private final TracingProperties properties;
+    private final List<SpanExporter> exporters;
+
+    public Span currentSpan() {
+        return CURRENT.get();
+    }
+
+    /**
+     * Starts a span as a child of the current span, or as the root of a new trace if there is none.
+     */
+    public Span startSpan(String name, SpanKind kind) {
+        Span parent = CURRENT.get();
+        Span span = parent != null
+                ? new Span(parent.getTraceId(), newSpanId(), parent.getSpanId(), name, kind, parent.getLocalTrace(), parent)
+                : new Span(newTraceId(), newSpanId(), null, name, kind, new LocalTrace(), null);
+        return makeCurrent(span);
+    }
+
+    /**
+     * Starts the span of an incoming request, continuing the caller's trace if it sent one.
+     */
+    public Span startServerSpan(String name, TraceParent caller) {
+        if (caller == null) {
+            return startSpan(name, SpanKind.SERVER);
+        }
+        return makeCurrent(new Span(caller.traceId(), newSpanId(), caller.parentSpanId(), name, SpanKind.SERVER,
+                new LocalTrace(), CURRENT.get()));
+    }
+
+    /**
+     * Ends a span and makes the span that was current before it current again. Ending the
+     * local root completes the trace, which is then kept or dropped.
+     */
+    public void end(Span span) {
+        span.end();
+        if (CURRENT.get() == span) {
+            restore(span.getPrevious());
+        }
+        LocalTrace trace = span.getLocalTrace();
+        if (trace.add(span, properties.getMaxSpansPerTrace()) && trace.isRoot(span) && keep(trace, span)) {
+            List<Span> spans = trace.spans();
+            exporters.forEach(exporter -> exporter.export(spans));
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private boolean keep(LocalTrace trace, Span root) {
+        return trace.hasError()
+                || root.getDuration().compareTo(properties.getSlowThreshold()) >= 0
+                || ThreadLocalRandom.current().nextDouble() < properties.getSampleRate();
+    }
+
+    private Span makeCurrent(Span span) {
+        CURRENT.set(span);
+        MDC.put("traceId", span.getTraceId());
+        MDC.put("spanId", span.getSpanId());
+        return span;
+    }
+
+    private void restore(Span span) {
+        if (span == null) {
+            CURRENT.remove();
+            MDC.remove("traceId");
+            MDC.remove("spanId");
+        } else {
+            makeCurrent(span);
+        }
+    }
+
+    private static String newTraceId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        return HEX.toHexDigits(random.nextLong()) + HEX.toHexDigits(random.nextLong());
+    }
+
+    private static String newSpanId() {
+        return HEX.toHexDigits(ThreadLocalRandom.current().nextLong());
+    }
+
+    /**
+     * The spans of one trace recorded by this service. The first span added to it is not
+     * necessarily the root — children end before their parents — so the root is the span
+     * that created it, recognised by having no previous span in the same trace.
+     */
+    static final class LocalTrace {
+
+        private final List<Span> spans = new ArrayList<>();
+        private boolean error;
+        private boolean complete;
+
+        synchronized boolean add(Span span, int maxSpans) {
+            if (complete) {
+                return false;
+            }
+            error |= span.isError() && (span.getKind() == SpanKind.CLIENT || isRoot(span));
+            if (spans.size() < maxSpans || isRoot(span)) {
+                spans.add(span);
+            }
+            complete = isRoot(span);
+            return true;
+        }
+
+        boolean isRoot(Span span) {
+            return span.getPrevious() == null || span.getPrevious().getLocalTrace() != this;
+        }
+
+        synchronized boolean hasError() {
+            return error;
+        }
+
+        synchronized List<Span> spans() {
+            return List.copyOf(spans);
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package com.suraj.sport.eventservice.tracing;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Opens a CLIENT span around each call to another service and passes the trace on in the
+ * traceparent header. Registered on the RestClients in RestClientConfig.
+ */
+@Component
+@RequiredArgsConstructor
+public class TracingClientInterceptor implements ClientHttpRequestInterceptor {
+
+    private final Tracer tracer;
+
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        Span span = tracer.startSpan(request.getMethod() + " " + request.getURI().getPath(), SpanKind.CLIENT)
+                .attribute("http.url", request.getURI());
+        request.getHeaders().set(TraceParent.HEADER, TraceParent.format(span));
+        try {
+            ClientHttpResponse response = execution.execute(request, body);
+            span.attribute("http.status_code", response.getStatusCode().value());
+            if (response.getStatusCode().is5xxServerError()) {
+                span.fail("HTTP " + response.getStatusCode().value());
+            }
+            return response;
+        } catch (IOException | RuntimeException ex) {
+            span.fail(ex);
+            throw ex;
+        } finally {
+            tracer.end(span);
+        }
+    }
+}
@@ -0,0 +1,92 @@
+package com.suraj.sport.eventservice.transport;
+
+import com.suraj.sport.eventservice.tracing.TraceParent;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+/**
+ * Wire format of the seat commands Booking Service sends to SeatCommandServer. Numbers are
+ * big-endian, and every frame starts with the length of the rest of the frame.
+ * <p>
+ * Command — always 49 bytes, so it is read and written through one reused buffer:
+ * - int    length, always 45
+ * - long   requestId — echoed in the reply; replies come back in completion order
+ * - byte   opcode — REDUCE_SEATS or RESTORE_SEATS
+ * - long   eventId
+ * - int    seats
+ * - 16+8 B trace id and span id of the caller's span, all zero when it has none
+ * <p>
+ * Reply — 16 bytes plus the message:
+ * - int    length, 12 + message bytes
+ * - long   requestId
+ * - short  status — the HTTP status the REST endpoint answers with (200, 400, 404, 409, 500)
+ * - short  message bytes, then the UTF-8 message — empty on 200, cut at MAX_MESSAGE_BYTES
+ * <p>
+ * Must match SeatCommandFrame in booking-service.
+ */
+public final class SeatCommandFrame {
+
+    public static final byte REDUCE_SEATS = 1;
+    public static final byte RESTORE_SEATS = 2;
+
+    public static final int COMMAND_SIZE = 49;
+    public static final int REPLY_HEADER_SIZE = 16;
+    public static final int MAX_MESSAGE_BYTES = 512;
+
+    private static final int COMMAND_LENGTH = COMMAND_SIZE - Integer.BYTES;
+    private static final int TRACE_ID_BYTES = 16;
+    private static final int SPAN_ID_BYTES = 8;
+    private static final HexFormat HEX = HexFormat.of();
+
+    private SeatCommandFrame() {
+    }
+
+    /**
+     * A decoded command. traceParent is null if the caller sent none.
+     */
+    public record SeatCommand(long requestId, byte opcode, long eventId, int seats, TraceParent traceParent) {
+
+        public String name() {
+            return opcode == REDUCE_SEATS ? "REDUCE_SEATS" : "RESTORE_SEATS";
+        }
+    }
+
+    /**
+     * Reads a command from a buffer holding exactly one frame.
+     * Throws IllegalArgumentException on a frame this protocol does not know.
+     */
+    public static SeatCommand decodeCommand(ByteBuffer frame) {
+        int length = frame.getInt();
+        if (length != COMMAND_LENGTH) {
+            throw new IllegalArgumentException("Unexpected seat command length " + length);
+        }
+        long requestId = frame.getLong();
+        byte opcode = frame.get();
+        if (opcode != REDUCE_SEATS && opcode != RESTORE_SEATS) {
+            throw new IllegalArgumentException("Unknown seat command opcode " + opcode);
+        }
+        long eventId = frame.getLong();
+        int seats = frame.getInt();
+        byte[] traceId = new byte[TRACE_ID_BYTES];
+        byte[] spanId = new byte[SPAN_ID_BYTES];
+        frame.get(traceId).get(spanId);
+        // TraceParent.parse treats all-zero ids as absent
+        TraceParent traceParent = TraceParent.parse("00-" + HEX.formatHex(traceId) + "-" + HEX.formatHex(spanId) + "-01");
+        return new SeatCommand(requestId, opcode, eventId, seats, traceParent);
+    }
+
+    /**
+     * Writes a reply into a cleared buffer of at least REPLY_HEADER_SIZE + MAX_MESSAGE_BYTES.
+     */
+    public static void encodeReply(ByteBuffer buffer, long requestId, int status, String message) {
+        byte[] text = message == null ? new byte[0] : message.getBytes(StandardCharsets.UTF_8);
+        int messageBytes = Math.min(text.length, MAX_MESSAGE_BYTES);
+        buffer.putInt(REPLY_HEADER_SIZE - Integer.BYTES + messageBytes)
+                .putLong(requestId)
+                .putShort((short) status)
+                .putShort((short) messageBytes)
+                .put(text, 0, messageBytes);
+    }
+}
@@ -0,0 +1,227 @@
+package com.suraj.sport.eventservice.transport;
+
+import com.suraj.sport.eventservice.config.SeatCommandServerProperties;
+import com.suraj.sport.eventservice.exception.EventNotBookableException;
+import com.suraj.sport.eventservice.exception.EventNotFoundException;
+import com.suraj.sport.eventservice.exception.InsufficientSeatsException;
+import com.suraj.sport.eventservice.exception.InvalidSeatCountException;
+import com.suraj.sport.eventservice.service.EventService;
+import com.suraj.sport.eventservice.tracing.Span;
+import com.suraj.sport.eventservice.tracing.Tracer;
+import com.suraj.sport.eventservice.transport.SeatCommandFrame.SeatCommand;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.net.StandardSocketOptions;
+import java.nio.ByteBuffer;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serves the seat commands of Booking Service — the binary counterpart of PATCH
+ * /{eventId}/reduce-seats and /restore-seats, for the booking hot path.
+ * <p>
+ * Booking Service keeps one connection open and multiplexes every command over it: each
+ * frame carries a request id, commands are executed concurrently on virtual threads, and
+ * replies are written back as they complete. Frames are fixed-size binary (see
+ * SeatCommandFrame) — no HTTP headers, no JSON, no ApiResult wrapper. The commands run
+ * through the same EventService methods as the REST endpoints, so the rules, the
+ * availability stream and pricing are unchanged; exceptions come back as the HTTP status
+ * GlobalExceptionHandler would have answered with.
+ * <p>
+ * Each command continues the caller's trace when it carries one, as TracingFilter does.
+ * <p>
+ * TODO: secureInternalCall()
+ * Authenticate the connection with a service token once internal endpoints are secured
+ * in Section 12 — until then the port must only be reachable from the internal network,
+ * which is why it binds to loopback unless event.seat-command-server.address names an
+ * internal interface.
+ */
+@Slf4j
+@Component
+@ConditionalOnProperty(name = "event.seat-command-server.enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class SeatCommandServer implements SmartLifecycle {
+
+    private final EventService eventService;
+    private final Tracer tracer;
+    private final SeatCommandServerProperties properties;
+
+    private final ExecutorService workers = Executors.newVirtualThreadPerTaskExecutor();
+    private final Set<SocketChannel> connections = ConcurrentHashMap.newKeySet();
+    private volatile ServerSocketChannel serverChannel;
+
+    @Override
+    public void start() {
+        try {
+            serverChannel = ServerSocketChannel.open()
+                    .bind(new InetSocketAddress(properties.getAddress(), properties.getPort()));
+        } catch (IOException ex) {
+            throw new UncheckedIOException("Could not open the seat command port "
+                    + properties.getAddress() + ":" + properties.getPort(), ex);
+        }
+        workers.execute(this::acceptConnections);
+        log.info("Seat command server listening on {}:{}", properties.getAddress(), getPort());
+    }
+
+    @Override
+    public void stop() {
+        ServerSocketChannel channel = serverChannel;
+        serverChannel = null;
+        closeQuietly(channel);
+        connections.forEach(SeatCommandServer::closeQuietly);
+        workers.shutdownNow();
+    }
+
+    @Override
+    public boolean isRunning() {
+        return serverChannel != null;
+    }
+
+    /**
+     * The port the server listens on — the configured one, or the one picked for port 0.
+     */
+    public int getPort() {
+        try {
+            return ((InetSocketAddress) serverChannel.getLocalAddress()).getPort();
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private void acceptConnections() {
+        ServerSocketChannel channel = serverChannel;
+        while (channel != null && channel.isOpen()) {
+            try {
+                SocketChannel connection = channel.accept();
+                connection.setOption(StandardSocketOptions.TCP_NODELAY, true);
+                connections.add(connection);
+                workers.execute(() -> serve(connection));
+            } catch (ClosedChannelException ex) {
+                return;
+            } catch (IOException ex) {
+                log.warn("Failed to accept a seat command connection: {}", ex.getMessage());
+            }
+        }
+    }
+
+    /**
+     * Reads the commands of one connection until it is closed. A frame this protocol does
+     * not know closes the connection — the client cannot be trusted to be in sync after it.
+     */
+    private void serve(SocketChannel connection) {
+        ReentrantLock writeLock = new ReentrantLock();
+        ByteBuffer reply = ByteBuffer.allocate(SeatCommandFrame.REPLY_HEADER_SIZE + SeatCommandFrame.MAX_MESSAGE_BYTES);
+        ByteBuffer frame = ByteBuffer.allocate(SeatCommandFrame.COMMAND_SIZE);
+        try (connection) {
+            while (readFrame(connection, frame)) {
+                SeatCommand command = SeatCommandFrame.decodeCommand(frame.flip());
+                workers.execute(() -> execute(command, connection, writeLock, reply));
+            }
+        } catch (IllegalArgumentException ex) {
+            log.warn("Closing seat command connection {}: {}", remoteAddress(connection), ex.getMessage());
+        } catch (IOException ex) {
+            log.debug("Seat command connection {} closed: {}", remoteAddress(connection), ex.getMessage());
+        } finally {
+            connections.remove(connection);
+        }
+    }
+
+    private void execute(SeatCommand command, SocketChannel connection, ReentrantLock writeLock, ByteBuffer reply) {
+        Span span = tracer.startServerSpan("SEAT_COMMAND " + command.name(), command.traceParent())
+                .attribute("event.id", command.eventId());
+        int status = HttpStatus.OK.value();
+        String message = null;
+        try {
+            if (command.opcode() == SeatCommandFrame.REDUCE_SEATS) {
+                eventService.reduceAvailableSeats(command.eventId(), command.seats());
+            } else {
+                eventService.restoreAvailableSeats(command.eventId(), command.seats());
+            }
+        } catch (InvalidSeatCountException ex) {
+            status = HttpStatus.BAD_REQUEST.value();
+            message = ex.getMessage();
+        } catch (EventNotFoundException ex) {
+            status = HttpStatus.NOT_FOUND.value();
+            message = ex.getMessage();
+        } catch (EventNotBookableException | InsufficientSeatsException ex) {
+            status = HttpStatus.CONFLICT.value();
+            message = ex.getMessage();
+        } catch (RuntimeException ex) {
+            log.error("Seat command {} for event {} failed", command.name(), command.eventId(), ex);
+            span.fail(ex);
+            status = HttpStatus.INTERNAL_SERVER_ERROR.value();
+            message = "An unexpected error occurred";
+        } finally {
+            tracer.end(span.attribute("status", status));
+        }
+
+        writeLock.lock();
+        try {
+            SeatCommandFrame.encodeReply(reply.clear(), command.requestId(), status, message);
+            reply.flip();
+            while (reply.hasRemaining()) {
+                connection.write(reply);
+            }
+        } catch (IOException ex) {
+            // The client fails the command as unanswered once the connection is gone
+            log.debug("Could not reply to seat command {}: {}", command.requestId(), ex.getMessage());
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Fills the buffer with the next frame. Returns false if the connection was closed
+     * between frames.
+     */
+    private static boolean readFrame(SocketChannel connection, ByteBuffer frame) throws IOException {
+        frame.clear();
+        while (frame.hasRemaining()) {
+            if (connection.read(frame) < 0) {
+                if (frame.position() == 0) {
+                    return false;
+                }
+                throw new IOException("Connection closed in the middle of a frame");
+            }
+        }
+        return true;
+    }
+
+    private static Object remoteAddress(SocketChannel connection) {
+        try {
+            return connection.getRemoteAddress();
+        } catch (IOException ex) {
+            return "?";
+        }
+    }
+
+    private static void closeQuietly(Closeable closeable) {
+        if (closeable == null) {
+            return;
+        }
+        try {
+            closeable.close();
+        } catch (IOException ignored) {
+            // Shutting down anyway
+        }
+    }
+}
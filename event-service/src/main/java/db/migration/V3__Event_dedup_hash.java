@@ -0,0 +1,64 @@
+package db.migration;
+
+import com.suraj.sport.eventservice.entity.EventDedupHash;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.util.HashSet;
+import java.util.Set;
+
+/**
+ * Adds events.dedup_hash and the unique (event_date, dedup_hash) constraint that replaces
+ * the lookup createEvent used to run before every insert.
+ * <p>
+ * The hash is computed in Java (EventDedupHash) so existing rows get exactly the value the
+ * application would write. Rows created before the constraint may already contain duplicates
+ * under the new normalization — the first of each (lowest id) is hashed, later ones keep a
+ * NULL hash, which the unique constraint ignores. V6 gives those a hash of their own.
+ */
+public class V3__Event_dedup_hash extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE events ADD COLUMN dedup_hash BIGINT");
+        }
+
+        Set<String> seen = new HashSet<>();
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery("SELECT id, name, venue, event_date FROM events ORDER BY id");
+             PreparedStatement update = connection.prepareStatement("UPDATE events SET dedup_hash = ? WHERE id = ?")) {
+            int pending = 0;
+            while (rs.next()) {
+                long hash = EventDedupHash.of(rs.getString("name"), rs.getString("venue"));
+                Timestamp eventDate = rs.getTimestamp("event_date");
+                if (!seen.add(eventDate + "|" + hash)) {
+                    continue;
+                }
+                update.setLong(1, hash);
+                update.setLong(2, rs.getLong("id"));
+                update.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+
+        try (Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE events ADD CONSTRAINT uk_events_event_date_dedup_hash"
+                    + " UNIQUE (event_date, dedup_hash)");
+        }
+    }
+}
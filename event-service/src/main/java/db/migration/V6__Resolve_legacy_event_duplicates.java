@@ -0,0 +1,48 @@
+package db.migration;
+
+import com.suraj.sport.eventservice.entity.EventDedupHash;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+
+/**
+ * Hashes the duplicates V3 left with a NULL dedup_hash. Any update of such a row used to
+ * compute its plain hash and violate the unique (event_date, dedup_hash) constraint against
+ * the event it duplicates.
+ * <p>
+ * They are kept rather than merged — bookings reference them by id — and get a hash suffixed
+ * with their id (EventDedupHash.ofLegacyDuplicate) instead, which no other event can have.
+ * Editing a duplicate's name, venue or date recomputes its plain hash, so it can only be
+ * edited into an event that is not itself a duplicate.
+ */
+public class V6__Resolve_legacy_event_duplicates extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+        try (Statement select = connection.createStatement();
+             ResultSet rs = select.executeQuery("SELECT id, name, venue FROM events WHERE dedup_hash IS NULL ORDER BY id");
+             PreparedStatement update = connection.prepareStatement("UPDATE events SET dedup_hash = ? WHERE id = ?")) {
+            int pending = 0;
+            while (rs.next()) {
+                long id = rs.getLong("id");
+                update.setLong(1, EventDedupHash.ofLegacyDuplicate(rs.getString("name"), rs.getString("venue"), id));
+                update.setLong(2, id);
+                update.addBatch();
+                if (++pending == BATCH_SIZE) {
+                    update.executeBatch();
+                    pending = 0;
+                }
+            }
+            if (pending > 0) {
+                update.executeBatch();
+            }
+        }
+    }
+}
@@ -0,0 +1,17 @@
+CREATE TABLE events (
+    id              BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    name            VARCHAR(255),
+    sport_type      VARCHAR(255),
+    venue           VARCHAR(255),
+    event_date      TIMESTAMP(6),
+    total_seats     INTEGER          NOT NULL,
+    available_seats INTEGER          NOT NULL,
+    price_per_seat  DOUBLE PRECISION NOT NULL,
+    is_deleted      BOOLEAN          NOT NULL,
+    status          VARCHAR(32),
+    created_at      TIMESTAMP(6),
+    updated_at      TIMESTAMP(6),
+    version         BIGINT,
+    deleted_at      TIMESTAMP(6),
+    CONSTRAINT chk_events_status CHECK (status IN ('UPCOMING', 'ONGOING', 'COMPLETED', 'CANCELLED'))
+);
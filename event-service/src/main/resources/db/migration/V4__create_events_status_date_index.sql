@@ -0,0 +1,2 @@
+-- Serves the lifecycle scheduler's startup load of UPCOMING and ONGOING events
+CREATE INDEX idx_events_status_event_date ON events (status, event_date);
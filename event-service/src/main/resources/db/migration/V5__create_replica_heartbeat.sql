@@ -0,0 +1,7 @@
+-- Stamped by the primary and read back from the read replica to measure its lag (ReplicaLagMonitor)
+CREATE TABLE replica_heartbeat (
+    id      INTEGER PRIMARY KEY,
+    beat_at BIGINT NOT NULL
+);
+
+INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, 0);
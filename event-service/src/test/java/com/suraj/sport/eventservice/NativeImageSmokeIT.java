@@ -0,0 +1,237 @@
+package com.suraj.sport.eventservice;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import tools.jackson.databind.JsonNode;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Boots the native image built by the native Maven profile against the default in-memory H2
+ * database, exercises the main event endpoints, and compares its startup time and memory
+ * with the JVM build of the same jar.
+ * <p>
+ * Besides the controller paths this covers the two places Jackson runs outside a controller
+ * signature — the NDJSON import and the seat availability stream — which is where missing
+ * reachability metadata shows.
+ * <p>
+ * Runs in the integration-test phase of ./mvnw -Pnative verify. Startup and memory are
+ * printed rather than asserted; memory is read from /proc, so only on Linux.
+ */
+@EnabledIfSystemProperty(named = "native.image", matches = ".+")
+class NativeImageSmokeIT {
+
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private static final JsonMapper JSON = JsonMapper.builder().build();
+    private static final HttpClient HTTP = HttpClient.newBuilder().connectTimeout(Duration.ofSeconds(1)).build();
+
+    @Test
+    void nativeImageServesMainEndpoints() throws Exception {
+        try (RunningService service = start(nativeImage())) {
+            exerciseMainEndpoints(service.baseUrl());
+        }
+    }
+
+    @Test
+    void compareStartupAndMemoryWithJvm() throws Exception {
+        Map<String, List<String>> launches = Map.of(
+                "native", nativeImage(),
+                "jvm", List.of(Path.of(System.getProperty("java.home"), "bin", "java").toString(),
+                        "-jar", System.getProperty("jvm.jar")));
+
+        System.out.printf("%n%-8s %16s %16s %16s%n", "build", "first request (ms)", "RSS (MB)", "peak RSS (MB)");
+        for (String build : List.of("native", "jvm")) {
+            try (RunningService service = start(launches.get(build))) {
+                exerciseMainEndpoints(service.baseUrl());
+                System.out.printf("%-8s %16d %16s %16s%n", build, service.startupMillis(),
+                        service.memoryMegabytes("VmRSS"), service.memoryMegabytes("VmHWM"));
+            }
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * Creates, reads, lists, searches, prices and streams an event, moves its seats, imports
+     * another over NDJSON, and checks that request validation and the OpenAPI document work.
+     */
+    private void exerciseMainEndpoints(String baseUrl) throws Exception {
+        String name = "Smoke Test " + System.nanoTime();
+        LocalDateTime eventDate = LocalDateTime.now().plusDays(30).truncatedTo(ChronoUnit.MINUTES);
+        String event = """
+                {"name":"%s","sportType":"Cricket","venue":"Wankhede Stadium, Mumbai","eventDate":"%s",\
+                "totalSeats":100,"pricePerSeat":50.0}""";
+
+        HttpResponse<String> created = send(baseUrl, "POST", "/api/v1/event", event.formatted(name, eventDate));
+        assertThat(created.statusCode()).as(created.body()).isEqualTo(201);
+        long eventId = JSON.readTree(created.body()).get("data").get("id").asLong();
+
+        HttpResponse<String> fetched = send(baseUrl, "GET", "/api/v1/event/" + eventId, null);
+        assertThat(fetched.statusCode()).as(fetched.body()).isEqualTo(200);
+        JsonNode details = JSON.readTree(fetched.body()).get("data");
+        assertThat(details.get("name").asString()).isEqualTo(name);
+        assertThat(details.get("priceQuote").get("token").asString()).isNotBlank();
+
+        assertThat(send(baseUrl, "GET", "/api/v1/event", null).statusCode()).isEqualTo(200);
+        assertThat(send(baseUrl, "GET", "/api/v1/event/search?q=smoke", null).statusCode()).isEqualTo(200);
+        assertThat(send(baseUrl, "GET", "/api/v1/event/search/autocomplete?prefix=smo", null).statusCode()).isEqualTo(200);
+        assertThat(send(baseUrl, "GET", "/api/v1/event/" + eventId + "/price-quote", null).statusCode()).isEqualTo(200);
+
+        assertThat(send(baseUrl, "PATCH", "/api/v1/event/" + eventId + "/reduce-seats?seats=2", null).statusCode())
+                .isEqualTo(200);
+        assertThat(firstAvailabilityFrame(baseUrl, eventId)).contains("\"availableSeats\":98");
+        assertThat(send(baseUrl, "PATCH", "/api/v1/event/" + eventId + "/restore-seats?seats=2", null).statusCode())
+                .isEqualTo(200);
+
+        HttpResponse<String> imported = HTTP.send(HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/event/import"))
+                        .header("Content-Type", "application/x-ndjson")
+                        .POST(HttpRequest.BodyPublishers.ofString(event.formatted(name + " Import", eventDate) + "\n"))
+                        .build(),
+                HttpResponse.BodyHandlers.ofString());
+        assertThat(imported.statusCode()).as(imported.body()).isEqualTo(200);
+        assertThat(JSON.readTree(imported.body()).get("data").get("imported").asInt()).isEqualTo(1);
+
+        HttpResponse<String> invalid = send(baseUrl, "POST", "/api/v1/event", "{\"totalSeats\":0}");
+        assertThat(invalid.statusCode()).isEqualTo(400);
+
+        HttpResponse<String> apiDocs = send(baseUrl, "GET", "/v3/api-docs", null);
+        assertThat(apiDocs.statusCode()).isEqualTo(200);
+        assertThat(JSON.readTree(apiDocs.body()).get("paths").has("/api/v1/event")).isTrue();
+    }
+
+    /**
+     * Opens the event's availability stream and returns its first data line — the current
+     * availability, sent on subscribe.
+     */
+    private static String firstAvailabilityFrame(String baseUrl, long eventId) throws Exception {
+        HttpResponse<Stream<String>> stream = HTTP.send(
+                HttpRequest.newBuilder(URI.create(baseUrl + "/api/v1/event/" + eventId + "/availability/stream"))
+                        .timeout(Duration.ofSeconds(10))
+                        .build(),
+                HttpResponse.BodyHandlers.ofLines());
+        assertThat(stream.statusCode()).isEqualTo(200);
+        try (Stream<String> lines = stream.body()) {
+            return lines.filter(line -> line.startsWith("data:")).findFirst().orElseThrow();
+        }
+    }
+
+    private static HttpResponse<String> send(String baseUrl, String method, String path, String json) throws Exception {
+        HttpRequest.Builder request = HttpRequest.newBuilder(URI.create(baseUrl + path));
+        if (json != null) {
+            request.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(json));
+        } else {
+            request.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+        return HTTP.send(request.build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private static List<String> nativeImage() {
+        return List.of(System.getProperty("native.image"));
+    }
+
+    /**
+     * Launches the service and waits until it answers its first request.
+     */
+    private RunningService start(List<String> launch) throws Exception {
+        int port = freePort();
+        List<String> command = new ArrayList<>(launch);
+        command.add("--server.port=" + port);
+        Path log = Files.createTempFile("native-image-smoke", ".log");
+
+        long startTime = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectErrorStream(true).redirectOutput(log.toFile()).start();
+        RunningService service = new RunningService(process, "http://localhost:" + port, log);
+        try {
+            while (System.nanoTime() - startTime < STARTUP_TIMEOUT.toNanos()) {
+                if (!process.isAlive()) {
+                    throw new IllegalStateException("Exited before serving a request:\n" + Files.readString(log));
+                }
+                try {
+                    send(service.baseUrl(), "GET", "/api/v1/event/search/autocomplete?prefix=a", null);
+                    service.startupMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                    return service;
+                } catch (IOException notListeningYet) {
+                    Thread.sleep(5);
+                }
+            }
+            throw new IllegalStateException("Did not serve a request within " + STARTUP_TIMEOUT + ":\n" + Files.readString(log));
+        } catch (Exception ex) {
+            service.close();
+            throw ex;
+        }
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+
+    private static final class RunningService implements AutoCloseable {
+
+        private final Process process;
+        private final String baseUrl;
+        private final Path log;
+        private long startupMillis;
+
+        RunningService(Process process, String baseUrl, Path log) {
+            this.process = process;
+            this.baseUrl = baseUrl;
+            this.log = log;
+        }
+
+        String baseUrl() {
+            return baseUrl;
+        }
+
+        long startupMillis() {
+            return startupMillis;
+        }
+
+        /**
+         * A memory figure of the process from /proc/{pid}/status, e.g. VmRSS, or "n/a".
+         */
+        String memoryMegabytes(String field) throws IOException {
+            Path status = Path.of("/proc", String.valueOf(process.pid()), "status");
+            if (!Files.exists(status)) {
+                return "n/a";
+            }
+            return Files.readAllLines(status).stream()
+                    .filter(line -> line.startsWith(field + ":"))
+                    .map(line -> Long.parseLong(line.replaceAll("\\D", "")) / 1024 + "")
+                    .findFirst()
+                    .orElse("n/a");
+        }
+
+        @Override
+        public void close() throws Exception {
+            process.destroy();
+            if (!process.waitFor(30, TimeUnit.SECONDS)) {
+                process.destroyForcibly().waitFor();
+            }
+            Files.deleteIfExists(log);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.suraj.sport.eventservice.benchmark;
+
+import com.suraj.sport.eventservice.cache.EventJsonCache;
+import com.suraj.sport.eventservice.dto.response.ApiResult;
+import com.suraj.sport.eventservice.dto.response.EventResponse;
+import com.suraj.sport.eventservice.dto.response.PriceQuoteResponse;
+import com.suraj.sport.eventservice.entity.EventStatus;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.lang.management.ManagementFactory;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * Measures the CPU time and garbage of writing one GET /api/v1/event/{eventId} body:
+ * - jackson: ApiResult&lt;EventResponse&gt; serialized on every read, as before EventJsonCache
+ * - cached: the event unchanged since the last read — the cached bytes are written as is
+ * - spliced: every read sees a new seat count — availableSeats, updatedAt and version are
+ *   spliced into the cached bytes
+ * - requoted: as spliced, and the price quote changed too, so its JSON is serialized again
+ * The last two are the worst case of a booking between every two reads; during an on-sale
+ * most reads of a hot event fall between the same two bookings and cost what cached does.
+ * <p>
+ * Bodies are written to a discarding stream on one thread, so the numbers are the cost of
+ * producing the body and nothing else. Allocation is read from the thread's allocation
+ * counter.
+ * <p>
+ * Results are printed rather than asserted. Run with:
+ * ./mvnw test -Pbenchmark -Dtest=EventJsonBenchmark
+ * and tune with -Dbenchmark.reads.
+ */
+@Tag("benchmark")
+class EventJsonBenchmark {
+
+    private static final int READS = Integer.getInteger("benchmark.reads", 1_000_000);
+    private static final String MESSAGE = "Event Retrieved Successfully";
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2025, 5, 25, 18, 0);
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 2, 25, 10, 0);
+    private static final Instant QUOTE_EXPIRES_AT = Instant.parse("2025-05-20T10:02:00Z");
+
+    private final JsonMapper jsonMapper = JsonMapper.builder().build();
+    private final com.sun.management.ThreadMXBean threads =
+            (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    @Test
+    void writeEventBody() throws Exception {
+        EventJsonCache cache = new EventJsonCache(jsonMapper);
+        ApiResult<EventResponse> unchanged = ApiResult.of(true, MESSAGE, event(800, 3, quote(3125.0)));
+
+        Result jackson = measure("jackson", read -> jsonMapper.writeValue(OutputStream.nullOutputStream(), unchanged));
+        Result cached = measure("cached", read -> cache.bodyOf(unchanged).writeTo(OutputStream.nullOutputStream()));
+        Result spliced = measure("spliced", read -> {
+            ApiResult<EventResponse> booked = ApiResult.of(true, MESSAGE, event(800 - read % 800, 3 + read, quote(3125.0)));
+            cache.bodyOf(booked).writeTo(OutputStream.nullOutputStream());
+        });
+        Result requoted = measure("requoted", read -> {
+            ApiResult<EventResponse> booked = ApiResult.of(true, MESSAGE,
+                    event(800 - read % 800, 3 + read, quote(3125.0 + read % 100)));
+            cache.bodyOf(booked).writeTo(OutputStream.nullOutputStream());
+        });
+
+        System.out.printf("%nGET /api/v1/event/{eventId} body - %d reads%n", READS);
+        System.out.printf("%-9s %10s %12s%n", "body", "ns/read", "bytes/read");
+        for (Result result : new Result[]{jackson, cached, spliced, requoted}) {
+            System.out.printf("%-9s %10.0f %12.0f%n", result.name(), result.nanosPerRead(), result.bytesPerRead());
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private Result measure(String name, Read read) throws IOException {
+        // Warm up, so each case is measured compiled
+        for (int i = 0; i < READS / 10; i++) {
+            read.run(i);
+        }
+        long allocatedBefore = threads.getCurrentThreadAllocatedBytes();
+        long startTime = System.nanoTime();
+        for (int i = 0; i < READS; i++) {
+            read.run(i);
+        }
+        long elapsed = System.nanoTime() - startTime;
+        long allocated = threads.getCurrentThreadAllocatedBytes() - allocatedBefore;
+        return new Result(name, (double) elapsed / READS, (double) allocated / READS);
+    }
+
+    private static EventResponse event(int availableSeats, long version, PriceQuoteResponse quote) {
+        return new EventResponse(1, "IPL 2025 Final", "Cricket", "Wankhede Stadium, Mumbai",
+                EVENT_DATE, 1000, availableSeats, 2500.0, EventStatus.UPCOMING,
+                CREATED_AT, CREATED_AT.plusSeconds(version), version, quote);
+    }
+
+    private static PriceQuoteResponse quote(double pricePerSeat) {
+        return new PriceQuoteResponse(1, 2500.0, pricePerSeat, QUOTE_EXPIRES_AT,
+                "MXwzMTI1MDB8MTc0NzczNTMyMHwyMDI1LTA1LTI1VDE4OjAwfENyaWNrZXQ.K_76lAyrEA3cMGCYrudQyWioeEV1EiMKuCvF2B3CzOQ");
+    }
+
+    @FunctionalInterface
+    private interface Read {
+        void run(int read) throws IOException;
+    }
+
+    private record Result(String name, double nanosPerRead, double bytesPerRead) {
+    }
+}
@@ -0,0 +1,160 @@
+package com.suraj.sport.eventservice.benchmark;
+
+import com.suraj.sport.eventservice.EventServiceApplication;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.IOException;
+import java.net.ServerSocket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Records time-to-first-request of the service started the way it is today and from the
+ * fast-startup build (./mvnw package -Dfast-startup, see pom.xml).
+ * <p>
+ * Each run starts the service in a JVM of its own and repeats GET /api/v1/event/search/autocomplete
+ * until it is answered — the time from launching the JVM to that first response is what a
+ * scale-out instance takes before it can serve traffic:
+ * - default: from the test classpath with the default profile — devtools, springdoc scanning
+ *   the controllers, Hibernate ddl-auto update
+ * - fast-startup: from target/fast-startup — AOT, the AppCDS archive, the prod and
+ *   fast-startup profiles. Skipped if that build has not been run.
+ * Both modes use an in-memory database.
+ * <p>
+ * Results are printed rather than asserted. Run with:
+ * ./mvnw package -Dfast-startup -DskipTests && ./mvnw test -Pbenchmark -Dtest=StartupBenchmark
+ * and tune with -Dbenchmark.runs. The output of each JVM is kept in target/startup-benchmark.
+ */
+@Tag("benchmark")
+class StartupBenchmark {
+
+    private static final int RUNS = Integer.getInteger("benchmark.runs", 5);
+    private static final Duration STARTUP_TIMEOUT = Duration.ofMinutes(2);
+
+    private static final Path FAST_STARTUP_DIRECTORY = Path.of("target", "fast-startup");
+    private static final Path LOG_DIRECTORY = Path.of("target", "startup-benchmark");
+    // Must match fast-startup.profiles in pom.xml
+    private static final String FAST_STARTUP_PROFILES = "prod,fast-startup";
+    // PostgreSQL mode, as the prod profile's Flyway migrations expect
+    private static final String IN_MEMORY_PROD_DB_URL =
+            "jdbc:h2:mem:startup-benchmark;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH";
+
+    private final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(1))
+            .build();
+
+    @Test
+    void timeToFirstRequest() throws Exception {
+        Files.createDirectories(LOG_DIRECTORY);
+        Path fastStartupJar = findFastStartupJar();
+
+        Map<String, List<Long>> results = new LinkedHashMap<>();
+        for (int run = 1; run <= RUNS; run++) {
+            results.computeIfAbsent("default", mode -> new ArrayList<>())
+                    .add(timeToFirstRequest("default", run, defaultLaunch()));
+            if (fastStartupJar != null) {
+                results.computeIfAbsent("fast-startup", mode -> new ArrayList<>())
+                        .add(timeToFirstRequest("fast-startup", run, fastStartupLaunch(fastStartupJar)));
+            }
+        }
+
+        System.out.printf("%nTime to first request — %d runs per mode%n", RUNS);
+        System.out.printf("%-14s %10s %12s %10s%n", "mode", "min (ms)", "median (ms)", "max (ms)");
+        results.forEach((mode, millis) -> {
+            long[] sorted = millis.stream().mapToLong(Long::longValue).sorted().toArray();
+            System.out.printf("%-14s %10d %12d %10d%n", mode, sorted[0], sorted[sorted.length / 2], sorted[sorted.length - 1]);
+        });
+        if (fastStartupJar == null) {
+            System.out.println("fast-startup skipped — build it first with ./mvnw package -Dfast-startup -DskipTests");
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private ProcessBuilder defaultLaunch() {
+        return new ProcessBuilder(java(), "-cp", System.getProperty("java.class.path"),
+                EventServiceApplication.class.getName());
+    }
+
+    private ProcessBuilder fastStartupLaunch(Path jar) {
+        ProcessBuilder launch = new ProcessBuilder(java(),
+                "-XX:SharedArchiveFile=application.jsa",
+                "-Dspring.aot.enabled=true",
+                "-Dspring.profiles.active=" + FAST_STARTUP_PROFILES,
+                "-jar", jar.getFileName().toString())
+                .directory(FAST_STARTUP_DIRECTORY.toFile());
+        launch.environment().put("EVENT_DB_URL", IN_MEMORY_PROD_DB_URL);
+        return launch;
+    }
+
+    /**
+     * Starts the service and returns the milliseconds from launching its JVM to the first
+     * answered request.
+     */
+    private long timeToFirstRequest(String mode, int run, ProcessBuilder launch) throws Exception {
+        int port = freePort();
+        launch.command().add("--server.port=" + port);
+        File log = LOG_DIRECTORY.resolve(mode + "-" + run + ".log").toFile();
+        HttpRequest firstRequest = HttpRequest.newBuilder(
+                URI.create("http://localhost:" + port + "/api/v1/event/search/autocomplete?prefix=a")).build();
+
+        long startTime = System.nanoTime();
+        Process service = launch.redirectErrorStream(true).redirectOutput(log).start();
+        try {
+            while (System.nanoTime() - startTime < STARTUP_TIMEOUT.toNanos()) {
+                if (!service.isAlive()) {
+                    throw new IllegalStateException(mode + " run " + run + " exited before serving a request — see " + log);
+                }
+                try {
+                    HttpResponse<Void> response = httpClient.send(firstRequest, HttpResponse.BodyHandlers.discarding());
+                    if (response.statusCode() >= 500) {
+                        throw new IllegalStateException(mode + " run " + run + " answered " + response.statusCode() + " — see " + log);
+                    }
+                    return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime);
+                } catch (IOException notListeningYet) {
+                    Thread.sleep(10);
+                }
+            }
+            throw new IllegalStateException(mode + " run " + run + " did not serve a request within " + STARTUP_TIMEOUT);
+        } finally {
+            service.destroy();
+            if (!service.waitFor(30, TimeUnit.SECONDS)) {
+                service.destroyForcibly().waitFor();
+            }
+        }
+    }
+
+    private static Path findFastStartupJar() throws IOException {
+        if (!Files.exists(FAST_STARTUP_DIRECTORY.resolve("application.jsa"))) {
+            return null;
+        }
+        try (Stream<Path> files = Files.list(FAST_STARTUP_DIRECTORY)) {
+            return files.filter(file -> file.getFileName().toString().endsWith(".jar")).findFirst().orElse(null);
+        }
+    }
+
+    private static String java() {
+        return Path.of(System.getProperty("java.home"), "bin", "java").toString();
+    }
+
+    private static int freePort() throws IOException {
+        try (ServerSocket socket = new ServerSocket(0)) {
+            return socket.getLocalPort();
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package com.suraj.sport.eventservice.cache;
+
+import com.suraj.sport.eventservice.dto.response.ApiResult;
+import com.suraj.sport.eventservice.dto.response.EventResponse;
+import com.suraj.sport.eventservice.dto.response.PriceQuoteResponse;
+import com.suraj.sport.eventservice.entity.EventStatus;
+import org.junit.jupiter.api.Test;
+import tools.jackson.databind.MapperFeature;
+import tools.jackson.databind.SerializationFeature;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+class EventJsonCacheTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2030, 1, 10, 9, 0, 0, 123_000_000);
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.of(2030, 5, 25, 19, 30);
+
+    private final JsonMapper jsonMapper = spy(JsonMapper.builder().build());
+    private final EventJsonCache cache = new EventJsonCache(jsonMapper);
+
+    @Test
+    void writesTheCachedBytesWhileTheEventIsUnchanged() throws IOException {
+        ApiResult<EventResponse> result = result(event("IPL Final", 100, null, 0, null));
+
+        EventJsonCache.Body first = cache.bodyOf(result);
+        EventJsonCache.Body second = cache.bodyOf(result(event("IPL Final", 100, null, 0, null)));
+
+        assertSameAsJackson(first, result);
+        assertThat(second.json()).isSameAs(first.json());
+        verify(jsonMapper, times(1)).writeValueAsBytes(any(ApiResult.class));
+    }
+
+    @Test
+    void splicesSeatsUpdatedAtAndVersionOfDifferentLengths() throws IOException {
+        cache.bodyOf(result(event("IPL Final", 100, null, 0, null)));
+
+        // Every spliced value changes length: 100 → 9, null → a timestamp, 0 → 10
+        ApiResult<EventResponse> booked = result(event("IPL Final", 9, CREATED_AT.plusDays(1), 10, null));
+        assertSameAsJackson(cache.bodyOf(booked), booked);
+
+        // ...and back to shorter values
+        ApiResult<EventResponse> cancelled = result(event("IPL Final", 10, EVENT_DATE, 11, null));
+        assertSameAsJackson(cache.bodyOf(cancelled), cancelled);
+
+        verify(jsonMapper, times(1)).writeValueAsBytes(any(ApiResult.class));
+    }
+
+    @Test
+    void ignoresFieldNamesInsideEscapedStrings() throws IOException {
+        // Quotes, backslashes and non-ASCII text in the name must not be taken for the spliced keys
+        String name = "Final \"availableSeats\":7,\"version\":1 \\\" ü   — 決勝";
+        cache.bodyOf(result(event(name, 100, null, 0, null)));
+
+        ApiResult<EventResponse> booked = result(event(name, 98, CREATED_AT.plusHours(1), 1, null));
+        assertSameAsJackson(cache.bodyOf(booked), booked);
+        verify(jsonMapper, times(1)).writeValueAsBytes(any(ApiResult.class));
+    }
+
+    @Test
+    void serializesAfreshWhenOtherDetailsChange() throws IOException {
+        cache.bodyOf(result(event("IPL Final", 100, null, 0, null)));
+
+        ApiResult<EventResponse> renamed = result(event("IPL 2030 Final", 100, CREATED_AT.plusDays(1), 1, null));
+        assertSameAsJackson(cache.bodyOf(renamed), renamed);
+
+        ApiResult<EventResponse> failed = ApiResult.of(false, "Event Is Sold Out",
+                event("IPL 2030 Final", 100, CREATED_AT.plusDays(1), 1, null));
+        assertSameAsJackson(cache.bodyOf(failed), failed);
+        verify(jsonMapper, times(3)).writeValueAsBytes(any(ApiResult.class));
+    }
+
+    @Test
+    void writesThePriceQuoteInPlaceOfNull() throws IOException {
+        PriceQuoteResponse quote = new PriceQuoteResponse(1L, 500, 650.5,
+                Instant.parse("2030-01-10T09:05:00Z"), "token.\"signed\"");
+        ApiResult<EventResponse> quoted = result(event("IPL Final", 100, null, 0, quote));
+
+        EventJsonCache.Body body = cache.bodyOf(quoted);
+        assertSameAsJackson(body, quoted);
+        assertThat(cache.bodyOf(quoted).quote()).isSameAs(body.quote());
+
+        PriceQuoteResponse repriced = new PriceQuoteResponse(1L, 500, 700,
+                Instant.parse("2030-01-10T09:06:00Z"), "token2");
+        ApiResult<EventResponse> booked = result(event("IPL Final", 99, CREATED_AT.plusMinutes(1), 1, repriced));
+        assertSameAsJackson(cache.bodyOf(booked), booked);
+    }
+
+    @Test
+    void fallsBackToJacksonWhenTheFieldsCannotBeFoundInOrder() throws IOException {
+        // Alphabetical order puts priceQuote before updatedAt and version — record components
+        // keep their declared order unless creator properties are sorted too
+        assertFallsBack(JsonMapper.builder()
+                .enable(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY)
+                .disable(MapperFeature.SORT_CREATOR_PROPERTIES_FIRST)
+                .build());
+        // Indented output has a space after every colon
+        assertFallsBack(JsonMapper.builder().enable(SerializationFeature.INDENT_OUTPUT).build());
+    }
+
+    @Test
+    void serializesResultsWithoutAnEvent() throws IOException {
+        ApiResult<EventResponse> notFound = ApiResult.of(false, "Event Not Found", null);
+
+        EventJsonCache.Body body = cache.bodyOf(notFound);
+
+        assertThat(body.quoteAt()).isNegative();
+        assertSameAsJackson(body, notFound);
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private void assertFallsBack(JsonMapper mapper) throws IOException {
+        EventJsonCache fallback = new EventJsonCache(mapper);
+        ApiResult<EventResponse> result = result(event("IPL Final", 100, null, 0, null));
+        ApiResult<EventResponse> booked = result(event("IPL Final", 9, CREATED_AT.plusDays(1), 10, null));
+
+        EventJsonCache.Body body = fallback.bodyOf(result);
+        assertThat(body.quoteAt()).isNegative();
+        assertThat(write(body)).isEqualTo(mapper.writeValueAsString(result));
+        assertThat(write(fallback.bodyOf(booked))).isEqualTo(mapper.writeValueAsString(booked));
+    }
+
+    private void assertSameAsJackson(EventJsonCache.Body body, ApiResult<EventResponse> result) throws IOException {
+        String expected = jsonMapper.writeValueAsString(result);
+        assertThat(write(body)).isEqualTo(expected);
+        assertThat(body.length()).isEqualTo(expected.getBytes(StandardCharsets.UTF_8).length);
+    }
+
+    private static String write(EventJsonCache.Body body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        body.writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static ApiResult<EventResponse> result(EventResponse event) {
+        return ApiResult.of(true, "Event Retrieved Successfully", event);
+    }
+
+    private static EventResponse event(String name, int availableSeats, LocalDateTime updatedAt, long version,
+                                       PriceQuoteResponse priceQuote) {
+        return new EventResponse(1L, name, "Cricket", "Wankhede Stadium", EVENT_DATE, 100, availableSeats,
+                500, EventStatus.UPCOMING, CREATED_AT, updatedAt, version, priceQuote);
+    }
+}
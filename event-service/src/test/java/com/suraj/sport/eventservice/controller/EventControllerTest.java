@@ -0,0 +1,93 @@
+package com.suraj.sport.eventservice.controller;
+
+import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
+import com.suraj.sport.eventservice.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EventControllerTest {
+
+    @Autowired
+    private EventService eventService;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void answersNotModifiedForAnUnchangedUpcomingEvent() throws Exception {
+        long eventId = createEvent();
+        String eTag = eTagOf("/api/v1/event/" + eventId);
+        assertThat(eTag).startsWith("W/\"e" + eventId + "-v");
+
+        // A second later the quote has a new expiry and token, but the price and version are the same
+        Thread.sleep(1100);
+        mockMvc.perform(get("/api/v1/event/{eventId}", eventId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache"))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void answersWithTheEventOnceItsSeatsChange() throws Exception {
+        long eventId = createEvent();
+        String eTag = eTagOf("/api/v1/event/" + eventId);
+
+        eventService.reduceAvailableSeats(eventId, 2);
+
+        String changed = mockMvc.perform(get("/api/v1/event/{eventId}", eventId).header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.availableSeats").value(98))
+                .andExpect(jsonPath("$.data.priceQuote.token").isNotEmpty())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+        assertThat(changed).isNotEqualTo(eTag);
+    }
+
+    @Test
+    void answersNotModifiedForAnUnchangedCatalogue() throws Exception {
+        createEvent();
+        String eTag = eTagOf("/api/v1/event");
+        assertThat(eTag).startsWith("W/");
+
+        mockMvc.perform(get("/api/v1/event").header(HttpHeaders.IF_NONE_MATCH, eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, eTag));
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private long createEvent() {
+        return eventService.createEvent(CreateEventRequest.builder()
+                .name("Conditional " + UUID.randomUUID())
+                .sportType("Cricket")
+                .venue("Wankhede Stadium")
+                .eventDate(LocalDateTime.now().plusYears(1).withNano(0))
+                .totalSeats(100)
+                .pricePerSeat(500)
+                .build()).id();
+    }
+
+    private String eTagOf(String uri) throws Exception {
+        return mockMvc.perform(get(uri))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+    }
+}
@@ -0,0 +1,79 @@
+package com.suraj.sport.eventservice.datasource;
+
+import com.suraj.sport.eventservice.config.ReplicaProperties;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ReplicaLagMonitorTest {
+
+    @Test
+    void countsAsLaggingUntilTheFirstHeartbeat() {
+        DataSource database = databaseWithHeartbeat();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(database, database, properties(Duration.ofSeconds(2)));
+
+        assertThat(monitor.isCaughtUpTo(0)).isFalse();
+    }
+
+    @Test
+    void servesReadsOnceTheReplicaHasTheLatestHeartbeat() {
+        // The same database on both sides — a replica that is never behind
+        DataSource database = databaseWithHeartbeat();
+        ReplicaLagMonitor monitor = new ReplicaLagMonitor(database, database, properties(Duration.ofSeconds(2)));
+        long before = System.currentTimeMillis();
+
+        monitor.heartbeat();
+
+        assertThat(monitor.isCaughtUpTo(0)).isTrue();
+        assertThat(monitor.isCaughtUpTo(before)).isTrue();
+        // A token from a commit after the last heartbeat still waits for the next one
+        assertThat(monitor.isCaughtUpTo(System.currentTimeMillis() + 60_000)).isFalse();
+    }
+
+    @Test
+    void lagsWhileTheReplicaIsBehindOrUnreadable() {
+        DataSource primary = databaseWithHeartbeat();
+        DataSource replica = databaseWithHeartbeat();
+        // The replica last applied a heartbeat from ten seconds ago
+        new JdbcTemplate(replica).update("UPDATE replica_heartbeat SET beat_at = ? WHERE id = 1",
+                System.currentTimeMillis() - 10_000);
+        ReplicaLagMonitor behind = new ReplicaLagMonitor(primary, replica, properties(Duration.ofSeconds(2)));
+
+        behind.heartbeat();
+        assertThat(behind.isCaughtUpTo(0)).isFalse();
+
+        // No heartbeat table on the replica at all
+        ReplicaLagMonitor unreadable = new ReplicaLagMonitor(primary, database(), properties(Duration.ofSeconds(2)));
+        unreadable.heartbeat();
+        assertThat(unreadable.isCaughtUpTo(0)).isFalse();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static ReplicaProperties properties(Duration maxLag) {
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setMaxLag(maxLag);
+        return properties;
+    }
+
+    private static DataSource database() {
+        return new DriverManagerDataSource("jdbc:h2:mem:lag-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+    }
+
+    // As created by V5__create_replica_heartbeat
+    private static DataSource databaseWithHeartbeat() {
+        DataSource database = database();
+        JdbcTemplate jdbc = new JdbcTemplate(database);
+        jdbc.execute("CREATE TABLE replica_heartbeat (id INT PRIMARY KEY, beat_at BIGINT NOT NULL)");
+        jdbc.update("INSERT INTO replica_heartbeat (id, beat_at) VALUES (1, 0)");
+        return database;
+    }
+}
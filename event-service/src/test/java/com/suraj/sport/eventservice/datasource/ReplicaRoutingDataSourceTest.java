@@ -0,0 +1,110 @@
+package com.suraj.sport.eventservice.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+import javax.sql.DataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final String SERVICE_PACKAGE = "com.suraj.sport.eventservice.service";
+    private static final String SERVICE_READ = SERVICE_PACKAGE + ".impl.EventServiceImpl.getEventById";
+
+    private final ReplicaLagMonitor lagMonitor = mock(ReplicaLagMonitor.class);
+    private final ReplicaRoutingDataSource dataSource = new ReplicaRoutingDataSource(
+            mock(DataSource.class), mock(DataSource.class), lagMonitor, SERVICE_PACKAGE);
+
+    @BeforeEach
+    void beginTransaction() {
+        TransactionSynchronizationManager.initSynchronization();
+        when(lagMonitor.isCaughtUpTo(anyLong())).thenReturn(true);
+    }
+
+    @AfterEach
+    void endTransaction() {
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        TransactionSynchronizationManager.clear();
+        ConsistencyToken.close();
+    }
+
+    @Test
+    void routesReadOnlyServiceTransactionsToTheReplicaAndMarksThem() {
+        transaction(SERVICE_READ, true);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo("replica");
+        assertThat(ReplicaRoutingDataSource.isReplicaTransaction()).isTrue();
+
+        // The mark ends with the transaction
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(), TransactionSynchronization.STATUS_COMMITTED);
+        assertThat(ReplicaRoutingDataSource.isReplicaTransaction()).isFalse();
+    }
+
+    @Test
+    void keepsWritesAndRepositoryReadsOnThePrimary() {
+        transaction(SERVICE_PACKAGE + ".impl.EventServiceImpl.updateEvent", false);
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo("primary");
+
+        // Spring Data's own read-only transaction around a finder, e.g. the read of a read-modify-write
+        transaction("org.springframework.data.jpa.repository.support.SimpleJpaRepository.findById", true);
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo("primary");
+
+        // A class merely sharing the package name's prefix is not in the service package
+        transaction(SERVICE_PACKAGE + "s.Reports.read", true);
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo("primary");
+
+        assertThat(ReplicaRoutingDataSource.isReplicaTransaction()).isFalse();
+    }
+
+    @Test
+    void keepsReadsOnThePrimaryWhileTheReplicaLags() {
+        when(lagMonitor.isCaughtUpTo(anyLong())).thenReturn(false);
+        transaction(SERVICE_READ, true);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo("primary");
+        assertThat(ReplicaRoutingDataSource.isReplicaTransaction()).isFalse();
+    }
+
+    @Test
+    void waitsForTheReplicaToReachTheCallersConsistencyToken() {
+        ConsistencyToken.open(new MockHttpServletResponse(), 2_000);
+        when(lagMonitor.isCaughtUpTo(anyLong())).thenAnswer(invocation -> (long) invocation.getArgument(0) <= 1_000);
+        transaction(SERVICE_READ, true);
+
+        assertThat(dataSource.determineCurrentLookupKey()).isEqualTo("primary");
+    }
+
+    @Test
+    void returnsATokenFromRequestsThatCommitAWrite() {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        ConsistencyToken.open(response, 0);
+        transaction(SERVICE_PACKAGE + ".impl.EventServiceImpl.updateEvent", false);
+
+        dataSource.determineCurrentLookupKey();
+        TransactionSynchronizationUtils.triggerAfterCommit();
+
+        long token = Long.parseLong(response.getHeader(ConsistencyToken.HEADER));
+        assertThat(token).isPositive();
+        assertThat(ConsistencyToken.readAfter()).isEqualTo(token);
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static void transaction(String name, boolean readOnly) {
+        TransactionSynchronizationManager.setCurrentTransactionName(name);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+}
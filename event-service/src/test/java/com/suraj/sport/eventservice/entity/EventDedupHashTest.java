@@ -0,0 +1,79 @@
+package com.suraj.sport.eventservice.entity;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventDedupHashTest {
+
+    private static final LocalDateTime FINAL_DATE = LocalDateTime.of(2030, 5, 25, 18, 0);
+
+    @Test
+    void ignoresCaseSurroundingAndRepeatedWhitespace() {
+        assertThat(EventDedupHash.of("ipl 2025  final", " WANKHEDE\tSTADIUM "))
+                .isEqualTo(EventDedupHash.of("IPL 2025 Final", "Wankhede Stadium"));
+    }
+
+    @Test
+    void appliesCompatibilityNormalization() {
+        // Full-width letters and the "ﬁ" ligature fold to their plain forms under NFKC
+        assertThat(EventDedupHash.of("ＩＰＬ 2025 ﬁnal", "Wankhede Stadium"))
+                .isEqualTo(EventDedupHash.of("IPL 2025 final", "Wankhede Stadium"));
+    }
+
+    @Test
+    void keepsNameAndVenueApart() {
+        assertThat(EventDedupHash.of("ab", "c")).isNotEqualTo(EventDedupHash.of("a", "bc"));
+        assertThat(EventDedupHash.of("Final", "Stadium")).isNotEqualTo(EventDedupHash.of("Stadium", "Final"));
+    }
+
+    @Test
+    void treatsNullAsEmpty() {
+        assertThat(EventDedupHash.of(null, null)).isEqualTo(EventDedupHash.of("", " "));
+    }
+
+    @Test
+    void giveLegacyDuplicatesAHashOfTheirOwn() {
+        long plain = EventDedupHash.of("IPL 2025 Final", "Wankhede Stadium");
+
+        assertThat(EventDedupHash.ofLegacyDuplicate("IPL 2025 Final", "Wankhede Stadium", 7))
+                .isNotEqualTo(plain)
+                .isNotEqualTo(EventDedupHash.ofLegacyDuplicate("IPL 2025 Final", "Wankhede Stadium", 8))
+                .isEqualTo(EventDedupHash.ofLegacyDuplicate("ipl 2025 final", "wankhede stadium", 7));
+    }
+
+    @Test
+    void recomputesOnUpdateOnlyWhenNameVenueOrDateChange() {
+        Event event = Event.builder()
+                .name("IPL 2025 Final")
+                .venue("Wankhede Stadium")
+                .eventDate(FINAL_DATE)
+                .availableSeats(100)
+                .dedupHash(EventDedupHash.ofLegacyDuplicate("IPL 2025 Final", "Wankhede Stadium", 7))
+                .build();
+        event.rememberDedupIdentity();
+
+        event.setAvailableSeats(98);
+        event.recomputeDedupHashIfChanged();
+        assertThat(event.getDedupHash())
+                .isEqualTo(EventDedupHash.ofLegacyDuplicate("IPL 2025 Final", "Wankhede Stadium", 7));
+
+        event.setEventDate(FINAL_DATE.plusDays(1));
+        event.recomputeDedupHashIfChanged();
+        assertThat(event.getDedupHash()).isEqualTo(EventDedupHash.of("IPL 2025 Final", "Wankhede Stadium"));
+    }
+
+    @Test
+    void recomputesOnUpdateWhenTheNameChanges() {
+        Event event = Event.builder().name("IPL 2025 Final").venue("Wankhede Stadium").eventDate(FINAL_DATE).build();
+        event.rememberDedupIdentity();
+        event.computeDedupHash();
+
+        event.setName("IPL 2025 Eliminator");
+        event.recomputeDedupHashIfChanged();
+
+        assertThat(event.getDedupHash()).isEqualTo(EventDedupHash.of("IPL 2025 Eliminator", "Wankhede Stadium"));
+    }
+}
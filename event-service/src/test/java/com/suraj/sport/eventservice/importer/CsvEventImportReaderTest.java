@@ -0,0 +1,87 @@
+package com.suraj.sport.eventservice.importer;
+
+import com.suraj.sport.eventservice.exception.InvalidImportFileException;
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.StringReader;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CsvEventImportReaderTest {
+
+    private static final String HEADER = "name,sportType,venue,eventDate,totalSeats,pricePerSeat\n";
+
+    @Test
+    void mapsColumnsByHeaderNameInAnyOrder() throws IOException {
+        CsvEventImportReader reader = open(
+                "\uFEFFPricePerSeat, venue ,NAME,sporttype,totalSeats,eventDate\n"
+                        + "1500.5,\"Wankhede Stadium, Mumbai\",\"IPL \"\"Final\"\"\",Cricket,33000,2030-05-25T19:30:00\n");
+
+        EventImportRow row = reader.next();
+
+        assertThat(row.line()).isEqualTo(2);
+        assertThat(row.error()).isNull();
+        assertThat(row.request().getName()).isEqualTo("IPL \"Final\"");
+        assertThat(row.request().getVenue()).isEqualTo("Wankhede Stadium, Mumbai");
+        assertThat(row.request().getSportType()).isEqualTo("Cricket");
+        assertThat(row.request().getEventDate()).isEqualTo(LocalDateTime.of(2030, 5, 25, 19, 30));
+        assertThat(row.request().getTotalSeats()).isEqualTo(33000);
+        assertThat(row.request().getPricePerSeat()).isEqualTo(1500.5);
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void rejectsAnEmptyUploadOrAMissingColumn() {
+        assertThatThrownBy(() -> open(""))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("header row is required");
+        assertThatThrownBy(() -> open("name,sportType,venue,eventDate,totalSeats\n"))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("missing required column: priceperseat");
+    }
+
+    @Test
+    void reportsUnparsableFieldsPerRowAndKeepsReading() throws IOException {
+        CsvEventImportReader reader = open(HEADER
+                + "Final,Cricket,Wankhede,25/05/2030,100,10\n"
+                + "\n"
+                + "Final,Cricket,Wankhede,2030-05-25T19:30:00,lots,10\n"
+                + "Final,Cricket,Wankhede,2030-05-25T19:30:00,100,free\n"
+                + "\"Final,Cricket,Wankhede,2030-05-25T19:30:00,100,10\n"
+                + "Final,Cricket,Wankhede,2030-05-25T19:30:00,100,10\n");
+
+        assertThat(reader.next()).isEqualTo(EventImportRow.failed(2,
+                "Invalid eventDate '25/05/2030' — expected e.g. 2025-05-25T19:30:00"));
+        // Blank line 3 is skipped but still counted
+        assertThat(reader.next()).isEqualTo(EventImportRow.failed(4, "Invalid totalSeats 'lots'"));
+        assertThat(reader.next()).isEqualTo(EventImportRow.failed(5, "Invalid pricePerSeat 'free'"));
+        assertThat(reader.next()).isEqualTo(EventImportRow.failed(6, "Unterminated quoted field"));
+        assertThat(reader.next().request()).isNotNull();
+        assertThat(reader.next()).isNull();
+    }
+
+    @Test
+    void leavesMissingFieldsEmptyForBeanValidation() throws IOException {
+        CsvEventImportReader reader = open(HEADER + "Final,,Wankhede\n");
+
+        EventImportRow row = reader.next();
+
+        assertThat(row.error()).isNull();
+        assertThat(row.request().getSportType()).isNull();
+        assertThat(row.request().getEventDate()).isNull();
+        assertThat(row.request().getTotalSeats()).isZero();
+        assertThat(row.request().getPricePerSeat()).isZero();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static CsvEventImportReader open(String csv) throws IOException {
+        return new CsvEventImportReader(new BufferedReader(new StringReader(csv)));
+    }
+}
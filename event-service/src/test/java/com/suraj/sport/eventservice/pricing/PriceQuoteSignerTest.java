@@ -0,0 +1,59 @@
+package com.suraj.sport.eventservice.pricing;
+
+import com.suraj.sport.eventservice.config.PricingProperties;
+import com.suraj.sport.eventservice.entity.Event;
+import org.junit.jupiter.api.Test;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class PriceQuoteSignerTest {
+
+    private static final String SECRET = "0123456789abcdef0123456789abcdef";
+
+    private final PriceQuoteSigner signer = new PriceQuoteSigner(properties(SECRET));
+
+    @Test
+    void signsThePayloadBookingServiceVerifies() throws Exception {
+        Event event = Event.builder()
+                .id(7L)
+                .eventDate(LocalDateTime.of(2030, 6, 1, 18, 30))
+                .sportType("Football")
+                .build();
+
+        String token = signer.token(event, 125.499, Instant.ofEpochSecond(1_900_000_000L));
+
+        String[] parts = token.split("\\.");
+        byte[] payload = Base64.getUrlDecoder().decode(parts[0]);
+        assertThat(new String(payload, StandardCharsets.UTF_8))
+                .isEqualTo("7|12550|1900000000|2030-06-01T18:30|Football");
+        Mac mac = Mac.getInstance("HmacSHA256");
+        mac.init(new SecretKeySpec(SECRET.getBytes(StandardCharsets.UTF_8), "HmacSHA256"));
+        assertThat(Base64.getUrlDecoder().decode(parts[1])).isEqualTo(mac.doFinal(payload));
+        assertThat(token).doesNotContain("=");
+    }
+
+    @Test
+    void refusesAMissingOrShortSecret() {
+        assertThatThrownBy(() -> new PriceQuoteSigner(properties(null)))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new PriceQuoteSigner(properties(" ")))
+                .isInstanceOf(IllegalStateException.class);
+        assertThatThrownBy(() -> new PriceQuoteSigner(properties("local-dev-price-quote-secret")))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("at least " + PriceQuoteSigner.MIN_SECRET_BYTES);
+    }
+
+    private static PricingProperties properties(String secret) {
+        PricingProperties properties = new PricingProperties();
+        properties.setQuoteSecret(secret);
+        return properties;
+    }
+}
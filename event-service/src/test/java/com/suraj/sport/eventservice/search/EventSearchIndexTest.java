@@ -0,0 +1,127 @@
+package com.suraj.sport.eventservice.search;
+
+import com.suraj.sport.eventservice.dto.response.EventSearchHit;
+import com.suraj.sport.eventservice.dto.response.EventSearchResponse;
+import com.suraj.sport.eventservice.entity.Event;
+import com.suraj.sport.eventservice.entity.EventStatus;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class EventSearchIndexTest {
+
+    private static final LocalDateTime JUNE = LocalDateTime.of(2030, 6, 1, 18, 0);
+
+    private EventSearchIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new EventSearchIndex();
+        index.index(event(1, "Flamengo vs Vasco", "Football", "Estádio do Maracanã", JUNE.plusDays(3), EventStatus.UPCOMING));
+        index.index(event(2, "Mumbai vs Chennai", "Cricket", "Wankhede Stadium", JUNE.plusDays(1), EventStatus.UPCOMING));
+        index.index(event(3, "Mumbai Marathon", "Athletics", "Marine Drive", JUNE.plusDays(2), EventStatus.ONGOING));
+        index.index(event(4, "Mumbai vs Delhi", "Cricket", "Wankhede Stadium", JUNE, EventStatus.COMPLETED));
+    }
+
+    @Test
+    void tokenizeFoldsCaseAndAccentsAndSplitsOnPunctuation() {
+        assertThat(EventSearchIndex.tokenize("Estádio do Maracanã")).containsExactly("estadio", "do", "maracana");
+        assertThat(EventSearchIndex.tokenize("IPL-2025: Final, final!")).containsExactly("ipl", "2025", "final");
+        assertThat(EventSearchIndex.tokenize(" \t")).isEmpty();
+        assertThat(EventSearchIndex.tokenize(null)).isEmpty();
+    }
+
+    @Test
+    void requiresEveryQueryTermAndOrdersHitsBySoonestDate() {
+        EventSearchResponse response = index.search("mumbai WANKHEDE", null, null, 10);
+
+        assertThat(response.totalHits()).isEqualTo(2);
+        assertThat(response.hits()).extracting(EventSearchHit::id).containsExactly(4L, 2L);
+        assertThat(index.search("maracana", null, null, 10).hits())
+                .extracting(EventSearchHit::id).containsExactly(1L);
+        assertThat(index.search("mumbai maracana", null, null, 10).totalHits()).isZero();
+    }
+
+    @Test
+    void blankQueryMatchesEveryEventAndLimitKeepsTheSoonest() {
+        EventSearchResponse response = index.search("", null, null, 2);
+
+        assertThat(response.totalHits()).isEqualTo(4);
+        assertThat(response.hits()).extracting(EventSearchHit::id).containsExactly(4L, 2L);
+    }
+
+    @Test
+    void facetCountsIgnoreTheirOwnFilter() {
+        EventSearchResponse response = index.search("mumbai", "cricket", EventStatus.UPCOMING, 10);
+
+        assertThat(response.totalHits()).isEqualTo(1);
+        assertThat(response.hits()).extracting(EventSearchHit::id).containsExactly(2L);
+        // sportType counts apply only the status filter, status counts only the sportType filter
+        assertThat(response.sportTypeFacets()).isEqualTo(Map.of("Cricket", 1));
+        assertThat(response.statusFacets()).isEqualTo(Map.of(EventStatus.UPCOMING, 1, EventStatus.COMPLETED, 1));
+    }
+
+    @Test
+    void reindexingReplacesThePreviousVersion() {
+        index.index(event(2, "Mumbai vs Kolkata", "Cricket", "Eden Gardens", JUNE.plusDays(1), EventStatus.UPCOMING));
+
+        assertThat(index.search("chennai", null, null, 10).totalHits()).isZero();
+        assertThat(index.search("wankhede", null, null, 10).hits())
+                .extracting(EventSearchHit::id).containsExactly(4L);
+        assertThat(index.search("kolkata", null, null, 10).hits())
+                .extracting(EventSearchHit::venue).containsExactly("Eden Gardens");
+    }
+
+    @Test
+    void removedEventsNoLongerMatchOrCount() {
+        index.remove(4L);
+        index.remove(99L);
+
+        EventSearchResponse response = index.search("mumbai", null, null, 10);
+        assertThat(response.hits()).extracting(EventSearchHit::id).containsExactly(2L, 3L);
+        assertThat(response.statusFacets()).doesNotContainKey(EventStatus.COMPLETED);
+    }
+
+    @Test
+    void survivesCompactionAfterManyUpdates() {
+        for (int version = 0; version < 3000; version++) {
+            index.index(event(3, "Mumbai Marathon " + version, "Athletics", "Marine Drive",
+                    JUNE.plusDays(2), EventStatus.ONGOING));
+        }
+
+        assertThat(index.search("marathon", null, null, 10).hits())
+                .extracting(EventSearchHit::name).containsExactly("Mumbai Marathon 2999");
+        assertThat(index.search("mumbai", null, null, 10).totalHits()).isEqualTo(3);
+        assertThat(index.search("", null, null, 10).totalHits()).isEqualTo(4);
+    }
+
+    @Test
+    void autocompleteSuggestsMostFrequentTermsForTheLastToken() {
+        // "mumbai" is in three events, "marathon", "maracana" and "marine" in one each
+        assertThat(index.autocomplete("m", 10)).containsExactly("mumbai", "maracana", "marathon", "marine");
+        assertThat(index.autocomplete("Mumbai Mar", 2)).containsExactly("maracana", "marathon");
+        assertThat(index.autocomplete("wank", 10)).containsExactly("wankhede");
+        assertThat(index.autocomplete("zz", 10)).isEmpty();
+        assertThat(index.autocomplete("  ", 10)).isEmpty();
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static Event event(long id, String name, String sportType, String venue,
+                               LocalDateTime eventDate, EventStatus status) {
+        return Event.builder()
+                .id(id)
+                .name(name)
+                .sportType(sportType)
+                .venue(venue)
+                .eventDate(eventDate)
+                .status(status)
+                .build();
+    }
+}
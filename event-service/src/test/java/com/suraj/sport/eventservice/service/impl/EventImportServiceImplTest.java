@@ -0,0 +1,124 @@
+package com.suraj.sport.eventservice.service.impl;
+
+import com.suraj.sport.eventservice.dto.response.EventImportError;
+import com.suraj.sport.eventservice.dto.response.EventImportResponse;
+import com.suraj.sport.eventservice.exception.DuplicateEventException;
+import com.suraj.sport.eventservice.exception.InvalidImportFileException;
+import com.suraj.sport.eventservice.importer.EventImportFormat;
+import com.suraj.sport.eventservice.service.EventImportService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@SpringBootTest
+class EventImportServiceImplTest {
+
+    private static final String HEADER = "name,sportType,venue,eventDate,totalSeats,pricePerSeat\n";
+
+    @Autowired
+    private EventImportService eventImportService;
+
+    @Test
+    void reportsRejectedRowsWithoutStoppingTheImport() {
+        String name = uniqueName();
+        String date = LocalDateTime.now().plusYears(1).withNano(0).toString();
+
+        EventImportResponse response = importCsv(HEADER
+                + name + " 1,Cricket,Wankhede," + date + ",100,500\n"
+                + name + " 2,Cricket,Wankhede,2000-01-01T10:00:00,0,500\n"
+                + name + " 3,Cricket,Wankhede,tomorrow,100,500\n"
+                + name.toUpperCase() + "  1,Cricket, wankhede ," + date + ",100,500\n"
+                + name + " 4,Cricket,Eden Gardens," + date + ",100,500\n");
+
+        assertThat(response.totalRows()).isEqualTo(5);
+        assertThat(response.imported()).isEqualTo(2);
+        assertThat(response.failed()).isEqualTo(2);
+        assertThat(response.duplicates()).isEqualTo(1);
+        assertThat(response.errorsTruncated()).isFalse();
+        assertThat(response.errors()).containsExactly(
+                new EventImportError(3, "Event date must be in the future, Total seats must be at least 1"),
+                new EventImportError(4, "Invalid eventDate 'tomorrow' — expected e.g. 2025-05-25T19:30:00"),
+                new EventImportError(5, "Duplicate of line 2"));
+    }
+
+    @Test
+    void rejectsRowsThatDuplicateExistingEvents() {
+        String row = uniqueName() + ",Football,Maracana,"
+                + LocalDateTime.now().plusYears(1).withNano(0) + ",100,500\n";
+        assertThat(importCsv(HEADER + row).imported()).isEqualTo(1);
+
+        EventImportResponse response = importCsv(HEADER + row);
+
+        assertThat(response.imported()).isZero();
+        assertThat(response.duplicates()).isEqualTo(1);
+        assertThat(response.errors()).containsExactly(
+                new EventImportError(2, DuplicateEventException.SAME_NAME_VENUE_AND_DATE));
+    }
+
+    @Test
+    void reportsMalformedNdjsonLines() {
+        String json = "{\"name\":\"" + uniqueName() + "\",\"sportType\":\"Tennis\",\"venue\":\"Centre Court\","
+                + "\"eventDate\":\"" + LocalDateTime.now().plusYears(1).withNano(0) + "\","
+                + "\"totalSeats\":100,\"pricePerSeat\":500}";
+
+        EventImportResponse response = eventImportService.importEvents(
+                stream("{\"name\":\n" + json + "\n"), EventImportFormat.NDJSON);
+
+        assertThat(response.totalRows()).isEqualTo(2);
+        assertThat(response.imported()).isEqualTo(1);
+        assertThat(response.errors()).singleElement().satisfies(error -> {
+            assertThat(error.line()).isEqualTo(1);
+            assertThat(error.message()).startsWith("Malformed JSON: ");
+        });
+    }
+
+    @Test
+    void failsWithProgressWhenTheUploadBreaksOff() {
+        String row = uniqueName() + ",Cricket,Wankhede," + LocalDateTime.now().plusYears(1).withNano(0) + ",100,500\n";
+        InputStream broken = new SequenceInputStream(stream(HEADER + row), new InputStream() {
+            @Override
+            public int read() throws IOException {
+                throw new IOException("Connection reset");
+            }
+        });
+
+        assertThatThrownBy(() -> eventImportService.importEvents(broken, EventImportFormat.CSV))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessage("Upload could not be read after 1 rows (0 imported): Connection reset");
+    }
+
+    @Test
+    void rejectsAnUploadWithoutRequiredColumns() {
+        assertThatThrownBy(() -> importCsv("name,venue\nFinal,Wankhede\n"))
+                .isInstanceOf(InvalidImportFileException.class)
+                .hasMessageContaining("missing required column: sporttype");
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private EventImportResponse importCsv(String csv) {
+        return eventImportService.importEvents(stream(csv), EventImportFormat.CSV);
+    }
+
+    private static InputStream stream(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    // The context, and with it the database, is shared with the other tests
+    private static String uniqueName() {
+        return "Import " + UUID.randomUUID();
+    }
+}
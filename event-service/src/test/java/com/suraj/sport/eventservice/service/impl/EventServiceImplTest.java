@@ -0,0 +1,129 @@
+package com.suraj.sport.eventservice.service.impl;
+
+import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
+import com.suraj.sport.eventservice.dto.request.UpdateEventRequest;
+import com.suraj.sport.eventservice.entity.Event;
+import com.suraj.sport.eventservice.entity.EventStatus;
+import com.suraj.sport.eventservice.repository.EventRepository;
+import com.suraj.sport.eventservice.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+import tools.jackson.databind.json.JsonMapper;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+@SpringBootTest
+@AutoConfigureMockMvc
+class EventServiceImplTest {
+
+    private static final LocalDateTime EVENT_DATE = LocalDateTime.now().plusYears(1).withNano(0);
+
+    @Autowired
+    private EventService eventService;
+
+    @MockitoSpyBean
+    private EventRepository eventRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private JsonMapper jsonMapper;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void updateRetriesOnTheFreshRowWhenABookingLandsBetweenReadAndSave() {
+        long eventId = createEvent(100);
+        AtomicInteger reads = new AtomicInteger();
+        bookOneSeatAfterRead(eventId, reads, 1);
+
+        eventService.updateEvent(eventId, update(120));
+
+        assertThat(reads).hasValue(2);
+        Event event = eventRepository.findById(eventId).orElseThrow();
+        // The booking made during the first attempt is kept: 120 total, 1 booked
+        assertThat(event.getTotalSeats()).isEqualTo(120);
+        assertThat(event.getAvailableSeats()).isEqualTo(119);
+    }
+
+    @Test
+    void updateAnswersConflictWhenTheEventKeepsChanging() throws Exception {
+        long eventId = createEvent(100);
+        AtomicInteger reads = new AtomicInteger();
+        bookOneSeatAfterRead(eventId, reads, Integer.MAX_VALUE);
+
+        mockMvc.perform(put("/api/v1/event/{eventId}", eventId)
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(jsonMapper.writeValueAsString(update(120))))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.success").value(false))
+                .andExpect(jsonPath("$.message").value("The event was modified concurrently, please retry"));
+
+        assertThat(reads).hasValue(3);
+        assertThat(eventRepository.findById(eventId).orElseThrow().getTotalSeats()).isEqualTo(100);
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private long createEvent(int totalSeats) {
+        return eventService.createEvent(CreateEventRequest.builder()
+                .name("Update " + UUID.randomUUID())
+                .sportType("Cricket")
+                .venue("Wankhede Stadium")
+                .eventDate(EVENT_DATE)
+                .totalSeats(totalSeats)
+                .pricePerSeat(500)
+                .build()).id();
+    }
+
+    /**
+     * Books a seat with a bulk UPDATE like reduceAvailableSeats right after each of the first
+     * times reads of the event — as a booking racing an admin edit would.
+     */
+    private void bookOneSeatAfterRead(long eventId, AtomicInteger reads, int times) {
+        // The repository is a JDK proxy — the spy's default answer delegates to it
+        Answer<?> repository = mockingDetails(eventRepository).getMockCreationSettings().getDefaultAnswer();
+        doAnswer(invocation -> {
+            Object event = repository.answer(invocation);
+            if (reads.incrementAndGet() <= times) {
+                jdbcTemplate.update("""
+                        UPDATE events
+                        SET available_seats = available_seats - 1, version = version + 1
+                        WHERE id = ?""", eventId);
+            }
+            return event;
+        }).when(eventRepository).findById(eventId);
+    }
+
+    private UpdateEventRequest update(int totalSeats) {
+        return UpdateEventRequest.builder()
+                .name("Updated " + UUID.randomUUID())
+                .sportType("Cricket")
+                .venue("Wankhede Stadium")
+                .eventDate(EVENT_DATE)
+                .totalSeats(totalSeats)
+                .pricePerSeat(500)
+                .status(EventStatus.UPCOMING)
+                .build();
+    }
+}
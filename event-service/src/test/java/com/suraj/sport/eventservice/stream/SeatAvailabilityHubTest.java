@@ -0,0 +1,132 @@
+package com.suraj.sport.eventservice.stream;
+
+import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
+import com.suraj.sport.eventservice.repository.EventRepository;
+import com.suraj.sport.eventservice.service.EventService;
+import org.junit.jupiter.api.Test;
+import org.mockito.stubbing.Answer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.webmvc.test.autoconfigure.AutoConfigureMockMvc;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mockingDetails;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
+
+// Flushed by the tests only, so every change between two flushes is coalesced
+@SpringBootTest(properties = "event.availability-stream.coalesce-interval=PT1H")
+@AutoConfigureMockMvc
+class SeatAvailabilityHubTest {
+
+    private static final Pattern AVAILABLE_SEATS = Pattern.compile("\"availableSeats\":(\\d+)");
+
+    @Autowired
+    private SeatAvailabilityHub seatAvailabilityHub;
+
+    @Autowired
+    private EventService eventService;
+
+    @MockitoSpyBean
+    private EventRepository eventRepository;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Test
+    void sendsTheCurrentCountThenOneUpdatePerFlush() throws Exception {
+        long eventId = createEvent();
+        MockHttpServletResponse stream = subscribe(eventId);
+        awaitSeatCounts(stream, List.of(100));
+
+        // Nothing changed since the subscriber's first message — the flush marked by subscribe sends nothing
+        seatAvailabilityHub.flush();
+
+        eventService.reduceAvailableSeats(eventId, 2);
+        eventService.reduceAvailableSeats(eventId, 3);
+        eventService.restoreAvailableSeats(eventId, 1);
+        seatAvailabilityHub.flush();
+
+        awaitSeatCounts(stream, List.of(100, 96));
+    }
+
+    @Test
+    void deliversAChangeMadeBeforeTheSubscriberWasRegistered() throws Exception {
+        long eventId = createEvent();
+        bookOneSeatAfterTheSnapshotIsRead(eventId);
+
+        MockHttpServletResponse stream = subscribe(eventId);
+        awaitSeatCounts(stream, List.of(100));
+        seatAvailabilityHub.flush();
+
+        awaitSeatCounts(stream, List.of(100, 99));
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private long createEvent() {
+        return eventService.createEvent(CreateEventRequest.builder()
+                .name("Stream " + UUID.randomUUID())
+                .sportType("Cricket")
+                .venue("Wankhede Stadium")
+                .eventDate(LocalDateTime.now().plusYears(1).withNano(0))
+                .totalSeats(100)
+                .pricePerSeat(500)
+                .build()).id();
+    }
+
+    private MockHttpServletResponse subscribe(long eventId) throws Exception {
+        return mockMvc.perform(get("/api/v1/event/{eventId}/availability/stream", eventId))
+                .andExpect(request().asyncStarted())
+                .andReturn().getResponse();
+    }
+
+    /**
+     * Books a seat right after the stream's first message is read — its change is published
+     * before the subscriber is registered.
+     */
+    private void bookOneSeatAfterTheSnapshotIsRead(long eventId) {
+        // The repository is a JDK proxy — the spy's default answer delegates to it
+        Answer<?> repository = mockingDetails(eventRepository).getMockCreationSettings().getDefaultAnswer();
+        AtomicBoolean booked = new AtomicBoolean();
+        doAnswer(invocation -> {
+            Object snapshot = repository.answer(invocation);
+            if (booked.compareAndSet(false, true)) {
+                eventService.reduceAvailableSeats(eventId, 1);
+            }
+            return snapshot;
+        }).when(eventRepository).findSeatAvailability(List.of(eventId));
+    }
+
+    // Frames are written by the hub's sender threads — wait for exactly these, in order
+    private static void awaitSeatCounts(MockHttpServletResponse stream, List<Integer> expected) throws Exception {
+        List<Integer> received = List.of();
+        for (int attempt = 0; attempt < 50; attempt++) {
+            received = seatCounts(stream.getContentAsString());
+            if (received.size() >= expected.size()) {
+                break;
+            }
+            Thread.sleep(100);
+        }
+        Thread.sleep(200);
+        assertThat(seatCounts(stream.getContentAsString())).isEqualTo(expected);
+    }
+
+    private static List<Integer> seatCounts(String content) {
+        Matcher matcher = AVAILABLE_SEATS.matcher(content);
+        return matcher.results().map(result -> Integer.parseInt(result.group(1))).toList();
+    }
+}
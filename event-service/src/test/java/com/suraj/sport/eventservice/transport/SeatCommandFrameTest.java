@@ -0,0 +1,93 @@
+package com.suraj.sport.eventservice.transport;
+
+import com.suraj.sport.eventservice.transport.SeatCommandFrame.SeatCommand;
+import org.junit.jupiter.api.Test;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.HexFormat;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeatCommandFrameTest {
+
+    private static final String TRACE_ID = "4bf92f3577b34da6a3ce929d0e0e4736";
+    private static final String SPAN_ID = "00f067aa0ba902b7";
+
+    @Test
+    void decodesACommandWithTheCallersTrace() {
+        ByteBuffer frame = command(45, 7L, SeatCommandFrame.REDUCE_SEATS, 42L, 3,
+                HexFormat.of().parseHex(TRACE_ID + SPAN_ID));
+
+        SeatCommand command = SeatCommandFrame.decodeCommand(frame);
+
+        assertThat(command.requestId()).isEqualTo(7L);
+        assertThat(command.opcode()).isEqualTo(SeatCommandFrame.REDUCE_SEATS);
+        assertThat(command.name()).isEqualTo("REDUCE_SEATS");
+        assertThat(command.eventId()).isEqualTo(42L);
+        assertThat(command.seats()).isEqualTo(3);
+        assertThat(command.traceParent().traceId()).isEqualTo(TRACE_ID);
+        assertThat(command.traceParent().parentSpanId()).isEqualTo(SPAN_ID);
+        assertThat(frame.hasRemaining()).isFalse();
+    }
+
+    @Test
+    void decodesACommandWithoutATrace() {
+        SeatCommand command = SeatCommandFrame.decodeCommand(
+                command(45, 8L, SeatCommandFrame.RESTORE_SEATS, 42L, 1, new byte[24]));
+
+        assertThat(command.name()).isEqualTo("RESTORE_SEATS");
+        assertThat(command.traceParent()).isNull();
+    }
+
+    @Test
+    void rejectsAnUnknownLengthOrOpcode() {
+        assertThatThrownBy(() -> SeatCommandFrame.decodeCommand(command(44, 1L, SeatCommandFrame.REDUCE_SEATS, 1L, 1, new byte[24])))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unexpected seat command length 44");
+        assertThatThrownBy(() -> SeatCommandFrame.decodeCommand(command(45, 1L, (byte) 9, 1L, 1, new byte[24])))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("Unknown seat command opcode 9");
+    }
+
+    @Test
+    void encodesAReply() {
+        ByteBuffer buffer = ByteBuffer.allocate(SeatCommandFrame.REPLY_HEADER_SIZE + SeatCommandFrame.MAX_MESSAGE_BYTES);
+
+        SeatCommandFrame.encodeReply(buffer, 7L, 409, "Only 2 seats left — requested 3");
+        buffer.flip();
+
+        byte[] message = "Only 2 seats left — requested 3".getBytes(StandardCharsets.UTF_8);
+        assertThat(buffer.getInt()).isEqualTo(12 + message.length);
+        assertThat(buffer.getLong()).isEqualTo(7L);
+        assertThat(buffer.getShort()).isEqualTo((short) 409);
+        assertThat(buffer.getShort()).isEqualTo((short) message.length);
+        byte[] written = new byte[buffer.remaining()];
+        buffer.get(written);
+        assertThat(written).isEqualTo(message);
+    }
+
+    @Test
+    void encodesAnEmptyReplyAndCutsLongMessages() {
+        ByteBuffer ok = ByteBuffer.allocate(SeatCommandFrame.REPLY_HEADER_SIZE + SeatCommandFrame.MAX_MESSAGE_BYTES);
+        SeatCommandFrame.encodeReply(ok, 1L, 200, null);
+        assertThat(ok.position()).isEqualTo(SeatCommandFrame.REPLY_HEADER_SIZE);
+
+        ByteBuffer error = ByteBuffer.allocate(SeatCommandFrame.REPLY_HEADER_SIZE + SeatCommandFrame.MAX_MESSAGE_BYTES);
+        SeatCommandFrame.encodeReply(error, 2L, 500, "x".repeat(SeatCommandFrame.MAX_MESSAGE_BYTES + 100));
+        assertThat(error.position()).isEqualTo(SeatCommandFrame.REPLY_HEADER_SIZE + SeatCommandFrame.MAX_MESSAGE_BYTES);
+        assertThat(error.getInt(0)).isEqualTo(12 + SeatCommandFrame.MAX_MESSAGE_BYTES);
+    }
+
+    private static ByteBuffer command(int length, long requestId, byte opcode, long eventId, int seats, byte[] traceAndSpan) {
+        ByteBuffer frame = ByteBuffer.allocate(SeatCommandFrame.COMMAND_SIZE)
+                .putInt(length)
+                .putLong(requestId)
+                .put(opcode)
+                .putLong(eventId)
+                .putInt(seats)
+                .put(traceAndSpan);
+        return frame.flip();
+    }
+}
@@ -0,0 +1,88 @@
+package db.migration;
+
+import com.suraj.sport.eventservice.entity.EventDedupHash;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Runs the migrations over a prod-like H2 database holding events that became duplicates
+ * under the dedup normalization before the unique constraint existed.
+ */
+class LegacyEventDuplicatesMigrationTest {
+
+    private static final Timestamp FINAL_DATE = Timestamp.valueOf(LocalDateTime.of(2030, 5, 25, 18, 0));
+
+    private final SingleConnectionDataSource dataSource = new SingleConnectionDataSource(
+            "jdbc:h2:mem:legacy_duplicates;MODE=PostgreSQL;DATABASE_TO_LOWER=TRUE;DEFAULT_NULL_ORDERING=HIGH",
+            "sa", "", true);
+    private final JdbcTemplate jdbc = new JdbcTemplate(dataSource);
+
+    @AfterEach
+    void closeDatabase() {
+        dataSource.destroy();
+    }
+
+    @Test
+    void givesEveryLegacyDuplicateAHashOfItsOwn() {
+        migrateTo("2");
+        long original = insert(1, "IPL 2025 Final", "Wankhede Stadium", FINAL_DATE);
+        long duplicate = insert(2, "ipl 2025  final", "WANKHEDE STADIUM ", FINAL_DATE);
+        long another = insert(3, "IPL 2025 FINAL", "wankhede stadium", FINAL_DATE);
+        long unrelated = insert(4, "IPL 2025 Qualifier", "Wankhede Stadium", FINAL_DATE);
+
+        migrateTo("3");
+        assertThat(hashOf(duplicate)).isNull();
+        assertThat(hashOf(another)).isNull();
+
+        migrateTo("latest");
+        long plain = EventDedupHash.of("IPL 2025 Final", "Wankhede Stadium");
+        assertThat(hashOf(original)).isEqualTo(plain);
+        assertThat(hashOf(unrelated)).isEqualTo(EventDedupHash.of("IPL 2025 Qualifier", "Wankhede Stadium"));
+        assertThat(hashOf(duplicate)).isEqualTo(EventDedupHash.ofLegacyDuplicate("ipl 2025  final", "WANKHEDE STADIUM ", duplicate));
+        assertThat(hashOf(another)).isEqualTo(EventDedupHash.ofLegacyDuplicate("IPL 2025 FINAL", "wankhede stadium", another));
+        assertThat(jdbc.queryForObject("SELECT COUNT(DISTINCT dedup_hash) FROM events", Long.class)).isEqualTo(4);
+        assertThat(jdbc.queryForObject("SELECT COUNT(*) FROM events WHERE dedup_hash IS NULL", Long.class)).isZero();
+
+        // The constraint still rejects a new copy of the event
+        assertThatThrownBy(() -> jdbc.update("UPDATE events SET dedup_hash = ? WHERE id = ?", plain, duplicate))
+                .hasMessageContaining("uk_events_event_date_dedup_hash");
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private void migrateTo(String version) {
+        Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(version)
+                .load()
+                .migrate();
+    }
+
+    private long insert(long id, String name, String venue, Timestamp eventDate) {
+        jdbc.update("""
+                INSERT INTO events (id, name, sport_type, venue, event_date, total_seats, available_seats,
+                                    price_per_seat, is_deleted, status, version)
+                VALUES (?, ?, 'Cricket', ?, ?, 100, 100, 50.0, FALSE, 'UPCOMING', 0)
+                """, id, name, venue, eventDate);
+        return id;
+    }
+
+    private Long hashOf(long id) {
+        List<Map<String, Object>> rows = jdbc.queryForList("SELECT dedup_hash FROM events WHERE id = ?", id);
+        return (Long) rows.getFirst().get("dedup_hash");
+    }
+}
@@ -0,0 +1,51 @@
+package com.suraj.sport.monolith;
+
+import com.suraj.sport.bookingservice.BookingServiceApplication;
+import com.suraj.sport.eventservice.EventServiceApplication;
+import com.suraj.sport.monolith.config.BookingInProcessConfig;
+import com.suraj.sport.monolith.config.EventInProcessConfig;
+import com.suraj.sport.paymentservice.PaymentServiceApplication;
+
+import java.net.URL;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * The services hosted by MonolithApplication, in the order they are started.
+ * <p>
+ * Each is started from its own application class plus the configuration that binds its
+ * client ports to the in-process clients.
+ */
+public enum HostedService {
+
+    PAYMENT(PaymentServiceApplication.class),
+    EVENT(EventServiceApplication.class, EventInProcessConfig.class),
+    BOOKING(BookingServiceApplication.class, BookingInProcessConfig.class);
+
+    private final Class<?>[] sources;
+
+    HostedService(Class<?>... sources) {
+        this.sources = sources;
+    }
+
+    public Class<?>[] sources() {
+        return sources.clone();
+    }
+
+    /**
+     * The jar (or classes directory) the service was loaded from.
+     */
+    public URL codeSource() {
+        return sources[0].getProtectionDomain().getCodeSource().getLocation();
+    }
+
+    /**
+     * The code sources of every other hosted service.
+     */
+    public List<URL> otherCodeSources() {
+        return Arrays.stream(values())
+                .filter(service -> service != this)
+                .map(HostedService::codeSource)
+                .toList();
+    }
+}
@@ -0,0 +1,78 @@
+package com.suraj.sport.monolith;
+
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.core.io.DefaultResourceLoader;
+
+import java.util.Map;
+
+/**
+ * Runs Event, Booking and Payment Service in one JVM — for regions too small to justify
+ * three deployments.
+ * <p>
+ * Each service keeps its own application context, configuration, datasource and port
+ * (8081-8083), as when it runs on its own. What changes is how they call each other: the
+ * ports in each service's client package are bound to the in-process clients of this
+ * module, which call the other service's beans directly — no HTTP, no JSON. The binding is
+ * chosen per port by services.{event,booking,payment}.transport, in-process by default here;
+ * e.g. --services.payment.transport=rest keeps refunds on HTTP.
+ * <p>
+ * Arguments are passed to every service, so they should only carry settings the three
+ * share, e.g. --spring.profiles.active=prod. Per-service settings go in the environment
+ * variables the services already read (EVENT_DB_URL, BOOKING_DB_URL, PAYMENT_DB_URL, ...).
+ * <p>
+ * Note: Logging is configured once per JVM — each service applies its own logging setup in
+ * turn as it starts, and the last one, Booking Service's logback-spring.xml, stays in effect
+ * for all three.
+ */
+public class MonolithApplication {
+
+    private static final Map<String, Object> IN_PROCESS_DEFAULTS = Map.of(
+            "services.event.transport", "in-process",
+            "services.booking.transport", "in-process",
+            "services.payment.transport", "in-process",
+            // Booking Service reaches Event Service in-process, so no one uses its seat command port
+            "event.seat-command-server.enabled", "false");
+
+    public static void main(String[] args) {
+        start(args);
+    }
+
+    /**
+     * Starts every hosted service, one after the other. If one fails to start, those
+     * already running are closed.
+     */
+    public static ServiceContexts start(String... args) {
+        ServiceContexts contexts = new ServiceContexts();
+        try {
+            for (HostedService service : HostedService.values()) {
+                contexts.register(service, run(service, contexts, args));
+            }
+            return contexts;
+        } catch (RuntimeException ex) {
+            contexts.close();
+            throw ex;
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static ConfigurableApplicationContext run(HostedService service, ServiceContexts contexts, String[] args) {
+        ClassLoader classLoader = new ServiceClassLoader(MonolithApplication.class.getClassLoader(),
+                service.otherCodeSources());
+        Thread thread = Thread.currentThread();
+        ClassLoader previous = thread.getContextClassLoader();
+        thread.setContextClassLoader(classLoader);
+        try {
+            return new SpringApplicationBuilder(service.sources())
+                    .resourceLoader(new DefaultResourceLoader(classLoader))
+                    .properties(IN_PROCESS_DEFAULTS)
+                    .initializers(context -> context.getBeanFactory().registerSingleton("serviceContexts", contexts))
+                    .run(args);
+        } finally {
+            thread.setContextClassLoader(previous);
+        }
+    }
+}
@@ -0,0 +1,78 @@
+package com.suraj.sport.monolith;
+
+import java.io.IOException;
+import java.net.URL;
+import java.util.Collections;
+import java.util.Enumeration;
+import java.util.List;
+
+/**
+ * Class loader of one hosted service's application context: loads every class through the
+ * launcher's class loader, but hides the resources of the other services.
+ * <p>
+ * All three services ship application.yml, logback-spring.xml and db/migration under the
+ * same names. On one classpath each context would read the first service's copy — with
+ * this loader it only finds its own, next to the resources of the shared libraries.
+ * Classes are not isolated, so the in-process clients can hand objects between contexts.
+ */
+class ServiceClassLoader extends ClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final List<String> hiddenLocations;
+
+    ServiceClassLoader(ClassLoader parent, List<URL> hiddenCodeSources) {
+        super(parent);
+        this.hiddenLocations = hiddenCodeSources.stream()
+                .map(ServiceClassLoader::location)
+                .toList();
+    }
+
+    @Override
+    public URL getResource(String name) {
+        URL resource = getParent().getResource(name);
+        if (resource == null || isVisible(resource)) {
+            return resource;
+        }
+        try {
+            Enumeration<URL> resources = getResources(name);
+            return resources.hasMoreElements() ? resources.nextElement() : null;
+        } catch (IOException ex) {
+            return null;
+        }
+    }
+
+    @Override
+    public Enumeration<URL> getResources(String name) throws IOException {
+        return Collections.enumeration(Collections.list(getParent().getResources(name)).stream()
+                .filter(this::isVisible)
+                .toList());
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private boolean isVisible(URL resource) {
+        String url = resource.toString();
+        return hiddenLocations.stream().noneMatch(url::contains);
+    }
+
+    /**
+     * The part of a code source URL that every resource URL inside it contains — a classes
+     * directory (file:/.../classes/), a jar (file:/...jar) or a jar nested in the
+     * launcher's executable jar (jar:nested:/...jar/!BOOT-INF/lib/...jar!/).
+     */
+    private static String location(URL codeSource) {
+        String location = codeSource.toString();
+        if (location.startsWith("jar:")) {
+            location = location.substring("jar:".length());
+        }
+        if (location.endsWith("!/")) {
+            location = location.substring(0, location.length() - "!/".length());
+        }
+        return location;
+    }
+}
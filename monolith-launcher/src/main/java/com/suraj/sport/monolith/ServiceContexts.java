@@ -0,0 +1,63 @@
+package com.suraj.sport.monolith;
+
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * The running application contexts of the hosted services. Registered as a bean in each
+ * of them, so the in-process clients can reach the beans of the service they call.
+ */
+public class ServiceContexts implements AutoCloseable {
+
+    private final Map<HostedService, ConfigurableApplicationContext> contexts = new ConcurrentHashMap<>();
+
+    void register(HostedService service, ConfigurableApplicationContext context) {
+        contexts.put(service, context);
+    }
+
+    public ConfigurableApplicationContext context(HostedService service) {
+        ConfigurableApplicationContext context = contexts.get(service);
+        if (context == null || !context.isActive()) {
+            throw new IllegalStateException(service + " service is not running in this JVM");
+        }
+        return context;
+    }
+
+    /**
+     * A bean of another service, looked up on first use — the services are started one
+     * after the other and call each other in both directions, so the one called may not be
+     * running yet when the caller's context is created.
+     */
+    public <T> Supplier<T> bean(HostedService service, Class<T> type) {
+        return new Supplier<>() {
+
+            private volatile T bean;
+
+            @Override
+            public T get() {
+                T resolved = bean;
+                if (resolved == null) {
+                    resolved = context(service).getBean(type);
+                    bean = resolved;
+                }
+                return resolved;
+            }
+        };
+    }
+
+    /**
+     * Closes the services in the reverse order they were started.
+     */
+    @Override
+    public void close() {
+        List<HostedService> started = new ArrayList<>(contexts.keySet());
+        Collections.sort(started, Collections.reverseOrder());
+        started.forEach(service -> contexts.remove(service).close());
+    }
+}
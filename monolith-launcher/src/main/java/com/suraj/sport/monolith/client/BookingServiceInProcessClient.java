@@ -0,0 +1,56 @@
+package com.suraj.sport.monolith.client;
+
+import com.suraj.sport.bookingservice.dto.request.EventCancellationRequest;
+import com.suraj.sport.bookingservice.service.EventCancellationService;
+import com.suraj.sport.eventservice.client.BookingServiceClient;
+import com.suraj.sport.eventservice.tracing.Span;
+import com.suraj.sport.eventservice.tracing.SpanKind;
+import com.suraj.sport.eventservice.tracing.TraceParent;
+import com.suraj.sport.eventservice.tracing.Tracer;
+
+import java.util.function.Supplier;
+
+/**
+ * Event Service's port into Booking Service, bound to Booking Service's
+ * EventCancellationService bean in the same JVM. The cancellation still runs in Booking
+ * Service's background executor — the call returns once the run is recorded.
+ */
+public class BookingServiceInProcessClient implements BookingServiceClient {
+
+    private final Supplier<EventCancellationService> eventCancellationService;
+    private final Supplier<com.suraj.sport.bookingservice.tracing.Tracer> bookingTracer;
+    private final Tracer tracer;
+
+    public BookingServiceInProcessClient(Supplier<EventCancellationService> eventCancellationService,
+                                         Supplier<com.suraj.sport.bookingservice.tracing.Tracer> bookingTracer,
+                                         Tracer tracer) {
+        this.eventCancellationService = eventCancellationService;
+        this.bookingTracer = bookingTracer;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Runs as one trace across both services, as the REST call would: a client span here,
+     * and a server span in Booking Service continuing it.
+     */
+    @Override
+    public void cancelEventBookings(Long eventId, String reason) {
+        String operation = "EventCancellationService.startCancellation";
+        Span span = tracer.startSpan("in-process " + operation, SpanKind.CLIENT);
+        com.suraj.sport.bookingservice.tracing.Span serverSpan = bookingTracer.get().startServerSpan(operation,
+                com.suraj.sport.bookingservice.tracing.TraceParent.parse(TraceParent.format(span)));
+        try {
+            eventCancellationService.get().startCancellation(EventCancellationRequest.builder()
+                    .eventId(eventId)
+                    .reason(reason)
+                    .build());
+        } catch (RuntimeException ex) {
+            serverSpan.fail(ex);
+            span.fail(ex);
+            throw ex;
+        } finally {
+            bookingTracer.get().end(serverSpan);
+            tracer.end(span);
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.suraj.sport.monolith.client;
+
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.dto.response.EventDetailsResponse;
+import com.suraj.sport.bookingservice.dto.response.PriceQuoteResponse;
+import com.suraj.sport.bookingservice.exception.SeatsNotAvailableException;
+import com.suraj.sport.bookingservice.tracing.Span;
+import com.suraj.sport.bookingservice.tracing.SpanKind;
+import com.suraj.sport.bookingservice.tracing.TraceParent;
+import com.suraj.sport.bookingservice.tracing.Tracer;
+import com.suraj.sport.eventservice.dto.response.EventResponse;
+import com.suraj.sport.eventservice.exception.EventNotBookableException;
+import com.suraj.sport.eventservice.exception.InsufficientSeatsException;
+import com.suraj.sport.eventservice.service.EventService;
+
+import java.util.function.Supplier;
+
+/**
+ * Booking Service's port into Event Service, bound to Event Service's EventService bean in
+ * the same JVM. Exceptions of Event Service reach the caller as they are thrown, where the
+ * REST client raises RestClientResponseException.
+ */
+public class EventServiceInProcessClient implements EventServiceClient {
+
+    private final Supplier<EventService> eventService;
+    private final Supplier<com.suraj.sport.eventservice.tracing.Tracer> eventTracer;
+    private final Tracer tracer;
+
+    public EventServiceInProcessClient(Supplier<EventService> eventService,
+                                       Supplier<com.suraj.sport.eventservice.tracing.Tracer> eventTracer,
+                                       Tracer tracer) {
+        this.eventService = eventService;
+        this.eventTracer = eventTracer;
+        this.tracer = tracer;
+    }
+
+    @Override
+    public EventDetailsResponse getEvent(Long eventId) {
+        return call("EventService.getEventById", () -> toEventDetails(eventService.get().getEventById(eventId)));
+    }
+
+    /**
+     * Event Service's refusals — not open for booking, too few seats — are raised as
+     * SeatsNotAvailableException, as the REST client raises them from a 409.
+     */
+    @Override
+    public void reduceSeats(Long eventId, int seats) {
+        call("EventService.reduceAvailableSeats", () -> {
+            try {
+                eventService.get().reduceAvailableSeats(eventId, seats);
+            } catch (EventNotBookableException | InsufficientSeatsException ex) {
+                throw new SeatsNotAvailableException(ex.getMessage());
+            }
+            return null;
+        });
+    }
+
+    @Override
+    public void restoreSeats(Long eventId, int seats) {
+        call("EventService.restoreAvailableSeats", () -> {
+            eventService.get().restoreAvailableSeats(eventId, seats);
+            return null;
+        });
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    /**
+     * Runs a call into Event Service as one trace across both services, as a REST call
+     * would be: a client span here, and a server span in Event Service continuing it.
+     */
+    private <T> T call(String operation, Supplier<T> body) {
+        Span span = tracer.startSpan("in-process " + operation, SpanKind.CLIENT);
+        com.suraj.sport.eventservice.tracing.Span serverSpan = eventTracer.get().startServerSpan(operation,
+                com.suraj.sport.eventservice.tracing.TraceParent.parse(TraceParent.format(span)));
+        try {
+            return body.get();
+        } catch (RuntimeException ex) {
+            serverSpan.fail(ex);
+            span.fail(ex);
+            throw ex;
+        } finally {
+            eventTracer.get().end(serverSpan);
+            tracer.end(span);
+        }
+    }
+
+    /**
+     * The fields Booking Service reads, as it would read them from the JSON response.
+     */
+    private static EventDetailsResponse toEventDetails(EventResponse event) {
+        com.suraj.sport.eventservice.dto.response.PriceQuoteResponse quote = event.priceQuote();
+        return new EventDetailsResponse(
+                event.id(),
+                event.sportType(),
+                event.eventDate(),
+                event.status().name(),
+                quote == null ? null : new PriceQuoteResponse(
+                        quote.eventId(),
+                        quote.basePrice(),
+                        quote.pricePerSeat(),
+                        quote.expiresAt(),
+                        quote.token()));
+    }
+}
@@ -0,0 +1,79 @@
+package com.suraj.sport.monolith.client;
+
+import com.suraj.sport.bookingservice.client.PaymentServiceClient;
+import com.suraj.sport.bookingservice.dto.request.BookingRefundRequest;
+import com.suraj.sport.bookingservice.dto.request.BulkRefundRequest;
+import com.suraj.sport.bookingservice.tracing.Span;
+import com.suraj.sport.bookingservice.tracing.SpanKind;
+import com.suraj.sport.bookingservice.tracing.TraceParent;
+import com.suraj.sport.bookingservice.tracing.Tracer;
+import com.suraj.sport.paymentservice.service.RefundService;
+
+import java.util.function.Supplier;
+
+/**
+ * Booking Service's port into Payment Service, bound to Payment Service's RefundService
+ * bean in the same JVM.
+ * <p>
+ * Note: The request is not validated as POST /refunds/bulk would — Booking Service builds
+ * it from its own records, in chunks of at most booking.event-cancellation.refund-chunk-size.
+ */
+public class PaymentServiceInProcessClient implements PaymentServiceClient {
+
+    private final Supplier<RefundService> refundService;
+    private final Supplier<com.suraj.sport.paymentservice.tracing.Tracer> paymentTracer;
+    private final Tracer tracer;
+
+    public PaymentServiceInProcessClient(Supplier<RefundService> refundService,
+                                         Supplier<com.suraj.sport.paymentservice.tracing.Tracer> paymentTracer,
+                                         Tracer tracer) {
+        this.refundService = refundService;
+        this.paymentTracer = paymentTracer;
+        this.tracer = tracer;
+    }
+
+    /**
+     * Runs as one trace across both services, as the REST call would: a client span here,
+     * and a server span in Payment Service continuing it.
+     */
+    @Override
+    public void requestRefunds(BulkRefundRequest request) {
+        String operation = "RefundService.requestRefunds";
+        Span span = tracer.startSpan("in-process " + operation, SpanKind.CLIENT);
+        com.suraj.sport.paymentservice.tracing.Span serverSpan = paymentTracer.get().startServerSpan(operation,
+                com.suraj.sport.paymentservice.tracing.TraceParent.parse(TraceParent.format(span)));
+        try {
+            refundService.get().requestRefunds(toPaymentRequest(request));
+        } catch (RuntimeException ex) {
+            serverSpan.fail(ex);
+            span.fail(ex);
+            throw ex;
+        } finally {
+            paymentTracer.get().end(serverSpan);
+            tracer.end(span);
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private static com.suraj.sport.paymentservice.dto.request.BulkRefundRequest toPaymentRequest(
+            BulkRefundRequest request) {
+        return com.suraj.sport.paymentservice.dto.request.BulkRefundRequest.builder()
+                .reason(request.reason())
+                .refunds(request.refunds().stream()
+                        .map(PaymentServiceInProcessClient::toPaymentRefund)
+                        .toList())
+                .build();
+    }
+
+    private static com.suraj.sport.paymentservice.dto.request.BookingRefundRequest toPaymentRefund(
+            BookingRefundRequest refund) {
+        return com.suraj.sport.paymentservice.dto.request.BookingRefundRequest.builder()
+                .bookingId(refund.bookingId())
+                .paymentId(refund.paymentId())
+                .amount(refund.amount())
+                .build();
+    }
+}
@@ -0,0 +1,40 @@
+package com.suraj.sport.monolith.config;
+
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.client.PaymentServiceClient;
+import com.suraj.sport.bookingservice.tracing.Tracer;
+import com.suraj.sport.eventservice.service.EventService;
+import com.suraj.sport.monolith.HostedService;
+import com.suraj.sport.monolith.ServiceContexts;
+import com.suraj.sport.monolith.client.EventServiceInProcessClient;
+import com.suraj.sport.monolith.client.PaymentServiceInProcessClient;
+import com.suraj.sport.paymentservice.service.RefundService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds Booking Service's client ports to the in-process clients. Each port whose
+ * services.*.transport is rest keeps its REST client instead.
+ */
+@Configuration(proxyBeanMethods = false)
+public class BookingInProcessConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "services.event.transport", havingValue = "in-process")
+    public EventServiceClient eventServiceInProcessClient(ServiceContexts services, Tracer tracer) {
+        return new EventServiceInProcessClient(
+                services.bean(HostedService.EVENT, EventService.class),
+                services.bean(HostedService.EVENT, com.suraj.sport.eventservice.tracing.Tracer.class),
+                tracer);
+    }
+
+    @Bean
+    @ConditionalOnProperty(name = "services.payment.transport", havingValue = "in-process")
+    public PaymentServiceClient paymentServiceInProcessClient(ServiceContexts services, Tracer tracer) {
+        return new PaymentServiceInProcessClient(
+                services.bean(HostedService.PAYMENT, RefundService.class),
+                services.bean(HostedService.PAYMENT, com.suraj.sport.paymentservice.tracing.Tracer.class),
+                tracer);
+    }
+}
@@ -0,0 +1,28 @@
+package com.suraj.sport.monolith.config;
+
+import com.suraj.sport.bookingservice.service.EventCancellationService;
+import com.suraj.sport.eventservice.client.BookingServiceClient;
+import com.suraj.sport.eventservice.tracing.Tracer;
+import com.suraj.sport.monolith.HostedService;
+import com.suraj.sport.monolith.ServiceContexts;
+import com.suraj.sport.monolith.client.BookingServiceInProcessClient;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Binds Event Service's client port to the in-process client, unless
+ * services.booking.transport is rest.
+ */
+@Configuration(proxyBeanMethods = false)
+public class EventInProcessConfig {
+
+    @Bean
+    @ConditionalOnProperty(name = "services.booking.transport", havingValue = "in-process")
+    public BookingServiceClient bookingServiceInProcessClient(ServiceContexts services, Tracer tracer) {
+        return new BookingServiceInProcessClient(
+                services.bean(HostedService.BOOKING, EventCancellationService.class),
+                services.bean(HostedService.BOOKING, com.suraj.sport.bookingservice.tracing.Tracer.class),
+                tracer);
+    }
+}
@@ -0,0 +1,50 @@
+package com.suraj.sport.monolith;
+
+import com.suraj.sport.bookingservice.client.EventServiceClient;
+import com.suraj.sport.bookingservice.client.PaymentServiceClient;
+import com.suraj.sport.bookingservice.dto.response.EventDetailsResponse;
+import com.suraj.sport.eventservice.client.BookingServiceClient;
+import com.suraj.sport.eventservice.dto.request.CreateEventRequest;
+import com.suraj.sport.eventservice.service.EventService;
+import com.suraj.sport.monolith.client.BookingServiceInProcessClient;
+import com.suraj.sport.monolith.client.EventServiceInProcessClient;
+import com.suraj.sport.monolith.client.PaymentServiceInProcessClient;
+import org.junit.jupiter.api.Test;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MonolithApplicationTests {
+
+    @Test
+    void servicesStartTogetherAndCallEachOtherInProcess() {
+        try (ServiceContexts services = MonolithApplication.start("--server.port=0")) {
+            ConfigurableApplicationContext event = services.context(HostedService.EVENT);
+            ConfigurableApplicationContext booking = services.context(HostedService.BOOKING);
+            ConfigurableApplicationContext payment = services.context(HostedService.PAYMENT);
+
+            // Each service read its own application.yml
+            assertThat(event.getEnvironment().getProperty("spring.datasource.url")).isEqualTo("jdbc:h2:mem:eventdb");
+            assertThat(booking.getEnvironment().getProperty("spring.datasource.url")).isEqualTo("jdbc:h2:mem:bookingdb");
+            assertThat(payment.getEnvironment().getProperty("spring.datasource.url")).isEqualTo("jdbc:h2:mem:paymentdb");
+
+            assertThat(booking.getBean(EventServiceClient.class)).isInstanceOf(EventServiceInProcessClient.class);
+            assertThat(booking.getBean(PaymentServiceClient.class)).isInstanceOf(PaymentServiceInProcessClient.class);
+            assertThat(event.getBean(BookingServiceClient.class)).isInstanceOf(BookingServiceInProcessClient.class);
+
+            long eventId = event.getBean(EventService.class).createEvent(CreateEventRequest.builder()
+                    .name("Monolith Launcher Test")
+                    .sportType("Football")
+                    .venue("Salt Lake Stadium, Kolkata")
+                    .eventDate(LocalDateTime.now().plusDays(30))
+                    .totalSeats(100)
+                    .pricePerSeat(50.0)
+                    .build()).id();
+            EventDetailsResponse details = booking.getBean(EventServiceClient.class).getEvent(eventId);
+            assertThat(details.sportType()).isEqualTo("Football");
+            assertThat(details.priceQuote().token()).isNotBlank();
+        }
+    }
+}
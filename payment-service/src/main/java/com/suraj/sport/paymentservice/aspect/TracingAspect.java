@@ -0,0 +1,84 @@
+package com.suraj.sport.paymentservice.aspect;
+
+import com.suraj.sport.paymentservice.tracing.Span;
+import com.suraj.sport.paymentservice.tracing.SpanKind;
+import com.suraj.sport.paymentservice.tracing.Tracer;
+import lombok.RequiredArgsConstructor;
+import org.aspectj.lang.ProceedingJoinPoint;
+import org.aspectj.lang.annotation.Around;
+import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.annotation.Pointcut;
+import org.springframework.aop.framework.AopProxyUtils;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.Proxy;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+
+/**
+ * Opens an INTERNAL span around every controller and service method and every repository call.
+ */
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class TracingAspect {
+
+    private final Tracer tracer;
+
+    // Span name prefix by class — the simple name, or the repository interface for repositories
+    private final ConcurrentMap<Class<?>, String> spanPrefixes = new ConcurrentHashMap<>();
+
+    // =====================================================================
+    // POINTCUTS
+    // =====================================================================
+
+    /**
+     * Pointcut targeting all methods in the service implementation layer.
+     */
+    @Pointcut("execution(* com.suraj.sport.paymentservice.service.impl.*.*(..))")
+    public void serviceLayer() {}
+
+    /**
+     * Pointcut targeting all methods in the controller layer.
+     */
+    @Pointcut("execution(* com.suraj.sport.paymentservice.controller.*.*(..))")
+    public void controllerLayer() {}
+
+    /**
+     * Pointcut targeting all Spring Data repository methods, inherited ones included.
+     */
+    @Pointcut("execution(* org.springframework.data.repository.Repository+.*(..))")
+    public void repositoryLayer() {}
+
+    // =====================================================================
+    // ADVICE
+    // =====================================================================
+
+    @Around("serviceLayer() || controllerLayer() || repositoryLayer()")
+    public Object traceMethodExecution(ProceedingJoinPoint joinPoint) throws Throwable {
+        Span span = tracer.startSpan(spanPrefix(joinPoint.getThis()) + "." + joinPoint.getSignature().getName(),
+                SpanKind.INTERNAL);
+        try {
+            return joinPoint.proceed();
+        } catch (Throwable ex) {
+            span.fail(ex);
+            throw ex;
+        } finally {
+            tracer.end(span);
+        }
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private String spanPrefix(Object proxy) {
+        return spanPrefixes.computeIfAbsent(proxy.getClass(), type -> {
+            Class<?>[] interfaces = AopProxyUtils.proxiedUserInterfaces(proxy);
+            // Repositories are JDK proxies — name them after their repository interface
+            return Proxy.isProxyClass(type) && interfaces.length > 0
+                    ? interfaces[0].getSimpleName()
+                    : AopProxyUtils.ultimateTargetClass(proxy).getSimpleName();
+        });
+    }
+}
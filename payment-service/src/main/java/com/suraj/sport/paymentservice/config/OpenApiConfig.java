@@ -0,0 +1,19 @@
+package com.suraj.sport.paymentservice.config;
+
+import io.swagger.v3.oas.models.OpenAPI;
+import io.swagger.v3.oas.models.info.Info;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class OpenApiConfig {
+
+    @Bean
+    public OpenAPI openAPI() {
+        return new OpenAPI()
+                .info(new Info()
+                        .title("Sports Ticketing - Payment Service")
+                        .version("v1.0")
+                        .description("API documentation for Payment Service"));
+    }
+}
@@ -0,0 +1,96 @@
+package com.suraj.sport.paymentservice.controller;
+
+import com.suraj.sport.paymentservice.dto.request.BulkRefundRequest;
+import com.suraj.sport.paymentservice.dto.response.ApiResult;
+import com.suraj.sport.paymentservice.dto.response.BulkRefundResponse;
+import com.suraj.sport.paymentservice.service.RefundService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "Payment API", description = "Manages payments and refunds for sports event bookings")
+@RestController
+@RequestMapping("/api/v1/payment")
+@RequiredArgsConstructor
+public class PaymentController {
+
+    private final RefundService refundService;
+
+    // =====================================================================
+    // POST REFUNDS - BULK
+    // =====================================================================
+
+    @Operation(
+            summary = "Request refunds for many bookings",
+            description = "Called by Booking Service when an event is cancelled, and for the cancelled seats when a booking is partially cancelled. Records a PENDING refund for every booking whose payment succeeded. Bookings that already have a refund for the same reason are skipped, so a chunk can be resent safely. Internal endpoint — not exposed to end users."
+    )
+    @ApiResponses(value = {
+            @ApiResponse(
+                    responseCode = "200",
+                    description = "Refunds recorded",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": true,
+                                        "message": "Refunds Requested Successfully",
+                                        "data": {
+                                            "requested": 500,
+                                            "created": 498,
+                                            "skipped": 2
+                                        }
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "400",
+                    description = "Validation failed",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "At least one refund is required",
+                                        "data": null
+                                    }
+                                    """))
+            ),
+            @ApiResponse(
+                    responseCode = "500",
+                    description = "Unexpected internal server error",
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "success": false,
+                                        "message": "An unexpected error occurred",
+                                        "data": null
+                                    }
+                                    """))
+            )
+    })
+    @PostMapping("/refunds/bulk")
+    public ResponseEntity<ApiResult<BulkRefundResponse>> requestRefunds(
+            @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                    description = "Refund reason and the bookings to refund",
+                    required = true,
+                    content = @Content(mediaType = "application/json",
+                            examples = @ExampleObject(value = """
+                                    {
+                                        "reason": "Event cancelled by organizer",
+                                        "refunds": [
+                                            { "bookingId": 1, "paymentId": 1, "amount": 5000.00 },
+                                            { "bookingId": 2, "paymentId": 2, "amount": 2500.00 }
+                                        ]
+                                    }
+                                    """))
+            )
+            @Valid @RequestBody BulkRefundRequest request) {
+        BulkRefundResponse response = refundService.requestRefunds(request);
+        return ResponseEntity.ok(ApiResult.of(true, "Refunds Requested Successfully", response));
+    }
+}
@@ -0,0 +1,142 @@
+package com.suraj.sport.paymentservice.diagnostics;
+
+import com.suraj.sport.paymentservice.config.PinningAuditProperties;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.boot.thread.Threading;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Checks the hot paths for virtual-thread pinning once the service is up in virtual-thread
+ * mode (the virtual-threads profile).
+ * <p>
+ * A virtual thread that blocks inside a synchronized block or a native frame keeps its
+ * carrier thread, and enough of them at once stall every other request. The audit records
+ * jdk.VirtualThreadPinned with JFR while virtual threads make pooled JDBC round trips
+ * (Hikari + the H2 driver) — the path every refund request takes — with more threads than
+ * the pool has connections, so they contend the way a burst of requests does. Every place
+ * the probe pinned is logged as a WARN with its count; a clean run logs a single INFO line.
+ * <p>
+ * Note: Only pins that actually blocked are reported — an uncontended monitor never
+ * parks. Treat a clean run as a smoke check, not a proof.
+ */
+@Slf4j
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+@ConditionalOnProperty(prefix = "payment.pinning-audit", name = "enabled", havingValue = "true", matchIfMissing = true)
+@RequiredArgsConstructor
+public class PinningAudit {
+
+    private static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+    private static final String THREAD_PREFIX = "pinning-audit-";
+
+    private final DataSource dataSource;
+    private final PinningAuditProperties properties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void audit() {
+        long startTime = System.currentTimeMillis();
+        Map<String, LongAdder> pins = new ConcurrentHashMap<>();
+
+        try (RecordingStream recording = new RecordingStream()) {
+            recording.enable(PINNED_EVENT).withThreshold(Duration.ZERO).withStackTrace();
+            recording.onEvent(PINNED_EVENT, event -> pins
+                    .computeIfAbsent(describe(event), site -> new LongAdder())
+                    .increment());
+            recording.startAsync();
+
+            probe("jdbc", this::jdbcRoundTrip);
+
+            // Flushes the events still buffered to the handler before returning
+            recording.stop();
+        }
+
+        if (pins.isEmpty()) {
+            log.info("Pinning audit found no virtual-thread pinning on the JDBC path in {}ms",
+                    System.currentTimeMillis() - startTime);
+            return;
+        }
+        pins.forEach((site, count) -> log.warn("Pinning audit: virtual threads pinned {} times at {}", count, site));
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private void probe(String name, Runnable call) {
+        List<Future<?>> runs = new ArrayList<>();
+        try (ExecutorService executor = Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name(THREAD_PREFIX + name + "-", 0).factory())) {
+            for (int i = 0; i < properties.getThreads(); i++) {
+                runs.add(executor.submit(() -> {
+                    for (int j = 0; j < properties.getIterations(); j++) {
+                        call.run();
+                    }
+                }));
+            }
+        }
+        for (Future<?> run : runs) {
+            try {
+                run.get();
+            } catch (ExecutionException ex) {
+                log.warn("Pinning audit probe '{}' failed — its results are incomplete", name, ex.getCause());
+                return;
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void jdbcRoundTrip() {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("SELECT 1");
+        } catch (SQLException ex) {
+            throw new IllegalStateException(ex);
+        }
+    }
+
+    /**
+     * The first frame outside the JDK and the probe that hit it, e.g.
+     * "com.zaxxer.hikari.pool.HikariPool.getConnection (jdbc probe)" — the JDK frames above it are the park itself.
+     */
+    private static String describe(RecordedEvent event) {
+        String thread = event.getThread() != null ? event.getThread().getJavaName() : null;
+        String probe = thread != null && thread.startsWith(THREAD_PREFIX)
+                ? thread.substring(THREAD_PREFIX.length(), thread.lastIndexOf('-'))
+                : String.valueOf(thread);
+        if (event.getStackTrace() == null) {
+            return "unknown frame (" + probe + " probe)";
+        }
+        String site = event.getStackTrace().getFrames().stream()
+                .filter(RecordedFrame::isJavaFrame)
+                .map(frame -> frame.getMethod().getType().getName() + "." + frame.getMethod().getName())
+                .filter(method -> !method.startsWith("java.") && !method.startsWith("jdk.") && !method.startsWith("sun."))
+                .findFirst()
+                .orElse("(JDK internals)");
+        return site + " (" + probe + " probe)";
+    }
+}
@@ -0,0 +1,24 @@
+package com.suraj.sport.paymentservice.dto.request;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Positive;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BookingRefundRequest {
+
+    @NotNull(message = "Booking ID is required")
+    private Long bookingId;
+
+    @NotNull(message = "Payment ID is required")
+    private Long paymentId;
+
+    @Positive(message = "Refund amount must be greater than 0")
+    private double amount;
+}
@@ -0,0 +1,26 @@
+package com.suraj.sport.paymentservice.dto.request;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotBlank;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class BulkRefundRequest {
+
+    @NotBlank(message = "Refund reason is required")
+    private String reason;
+
+    @NotEmpty(message = "At least one refund is required")
+    @Size(max = 1000, message = "At most 1000 refunds can be requested at once")
+    private List<@Valid BookingRefundRequest> refunds;
+}
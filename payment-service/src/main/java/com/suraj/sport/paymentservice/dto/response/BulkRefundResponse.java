@@ -0,0 +1,7 @@
+package com.suraj.sport.paymentservice.dto.response;
+
+public record BulkRefundResponse(
+        int requested,
+        int created,
+        int skipped
+) {}
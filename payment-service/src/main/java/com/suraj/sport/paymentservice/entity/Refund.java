@@ -36,8 +36,10 @@ import java.time.LocalDateTime;
 @Builder
 public class Refund {
 
+    // Pooled sequence for batched inserts — refunds for a cancelled event are written in bulk
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "refunds_seq")
+    @SequenceGenerator(name = "refunds_seq", sequenceName = "refunds_seq", allocationSize = 50)
     private Long id;
 
     // The payment this refund belongs to
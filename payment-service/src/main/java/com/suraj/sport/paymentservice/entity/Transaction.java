@@ -30,8 +30,10 @@ import java.time.LocalDateTime;
 @Builder
 public class Transaction {
 
+    // Pooled sequence for batched inserts — see Payment
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "transactions_seq")
+    @SequenceGenerator(name = "transactions_seq", sequenceName = "transactions_seq", allocationSize = 50)
     private Long id;
 
     // The payment this transaction attempt belongs to
@@ -0,0 +1,9 @@
+package com.suraj.sport.paymentservice.repository;
+
+import com.suraj.sport.paymentservice.entity.Payment;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PaymentRepository extends JpaRepository<Payment, Long> {
+}
@@ -0,0 +1,27 @@
+package com.suraj.sport.paymentservice.repository;
+
+import com.suraj.sport.paymentservice.entity.Refund;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RefundRepository extends JpaRepository<Refund, Long> {
+
+    /**
+     * Payments of the given set that already have a PENDING or SUCCESS refund for the reason.
+     * Served by idx_refunds_payment_id — used to skip refunds a resent bulk request already created.
+     */
+    @Query("""
+            SELECT DISTINCT r.payment.id FROM Refund r
+            WHERE r.payment.id IN :paymentIds
+              AND r.refundReason = :reason
+              AND r.refundStatus <> com.suraj.sport.paymentservice.entity.RefundStatus.FAILED
+            """)
+    List<Long> findRefundedPaymentIds(@Param("paymentIds") Collection<Long> paymentIds,
+                                      @Param("reason") String reason);
+}
@@ -0,0 +1,12 @@
+package com.suraj.sport.paymentservice.service;
+
+import com.suraj.sport.paymentservice.dto.request.BulkRefundRequest;
+import com.suraj.sport.paymentservice.dto.response.BulkRefundResponse;
+
+public interface RefundService {
+
+    /**
+     * Records a PENDING refund for every eligible booking in the request.
+     */
+    BulkRefundResponse requestRefunds(BulkRefundRequest request);
+}
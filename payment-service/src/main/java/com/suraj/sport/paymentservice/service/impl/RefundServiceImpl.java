@@ -0,0 +1,96 @@
+package com.suraj.sport.paymentservice.service.impl;
+
+import com.suraj.sport.paymentservice.dto.request.BookingRefundRequest;
+import com.suraj.sport.paymentservice.dto.request.BulkRefundRequest;
+import com.suraj.sport.paymentservice.dto.response.BulkRefundResponse;
+import com.suraj.sport.paymentservice.entity.Payment;
+import com.suraj.sport.paymentservice.entity.PaymentStatus;
+import com.suraj.sport.paymentservice.entity.Refund;
+import com.suraj.sport.paymentservice.entity.RefundStatus;
+import com.suraj.sport.paymentservice.repository.PaymentRepository;
+import com.suraj.sport.paymentservice.repository.RefundRepository;
+import com.suraj.sport.paymentservice.service.RefundService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class RefundServiceImpl implements RefundService {
+
+    private final PaymentRepository paymentRepository;
+    private final RefundRepository refundRepository;
+
+    // =====================================================================
+    // BULK REFUNDS
+    // =====================================================================
+
+    /**
+     * Records refunds for a chunk of bookings — sent by Booking Service when an event is cancelled,
+     * and with a single booking when some seats of a booking are cancelled.
+     * <p>
+     * The whole chunk costs two reads and one batched insert: the payments are loaded by id
+     * in one query, payments that already have a refund for the same reason in another,
+     * and the new refunds are written together.
+     * <p>
+     * A booking is skipped (counted in skipped) when:
+     * - its payment does not exist or belongs to a different booking
+     * - its payment is not SUCCESS or PARTIALLY_REFUNDED — there is nothing to refund
+     * - its payment already has a PENDING or SUCCESS refund with the same reason, so a
+     *   chunk resent after a Booking Service restart never refunds twice
+     * <p>
+     * Refund amounts are capped at the payment amount.
+     * <p>
+     * TODO: processRefundsWithGateway()
+     * Refunds are recorded as PENDING only. Submit them to the payment gateway against the
+     * original transaction, then mark them SUCCESS or FAILED and update the payment status.
+     */
+    @Override
+    @Transactional
+    public BulkRefundResponse requestRefunds(BulkRefundRequest request) {
+        List<BookingRefundRequest> refunds = request.getRefunds();
+        Set<Long> paymentIds = refunds.stream().map(BookingRefundRequest::getPaymentId).collect(Collectors.toSet());
+
+        Map<Long, Payment> payments = paymentRepository.findAllById(paymentIds).stream()
+                .collect(Collectors.toMap(Payment::getId, Function.identity()));
+        Set<Long> alreadyRefunded = new HashSet<>(refundRepository.findRefundedPaymentIds(paymentIds, request.getReason()));
+
+        List<Refund> created = new ArrayList<>(refunds.size());
+        for (BookingRefundRequest refund : refunds) {
+            Payment payment = payments.get(refund.getPaymentId());
+            if (!isRefundable(payment, refund) || !alreadyRefunded.add(payment.getId())) {
+                continue;
+            }
+            created.add(Refund.builder()
+                    .payment(payment)
+                    .refundAmount(Math.min(refund.getAmount(), payment.getAmount()))
+                    .refundReason(request.getReason())
+                    .refundStatus(RefundStatus.PENDING)
+                    .build());
+        }
+        refundRepository.saveAll(created);
+
+        int skipped = refunds.size() - created.size();
+        if (skipped > 0) {
+            log.info("Skipped {} of {} refunds for reason '{}'", skipped, refunds.size(), request.getReason());
+        }
+        return new BulkRefundResponse(refunds.size(), created.size(), skipped);
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private boolean isRefundable(Payment payment, BookingRefundRequest refund) {
+        return payment != null
+                && payment.getBookingId().equals(refund.getBookingId())
+                && (payment.getPaymentStatus() == PaymentStatus.SUCCESS
+                    || payment.getPaymentStatus() == PaymentStatus.PARTIALLY_REFUNDED);
+    }
+}
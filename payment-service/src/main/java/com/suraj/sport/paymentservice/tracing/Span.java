@@ -0,0 +1,85 @@
+package com.suraj.sport.paymentservice.tracing;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * One timed operation within a trace. Started and ended through Tracer.
+ */
+@Getter
+public final class Span {
+
+    private final String traceId;
+    private final String spanId;
+    // Null for the root span of a trace
+    private final String parentSpanId;
+    private final SpanKind kind;
+    private final Instant startedAt;
+    private String name;
+    private Duration duration;
+    private boolean error;
+    private String errorMessage;
+    private final Map<String, String> attributes = new LinkedHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final long startNanos = System.nanoTime();
+    // The trace as seen by this service, shared by all its spans here
+    @Getter(AccessLevel.PACKAGE)
+    private final Tracer.LocalTrace localTrace;
+    // The span that was current when this one started, made current again when it ends
+    @Getter(AccessLevel.PACKAGE)
+    private final Span previous;
+
+    Span(String traceId, String spanId, String parentSpanId, String name, SpanKind kind,
+         Tracer.LocalTrace localTrace, Span previous) {
+        this.traceId = traceId;
+        this.spanId = spanId;
+        this.parentSpanId = parentSpanId;
+        this.name = name;
+        this.kind = kind;
+        this.startedAt = Instant.now();
+        this.localTrace = localTrace;
+        this.previous = previous;
+    }
+
+    public Span rename(String name) {
+        this.name = name;
+        return this;
+    }
+
+    public Span attribute(String key, Object value) {
+        attributes.put(key, String.valueOf(value));
+        return this;
+    }
+
+    public Span fail(Throwable cause) {
+        return fail(cause.getClass().getSimpleName() + ": " + cause.getMessage());
+    }
+
+    public Span fail(String message) {
+        this.error = true;
+        this.errorMessage = message;
+        return this;
+    }
+
+    public Map<String, String> getAttributes() {
+        return Collections.unmodifiableMap(attributes);
+    }
+
+    /**
+     * Whether end() has been called — the duration is null until then.
+     */
+    public boolean isEnded() {
+        return duration != null;
+    }
+
+    void end() {
+        duration = Duration.ofNanos(System.nanoTime() - startNanos);
+    }
+}
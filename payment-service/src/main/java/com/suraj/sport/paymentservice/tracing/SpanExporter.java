@@ -0,0 +1,12 @@
+package com.suraj.sport.paymentservice.tracing;
+
+import java.util.List;
+
+/**
+ * Receives the spans of each trace Tracer keeps, once this service's part of it is complete.
+ * Called on the thread that ended the trace — implementations must not block.
+ */
+public interface SpanExporter {
+
+    void export(List<Span> spans);
+}
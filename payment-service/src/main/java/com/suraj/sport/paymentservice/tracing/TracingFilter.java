@@ -0,0 +1,55 @@
+package com.suraj.sport.paymentservice.tracing;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+/**
+ * Opens the SERVER span of every request, continuing the caller's trace when it sends a
+ * traceparent header, and returns the trace id in X-Trace-Id.
+ * <p>
+ * The span is named after the matched route (e.g. "POST /api/v1/payment/refunds/bulk") once the request
+ * has been handled, and fails on a 5xx response.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+public class TracingFilter extends OncePerRequestFilter {
+
+    public static final String TRACE_ID_HEADER = "X-Trace-Id";
+
+    private final Tracer tracer;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        Span span = tracer.startServerSpan(request.getMethod() + " " + request.getRequestURI(),
+                TraceParent.parse(request.getHeader(TraceParent.HEADER)));
+        response.setHeader(TRACE_ID_HEADER, span.getTraceId());
+        try {
+            chain.doFilter(request, response);
+        } catch (IOException | ServletException | RuntimeException ex) {
+            span.fail(ex);
+            throw ex;
+        } finally {
+            Object route = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+            if (route != null) {
+                span.rename(request.getMethod() + " " + route);
+            }
+            span.attribute("http.status_code", response.getStatus());
+            if (response.getStatus() >= 500 && !span.isError()) {
+                span.fail("HTTP " + response.getStatus());
+            }
+            tracer.end(span);
+        }
+    }
+}
@@ -0,0 +1,47 @@
+CREATE TABLE payments (
+    id             BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    booking_id     BIGINT           NOT NULL,
+    event_id       BIGINT           NOT NULL,
+    user_id        BIGINT           NOT NULL,
+    amount         DOUBLE PRECISION NOT NULL,
+    payment_status VARCHAR(32)      NOT NULL,
+    payment_method VARCHAR(255),
+    receipt_url    VARCHAR(255),
+    is_deleted     BOOLEAN          NOT NULL,
+    deleted_at     TIMESTAMP(6),
+    created_at     TIMESTAMP(6),
+    updated_at     TIMESTAMP(6),
+    CONSTRAINT chk_payments_status
+        CHECK (payment_status IN ('PENDING', 'SUCCESS', 'FAILED', 'REFUNDED', 'PARTIALLY_REFUNDED'))
+);
+
+CREATE TABLE transactions (
+    id                     BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    payment_id             BIGINT           NOT NULL,
+    gateway_transaction_id VARCHAR(255),
+    amount                 DOUBLE PRECISION NOT NULL,
+    transaction_status     VARCHAR(32)      NOT NULL,
+    gateway_response       TEXT,
+    failure_reason         VARCHAR(255),
+    created_at             TIMESTAMP(6),
+    CONSTRAINT fk_transactions_payment FOREIGN KEY (payment_id) REFERENCES payments (id),
+    CONSTRAINT chk_transactions_status CHECK (transaction_status IN ('PENDING', 'SUCCESS', 'FAILED'))
+);
+
+CREATE TABLE refunds (
+    id                BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    payment_id        BIGINT           NOT NULL,
+    gateway_refund_id VARCHAR(255),
+    refund_amount     DOUBLE PRECISION NOT NULL,
+    refund_reason     VARCHAR(255)     NOT NULL,
+    refund_status     VARCHAR(32)      NOT NULL,
+    failure_reason    VARCHAR(255),
+    refunded_at       TIMESTAMP(6),
+    created_at        TIMESTAMP(6),
+    updated_at        TIMESTAMP(6),
+    CONSTRAINT fk_refunds_payment FOREIGN KEY (payment_id) REFERENCES payments (id),
+    CONSTRAINT chk_refunds_status CHECK (refund_status IN ('PENDING', 'SUCCESS', 'FAILED'))
+);
+
+CREATE INDEX idx_transactions_payment_id ON transactions (payment_id);
+CREATE INDEX idx_refunds_payment_id ON refunds (payment_id);
@@ -0,0 +1,136 @@
+package com.suraj.sport.paymentservice.service.impl;
+
+import com.suraj.sport.paymentservice.dto.request.BookingRefundRequest;
+import com.suraj.sport.paymentservice.dto.request.BulkRefundRequest;
+import com.suraj.sport.paymentservice.dto.response.BulkRefundResponse;
+import com.suraj.sport.paymentservice.entity.Payment;
+import com.suraj.sport.paymentservice.entity.PaymentStatus;
+import com.suraj.sport.paymentservice.entity.Refund;
+import com.suraj.sport.paymentservice.entity.RefundStatus;
+import com.suraj.sport.paymentservice.repository.PaymentRepository;
+import com.suraj.sport.paymentservice.repository.RefundRepository;
+import com.suraj.sport.paymentservice.service.RefundService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@SpringBootTest
+class RefundServiceImplTest {
+
+    private static final AtomicLong BOOKING_IDS = new AtomicLong(1_000);
+    private static final String EVENT_CANCELLED = "Event cancelled: venue unavailable";
+
+    @Autowired
+    private RefundService refundService;
+
+    @Autowired
+    private PaymentRepository paymentRepository;
+
+    @Autowired
+    private RefundRepository refundRepository;
+
+    @Test
+    void recordsPendingRefundsCappedAtThePaymentAmount() {
+        Payment paid = payment(PaymentStatus.SUCCESS, 300.0);
+        Payment partlyRefunded = payment(PaymentStatus.PARTIALLY_REFUNDED, 400.0);
+
+        BulkRefundResponse response = refundService.requestRefunds(new BulkRefundRequest(EVENT_CANCELLED, List.of(
+                refundOf(paid, 500.0),
+                refundOf(partlyRefunded, 300.0))));
+
+        assertThat(response).isEqualTo(new BulkRefundResponse(2, 2, 0));
+        assertThat(refundsOf(paid)).singleElement().satisfies(refund -> {
+            assertThat(refund.getRefundAmount()).isEqualTo(300.0);
+            assertThat(refund.getRefundReason()).isEqualTo(EVENT_CANCELLED);
+            assertThat(refund.getRefundStatus()).isEqualTo(RefundStatus.PENDING);
+        });
+        assertThat(refundsOf(partlyRefunded)).extracting(Refund::getRefundAmount).containsExactly(300.0);
+    }
+
+    @Test
+    void skipsPaymentsWithNothingToRefund() {
+        Payment pending = payment(PaymentStatus.PENDING, 100.0);
+        Payment refunded = payment(PaymentStatus.REFUNDED, 100.0);
+        Payment paid = payment(PaymentStatus.SUCCESS, 100.0);
+
+        BulkRefundResponse response = refundService.requestRefunds(new BulkRefundRequest(EVENT_CANCELLED, List.of(
+                refundOf(pending, 100.0),
+                refundOf(refunded, 100.0),
+                // Payment of another booking, and a payment that does not exist
+                new BookingRefundRequest(paid.getBookingId() + 1, paid.getId(), 100.0),
+                new BookingRefundRequest(BOOKING_IDS.incrementAndGet(), Long.MAX_VALUE, 100.0))));
+
+        assertThat(response).isEqualTo(new BulkRefundResponse(4, 0, 4));
+        assertThat(refundsOf(pending)).isEmpty();
+        assertThat(refundsOf(refunded)).isEmpty();
+        assertThat(refundsOf(paid)).isEmpty();
+    }
+
+    @Test
+    void refundsEachPaymentOncePerReason() {
+        Payment paid = payment(PaymentStatus.SUCCESS, 400.0);
+        Payment other = payment(PaymentStatus.SUCCESS, 200.0);
+        refundService.requestRefunds(new BulkRefundRequest("Partial cancellation of 1 seats, 3 remaining",
+                List.of(refundOf(paid, 100.0))));
+
+        // A chunk resent after a Booking Service restart, and a payment listed twice in it
+        List<BookingRefundRequest> chunk = List.of(refundOf(paid, 300.0), refundOf(other, 200.0), refundOf(other, 200.0));
+        BulkRefundResponse first = refundService.requestRefunds(new BulkRefundRequest(EVENT_CANCELLED, chunk));
+        BulkRefundResponse resent = refundService.requestRefunds(new BulkRefundRequest(EVENT_CANCELLED, chunk));
+
+        assertThat(first).isEqualTo(new BulkRefundResponse(3, 2, 1));
+        assertThat(resent).isEqualTo(new BulkRefundResponse(3, 0, 3));
+        // The earlier partial refund has another reason, so it does not hold back the event's
+        assertThat(refundsOf(paid)).extracting(Refund::getRefundAmount).containsExactlyInAnyOrder(100.0, 300.0);
+        assertThat(refundsOf(other)).extracting(Refund::getRefundAmount).containsExactly(200.0);
+    }
+
+    @Test
+    void retriesRefundsThatFailed() {
+        Payment paid = payment(PaymentStatus.SUCCESS, 100.0);
+        refundRepository.save(Refund.builder()
+                .payment(paid)
+                .refundAmount(100.0)
+                .refundReason(EVENT_CANCELLED)
+                .refundStatus(RefundStatus.FAILED)
+                .failureReason("Gateway timeout")
+                .build());
+
+        BulkRefundResponse response = refundService.requestRefunds(
+                new BulkRefundRequest(EVENT_CANCELLED, List.of(refundOf(paid, 100.0))));
+
+        assertThat(response).isEqualTo(new BulkRefundResponse(1, 1, 0));
+        assertThat(refundsOf(paid)).extracting(Refund::getRefundStatus)
+                .containsExactlyInAnyOrder(RefundStatus.FAILED, RefundStatus.PENDING);
+    }
+
+    // =====================================================================
+    // PRIVATE HELPER METHODS
+    // =====================================================================
+
+    private Payment payment(PaymentStatus status, double amount) {
+        return paymentRepository.save(Payment.builder()
+                .bookingId(BOOKING_IDS.incrementAndGet())
+                .eventId(1L)
+                .userId(1L)
+                .amount(amount)
+                .paymentStatus(status)
+                .paymentMethod("UPI")
+                .build());
+    }
+
+    private static BookingRefundRequest refundOf(Payment payment, double amount) {
+        return new BookingRefundRequest(payment.getBookingId(), payment.getId(), amount);
+    }
+
+    private List<Refund> refundsOf(Payment payment) {
+        return refundRepository.findAll().stream()
+                .filter(refund -> refund.getPayment().getId().equals(payment.getId()))
+                .toList();
+    }
+}